@@ -0,0 +1,59 @@
+package com.coincraft.engine.animation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * One animation step with N looping animations, a quarter of them paused
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnimationManagerBenchmark {
+    
+    @Param({"100", "1000", "10000"})
+    public int animations;
+    
+    private AnimationManager animationManager;
+    
+    @Setup
+    public void setup() {
+        animationManager = new AnimationManager();
+        for (int i = 0; i < animations; i++) {
+            Tween tween = new Tween(0.5 + (i % 7) * 0.25);
+            tween.setLoop(true);
+            tween.start();
+            if (i % 4 == 0) {
+                tween.pause();
+            }
+            animationManager.addAnimation(tween);
+        }
+    }
+    
+    @Benchmark
+    public AnimationManager update() {
+        animationManager.update(1.0 / 60.0);
+        return animationManager;
+    }
+    
+    private static final class Tween extends Animation {
+        double value;
+        
+        Tween(double duration) {
+            super(duration);
+        }
+        
+        @Override
+        protected void updateAnimation() {
+            value = getProgress();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.coincraft.engine.events;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Fire a batch of events and process them, as one frame of the event system
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventManagerBenchmark {
+    
+    @Param({"10", "100", "1000"})
+    public int eventsPerFrame;
+    
+    @Param({"1", "8"})
+    public int handlers;
+    
+    private EventManager eventManager;
+    private ScoreEvent[] events;
+    private long total;
+    
+    @Setup
+    public void setup() {
+        eventManager = new EventManager();
+        for (int i = 0; i < handlers; i++) {
+            eventManager.registerHandler(ScoreEvent.class, event -> total += event.points);
+        }
+        // Unrelated type so lookups are not trivially a single-entry map
+        eventManager.registerHandler(OtherEvent.class, event -> total--);
+        events = new ScoreEvent[eventsPerFrame];
+        for (int i = 0; i < eventsPerFrame; i++) {
+            events[i] = new ScoreEvent(i);
+        }
+    }
+    
+    @Benchmark
+    public long fireAndProcess() {
+        for (ScoreEvent event : events) {
+            eventManager.fireEvent(event);
+        }
+        eventManager.processEvents();
+        return total;
+    }
+    
+    static final class ScoreEvent extends GameEvent {
+        final int points;
+        
+        ScoreEvent(int points) {
+            this.points = points;
+        }
+    }
+    
+    static final class OtherEvent extends GameEvent {
+    }
+}
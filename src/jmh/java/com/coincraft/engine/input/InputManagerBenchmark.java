@@ -0,0 +1,56 @@
+package com.coincraft.engine.input;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javafx.scene.input.KeyCode;
+
+/**
+ * One input frame: inject events, then update (clear edges and dispatch to handlers)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InputManagerBenchmark {
+    private static final KeyCode[] KEYS = { KeyCode.W, KeyCode.A, KeyCode.S, KeyCode.D, KeyCode.SPACE };
+    
+    @Param({"0", "4", "64"})
+    public int eventsPerFrame;
+    
+    @Param({"0", "4"})
+    public int handlers;
+    
+    private InputManager inputManager;
+    private long handled;
+    
+    @Setup
+    public void setup() {
+        inputManager = new InputManager();
+        inputManager.setClock(() -> 0L);
+        for (int i = 0; i < handlers; i++) {
+            inputManager.addInputHandler(event -> handled++);
+        }
+    }
+    
+    @Benchmark
+    public long update() {
+        for (int i = 0; i < eventsPerFrame; i++) {
+            KeyCode key = KEYS[i % KEYS.length];
+            if ((i & 1) == 0) {
+                inputManager.pressKey(key);
+            } else {
+                inputManager.releaseKey(key);
+            }
+        }
+        inputManager.update(1.0 / 60.0);
+        return handled;
+    }
+}
@@ -0,0 +1,55 @@
+package com.coincraft.engine.physics;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * One physics step with N bodies spread at constant density
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PhysicsEngineBenchmark {
+    private static final double DELTA_TIME = 1.0 / 60.0;
+    private static final double BODY_SIZE = 32.0;
+    
+    @Param({"100", "1000", "10000"})
+    public int bodies;
+    
+    private PhysicsEngine engine;
+    
+    @Setup
+    public void setup() {
+        engine = new PhysicsEngine();
+        engine.setEnableGravity(false);
+        Random random = new Random(42);
+        // Roughly four body-sized cells per body so some pairs overlap
+        double side = Math.sqrt(bodies) * BODY_SIZE * 2;
+        for (int i = 0; i < bodies; i++) {
+            Body body = new Body(random.nextDouble() * side, random.nextDouble() * side, BODY_SIZE, BODY_SIZE);
+            body.setVelocity(random.nextDouble() * 20 - 10, random.nextDouble() * 20 - 10);
+            engine.addObject(body);
+        }
+    }
+    
+    @Benchmark
+    public int update() {
+        engine.update(DELTA_TIME);
+        return engine.getLastCollisionChecks();
+    }
+    
+    private static final class Body extends PhysicsObject {
+        Body(double x, double y, double width, double height) {
+            super(x, y, width, height);
+        }
+    }
+}
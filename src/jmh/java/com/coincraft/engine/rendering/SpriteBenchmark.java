@@ -0,0 +1,67 @@
+package com.coincraft.engine.rendering;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javafx.application.Platform;
+import javafx.scene.image.WritableImage;
+
+/**
+ * Sprite.update for N animated sprites (frame advance plus node transform sync).
+ * Images need the JavaFX toolkit, so this benchmark needs a display (or Xvfb).
+ * The sprites are never attached to a scene, so updating them off the FX thread is safe.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpriteBenchmark {
+    private static final int FRAME_SIZE = 32;
+    private static final int FRAMES = 8;
+    
+    @Param({"1", "100", "1000"})
+    public int sprites;
+    
+    private Sprite[] batch;
+    
+    @Setup
+    public void setup() throws InterruptedException {
+        startToolkit();
+        WritableImage sheet = new WritableImage(FRAME_SIZE * FRAMES, FRAME_SIZE);
+        batch = new Sprite[sprites];
+        for (int i = 0; i < sprites; i++) {
+            Sprite sprite = new Sprite(sheet, FRAME_SIZE, FRAME_SIZE, FRAMES);
+            sprite.setAnimationSpeed(12.0);
+            sprite.setLoopAnimation(true);
+            sprite.setPosition(i * 4, i * 2);
+            sprite.startAnimation();
+            batch[i] = sprite;
+        }
+    }
+    
+    @Benchmark
+    public Sprite[] update() {
+        for (Sprite sprite : batch) {
+            sprite.update(1.0 / 60.0);
+        }
+        return batch;
+    }
+    
+    private static void startToolkit() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Platform.startup(started::countDown);
+        } catch (IllegalStateException alreadyStarted) {
+            started.countDown();
+        }
+        started.await();
+    }
+}
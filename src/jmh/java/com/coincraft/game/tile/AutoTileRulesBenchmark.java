@@ -0,0 +1,49 @@
+package com.coincraft.game.tile;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javafx.geometry.Rectangle2D;
+
+/**
+ * Resolve the tileset region for every tile of a map (one autotile pass)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AutoTileRulesBenchmark {
+    
+    @Param({"1024", "16384", "262144"})
+    public int tiles;
+    
+    private AutoTileRules rules;
+    private int[] masks;
+    
+    @Setup
+    public void setup() {
+        rules = new AutoTileRules(16, 0, 0);
+        Random random = new Random(7);
+        masks = new int[tiles];
+        for (int i = 0; i < tiles; i++) {
+            masks[i] = random.nextInt(16);
+        }
+    }
+    
+    @Benchmark
+    public void regionForMask(Blackhole blackhole) {
+        for (int mask : masks) {
+            Rectangle2D region = rules.regionForMask(mask);
+            blackhole.consume(region);
+        }
+    }
+}
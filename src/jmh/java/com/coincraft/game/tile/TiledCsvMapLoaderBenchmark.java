@@ -0,0 +1,63 @@
+package com.coincraft.game.tile;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Parse a square Tiled CSV layer of the given side length from disk
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TiledCsvMapLoaderBenchmark {
+    
+    @Param({"64", "512", "2048"})
+    public int mapSize;
+    
+    private Path csv;
+    
+    @Setup
+    public void setup() throws IOException {
+        csv = Files.createTempFile("coincraft-bench-map-", ".csv");
+        Random random = new Random(11);
+        try (BufferedWriter out = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            for (int row = 0; row < mapSize; row++) {
+                StringBuilder line = new StringBuilder(mapSize * 4);
+                for (int col = 0; col < mapSize; col++) {
+                    if (col > 0) line.append(',');
+                    // Mostly small gids with some empties, like exported terrain
+                    line.append(random.nextInt(8) == 0 ? 0 : 1 + random.nextInt(256));
+                }
+                // Tiled ends rows with a trailing comma except the last
+                if (row < mapSize - 1) line.append(',');
+                out.write(line.toString());
+                out.newLine();
+            }
+        }
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(csv);
+    }
+    
+    @Benchmark
+    public int[][] loadCsv() throws IOException {
+        return TiledCsvMapLoader.loadCsv(csv);
+    }
+}
@@ -3,9 +3,13 @@ package com.coincraft;
 import java.util.logging.Logger;
 
 import com.coincraft.audio.CentralizedMusicManager;
+import com.coincraft.game.services.GameProgressService;
 import com.coincraft.models.User;
 import com.coincraft.services.FirebaseDataManager;
 import com.coincraft.services.FirebaseService;
+import com.coincraft.services.MessagingService;
+import com.coincraft.services.ServiceContainer;
+import com.coincraft.services.StartupTimeline;
 import com.coincraft.ui.LoginScreen;
 import com.coincraft.ui.MainDashboard;
 import com.coincraft.ui.RegistrationScreen;
@@ -13,6 +17,7 @@ import com.coincraft.ui.routing.DashboardRouter;
 import com.coincraft.ui.theme.PixelSkin;
 import com.coincraft.ui.util.UiSoundBindings;
 
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.scene.Scene;
@@ -31,49 +36,20 @@ public class CoinCraftApplication extends Application {
     private static final int WINDOW_WIDTH = 1200;
     private static final int WINDOW_HEIGHT = 800;
     
+    // Startup service names
+    private static final String SERVICE_FIREBASE = "firebase";
+    private static final String SERVICE_DATA_MANAGER = "data-manager";
+    private static final String SERVICE_CONNECTION_CHECK = "connection-check";
+    private static final String SERVICE_MESSAGING = "messaging";
+    private static final String SERVICE_GAME_PROGRESS = "game-progress";
+    private static final String SERVICE_MUSIC = "music";
+    private static final String SERVICE_ICON = "app-icon";
+    
     @Override
     public void start(Stage primaryStage) {
         try {
-            // Initialize Firebase service with enhanced logging
-            System.out.println("🔥 Initializing Firebase connection...");
-            FirebaseService firebaseService = FirebaseService.getInstance();
-            firebaseService.initialize();
-            
-            // Initialize enhanced Firebase Data Manager
-            System.out.println("🚀 Initializing Firebase Data Manager...");
-            FirebaseDataManager dataManager = FirebaseDataManager.getInstance();
-            dataManager.initialize();
-            
-            // Verify Firebase connection
-            if (firebaseService.isInitialized()) {
-                System.out.println("✅ Firebase connection established successfully!");
-                
-                // Run comprehensive Firebase connection test
-                System.out.println("🧪 Running comprehensive Firebase connection test...");
-                boolean connectionTestPassed = firebaseService.testFirebaseConnection();
-                if (connectionTestPassed) {
-                    System.out.println("✅ All Firebase connection tests PASSED!");
-                } else {
-                    System.out.println("Some Firebase connection tests FAILED - using local storage fallback");
-                }
-                
-                // Test enhanced data manager
-                System.out.println("🧪 Testing Firebase Data Manager...");
-                boolean dataManagerReady = dataManager.isFirebaseAvailable();
-                if (dataManagerReady) {
-                    System.out.println("✅ Firebase Data Manager is ready!");
-                } else {
-                    System.out.println("Firebase Data Manager in offline mode");
-                }
-            } else {
-                System.out.println("Firebase connection failed - using local storage fallback");
-            }
-            
-            // Display connection status and configuration
-            System.out.println("📊 Firebase Status: " + firebaseService.getConnectionStatus());
-            System.out.println("📊 Data Manager Status: " + dataManager.getConnectionStatus());
-            System.out.println("📋 Firebase Config: " + firebaseService.getConfigInfo());
-            System.out.println("=" .repeat(80));
+            ServiceContainer services = ServiceContainer.getInstance();
+            StartupTimeline timeline = services.getTimeline();
             
             // Set up the main window
             primaryStage.setTitle(APP_TITLE);
@@ -81,18 +57,13 @@ public class CoinCraftApplication extends Application {
             primaryStage.setHeight(WINDOW_HEIGHT);
             primaryStage.setResizable(true);
             
-            // Set application icon
-            try {
-                primaryStage.getIcons().add(new Image(
-                    getClass().getResourceAsStream("/images/coincraft-icon.png")
-                ));
-            } catch (Exception e) {
-                System.out.println("Could not load application icon: " + e.getMessage());
-            }
-            
-            // Create and show login screen first
-            showLoginScreen(primaryStage);
+            // Create and show login screen first; services finish in the background
+            showLoginScreen(primaryStage, false);
             primaryStage.show();
+            markFirstFrame(timeline);
+            
+            registerStartupServices(services, primaryStage);
+            services.startAll();
             
             System.out.println("CoinCraft application started successfully!");
             
@@ -102,7 +73,95 @@ public class CoinCraftApplication extends Application {
         }
     }
     
+    /**
+     * Declare startup services and their dependencies. Services without a
+     * dependency between them are initialized in parallel off the FX thread.
+     */
+    private void registerStartupServices(ServiceContainer services, Stage primaryStage) {
+        services
+            .register(SERVICE_FIREBASE, () -> {
+                System.out.println("🔥 Initializing Firebase connection...");
+                FirebaseService.getInstance().initialize();
+            })
+            .register(SERVICE_DATA_MANAGER, () -> {
+                System.out.println("🚀 Initializing Firebase Data Manager...");
+                FirebaseDataManager.getInstance().initialize();
+            }, SERVICE_FIREBASE)
+            .register(SERVICE_CONNECTION_CHECK, this::verifyFirebaseConnection, SERVICE_FIREBASE, SERVICE_DATA_MANAGER)
+            .register(SERVICE_MESSAGING, MessagingService::getInstance, SERVICE_FIREBASE)
+            .register(SERVICE_GAME_PROGRESS, GameProgressService::getInstance, SERVICE_FIREBASE)
+            .register(SERVICE_MUSIC, () -> {
+                CentralizedMusicManager music = CentralizedMusicManager.getInstance();
+                music.preloadSoundEffects();
+                music.play();
+            })
+            .register(SERVICE_ICON, () -> {
+                // Decode off the FX thread, attach on it
+                try {
+                    Image icon = new Image(getClass().getResourceAsStream("/images/coincraft-icon.png"));
+                    Platform.runLater(() -> primaryStage.getIcons().add(icon));
+                } catch (Exception e) {
+                    System.out.println("Could not load application icon: " + e.getMessage());
+                }
+            });
+    }
+    
+    /**
+     * Report Firebase connection status once both Firebase services are up
+     */
+    private void verifyFirebaseConnection() {
+        FirebaseService firebaseService = FirebaseService.getInstance();
+        FirebaseDataManager dataManager = FirebaseDataManager.getInstance();
+        
+        if (firebaseService.isInitialized()) {
+            System.out.println("✅ Firebase connection established successfully!");
+            
+            // Run comprehensive Firebase connection test
+            System.out.println("🧪 Running comprehensive Firebase connection test...");
+            boolean connectionTestPassed = firebaseService.testFirebaseConnection();
+            if (connectionTestPassed) {
+                System.out.println("✅ All Firebase connection tests PASSED!");
+            } else {
+                System.out.println("Some Firebase connection tests FAILED - using local storage fallback");
+            }
+            
+            // Test enhanced data manager
+            System.out.println("🧪 Testing Firebase Data Manager...");
+            boolean dataManagerReady = dataManager.isFirebaseAvailable();
+            if (dataManagerReady) {
+                System.out.println("✅ Firebase Data Manager is ready!");
+            } else {
+                System.out.println("Firebase Data Manager in offline mode");
+            }
+        } else {
+            System.out.println("Firebase connection failed - using local storage fallback");
+        }
+        
+        // Display connection status and configuration
+        System.out.println("📊 Firebase Status: " + firebaseService.getConnectionStatus());
+        System.out.println("📊 Data Manager Status: " + dataManager.getConnectionStatus());
+        System.out.println("📋 Firebase Config: " + firebaseService.getConfigInfo());
+        System.out.println("=" .repeat(80));
+    }
+    
+    /**
+     * Record the first pulse after the stage is shown as time-to-first-frame
+     */
+    private void markFirstFrame(StartupTimeline timeline) {
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                timeline.markFirstFrame();
+                stop();
+            }
+        }.start();
+    }
+    
     private void showLoginScreen(Stage primaryStage) {
+        showLoginScreen(primaryStage, true);
+    }
+    
+    private void showLoginScreen(Stage primaryStage, boolean startMusic) {
         LoginScreen loginScreen = new LoginScreen(new LoginScreen.LoginCallback() {
             @Override
             public void onLoginSuccess(User user) {
@@ -125,7 +184,9 @@ public class CoinCraftApplication extends Application {
         PixelSkin.apply(scene);
         // Install UI selection sounds and start background music
         UiSoundBindings.install(loginScreen.getRoot());
-        CentralizedMusicManager.getInstance().play();
+        if (startMusic) {
+            CentralizedMusicManager.getInstance().play();
+        }
         primaryStage.setScene(scene);
         primaryStage.setTitle(APP_TITLE + " - Login");
     }
@@ -224,6 +285,7 @@ public class CoinCraftApplication extends Application {
     public void stop() {
         try {
             // Cleanup resources
+            ServiceContainer.getInstance().shutdown();
             FirebaseService.getInstance().shutdown();
             System.out.println("CoinCraft application stopped successfully.");
         } catch (Exception e) {
@@ -2,7 +2,6 @@ package com.coincraft.audio;
 
 import java.util.logging.Logger;
 
-import javafx.scene.media.AudioClip;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 
@@ -20,12 +19,13 @@ public class CentralizedMusicManager {
     private double volume = 0.5; // 50% volume by default
     private String currentTrack = null;
     
-    // Sound effects
-    private AudioClip sfxButtonClick;
-    private AudioClip sfxInputSelect;
-    private AudioClip sfxButtonHover;
-    private AudioClip sfxError;
-    private AudioClip sfxSuccess;
+    // Sound effects (pooled, played off the FX thread)
+    private static final String SFX_BUTTON_CLICK = "button-click";
+    private static final String SFX_INPUT_SELECT = "input-select";
+    private static final String SFX_BUTTON_HOVER = "button-hover";
+    private static final String SFX_ERROR = "error";
+    private static final String SFX_SUCCESS = "success";
+    private final SfxEngine sfx = new SfxEngine();
     
     // Music state listeners
     private MusicStateListener stateListener;
@@ -38,6 +38,7 @@ public class CentralizedMusicManager {
     private CentralizedMusicManager() {
         LOGGER.info("🎵 Initializing Centralized Music Manager");
         // Lazy: defer loading the media until first play
+        registerSoundEffects();
     }
     
     public static synchronized CentralizedMusicManager getInstance() {
@@ -99,17 +100,27 @@ public class CentralizedMusicManager {
     // ============================
     // Sound Effects (SFX)
     // ============================
+    private void registerSoundEffects() {
+        sfx.register(SFX_BUTTON_CLICK, "/sounds/clicking-interface-select-201946.mp3", 0.7, 3);
+        sfx.register(SFX_INPUT_SELECT, "/sounds/beep-313342.mp3", 0.7, 2);
+        sfx.register(SFX_BUTTON_HOVER, "/sounds/button_hover.wav", 0.5, 2);
+        sfx.register(SFX_ERROR, "/sounds/error.wav", 0.6, 1);
+        sfx.register(SFX_SUCCESS, "/sounds/success.wav", 0.6, 1);
+    }
+
+    /**
+     * Decode all UI sound effects in the background ahead of first use
+     */
+    public void preloadSoundEffects() {
+        sfx.preloadAll();
+    }
+
     /**
      * Play the global button click sound effect.
      * Uses /sounds/clicking-interface-select-201946.mp3
      */
     public void playButtonClick() {
-        try {
-            ensureButtonClickClipLoaded();
-            playClipIfAllowed(sfxButtonClick);
-        } catch (Exception e) {
-            LOGGER.warning(() -> "🔊 Failed to play button click: " + e.getMessage());
-        }
+        sfx.play(SFX_BUTTON_CLICK);
     }
 
     /**
@@ -117,134 +128,35 @@ public class CentralizedMusicManager {
      * Uses /sounds/beep-313342.mp3
      */
     public void playInputSelect() {
-        try {
-            ensureInputSelectClipLoaded();
-            playClipIfAllowed(sfxInputSelect);
-        } catch (Exception e) {
-            LOGGER.warning(() -> "🔊 Failed to play input select: " + e.getMessage());
-        }
+        sfx.play(SFX_INPUT_SELECT);
     }
 
     /**
      * Play button hover sound effect
      */
     public void playButtonHover() {
-        try {
-            ensureButtonHoverClipLoaded();
-            playClipIfAllowed(sfxButtonHover);
-        } catch (Exception e) {
-            LOGGER.warning(() -> "🔊 Failed to play button hover: " + e.getMessage());
-        }
+        sfx.play(SFX_BUTTON_HOVER);
     }
 
     /**
      * Play error sound effect
      */
     public void playError() {
-        try {
-            ensureErrorClipLoaded();
-            playClipIfAllowed(sfxError);
-        } catch (Exception e) {
-            LOGGER.warning(() -> "🔊 Failed to play error sound: " + e.getMessage());
-        }
+        sfx.play(SFX_ERROR);
     }
 
     /**
      * Play success sound effect
      */
     public void playSuccess() {
-        try {
-            ensureSuccessClipLoaded();
-            playClipIfAllowed(sfxSuccess);
-        } catch (Exception e) {
-            LOGGER.warning(() -> "🔊 Failed to play success sound: " + e.getMessage());
-        }
-    }
-
-    private void ensureButtonClickClipLoaded() {
-        if (sfxButtonClick == null) {
-            var resource = getClass().getResource("/sounds/clicking-interface-select-201946.mp3");
-            if (resource != null) {
-                sfxButtonClick = new AudioClip(resource.toExternalForm());
-                sfxButtonClick.setVolume(0.7); // Set default volume for button clicks
-                LOGGER.info("🔊 Button click SFX loaded successfully");
-            } else {
-                LOGGER.warning("🔊 Button click SFX not found: /sounds/clicking-interface-select-201946.mp3");
-            }
-        }
-    }
-
-    private void ensureInputSelectClipLoaded() {
-        if (sfxInputSelect == null) {
-            var resource = getClass().getResource("/sounds/beep-313342.mp3");
-            if (resource != null) {
-                sfxInputSelect = new AudioClip(resource.toExternalForm());
-            } else {
-                LOGGER.warning("🔊 Input select SFX not found: /sounds/beep-313342.mp3");
-            }
-        }
-    }
-
-    private void ensureButtonHoverClipLoaded() {
-        if (sfxButtonHover == null) {
-            var resource = getClass().getResource("/sounds/button_hover.wav");
-            if (resource != null) {
-                sfxButtonHover = new AudioClip(resource.toExternalForm());
-                sfxButtonHover.setVolume(0.5); // Lower volume for hover effects
-                LOGGER.info("🔊 Button hover SFX loaded successfully");
-            } else {
-                LOGGER.warning("🔊 Button hover SFX not found: /sounds/button_hover.wav");
-            }
-        }
-    }
-
-    private void ensureErrorClipLoaded() {
-        if (sfxError == null) {
-            var resource = getClass().getResource("/sounds/error.wav");
-            if (resource != null) {
-                sfxError = new AudioClip(resource.toExternalForm());
-                sfxError.setVolume(0.6); // Slightly higher volume for error notifications
-                LOGGER.info("🔊 Error SFX loaded successfully");
-            } else {
-                LOGGER.warning("🔊 Error SFX not found: /sounds/error.wav");
-            }
-        }
-    }
-
-    private void ensureSuccessClipLoaded() {
-        if (sfxSuccess == null) {
-            var resource = getClass().getResource("/sounds/success.wav");
-            if (resource != null) {
-                sfxSuccess = new AudioClip(resource.toExternalForm());
-                sfxSuccess.setVolume(0.6); // Slightly higher volume for success notifications
-                LOGGER.info("🔊 Success SFX loaded successfully");
-            } else {
-                LOGGER.warning("🔊 Success SFX not found: /sounds/success.wav");
-            }
-        }
-    }
-
-    private void playClipIfAllowed(AudioClip clip) {
-        if (clip == null) {
-            LOGGER.warning("🔊 Cannot play SFX: clip is null");
-            return;
-        }
-        if (isMuted) {
-            return; // respect mute state for SFX as well
-        }
-        try {
-            // Sound effects volume is set when clips are loaded and when volume changes
-            clip.play();
-            LOGGER.fine("🔊 SFX played successfully");
-        } catch (Exception e) {
-            LOGGER.warning(() -> "🔊 Error playing SFX: " + e.getMessage());
-        }
+        sfx.play(SFX_SUCCESS);
     }
     
     /**
-     * Start playing music
+     * Start playing music (the track is loaded on first call, which may
+     * happen on a startup worker thread)
      */
-    public void play() {
+    public synchronized void play() {
         if (musicPlayer == null) {
             loadDefaultTrack();
         }
@@ -307,22 +219,8 @@ public class CentralizedMusicManager {
             musicPlayer.setVolume(this.volume);
         }
         
-        // Update sound effects volume
-        if (sfxButtonClick != null) {
-            sfxButtonClick.setVolume(Math.max(0.0, Math.min(1.0, this.volume * 0.7)));
-        }
-        if (sfxInputSelect != null) {
-            sfxInputSelect.setVolume(Math.max(0.0, Math.min(1.0, this.volume * 0.7)));
-        }
-        if (sfxButtonHover != null) {
-            sfxButtonHover.setVolume(Math.max(0.0, Math.min(1.0, this.volume * 0.5)));
-        }
-        if (sfxError != null) {
-            sfxError.setVolume(Math.max(0.0, Math.min(1.0, this.volume * 0.6)));
-        }
-        if (sfxSuccess != null) {
-            sfxSuccess.setVolume(Math.max(0.0, Math.min(1.0, this.volume * 0.6)));
-        }
+        // Sound effects scale their per-sound base volume by this value
+        sfx.setMasterVolume(this.volume);
         
         notifyStateChanged();
         LOGGER.info(() -> "🎵 Volume set to: " + (this.volume * 100) + "%");
@@ -353,6 +251,7 @@ public class CentralizedMusicManager {
         if (musicPlayer != null && !isMuted) {
             musicPlayer.setMute(true);
             isMuted = true;
+            sfx.setMuted(true);
             notifyStateChanged();
             LOGGER.info("🎵 Music muted");
         }
@@ -365,6 +264,7 @@ public class CentralizedMusicManager {
         if (musicPlayer != null && isMuted) {
             musicPlayer.setMute(false);
             isMuted = false;
+            sfx.setMuted(false);
             notifyStateChanged();
             LOGGER.info("🎵 Music unmuted");
         }
@@ -425,11 +325,7 @@ public class CentralizedMusicManager {
                 LOGGER.warning(() -> "🎵 Error during music manager shutdown: " + e.getMessage());
             }
         }
-        // Release SFX references
-        sfxButtonClick = null;
-        sfxInputSelect = null;
-        sfxButtonHover = null;
-        sfxError = null;
-        sfxSuccess = null;
+        // Release SFX voices (reloaded lazily on next use)
+        sfx.releaseClips();
     }
 }
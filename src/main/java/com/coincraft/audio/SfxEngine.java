@@ -0,0 +1,225 @@
+package com.coincraft.audio;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import javafx.scene.media.AudioClip;
+
+/**
+ * Pooled sound effect engine used by {@link CentralizedMusicManager}.
+ *
+ * Every sound owns a small pool of preloaded {@link AudioClip} voices capped at
+ * a maximum polyphony; when all voices are busy the oldest one is stolen.
+ * Triggers are rate limited per sound (at most one per frame by default) and
+ * coalesced, so a burst of hover events queues a single playback. All clip
+ * loading and playback runs on a dedicated daemon thread, never on the FX thread.
+ */
+public class SfxEngine {
+    private static final Logger LOGGER = Logger.getLogger(SfxEngine.class.getName());
+    private static final long DEFAULT_MIN_INTERVAL_NANOS = 16_000_000L; // ~one frame at 60 FPS
+
+    private final Map<String, SoundSlot> sounds = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher;
+
+    private volatile double masterVolume = 1.0;
+    private volatile boolean muted = false;
+
+    public SfxEngine() {
+        this.dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coincraft-sfx");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Register a sound effect
+     * @param name logical sound name
+     * @param resourcePath classpath resource, e.g. "/sounds/error.wav"
+     * @param baseVolume volume relative to the master volume (0.0 to 1.0)
+     * @param maxPolyphony maximum number of simultaneous voices
+     */
+    public void register(String name, String resourcePath, double baseVolume, int maxPolyphony) {
+        register(name, resourcePath, baseVolume, maxPolyphony, DEFAULT_MIN_INTERVAL_NANOS);
+    }
+
+    /**
+     * Register a sound effect with an explicit minimum interval between triggers
+     */
+    public void register(String name, String resourcePath, double baseVolume, int maxPolyphony, long minIntervalNanos) {
+        sounds.put(name, new SoundSlot(name, resourcePath, baseVolume, Math.max(1, maxPolyphony), minIntervalNanos));
+    }
+
+    /**
+     * Decode all registered clips in the background so the first trigger does not stall
+     */
+    public void preloadAll() {
+        for (SoundSlot slot : sounds.values()) {
+            submit(() -> ensureLoaded(slot));
+        }
+    }
+
+    /**
+     * Trigger a sound. Cheap and safe to call from the FX thread on every
+     * hover or click: drops the request when the sound was triggered within
+     * its minimum interval or a playback is already queued.
+     */
+    public void play(String name) {
+        if (muted) {
+            return;
+        }
+        SoundSlot slot = sounds.get(name);
+        if (slot == null) {
+            LOGGER.warning(() -> "🔊 Unknown SFX: " + name);
+            return;
+        }
+        long now = System.nanoTime();
+        long last = slot.lastTriggerNanos.get();
+        if (now - last < slot.minIntervalNanos || !slot.lastTriggerNanos.compareAndSet(last, now)) {
+            return; // rate limited
+        }
+        if (!slot.pending.compareAndSet(false, true)) {
+            return; // already queued
+        }
+        submit(() -> {
+            slot.pending.set(false);
+            dispatch(slot);
+        });
+    }
+
+    public void setMasterVolume(double volume) {
+        this.masterVolume = Math.max(0.0, Math.min(1.0, volume));
+    }
+
+    public double getMasterVolume() {
+        return masterVolume;
+    }
+
+    public void setMuted(boolean muted) {
+        this.muted = muted;
+        if (muted) {
+            submit(this::stopAllVoices);
+        }
+    }
+
+    public boolean isMuted() {
+        return muted;
+    }
+
+    /**
+     * Drop every loaded clip; they are reloaded lazily on the next trigger
+     */
+    public void releaseClips() {
+        submit(() -> {
+            stopAllVoices();
+            for (SoundSlot slot : sounds.values()) {
+                slot.voices = null;
+            }
+        });
+    }
+
+    private void dispatch(SoundSlot slot) {
+        if (muted || !ensureLoaded(slot)) {
+            return;
+        }
+        try {
+            int voice = pickVoice(slot);
+            AudioClip clip = slot.voices[voice];
+            slot.voiceStartNanos[voice] = System.nanoTime();
+            // Per-play volume: never mutate the clip's shared volume
+            clip.play(Math.max(0.0, Math.min(1.0, masterVolume * slot.baseVolume)));
+        } catch (Exception e) {
+            LOGGER.warning(() -> "🔊 Error playing SFX '" + slot.name + "': " + e.getMessage());
+        }
+    }
+
+    /**
+     * Free voice if there is one, otherwise steal the voice that started first
+     */
+    private int pickVoice(SoundSlot slot) {
+        int oldest = 0;
+        for (int i = 0; i < slot.voices.length; i++) {
+            if (!slot.voices[i].isPlaying()) {
+                return i;
+            }
+            if (slot.voiceStartNanos[i] < slot.voiceStartNanos[oldest]) {
+                oldest = i;
+            }
+        }
+        slot.voices[oldest].stop();
+        return oldest;
+    }
+
+    private boolean ensureLoaded(SoundSlot slot) {
+        if (slot.voices != null) {
+            return true;
+        }
+        var resource = SfxEngine.class.getResource(slot.resourcePath);
+        if (resource == null) {
+            LOGGER.warning(() -> "🔊 SFX not found: " + slot.resourcePath);
+            return false;
+        }
+        try {
+            String url = resource.toExternalForm();
+            AudioClip[] voices = new AudioClip[slot.maxPolyphony];
+            for (int i = 0; i < voices.length; i++) {
+                voices[i] = new AudioClip(url);
+            }
+            slot.voiceStartNanos = new long[voices.length];
+            slot.voices = voices;
+            LOGGER.info(() -> "🔊 SFX '" + slot.name + "' loaded with " + voices.length + " voice(s)");
+            return true;
+        } catch (Exception e) {
+            LOGGER.warning(() -> "🔊 Failed to load SFX '" + slot.name + "': " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void stopAllVoices() {
+        for (SoundSlot slot : sounds.values()) {
+            AudioClip[] voices = slot.voices;
+            if (voices != null) {
+                for (AudioClip clip : voices) {
+                    clip.stop();
+                }
+            }
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            dispatcher.execute(task);
+        } catch (RejectedExecutionException e) {
+            LOGGER.fine("🔊 SFX dispatcher not accepting work");
+        }
+    }
+
+    private static final class SoundSlot {
+        final String name;
+        final String resourcePath;
+        final double baseVolume;
+        final int maxPolyphony;
+        final long minIntervalNanos;
+        final AtomicLong lastTriggerNanos;
+        final AtomicBoolean pending = new AtomicBoolean(false);
+
+        // Only touched on the dispatcher thread
+        volatile AudioClip[] voices;
+        long[] voiceStartNanos;
+
+        SoundSlot(String name, String resourcePath, double baseVolume, int maxPolyphony, long minIntervalNanos) {
+            this.name = name;
+            this.resourcePath = resourcePath;
+            this.baseVolume = baseVolume;
+            this.maxPolyphony = maxPolyphony;
+            this.minIntervalNanos = minIntervalNanos;
+            this.lastTriggerNanos = new AtomicLong(System.nanoTime() - minIntervalNanos);
+        }
+    }
+}
@@ -0,0 +1,403 @@
+package com.coincraft.engine;
+
+import java.lang.ref.WeakReference;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+import com.coincraft.engine.jobs.CancellationToken;
+
+import javafx.animation.AnimationTimer;
+import javafx.beans.value.ChangeListener;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+
+/**
+ * Engine-wide frame scheduler.
+ *
+ * A single AnimationTimer drives every game scene. Each scene registers its
+ * systems into named phases which run in order every frame (input, simulate,
+ * late-update, render), and within a phase by registration order. Scenes can
+ * be paused (only the render phase runs), suspended (nothing runs) and resumed;
+ * the timer itself stops whenever no scene needs frames, so hidden screens do
+ * not consume CPU.
+ *
+ * The scheduler only keeps weak references to scenes, so the owner must hold
+ * on to its {@link SceneHandle}. A scene that becomes unreachable while still
+ * running is reported as a leaked loop, with the place it was created, and
+ * stops receiving frames.
+ */
+public class FrameScheduler {
+    private static FrameScheduler instance;
+    
+    private static final long LEAK_CHECK_INTERVAL_NANOS = 5_000_000_000L;
+    
+    public enum Phase {
+        INPUT, SIMULATE, LATE_UPDATE, RENDER
+    }
+    
+    public enum State {
+        ACTIVE, PAUSED, SUSPENDED, DISPOSED
+    }
+    
+    private final List<SceneRecord> scenes = new CopyOnWriteArrayList<>();
+    private final AnimationTimer timer;
+    private boolean timerRunning = false;
+    private long lastTime = 0;
+    private long lastLeakCheck = 0;
+    
+    // Performance tracking
+    private double lastDeltaTime = 0.0;
+    private long lastFrameWorkNanos = 0;
+    private long frameCount = 0;
+    
+    private FrameScheduler() {
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                runFrame(now);
+            }
+        };
+    }
+    
+    public static synchronized FrameScheduler getInstance() {
+        if (instance == null) {
+            instance = new FrameScheduler();
+        }
+        return instance;
+    }
+    
+    /**
+     * Create a scene. The scene starts suspended; call
+     * {@link SceneHandle#resume()} to start receiving frames.
+     */
+    public SceneHandle createScene(String name) {
+        SceneHandle handle = new SceneHandle(name);
+        handle.record = new SceneRecord(handle, new Throwable("Frame scene '" + name + "' created here"));
+        scenes.add(handle.record);
+        return handle;
+    }
+    
+    private void runFrame(long now) {
+        if (lastTime == 0) {
+            lastTime = now;
+            lastLeakCheck = now;
+            return;
+        }
+        double delta = (now - lastTime) / 1_000_000_000.0;
+        lastTime = now;
+        lastDeltaTime = delta;
+        frameCount++;
+        
+        long workStart = System.nanoTime();
+        for (Phase phase : Phase.values()) {
+            for (SceneRecord record : scenes) {
+                SceneHandle scene = record.handle.get();
+                if (scene != null && scene.runs(phase)) {
+                    // One failing scene must not take the others' frame with it
+                    try {
+                        scene.runPhase(phase, delta);
+                    } catch (RuntimeException e) {
+                        System.err.println("❌ Frame scene '" + record.name + "' failed in " + phase + ": " + e);
+                        e.printStackTrace();
+                    }
+                }
+            }
+        }
+        lastFrameWorkNanos = System.nanoTime() - workStart;
+        
+        if (now - lastLeakCheck >= LEAK_CHECK_INTERVAL_NANOS) {
+            lastLeakCheck = now;
+            detectLeaks();
+        }
+    }
+    
+    /**
+     * Drop scenes that were collected; report the ones that were never stopped
+     */
+    private void detectLeaks() {
+        boolean removed = false;
+        for (SceneRecord record : scenes) {
+            if (record.handle.get() == null) {
+                if (record.running) {
+                    System.out.println("⚠️ Frame scene '" + record.name + "' was never stopped. "
+                        + describeCreationSite(record.creationSite));
+                }
+                scenes.remove(record);
+                removed = true;
+            }
+        }
+        if (removed) {
+            refreshTimer();
+        }
+    }
+    
+    private static String describeCreationSite(Throwable site) {
+        for (StackTraceElement element : site.getStackTrace()) {
+            String cls = element.getClassName();
+            if (!cls.equals(FrameScheduler.class.getName())
+                    && !cls.equals(GameLoop.class.getName())) {
+                return "Created at " + element;
+            }
+        }
+        return "";
+    }
+    
+    /**
+     * Start or stop the shared timer depending on whether any scene needs frames
+     */
+    private void refreshTimer() {
+        boolean needed = false;
+        for (SceneRecord record : scenes) {
+            SceneHandle scene = record.handle.get();
+            if (scene != null && (scene.state == State.ACTIVE || scene.state == State.PAUSED)) {
+                needed = true;
+                break;
+            }
+        }
+        if (needed && !timerRunning) {
+            lastTime = 0;
+            timerRunning = true;
+            timer.start();
+        } else if (!needed && timerRunning) {
+            timerRunning = false;
+            timer.stop();
+        }
+    }
+    
+    public int getSceneCount() { return scenes.size(); }
+    public boolean isTimerRunning() { return timerRunning; }
+    public double getLastDeltaTime() { return lastDeltaTime; }
+    
+    /**
+     * Time the previous frame spent running scene systems (not JavaFX layout or rendering)
+     */
+    public long getLastFrameWorkNanos() { return lastFrameWorkNanos; }
+    public long getFrameCount() { return frameCount; }
+    
+    /**
+     * A group of systems that is started, paused and stopped together
+     */
+    public final class SceneHandle {
+        private final String name;
+        private SceneRecord record;
+        private final Map<Phase, List<SystemEntry>> systems = new EnumMap<>(Phase.class);
+        private volatile State state = State.SUSPENDED;
+        private int nextSequence = 0;
+        private final CancellationToken cancellationToken = new CancellationToken();
+        
+        private Scene watchedScene;
+        private ChangeListener<Window> windowListener;
+        private Window watchedWindow;
+        private ChangeListener<Boolean> showingListener;
+        private State stateBeforeHide;
+        
+        private SceneHandle(String name) {
+            this.name = name;
+            for (Phase phase : Phase.values()) {
+                systems.put(phase, new CopyOnWriteArrayList<>());
+            }
+        }
+        
+        /**
+         * Register a system in a phase; lower order runs first, ties run in registration order
+         */
+        public SceneHandle addSystem(Phase phase, int order, Updatable system) {
+            if (system == null || state == State.DISPOSED) return this;
+            List<SystemEntry> list = systems.get(phase);
+            SystemEntry entry = new SystemEntry(order, nextSequence++, system);
+            int index = 0;
+            while (index < list.size() && list.get(index).compareTo(entry) <= 0) {
+                index++;
+            }
+            list.add(index, entry);
+            return this;
+        }
+        
+        /**
+         * Register a system in a phase after the ones already there
+         */
+        public SceneHandle addSystem(Phase phase, Updatable system) {
+            return addSystem(phase, 0, system);
+        }
+        
+        public void removeSystem(Updatable system) {
+            removeSystemIf(candidate -> candidate == system);
+        }
+        
+        public void removeSystemIf(Predicate<Updatable> filter) {
+            for (List<SystemEntry> list : systems.values()) {
+                list.removeIf(entry -> filter.test(entry.system));
+            }
+        }
+        
+        /**
+         * Receive frames in every phase
+         */
+        public void resume() {
+            stateBeforeHide = null;
+            setState(State.ACTIVE);
+        }
+        
+        /**
+         * Keep rendering but stop input and simulation
+         */
+        public void pause() {
+            stateBeforeHide = null;
+            setState(State.PAUSED);
+        }
+        
+        /**
+         * Stop receiving frames entirely
+         */
+        public void suspend() {
+            stateBeforeHide = null;
+            setState(State.SUSPENDED);
+        }
+        
+        /**
+         * Suspend this scene while the window showing the given JavaFX scene is
+         * hidden, and restore its previous state when the window is shown again
+         */
+        public SceneHandle suspendWhenHidden(Scene fxScene) {
+            if (state == State.DISPOSED) return this;
+            unwatchScene();
+            if (fxScene.getWindow() != null) {
+                watchWindow(fxScene.getWindow());
+            }
+            // Navigating away detaches the scene from its window, which also suspends it
+            watchedScene = fxScene;
+            windowListener = (obs, oldWindow, newWindow) -> watchWindow(newWindow);
+            fxScene.windowProperty().addListener(windowListener);
+            return this;
+        }
+        
+        /**
+         * Remove the scene from the scheduler permanently
+         */
+        public void dispose() {
+            if (state == State.DISPOSED) return;
+            unwatchScene();
+            unwatchWindow();
+            state = State.DISPOSED;
+            for (List<SystemEntry> list : systems.values()) {
+                list.clear();
+            }
+            scenes.remove(record);
+            refreshTimer();
+            cancellationToken.cancel();
+        }
+        
+        public String getName() { return name; }
+        public State getState() { return state; }
+        
+        /**
+         * Token cancelled when the scene is disposed; pass it to jobs whose
+         * results are only useful while the scene exists
+         */
+        public CancellationToken getCancellationToken() { return cancellationToken; }
+        
+        private void setState(State newState) {
+            if (state == State.DISPOSED || state == newState) return;
+            state = newState;
+            record.running = newState == State.ACTIVE || newState == State.PAUSED;
+            refreshTimer();
+        }
+        
+        private boolean runs(Phase phase) {
+            State current = state;
+            return current == State.ACTIVE || (current == State.PAUSED && phase == Phase.RENDER);
+        }
+        
+        private void runPhase(Phase phase, double deltaTime) {
+            for (SystemEntry entry : systems.get(phase)) {
+                entry.system.update(deltaTime);
+            }
+        }
+        
+        private void watchWindow(Window window) {
+            unwatchWindow();
+            if (window == null) {
+                suspendWhileHidden();
+                return;
+            }
+            watchedWindow = window;
+            showingListener = (obs, wasShowing, isShowing) -> {
+                if (isShowing) {
+                    restoreAfterHide();
+                } else {
+                    suspendWhileHidden();
+                }
+            };
+            window.showingProperty().addListener(showingListener);
+            if (window.isShowing()) {
+                restoreAfterHide();
+            } else {
+                suspendWhileHidden();
+            }
+        }
+        
+        private void suspendWhileHidden() {
+            if (state == State.ACTIVE || state == State.PAUSED) {
+                stateBeforeHide = state;
+                setState(State.SUSPENDED);
+            }
+        }
+        
+        private void restoreAfterHide() {
+            if (stateBeforeHide != null && state == State.SUSPENDED) {
+                setState(stateBeforeHide);
+            }
+            stateBeforeHide = null;
+        }
+        
+        private void unwatchScene() {
+            if (watchedScene != null && windowListener != null) {
+                watchedScene.windowProperty().removeListener(windowListener);
+            }
+            watchedScene = null;
+            windowListener = null;
+        }
+        
+        private void unwatchWindow() {
+            if (watchedWindow != null && showingListener != null) {
+                watchedWindow.showingProperty().removeListener(showingListener);
+            }
+            watchedWindow = null;
+            showingListener = null;
+        }
+    }
+    
+    private static final class SceneRecord {
+        final WeakReference<SceneHandle> handle;
+        final String name;
+        final Throwable creationSite;
+        volatile boolean running = false;
+        
+        SceneRecord(SceneHandle handle, Throwable creationSite) {
+            this.handle = new WeakReference<>(handle);
+            this.name = handle.name;
+            this.creationSite = creationSite;
+        }
+    }
+    
+    private static final class SystemEntry implements Comparable<SystemEntry> {
+        final int order;
+        final int sequence;
+        final Updatable system;
+        
+        SystemEntry(int order, int sequence, Updatable system) {
+            this.order = order;
+            this.sequence = sequence;
+            this.system = system;
+        }
+        
+        @Override
+        public int compareTo(SystemEntry other) {
+            int byOrder = Integer.compare(order, other.order);
+            return byOrder != 0 ? byOrder : Integer.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.coincraft.engine;
 
-import javafx.animation.AnimationTimer;
 import javafx.scene.Scene;
 import javafx.scene.layout.Pane;
 import javafx.stage.Stage;
@@ -9,6 +8,7 @@ import com.coincraft.engine.physics.PhysicsEngine;
 import com.coincraft.engine.input.InputManager;
 import com.coincraft.engine.audio.AudioManager;
 import com.coincraft.engine.animation.AnimationManager;
+import com.coincraft.engine.ecs.EntityWorld;
 import com.coincraft.engine.events.EventManager;
 import com.coincraft.engine.resources.ResourceManager;
 import com.coincraft.engine.save.SaveManager;
@@ -31,11 +31,11 @@ public class GameEngine {
     private final EventManager eventManager;
     private final ResourceManager resourceManager;
     private final SaveManager saveManager;
+    private final EntityWorld entityWorld;
     
-    // Game loop
-    private AnimationTimer gameLoop;
+    // Game loop (a scene on the shared frame scheduler)
+    private FrameScheduler.SceneHandle gameLoop;
     private boolean isRunning = false;
-    private long lastUpdateTime = 0;
     private double deltaTime = 0.0;
     
     // Performance tracking
@@ -57,6 +57,7 @@ public class GameEngine {
         this.eventManager = new EventManager();
         this.resourceManager = new ResourceManager();
         this.saveManager = new SaveManager();
+        this.entityWorld = new EntityWorld().addStandardSystems(System.nanoTime());
         
         // Setup scene
         primaryStage.setScene(scene);
@@ -79,10 +80,10 @@ public class GameEngine {
         } catch (Exception ignored) {
             // Stage may be managed elsewhere; this is a harmless best-effort.
         }
-        gameLoop.start();
+        gameLoop.resume();
         
         System.out.println("🎮 Game Engine Started");
-        System.out.println("📊 Systems initialized: Renderer, Physics, Input, Audio, Animation, Events, Resources, Save");
+        System.out.println("📊 Systems initialized: Renderer, Physics, Input, Audio, Animation, Events, Resources, Save, Entities");
     }
     
     /**
@@ -92,7 +93,7 @@ public class GameEngine {
         if (!isRunning) return;
         
         isRunning = false;
-        gameLoop.stop();
+        gameLoop.suspend();
         
         // Cleanup systems
         audioManager.cleanup();
@@ -102,51 +103,52 @@ public class GameEngine {
     }
     
     /**
-     * Setup the game loop
+     * Setup the game loop: register every system in its frame phase
      */
     private void setupGameLoop() {
-        gameLoop = new AnimationTimer() {
-            @Override
-            public void handle(long now) {
-                if (lastUpdateTime == 0) {
-                    lastUpdateTime = now;
-                    return;
-                }
-                
-                // Calculate delta time
-                deltaTime = (now - lastUpdateTime) / 1_000_000_000.0;
-                lastUpdateTime = now;
-                
-                // Update systems
-                update(deltaTime);
-                
-                // Update FPS counter
-                updateFPS(now);
-            }
-        };
-    }
-    
-    /**
-     * Update all game systems
-     */
-    private void update(double deltaTime) {
+        gameLoop = FrameScheduler.getInstance().createScene("game-engine");
+        
         // Update input
-        inputManager.update(deltaTime);
+        gameLoop.addSystem(FrameScheduler.Phase.INPUT, dt -> {
+            deltaTime = dt;
+            inputManager.update(dt);
+        });
         
-        // Update physics
-        physicsEngine.update(deltaTime);
+        // Update physics, then animations
+        gameLoop.addSystem(FrameScheduler.Phase.SIMULATE, physicsEngine::update);
+        gameLoop.addSystem(FrameScheduler.Phase.SIMULATE, animationManager::update);
         
-        // Update animations
-        animationManager.update(deltaTime);
+        // Entity systems (AI, motion, animation, node sync) run alongside the classic ones
+        entityWorld.attach(gameLoop);
         
-        // Update audio
-        audioManager.update(deltaTime);
+        // Update audio and process events
+        gameLoop.addSystem(FrameScheduler.Phase.LATE_UPDATE, audioManager::update);
+        gameLoop.addSystem(FrameScheduler.Phase.LATE_UPDATE, dt -> eventManager.processEvents());
         
-        // Update renderer
-        renderer.update(deltaTime);
+        // Update renderer and FPS counter
+        gameLoop.addSystem(FrameScheduler.Phase.RENDER, renderer::update);
+        gameLoop.addSystem(FrameScheduler.Phase.RENDER, dt -> updateFPS(System.nanoTime()));
         
-        // Process events
-        eventManager.processEvents();
+        // Stop consuming frames while the engine's window is hidden
+        gameLoop.suspendWhenHidden(scene);
+    }
+    
+    /**
+     * Pause simulation while still rendering
+     */
+    public void pause() {
+        if (isRunning) {
+            gameLoop.pause();
+        }
+    }
+    
+    /**
+     * Resume simulation after {@link #pause()}
+     */
+    public void resume() {
+        if (isRunning) {
+            gameLoop.resume();
+        }
     }
     
     /**
@@ -170,6 +172,7 @@ public class GameEngine {
     public EventManager getEventManager() { return eventManager; }
     public ResourceManager getResourceManager() { return resourceManager; }
     public SaveManager getSaveManager() { return saveManager; }
+    public EntityWorld getEntityWorld() { return entityWorld; }
     
     // Game world access
     public Pane getGameWorld() { return gameWorld; }
@@ -1,48 +1,44 @@
 package com.coincraft.engine;
 
-import javafx.animation.AnimationTimer;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-
 /**
  * Minimal game loop that updates registered systems and renderers.
+ * Runs as a scene on the shared {@link FrameScheduler}: updatables run in the
+ * simulate phase and renderers in the render phase.
  */
 public class GameLoop {
-    private final List<Updatable> updatables = new CopyOnWriteArrayList<>();
-    private final List<Runnable> renderers = new CopyOnWriteArrayList<>();
-    
-    private final AnimationTimer timer;
-    private long lastTime = 0;
+    private final FrameScheduler.SceneHandle scene;
     
     public GameLoop() {
-        timer = new AnimationTimer() {
-            @Override
-            public void handle(long now) {
-                if (lastTime == 0) {
-                    lastTime = now;
-                    return;
-                }
-                double delta = (now - lastTime) / 1_000_000_000.0;
-                lastTime = now;
-                
-                for (Updatable u : updatables) {
-                    u.update(delta);
-                }
-                for (Runnable r : renderers) {
-                    r.run();
-                }
-            }
-        };
+        this("game-loop");
     }
     
-    public void start() { timer.start(); }
-    public void stop() { timer.stop(); }
+    public GameLoop(String name) {
+        scene = FrameScheduler.getInstance().createScene(name);
+    }
+    
+    public void start() { scene.resume(); }
+    public void stop() { scene.suspend(); }
+    public void pause() { scene.pause(); }
+    public void dispose() { scene.dispose(); }
+    
+    public void addUpdatable(Updatable u) { if (u != null) scene.addSystem(FrameScheduler.Phase.SIMULATE, u); }
+    public void removeUpdatable(Updatable u) { scene.removeSystem(u); }
     
-    public void addUpdatable(Updatable u) { if (u != null) updatables.add(u); }
-    public void removeUpdatable(Updatable u) { updatables.remove(u); }
+    public void addRenderer(Runnable r) { if (r != null) scene.addSystem(FrameScheduler.Phase.RENDER, new RendererSystem(r)); }
+    public void removeRenderer(Runnable r) { scene.removeSystemIf(system -> system instanceof RendererSystem rs && rs.renderer == r); }
     
-    public void addRenderer(Runnable r) { if (r != null) renderers.add(r); }
-    public void removeRenderer(Runnable r) { renderers.remove(r); }
+    public FrameScheduler.SceneHandle getScene() { return scene; }
+    
+    private static final class RendererSystem implements Updatable {
+        final Runnable renderer;
+        
+        RendererSystem(Runnable renderer) {
+            this.renderer = renderer;
+        }
+        
+        @Override
+        public void update(double deltaTime) {
+            renderer.run();
+        }
+    }
 }
-
-
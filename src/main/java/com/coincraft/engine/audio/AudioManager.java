@@ -6,16 +6,30 @@ import javafx.scene.media.AudioClip;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Audio manager for handling sound effects and music
- * Provides centralized audio management for the game engine
+ * Provides centralized audio management for the game engine.
+ * Music players come from a bounded {@link MusicPlayerPool}; track changes
+ * crossfade over {@link #setCrossfadeDuration(double)} seconds, advanced by
+ * {@link #update(double)} each frame.
  */
 public class AudioManager {
-    private final Map<String, Media> musicTracks = new HashMap<>();
+    private static final int MUSIC_POOL_SIZE = 3;
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "coincraft-music-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private final Map<String, Media> musicTracks = new ConcurrentHashMap<>();
     private final Map<String, AudioClip> soundEffects = new HashMap<>();
     private final List<MediaPlayer> activePlayers = new CopyOnWriteArrayList<>();
+    private final MusicPlayerPool playerPool = new MusicPlayerPool(MUSIC_POOL_SIZE);
     
     // Audio settings
     private double masterVolume = 1.0;
@@ -27,6 +41,11 @@ public class AudioManager {
     private MediaPlayer currentMusic = null;
     private String currentTrack = null;
     
+    // Crossfade state
+    private double crossfadeDuration = 1.5; // seconds
+    private MediaPlayer fadingOutMusic = null;
+    private double fadeElapsed = 0.0;
+    
     /**
      * Load a music track
      */
@@ -54,7 +73,25 @@ public class AudioManager {
     }
     
     /**
-     * Play music
+     * Prepare a track in the background so a later playMusic() starts without a loading hitch
+     */
+    public void prefetchMusic(String name) {
+        Media media = musicTracks.get(name);
+        if (media == null) {
+            System.err.println("❌ Music not found: " + name);
+            return;
+        }
+        PREFETCH_EXECUTOR.execute(() -> {
+            try {
+                playerPool.prepare(name, media);
+            } catch (Exception e) {
+                System.err.println("❌ Failed to prefetch music: " + name + " - " + e.getMessage());
+            }
+        });
+    }
+    
+    /**
+     * Play music, crossfading from the current track if one is playing
      */
     public void playMusic(String name, boolean loop) {
         if (mute) return;
@@ -64,17 +101,37 @@ public class AudioManager {
             System.err.println("❌ Music not found: " + name);
             return;
         }
-        
-        // Stop current music
-        stopMusic();
+        if (name.equals(currentTrack) && currentMusic != null) {
+            currentMusic.setCycleCount(loop ? MediaPlayer.INDEFINITE : 1);
+            // Asking for a paused or stopped track again plays it instead of leaving it silent
+            MediaPlayer.Status status = currentMusic.getStatus();
+            if (status == MediaPlayer.Status.PAUSED || status == MediaPlayer.Status.STOPPED) {
+                currentMusic.play();
+            }
+            return;
+        }
         
         try {
-            currentMusic = new MediaPlayer(media);
-            currentMusic.setVolume(masterVolume * musicVolume);
-            currentMusic.setCycleCount(loop ? MediaPlayer.INDEFINITE : 1);
-            currentMusic.play();
+            // Complete any fade in progress before starting a new one
+            finishCrossfade();
+            MediaPlayer next = playerPool.acquire(name, media);
+            next.setCycleCount(loop ? MediaPlayer.INDEFINITE : 1);
+            
+            if (currentMusic != null && crossfadeDuration > 0) {
+                fadingOutMusic = currentMusic;
+                fadeElapsed = 0.0;
+                next.setVolume(0.0);
+            } else {
+                stopMusic();
+                next.setVolume(masterVolume * musicVolume);
+            }
+            
+            next.play();
+            currentMusic = next;
             currentTrack = name;
-            activePlayers.add(currentMusic);
+            if (!activePlayers.contains(next)) {
+                activePlayers.add(next);
+            }
             
             System.out.println("🎵 Playing music: " + name);
         } catch (Exception e) {
@@ -86,18 +143,54 @@ public class AudioManager {
      * Stop current music
      */
     public void stopMusic() {
+        finishCrossfade();
         if (currentMusic != null) {
-            currentMusic.stop();
             activePlayers.remove(currentMusic);
+            playerPool.release(currentMusic);
             currentMusic = null;
             currentTrack = null;
         }
     }
     
+    /**
+     * Advance an in-progress crossfade
+     */
+    private void updateCrossfade(double deltaTime) {
+        if (fadingOutMusic == null) return;
+        
+        fadeElapsed += deltaTime;
+        double t = Math.min(1.0, fadeElapsed / crossfadeDuration);
+        double target = masterVolume * musicVolume;
+        // Equal-power curve keeps perceived loudness steady through the fade
+        if (currentMusic != null) {
+            currentMusic.setVolume(target * Math.sin(t * Math.PI / 2));
+        }
+        fadingOutMusic.setVolume(target * Math.cos(t * Math.PI / 2));
+        
+        if (t >= 1.0) {
+            finishCrossfade();
+        }
+    }
+    
+    /**
+     * End any crossfade immediately and return the outgoing player to the pool
+     */
+    private void finishCrossfade() {
+        if (fadingOutMusic == null) return;
+        
+        activePlayers.remove(fadingOutMusic);
+        playerPool.release(fadingOutMusic);
+        fadingOutMusic = null;
+        if (currentMusic != null) {
+            currentMusic.setVolume(masterVolume * musicVolume);
+        }
+    }
+    
     /**
      * Pause current music
      */
     public void pauseMusic() {
+        finishCrossfade();
         if (currentMusic != null) {
             currentMusic.pause();
         }
@@ -125,8 +218,8 @@ public class AudioManager {
         }
         
         try {
-            clip.setVolume(masterVolume * sfxVolume);
-            clip.play();
+            // Volume is passed per play so overlapping plays don't fight over the shared clip
+            clip.play(masterVolume * sfxVolume);
         } catch (Exception e) {
             System.err.println("❌ Failed to play sound effect: " + name + " - " + e.getMessage());
         }
@@ -145,8 +238,7 @@ public class AudioManager {
         }
         
         try {
-            clip.setVolume(masterVolume * sfxVolume * volume);
-            clip.play();
+            clip.play(masterVolume * sfxVolume * volume);
         } catch (Exception e) {
             System.err.println("❌ Failed to play sound effect: " + name + " - " + e.getMessage());
         }
@@ -156,9 +248,26 @@ public class AudioManager {
      * Update audio manager
      */
     public void update(double deltaTime) {
-        // Clean up finished players
-        activePlayers.removeIf(player -> 
-            player.getStatus() == MediaPlayer.Status.STOPPED);
+        updateCrossfade(deltaTime);
+        
+        // Return finished players to the pool, dropping our references to them first
+        // so a released (and possibly reused) player is never driven as current music
+        for (MediaPlayer player : activePlayers) {
+            if (player.getStatus() == MediaPlayer.Status.STOPPED) {
+                if (player == fadingOutMusic) {
+                    fadingOutMusic = null;
+                    if (currentMusic != null && currentMusic != player) {
+                        currentMusic.setVolume(masterVolume * musicVolume); // the fade ends early
+                    }
+                }
+                if (player == currentMusic) {
+                    currentMusic = null;
+                    currentTrack = null;
+                }
+                activePlayers.remove(player);
+                playerPool.release(player);
+            }
+        }
     }
     
     /**
@@ -174,7 +283,7 @@ public class AudioManager {
      */
     public void setMusicVolume(double volume) {
         this.musicVolume = Math.max(0.0, Math.min(1.0, volume));
-        if (currentMusic != null) {
+        if (currentMusic != null && fadingOutMusic == null) {
             currentMusic.setVolume(masterVolume * musicVolume);
         }
     }
@@ -200,7 +309,7 @@ public class AudioManager {
      * Update all volumes
      */
     private void updateAllVolumes() {
-        if (currentMusic != null) {
+        if (currentMusic != null && fadingOutMusic == null) {
             currentMusic.setVolume(masterVolume * musicVolume);
         }
     }
@@ -210,18 +319,27 @@ public class AudioManager {
      */
     public void stopAllAudio() {
         for (MediaPlayer player : activePlayers) {
-            player.stop();
+            playerPool.release(player);
         }
         activePlayers.clear();
+        fadingOutMusic = null;
         currentMusic = null;
         currentTrack = null;
     }
     
+    /**
+     * Set crossfade duration in seconds (0 switches tracks immediately)
+     */
+    public void setCrossfadeDuration(double seconds) {
+        this.crossfadeDuration = Math.max(0.0, seconds);
+    }
+    
     /**
      * Cleanup resources
      */
     public void cleanup() {
         stopAllAudio();
+        playerPool.disposeAll();
         musicTracks.clear();
         soundEffects.clear();
     }
@@ -232,5 +350,7 @@ public class AudioManager {
     public double getSfxVolume() { return sfxVolume; }
     public boolean isMute() { return mute; }
     public String getCurrentTrack() { return currentTrack; }
+    public double getCrossfadeDuration() { return crossfadeDuration; }
+    public boolean isCrossfading() { return fadingOutMusic != null; }
     public boolean isMusicPlaying() { return currentMusic != null && currentMusic.getStatus() == MediaPlayer.Status.PLAYING; }
 }
@@ -0,0 +1,110 @@
+package com.coincraft.engine.audio;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaPlayer;
+
+/**
+ * Bounded pool of prepared music players.
+ * Creating a MediaPlayer starts buffering the track natively, so keeping a
+ * few prepared players around lets the next track start without a loading
+ * hitch. Players that are not in use are evicted least-recently-used first
+ * and disposed so native media resources never accumulate.
+ */
+public class MusicPlayerPool {
+    private final int capacity;
+    private final Map<String, MediaPlayer> players = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<MediaPlayer> inUse = new HashSet<>();
+
+    public MusicPlayerPool(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * Create (or touch) a prepared player for the track without playing it
+     */
+    public synchronized MediaPlayer prepare(String name, Media media) {
+        MediaPlayer player = players.get(name);
+        if (player == null || player.getStatus() == MediaPlayer.Status.DISPOSED
+                || player.getStatus() == MediaPlayer.Status.HALTED) {
+            if (player != null) {
+                disposeQuietly(player);
+            }
+            player = new MediaPlayer(media);
+            players.put(name, player);
+            evictIfNeeded();
+        }
+        return player;
+    }
+
+    /**
+     * Get a prepared player for the track and mark it as in use
+     */
+    public synchronized MediaPlayer acquire(String name, Media media) {
+        MediaPlayer player = prepare(name, media);
+        inUse.add(player);
+        return player;
+    }
+
+    /**
+     * Stop a player and return it to the pool; it stays prepared for reuse
+     */
+    public synchronized void release(MediaPlayer player) {
+        if (player == null) return;
+        try {
+            player.stop();
+        } catch (Exception ignored) {
+            // Player may already be disposed
+        }
+        inUse.remove(player);
+        evictIfNeeded();
+    }
+
+    /**
+     * Check whether a prepared player exists for the track
+     */
+    public synchronized boolean isPrepared(String name) {
+        MediaPlayer player = players.get(name);
+        return player != null && player.getStatus() != MediaPlayer.Status.DISPOSED;
+    }
+
+    /**
+     * Dispose every player, including ones in use
+     */
+    public synchronized void disposeAll() {
+        for (MediaPlayer player : players.values()) {
+            disposeQuietly(player);
+        }
+        players.clear();
+        inUse.clear();
+    }
+
+    public synchronized int size() {
+        return players.size();
+    }
+
+    private void evictIfNeeded() {
+        Iterator<MediaPlayer> it = players.values().iterator();
+        while (players.size() > capacity && it.hasNext()) {
+            MediaPlayer candidate = it.next();
+            if (!inUse.contains(candidate)) {
+                it.remove();
+                disposeQuietly(candidate);
+            }
+        }
+    }
+
+    private static void disposeQuietly(MediaPlayer player) {
+        try {
+            player.stop();
+            player.dispose();
+        } catch (Exception ignored) {
+            // Already disposed
+        }
+    }
+}
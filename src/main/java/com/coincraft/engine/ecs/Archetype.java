@@ -0,0 +1,198 @@
+package com.coincraft.engine.ecs;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Storage for all entities that have exactly the same set of components.
+ *
+ * Every field of every component is a dense array with one slot per row, so
+ * systems walk contiguous primitives instead of object graphs. Rows are kept
+ * packed: removing an entity moves the last row into its place. Arrays are
+ * replaced when the archetype grows, so fetch them once per visit rather than
+ * holding on to them across frames.
+ */
+public final class Archetype {
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private final int id;
+    private final BitSet signature;
+    private final ComponentType[] types;
+    private final int[] slotById;
+    
+    private final double[][][] doubles; // [slot][field][row]
+    private final int[][][] ints;       // [slot][field][row]
+    private final Object[][] references; // [slot][row]
+    private int[] entities;
+    private int size = 0;
+    
+    Archetype(int id, BitSet signature, ComponentType[] types) {
+        this.id = id;
+        this.signature = signature;
+        this.types = types;
+        
+        int maxId = -1;
+        for (ComponentType type : types) {
+            maxId = Math.max(maxId, type.getId());
+        }
+        slotById = new int[maxId + 1];
+        Arrays.fill(slotById, -1);
+        
+        doubles = new double[types.length][][];
+        ints = new int[types.length][][];
+        references = new Object[types.length][];
+        for (int slot = 0; slot < types.length; slot++) {
+            ComponentType type = types[slot];
+            slotById[type.getId()] = slot;
+            doubles[slot] = new double[type.getDoubleFieldCount()][INITIAL_CAPACITY];
+            ints[slot] = new int[type.getIntFieldCount()][INITIAL_CAPACITY];
+            references[slot] = type.hasReference() ? new Object[INITIAL_CAPACITY] : null;
+        }
+        entities = new int[INITIAL_CAPACITY];
+    }
+    
+    /**
+     * Number of entities (rows) in this archetype
+     */
+    public int size() { return size; }
+    
+    /**
+     * Entity stored at a row
+     */
+    public int entity(int row) { return entities[row]; }
+    
+    public boolean has(ComponentType type) {
+        return slot(type) >= 0;
+    }
+    
+    /**
+     * Column of a double field; valid for rows {@code [0, size())}
+     */
+    public double[] doubles(ComponentType type, int field) {
+        return doubles[requireSlot(type)][field];
+    }
+    
+    /**
+     * Column of an int field; valid for rows {@code [0, size())}
+     */
+    public int[] ints(ComponentType type, int field) {
+        return ints[requireSlot(type)][field];
+    }
+    
+    /**
+     * Column of object references; valid for rows {@code [0, size())}
+     */
+    public Object[] references(ComponentType type) {
+        Object[] column = references[requireSlot(type)];
+        if (column == null) {
+            throw new IllegalArgumentException(type + " has no reference field");
+        }
+        return column;
+    }
+    
+    public ComponentType[] getTypes() { return types.clone(); }
+    
+    int getId() { return id; }
+    BitSet getSignature() { return signature; }
+    
+    private int slot(ComponentType type) {
+        int typeId = type.getId();
+        return typeId < slotById.length ? slotById[typeId] : -1;
+    }
+    
+    private int requireSlot(ComponentType type) {
+        int slot = slot(type);
+        if (slot < 0) {
+            throw new IllegalArgumentException("Archetype has no " + type + " component");
+        }
+        return slot;
+    }
+    
+    /**
+     * Append a zeroed row for an entity
+     */
+    int add(int entity) {
+        if (size == entities.length) {
+            grow(size * 2);
+        }
+        entities[size] = entity;
+        return size++;
+    }
+    
+    /**
+     * Remove a row by moving the last row into it
+     * @return true if another entity moved into the row (see {@link #entity(int)});
+     *         entity ids can be negative, so no id value is free to mean "none"
+     */
+    boolean remove(int row) {
+        int last = size - 1;
+        boolean moved = row != last;
+        if (moved) {
+            entities[row] = entities[last];
+            for (int slot = 0; slot < types.length; slot++) {
+                for (double[] column : doubles[slot]) {
+                    column[row] = column[last];
+                }
+                for (int[] column : ints[slot]) {
+                    column[row] = column[last];
+                }
+                if (references[slot] != null) {
+                    references[slot][row] = references[slot][last];
+                }
+            }
+        }
+        // Clear the vacated row so new rows start zeroed and references can be collected
+        for (int slot = 0; slot < types.length; slot++) {
+            for (double[] column : doubles[slot]) {
+                column[last] = 0;
+            }
+            for (int[] column : ints[slot]) {
+                column[last] = 0;
+            }
+            if (references[slot] != null) {
+                references[slot][last] = null;
+            }
+        }
+        size--;
+        return moved;
+    }
+    
+    /**
+     * Copy the components both archetypes share from one row to another
+     */
+    void copyRow(int row, Archetype target, int targetRow) {
+        for (int slot = 0; slot < types.length; slot++) {
+            int targetSlot = target.slot(types[slot]);
+            if (targetSlot < 0) continue;
+            for (int field = 0; field < doubles[slot].length; field++) {
+                target.doubles[targetSlot][field][targetRow] = doubles[slot][field][row];
+            }
+            for (int field = 0; field < ints[slot].length; field++) {
+                target.ints[targetSlot][field][targetRow] = ints[slot][field][row];
+            }
+            if (references[slot] != null) {
+                target.references[targetSlot][targetRow] = references[slot][row];
+            }
+        }
+    }
+    
+    private void grow(int capacity) {
+        entities = Arrays.copyOf(entities, capacity);
+        for (int slot = 0; slot < types.length; slot++) {
+            for (int field = 0; field < doubles[slot].length; field++) {
+                doubles[slot][field] = Arrays.copyOf(doubles[slot][field], capacity);
+            }
+            for (int field = 0; field < ints[slot].length; field++) {
+                ints[slot][field] = Arrays.copyOf(ints[slot][field], capacity);
+            }
+            if (references[slot] != null) {
+                references[slot] = Arrays.copyOf(references[slot], capacity);
+            }
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return "Archetype" + Arrays.toString(types) + "[" + size + "]";
+    }
+}
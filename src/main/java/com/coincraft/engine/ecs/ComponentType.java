@@ -0,0 +1,92 @@
+package com.coincraft.engine.ecs;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Describes a component as a fixed set of primitive fields.
+ *
+ * A component has no object of its own: each archetype stores every field in
+ * its own dense array ({@code double[]} or {@code int[]}), indexed by row.
+ * A component may also carry one object reference per entity (e.g. the
+ * JavaFX node that renders it), or nothing at all (a tag).
+ */
+public final class ComponentType {
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+    
+    private final int id;
+    private final String name;
+    private final String[] doubleFields;
+    private final String[] intFields;
+    private final boolean reference;
+    
+    private ComponentType(String name, String[] doubleFields, String[] intFields, boolean reference) {
+        this.id = NEXT_ID.getAndIncrement();
+        this.name = name;
+        this.doubleFields = doubleFields.clone();
+        this.intFields = intFields.clone();
+        this.reference = reference;
+    }
+    
+    /**
+     * Component with the given double and int fields, and optionally an object reference
+     */
+    public static ComponentType of(String name, String[] doubleFields, String[] intFields, boolean reference) {
+        return new ComponentType(name, doubleFields, intFields, reference);
+    }
+    
+    public static ComponentType doubles(String name, String... fields) {
+        return new ComponentType(name, fields, new String[0], false);
+    }
+    
+    public static ComponentType ints(String name, String... fields) {
+        return new ComponentType(name, new String[0], fields, false);
+    }
+    
+    /**
+     * Component holding one object per entity
+     */
+    public static ComponentType reference(String name) {
+        return new ComponentType(name, new String[0], new String[0], true);
+    }
+    
+    /**
+     * Component without data, used only to select entities in queries
+     */
+    public static ComponentType tag(String name) {
+        return new ComponentType(name, new String[0], new String[0], false);
+    }
+    
+    /**
+     * Index of a double field, for {@link Archetype#doubles(ComponentType, int)}
+     */
+    public int doubleField(String field) {
+        int index = Arrays.asList(doubleFields).indexOf(field);
+        if (index < 0) {
+            throw new IllegalArgumentException(name + " has no double field " + field);
+        }
+        return index;
+    }
+    
+    /**
+     * Index of an int field, for {@link Archetype#ints(ComponentType, int)}
+     */
+    public int intField(String field) {
+        int index = Arrays.asList(intFields).indexOf(field);
+        if (index < 0) {
+            throw new IllegalArgumentException(name + " has no int field " + field);
+        }
+        return index;
+    }
+    
+    public int getId() { return id; }
+    public String getName() { return name; }
+    public int getDoubleFieldCount() { return doubleFields.length; }
+    public int getIntFieldCount() { return intFields.length; }
+    public boolean hasReference() { return reference; }
+    
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,55 @@
+package com.coincraft.engine.ecs;
+
+/**
+ * Component types shared by the engine's built-in systems.
+ * Field indices are constants so systems can fetch columns without lookups.
+ */
+public final class Components {
+    private Components() {}
+    
+    /** World position of the entity's top-left corner */
+    public static final ComponentType POSITION = ComponentType.doubles("Position", "x", "y");
+    public static final int X = 0;
+    public static final int Y = 1;
+    
+    /** Velocity in pixels per second; uses {@link #X} and {@link #Y} */
+    public static final ComponentType VELOCITY = ComponentType.doubles("Velocity", "x", "y");
+    
+    /** Rectangle the entity stays inside, bouncing off its edges */
+    public static final ComponentType BOUNDS = ComponentType.doubles("Bounds", "minX", "minY", "maxX", "maxY");
+    public static final int MIN_X = 0;
+    public static final int MIN_Y = 1;
+    public static final int MAX_X = 2;
+    public static final int MAX_Y = 3;
+    
+    /** Entities with this tag fall under the world's gravity */
+    public static final ComponentType GRAVITY = ComponentType.tag("Gravity");
+    
+    /** JavaFX node that displays the entity */
+    public static final ComponentType NODE = ComponentType.reference("Node");
+    
+    /**
+     * Frame animation over a sprite sheet shown by the entity's ImageView node.
+     * Frames are laid out left to right, top to bottom.
+     */
+    public static final ComponentType SPRITE_ANIMATION = ComponentType.of("SpriteAnimation",
+        new String[] { "timer", "fps" },
+        new String[] { "frame", "frameCount", "columns", "frameWidth", "frameHeight", "flags" },
+        false);
+    public static final int ANIM_TIMER = 0;
+    public static final int ANIM_FPS = 1;
+    public static final int ANIM_FRAME = 0;
+    public static final int ANIM_FRAME_COUNT = 1;
+    public static final int ANIM_COLUMNS = 2;
+    public static final int ANIM_FRAME_WIDTH = 3;
+    public static final int ANIM_FRAME_HEIGHT = 4;
+    public static final int ANIM_FLAGS = 5;
+    public static final int ANIM_PLAYING = 1;
+    public static final int ANIM_LOOP = 1 << 1;
+    
+    /** Simple AI: walk in a random direction, pick a new one every interval */
+    public static final ComponentType WANDER = ComponentType.doubles("Wander", "speed", "interval", "timer");
+    public static final int WANDER_SPEED = 0;
+    public static final int WANDER_INTERVAL = 1;
+    public static final int WANDER_TIMER = 2;
+}
@@ -0,0 +1,10 @@
+package com.coincraft.engine.ecs;
+
+/**
+ * Logic that runs over entities once per frame, in the phase it was added to.
+ * Systems keep their {@link Query} and iterate its archetypes' arrays.
+ */
+@FunctionalInterface
+public interface EntitySystem {
+    void update(EntityWorld world, double deltaTime);
+}
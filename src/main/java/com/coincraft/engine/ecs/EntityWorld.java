@@ -0,0 +1,401 @@
+package com.coincraft.engine.ecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+import com.coincraft.engine.FrameScheduler;
+import com.coincraft.engine.Updatable;
+
+/**
+ * Entity-component-system world.
+ *
+ * Entities are plain ints; their components live in {@link Archetype}s, one
+ * per distinct component set, as dense primitive arrays. Systems are added to
+ * a {@link FrameScheduler.Phase} and run over cached {@link Query} results, so
+ * a new kind of entity is just a new component combination: it is picked up
+ * by the existing systems instead of needing its own per-frame loop.
+ *
+ * Creating, destroying or changing the components of entities while a query
+ * is being iterated is deferred until the iteration ends. Use
+ * {@link #spawn(IntConsumer, ComponentType...)} to create entities from a system.
+ */
+public class EntityWorld {
+    private static final int INDEX_BITS = 22;
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << (32 - INDEX_BITS)) - 1;
+    
+    // Entity slots
+    private int[] generations = new int[64];
+    private int[] archetypeOf = new int[64];
+    private int[] rowOf = new int[64];
+    private int[] freeIndices = new int[64];
+    private int freeCount = 0;
+    private int nextIndex = 0;
+    private int entityCount = 0;
+    
+    // Storage
+    private final List<Archetype> archetypes = new ArrayList<>();
+    private final Map<BitSet, Archetype> archetypesBySignature = new HashMap<>();
+    private final List<Query> queries = new ArrayList<>();
+    private final Map<String, Query> queryCache = new HashMap<>();
+    private final Map<Integer, ComponentType> knownTypes = new HashMap<>();
+    
+    // Scheduling
+    private final Map<FrameScheduler.Phase, List<EntitySystem>> systems = new EnumMap<>(FrameScheduler.Phase.class);
+    private int iterationDepth = 0;
+    private final List<Runnable> deferred = new ArrayList<>();
+    
+    public EntityWorld() {
+        for (FrameScheduler.Phase phase : FrameScheduler.Phase.values()) {
+            systems.put(phase, new ArrayList<>());
+        }
+        Arrays.fill(archetypeOf, -1);
+    }
+    
+    // Entities
+    
+    /**
+     * Create an entity with zeroed components. Not allowed while iterating;
+     * use {@link #spawn} from systems.
+     */
+    public int create(ComponentType... types) {
+        if (iterationDepth > 0) {
+            throw new IllegalStateException("Cannot create entities while iterating; use spawn()");
+        }
+        int index = allocateIndex();
+        int entity = (generations[index] << INDEX_BITS) | index;
+        Archetype archetype = archetypeFor(signatureOf(types));
+        place(index, archetype, archetype.add(entity));
+        entityCount++;
+        return entity;
+    }
+    
+    /**
+     * Create an entity and initialise it, now or (inside a system) once iteration ends
+     */
+    public void spawn(IntConsumer init, ComponentType... types) {
+        if (iterationDepth > 0) {
+            ComponentType[] copy = types.clone();
+            deferred.add(() -> init.accept(create(copy)));
+        } else {
+            init.accept(create(types));
+        }
+    }
+    
+    public void destroy(int entity) {
+        if (iterationDepth > 0) {
+            deferred.add(() -> destroy(entity));
+            return;
+        }
+        if (!isAlive(entity)) return;
+        int index = entity & INDEX_MASK;
+        removeRow(archetypes.get(archetypeOf[index]), rowOf[index]);
+        archetypeOf[index] = -1;
+        generations[index] = (generations[index] + 1) & GENERATION_MASK;
+        if (freeCount == freeIndices.length) {
+            freeIndices = Arrays.copyOf(freeIndices, freeCount * 2);
+        }
+        freeIndices[freeCount++] = index;
+        entityCount--;
+    }
+    
+    public boolean isAlive(int entity) {
+        int index = entity & INDEX_MASK;
+        return index < nextIndex
+            && archetypeOf[index] >= 0
+            && generations[index] == ((entity >>> INDEX_BITS) & GENERATION_MASK);
+    }
+    
+    /**
+     * Add a zeroed component, moving the entity to the matching archetype
+     */
+    public void add(int entity, ComponentType type) {
+        if (iterationDepth > 0) {
+            deferred.add(() -> add(entity, type));
+            return;
+        }
+        requireAlive(entity);
+        Archetype current = archetypes.get(archetypeOf[entity & INDEX_MASK]);
+        if (current.has(type)) return;
+        BitSet signature = (BitSet) current.getSignature().clone();
+        signature.or(signatureOf(new ComponentType[] { type }));
+        move(entity, current, archetypeFor(signature));
+    }
+    
+    /**
+     * Remove a component, moving the entity to the matching archetype
+     */
+    public void remove(int entity, ComponentType type) {
+        if (iterationDepth > 0) {
+            deferred.add(() -> remove(entity, type));
+            return;
+        }
+        requireAlive(entity);
+        Archetype current = archetypes.get(archetypeOf[entity & INDEX_MASK]);
+        if (!current.has(type)) return;
+        BitSet signature = (BitSet) current.getSignature().clone();
+        signature.clear(type.getId());
+        move(entity, current, archetypeFor(signature));
+    }
+    
+    public boolean has(int entity, ComponentType type) {
+        return isAlive(entity) && archetypes.get(archetypeOf[entity & INDEX_MASK]).has(type);
+    }
+    
+    // Component access for single entities; systems should iterate queries instead
+    
+    public double getDouble(int entity, ComponentType type, int field) {
+        requireAlive(entity);
+        int index = entity & INDEX_MASK;
+        return archetypes.get(archetypeOf[index]).doubles(type, field)[rowOf[index]];
+    }
+    
+    public void setDouble(int entity, ComponentType type, int field, double value) {
+        requireAlive(entity);
+        int index = entity & INDEX_MASK;
+        archetypes.get(archetypeOf[index]).doubles(type, field)[rowOf[index]] = value;
+    }
+    
+    public int getInt(int entity, ComponentType type, int field) {
+        requireAlive(entity);
+        int index = entity & INDEX_MASK;
+        return archetypes.get(archetypeOf[index]).ints(type, field)[rowOf[index]];
+    }
+    
+    public void setInt(int entity, ComponentType type, int field, int value) {
+        requireAlive(entity);
+        int index = entity & INDEX_MASK;
+        archetypes.get(archetypeOf[index]).ints(type, field)[rowOf[index]] = value;
+    }
+    
+    @SuppressWarnings("unchecked")
+    public <T> T getReference(int entity, ComponentType type) {
+        requireAlive(entity);
+        int index = entity & INDEX_MASK;
+        return (T) archetypes.get(archetypeOf[index]).references(type)[rowOf[index]];
+    }
+    
+    public void setReference(int entity, ComponentType type, Object value) {
+        requireAlive(entity);
+        int index = entity & INDEX_MASK;
+        archetypes.get(archetypeOf[index]).references(type)[rowOf[index]] = value;
+    }
+    
+    // Queries
+    
+    /**
+     * Cached query for entities that have all of the given components
+     */
+    public Query query(ComponentType... required) {
+        return query(required, new ComponentType[0]);
+    }
+    
+    /**
+     * Cached query for entities that have all required and none of the excluded components
+     */
+    public Query query(ComponentType[] required, ComponentType[] excluded) {
+        BitSet requiredBits = signatureOf(required);
+        BitSet excludedBits = signatureOf(excluded);
+        String key = requiredBits + "!" + excludedBits;
+        Query query = queryCache.get(key);
+        if (query == null) {
+            query = new Query(this, requiredBits, excludedBits);
+            for (Archetype archetype : archetypes) {
+                if (query.matches(archetype.getSignature())) {
+                    query.addMatch(archetype);
+                }
+            }
+            queries.add(query);
+            queryCache.put(key, query);
+        }
+        return query;
+    }
+    
+    // Systems
+    
+    public EntityWorld addSystem(FrameScheduler.Phase phase, EntitySystem system) {
+        if (system != null) {
+            systems.get(phase).add(system);
+        }
+        return this;
+    }
+    
+    public void removeSystem(EntitySystem system) {
+        for (List<EntitySystem> list : systems.values()) {
+            list.remove(system);
+        }
+    }
+    
+    /**
+     * First registered system of the given class, or null
+     */
+    public <T extends EntitySystem> T getSystem(Class<T> type) {
+        for (List<EntitySystem> list : systems.values()) {
+            for (EntitySystem system : list) {
+                if (type.isInstance(system)) {
+                    return type.cast(system);
+                }
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Run the systems of one phase in registration order
+     */
+    public void update(FrameScheduler.Phase phase, double deltaTime) {
+        List<EntitySystem> list = systems.get(phase);
+        for (int i = 0; i < list.size(); i++) {
+            list.get(i).update(this, deltaTime);
+        }
+    }
+    
+    /**
+     * Updatable that runs this world's systems for a phase, for engines that schedule their own systems
+     */
+    public Updatable phase(FrameScheduler.Phase phase) {
+        return deltaTime -> update(phase, deltaTime);
+    }
+    
+    /**
+     * Register the built-in systems: AI and physics in the simulate phase,
+     * animation in late update, node sync in the render phase
+     */
+    public EntityWorld addStandardSystems(long seed) {
+        addSystem(FrameScheduler.Phase.SIMULATE, new WanderSystem(this, seed));
+        addSystem(FrameScheduler.Phase.SIMULATE, new MotionSystem(this));
+        addSystem(FrameScheduler.Phase.LATE_UPDATE, new SpriteAnimationSystem(this));
+        addSystem(FrameScheduler.Phase.RENDER, new NodeSyncSystem(this));
+        return this;
+    }
+    
+    /**
+     * Run this world's systems as part of a frame scheduler scene, in every phase
+     */
+    public void attach(FrameScheduler.SceneHandle scene) {
+        for (FrameScheduler.Phase phase : FrameScheduler.Phase.values()) {
+            scene.addSystem(phase, phase(phase));
+        }
+    }
+    
+    // Iteration guard
+    
+    void beginIteration() {
+        iterationDepth++;
+    }
+    
+    void endIteration() {
+        iterationDepth--;
+        if (iterationDepth == 0 && !deferred.isEmpty()) {
+            // Commands may queue more commands only while iterating, which is not the case here
+            List<Runnable> commands = new ArrayList<>(deferred);
+            deferred.clear();
+            for (Runnable command : commands) {
+                command.run();
+            }
+        }
+    }
+    
+    /**
+     * Destroy every entity; archetypes, queries and systems are kept
+     */
+    public void clear() {
+        if (iterationDepth > 0) {
+            throw new IllegalStateException("Cannot clear the world while iterating");
+        }
+        for (int index = 0; index < nextIndex; index++) {
+            if (archetypeOf[index] >= 0) {
+                destroy((generations[index] << INDEX_BITS) | index);
+            }
+        }
+    }
+    
+    public int getEntityCount() { return entityCount; }
+    public int getArchetypeCount() { return archetypes.size(); }
+    
+    // Internals
+    
+    private int allocateIndex() {
+        if (freeCount > 0) {
+            return freeIndices[--freeCount];
+        }
+        if (nextIndex > INDEX_MASK) {
+            throw new IllegalStateException("Entity limit reached: " + (INDEX_MASK + 1));
+        }
+        if (nextIndex == generations.length) {
+            int capacity = generations.length * 2;
+            generations = Arrays.copyOf(generations, capacity);
+            rowOf = Arrays.copyOf(rowOf, capacity);
+            int oldLength = archetypeOf.length;
+            archetypeOf = Arrays.copyOf(archetypeOf, capacity);
+            Arrays.fill(archetypeOf, oldLength, capacity, -1);
+        }
+        return nextIndex++;
+    }
+    
+    private void place(int index, Archetype archetype, int row) {
+        archetypeOf[index] = archetype.getId();
+        rowOf[index] = row;
+    }
+    
+    private void removeRow(Archetype archetype, int row) {
+        if (archetype.remove(row)) {
+            rowOf[archetype.entity(row) & INDEX_MASK] = row;
+        }
+    }
+    
+    private void move(int entity, Archetype from, Archetype to) {
+        int index = entity & INDEX_MASK;
+        int row = rowOf[index];
+        int newRow = to.add(entity);
+        from.copyRow(row, to, newRow);
+        removeRow(from, row);
+        place(index, to, newRow);
+    }
+    
+    private void requireAlive(int entity) {
+        if (!isAlive(entity)) {
+            throw new IllegalArgumentException("Entity " + entity + " does not exist");
+        }
+    }
+    
+    /**
+     * Signature bits for a set of types; also remembers the types so archetypes can be built from bits
+     */
+    private BitSet signatureOf(ComponentType[] types) {
+        BitSet signature = new BitSet();
+        for (ComponentType type : types) {
+            signature.set(type.getId());
+            knownTypes.putIfAbsent(type.getId(), type);
+        }
+        return signature;
+    }
+    
+    private Archetype archetypeFor(BitSet signature) {
+        Archetype archetype = archetypesBySignature.get(signature);
+        if (archetype != null) {
+            return archetype;
+        }
+        List<ComponentType> types = new ArrayList<>();
+        for (int id = signature.nextSetBit(0); id >= 0; id = signature.nextSetBit(id + 1)) {
+            types.add(knownTypes.get(id));
+        }
+        types.sort(Comparator.comparingInt(ComponentType::getId));
+        archetype = new Archetype(archetypes.size(), signature, types.toArray(new ComponentType[0]));
+        archetypes.add(archetype);
+        archetypesBySignature.put(signature, archetype);
+        for (Query query : queries) {
+            if (query.matches(signature)) {
+                query.addMatch(archetype);
+            }
+        }
+        return archetype;
+    }
+}
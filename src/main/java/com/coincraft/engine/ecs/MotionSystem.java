@@ -0,0 +1,81 @@
+package com.coincraft.engine.ecs;
+
+/**
+ * Physics for entities: gravity, air resistance, velocity integration and
+ * bouncing inside {@link Components#BOUNDS}.
+ */
+public class MotionSystem implements EntitySystem {
+    private final Query moving;
+    private final Query falling;
+    private final Query bounded;
+    
+    private double gravity = 980.0; // pixels per second squared, as PhysicsEngine
+    private double airResistance = 1.0;
+    
+    public MotionSystem(EntityWorld world) {
+        this.moving = world.query(Components.POSITION, Components.VELOCITY);
+        this.falling = world.query(Components.VELOCITY, Components.GRAVITY);
+        this.bounded = world.query(Components.POSITION, Components.VELOCITY, Components.BOUNDS);
+    }
+    
+    @Override
+    public void update(EntityWorld world, double deltaTime) {
+        double fall = gravity * deltaTime;
+        falling.forEach(chunk -> {
+            double[] vy = chunk.doubles(Components.VELOCITY, Components.Y);
+            for (int i = 0, n = chunk.size(); i < n; i++) {
+                vy[i] += fall;
+            }
+        });
+        
+        double damping = airResistance;
+        moving.forEach(chunk -> {
+            double[] x = chunk.doubles(Components.POSITION, Components.X);
+            double[] y = chunk.doubles(Components.POSITION, Components.Y);
+            double[] vx = chunk.doubles(Components.VELOCITY, Components.X);
+            double[] vy = chunk.doubles(Components.VELOCITY, Components.Y);
+            for (int i = 0, n = chunk.size(); i < n; i++) {
+                vx[i] *= damping;
+                vy[i] *= damping;
+                x[i] += vx[i] * deltaTime;
+                y[i] += vy[i] * deltaTime;
+            }
+        });
+        
+        bounded.forEach(chunk -> {
+            double[] x = chunk.doubles(Components.POSITION, Components.X);
+            double[] y = chunk.doubles(Components.POSITION, Components.Y);
+            double[] vx = chunk.doubles(Components.VELOCITY, Components.X);
+            double[] vy = chunk.doubles(Components.VELOCITY, Components.Y);
+            double[] minX = chunk.doubles(Components.BOUNDS, Components.MIN_X);
+            double[] minY = chunk.doubles(Components.BOUNDS, Components.MIN_Y);
+            double[] maxX = chunk.doubles(Components.BOUNDS, Components.MAX_X);
+            double[] maxY = chunk.doubles(Components.BOUNDS, Components.MAX_Y);
+            for (int i = 0, n = chunk.size(); i < n; i++) {
+                if (x[i] < minX[i]) {
+                    x[i] = minX[i];
+                    vx[i] = Math.abs(vx[i]);
+                } else if (x[i] > maxX[i]) {
+                    x[i] = maxX[i];
+                    vx[i] = -Math.abs(vx[i]);
+                }
+                if (y[i] < minY[i]) {
+                    y[i] = minY[i];
+                    vy[i] = Math.abs(vy[i]);
+                } else if (y[i] > maxY[i]) {
+                    y[i] = maxY[i];
+                    vy[i] = -Math.abs(vy[i]);
+                }
+            }
+        });
+    }
+    
+    public void setGravity(double gravity) { this.gravity = gravity; }
+    public double getGravity() { return gravity; }
+    
+    /**
+     * Velocity multiplier applied every frame (1 = none)
+     */
+    public void setAirResistance(double airResistance) { this.airResistance = airResistance; }
+    public double getAirResistance() { return airResistance; }
+}
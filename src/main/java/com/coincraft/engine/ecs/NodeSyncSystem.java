@@ -0,0 +1,32 @@
+package com.coincraft.engine.ecs;
+
+import javafx.scene.Node;
+
+/**
+ * Render step: copies each entity's position to its JavaFX node.
+ * Runs in the render phase so nodes are touched once per frame, after simulation.
+ */
+public class NodeSyncSystem implements EntitySystem {
+    private final Query drawable;
+    
+    public NodeSyncSystem(EntityWorld world) {
+        this.drawable = world.query(Components.POSITION, Components.NODE);
+    }
+    
+    @Override
+    public void update(EntityWorld world, double deltaTime) {
+        drawable.forEach(chunk -> {
+            double[] x = chunk.doubles(Components.POSITION, Components.X);
+            double[] y = chunk.doubles(Components.POSITION, Components.Y);
+            Object[] nodes = chunk.references(Components.NODE);
+            for (int i = 0, n = chunk.size(); i < n; i++) {
+                Node node = (Node) nodes[i];
+                if (node != null) {
+                    // Property setters ignore unchanged values, so idle entities cost no invalidation
+                    node.setLayoutX(x[i]);
+                    node.setLayoutY(y[i]);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,74 @@
+package com.coincraft.engine.ecs;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Cached set of archetypes that have all required components and none of the
+ * excluded ones. The match list is kept up to date as archetypes are created,
+ * so iterating a query never re-tests signatures.
+ */
+public final class Query {
+    private final EntityWorld world;
+    private final BitSet required;
+    private final BitSet excluded;
+    private final List<Archetype> matches = new ArrayList<>();
+    
+    /**
+     * Receives each non-empty matching archetype in turn
+     */
+    @FunctionalInterface
+    public interface ChunkVisitor {
+        void visit(Archetype chunk);
+    }
+    
+    Query(EntityWorld world, BitSet required, BitSet excluded) {
+        this.world = world;
+        this.required = required;
+        this.excluded = excluded;
+    }
+    
+    boolean matches(BitSet signature) {
+        BitSet missing = (BitSet) required.clone();
+        missing.andNot(signature);
+        return missing.isEmpty() && !excluded.intersects(signature);
+    }
+    
+    void addMatch(Archetype archetype) {
+        matches.add(archetype);
+    }
+    
+    /**
+     * Visit every matching archetype that has entities. Structural changes made
+     * from inside the visitor are deferred until iteration ends.
+     */
+    public void forEach(ChunkVisitor visitor) {
+        world.beginIteration();
+        try {
+            for (int i = 0; i < matches.size(); i++) {
+                Archetype chunk = matches.get(i);
+                if (chunk.size() > 0) {
+                    visitor.visit(chunk);
+                }
+            }
+        } finally {
+            world.endIteration();
+        }
+    }
+    
+    /**
+     * Number of entities currently matching
+     */
+    public int count() {
+        int count = 0;
+        for (int i = 0; i < matches.size(); i++) {
+            count += matches.get(i).size();
+        }
+        return count;
+    }
+    
+    public int getArchetypeCount() {
+        return matches.size();
+    }
+}
@@ -0,0 +1,101 @@
+package com.coincraft.engine.ecs;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.ImageView;
+
+/**
+ * Advances sprite-sheet animations and updates the viewport of the entity's
+ * ImageView when the frame changes. Timing matches {@link com.coincraft.engine.rendering.Sprite}:
+ * one frame every {@code 1 / fps} seconds.
+ *
+ * Entities with a position outside the focus circle can be updated every N
+ * frames instead (with N times the time step), which keeps their animation
+ * speed but spreads the cost.
+ */
+public class SpriteAnimationSystem implements EntitySystem {
+    private final Query animated;
+    private double focusX = Double.NaN;
+    private double focusY = Double.NaN;
+    private double focusRadius = 0;
+    private int offFocusDivisor = 1;
+    private long tick = 0;
+    
+    public SpriteAnimationSystem(EntityWorld world) {
+        this.animated = world.query(Components.SPRITE_ANIMATION, Components.NODE);
+    }
+    
+    /**
+     * Centre and radius of the area animated every frame, e.g. around the camera
+     */
+    public void setFocus(double x, double y, double radius) {
+        this.focusX = x;
+        this.focusY = y;
+        this.focusRadius = radius;
+    }
+    
+    /**
+     * Animate entities outside the focus every N frames (1 = every frame)
+     */
+    public void setOffFocusDivisor(int divisor) {
+        this.offFocusDivisor = Math.max(1, divisor);
+    }
+    
+    public int getOffFocusDivisor() { return offFocusDivisor; }
+    
+    @Override
+    public void update(EntityWorld world, double deltaTime) {
+        tick++;
+        int divisor = offFocusDivisor;
+        boolean throttle = divisor > 1 && !Double.isNaN(focusX);
+        double radiusSquared = focusRadius * focusRadius;
+        animated.forEach(chunk -> {
+            boolean positioned = throttle && chunk.has(Components.POSITION);
+            double[] px = positioned ? chunk.doubles(Components.POSITION, Components.X) : null;
+            double[] py = positioned ? chunk.doubles(Components.POSITION, Components.Y) : null;
+            double[] timer = chunk.doubles(Components.SPRITE_ANIMATION, Components.ANIM_TIMER);
+            double[] fps = chunk.doubles(Components.SPRITE_ANIMATION, Components.ANIM_FPS);
+            int[] frame = chunk.ints(Components.SPRITE_ANIMATION, Components.ANIM_FRAME);
+            int[] frameCount = chunk.ints(Components.SPRITE_ANIMATION, Components.ANIM_FRAME_COUNT);
+            int[] columns = chunk.ints(Components.SPRITE_ANIMATION, Components.ANIM_COLUMNS);
+            int[] frameWidth = chunk.ints(Components.SPRITE_ANIMATION, Components.ANIM_FRAME_WIDTH);
+            int[] frameHeight = chunk.ints(Components.SPRITE_ANIMATION, Components.ANIM_FRAME_HEIGHT);
+            int[] flags = chunk.ints(Components.SPRITE_ANIMATION, Components.ANIM_FLAGS);
+            Object[] nodes = chunk.references(Components.NODE);
+            for (int i = 0, n = chunk.size(); i < n; i++) {
+                if ((flags[i] & Components.ANIM_PLAYING) == 0) continue;
+                double step = deltaTime;
+                if (positioned) {
+                    double dx = px[i] - focusX;
+                    double dy = py[i] - focusY;
+                    if (dx * dx + dy * dy > radiusSquared) {
+                        // Staggered by row so throttled entities don't all update on the same frame
+                        if ((tick + i) % divisor != 0) continue;
+                        step = deltaTime * divisor;
+                    }
+                }
+                timer[i] += step * fps[i];
+                if (timer[i] < 1.0) continue;
+                timer[i] = 0.0;
+                
+                int next = frame[i] + 1;
+                if (next >= frameCount[i]) {
+                    if ((flags[i] & Components.ANIM_LOOP) != 0) {
+                        next = 0;
+                    } else {
+                        next = frameCount[i] - 1;
+                        flags[i] &= ~Components.ANIM_PLAYING;
+                    }
+                }
+                if (next != frame[i]) {
+                    frame[i] = next;
+                    if (nodes[i] instanceof ImageView view) {
+                        int cols = Math.max(1, columns[i]);
+                        view.setViewport(new Rectangle2D(
+                            (next % cols) * frameWidth[i], (next / cols) * frameHeight[i],
+                            frameWidth[i], frameHeight[i]));
+                    }
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package com.coincraft.engine.ecs;
+
+import java.util.Random;
+
+/**
+ * AI for wandering entities: every {@code interval} seconds pick a new random
+ * heading at the entity's speed. Seeded so headless runs are reproducible.
+ */
+public class WanderSystem implements EntitySystem {
+    private final Query wanderers;
+    private final Random random;
+    
+    public WanderSystem(EntityWorld world, long seed) {
+        this.wanderers = world.query(Components.WANDER, Components.VELOCITY);
+        this.random = new Random(seed);
+    }
+    
+    @Override
+    public void update(EntityWorld world, double deltaTime) {
+        wanderers.forEach(chunk -> {
+            double[] speed = chunk.doubles(Components.WANDER, Components.WANDER_SPEED);
+            double[] interval = chunk.doubles(Components.WANDER, Components.WANDER_INTERVAL);
+            double[] timer = chunk.doubles(Components.WANDER, Components.WANDER_TIMER);
+            double[] vx = chunk.doubles(Components.VELOCITY, Components.X);
+            double[] vy = chunk.doubles(Components.VELOCITY, Components.Y);
+            for (int i = 0, n = chunk.size(); i < n; i++) {
+                timer[i] -= deltaTime;
+                if (timer[i] <= 0) {
+                    timer[i] += interval[i] > 0 ? interval[i] : 1.0;
+                    double angle = random.nextDouble() * Math.PI * 2;
+                    vx[i] = Math.cos(angle) * speed[i];
+                    vy[i] = Math.sin(angle) * speed[i];
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,146 @@
+package com.coincraft.engine.headless;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.coincraft.engine.FrameScheduler;
+import com.coincraft.engine.events.GameEvent;
+import com.coincraft.engine.input.InputManager;
+import com.coincraft.engine.physics.PhysicsEngine;
+import com.coincraft.engine.physics.PhysicsObject;
+
+import javafx.scene.input.KeyCode;
+
+/**
+ * Default headless session: a player body steered with WASD by a scripted,
+ * seeded input source collects coins scattered around the world. Coin pickups
+ * are delivered as events, so the session exercises input, physics and the
+ * event queue the same way the windowed game does.
+ */
+public class CoinRunSession implements HeadlessSession {
+    private static final double WORLD_SIZE = 2000.0;
+    private static final double PLAYER_SPEED = 220.0;
+    
+    private final long seed;
+    private final int coinCount;
+    private final long maxTicks;
+    
+    private final List<Body> coins = new ArrayList<>();
+    private Body player;
+    private int coinsCollected = 0;
+    
+    public CoinRunSession(long seed, int coinCount, long maxTicks) {
+        this.seed = seed;
+        this.coinCount = coinCount;
+        this.maxTicks = maxTicks;
+    }
+    
+    @Override
+    public void setup(HeadlessEngine engine) {
+        Random random = new Random(seed);
+        PhysicsEngine physics = engine.getPhysicsEngine();
+        physics.setEnableGravity(false);
+        
+        player = new Body(WORLD_SIZE / 2, WORLD_SIZE / 2, 32, 32);
+        physics.addObject(player);
+        
+        for (int i = 0; i < coinCount; i++) {
+            Body coin = new Body(random.nextDouble() * WORLD_SIZE, random.nextDouble() * WORLD_SIZE, 16, 16);
+            coin.setDynamic(false);
+            coins.add(coin);
+            physics.addObject(coin);
+        }
+        
+        engine.setInputSource(randomWalk(random.nextLong(), 30));
+        
+        // Steer the player from the input state
+        engine.addSystem(FrameScheduler.Phase.SIMULATE, dt -> steer(engine.getInputManager()));
+        
+        // Pick up coins the player touches
+        engine.addSystem(FrameScheduler.Phase.LATE_UPDATE, dt -> {
+            for (Body coin : coins) {
+                if (coin.isActive() && overlaps(player, coin)) {
+                    coin.setActive(false);
+                    engine.getEventManager().fireEvent(new CoinCollectedEvent(1));
+                }
+            }
+        });
+        engine.getEventManager().registerHandler(CoinCollectedEvent.class, event -> coinsCollected += event.getAmount());
+    }
+    
+    @Override
+    public boolean isFinished(HeadlessEngine engine) {
+        return coinsCollected >= coinCount || engine.getTick() >= maxTicks;
+    }
+    
+    @Override
+    public String describeResult(HeadlessEngine engine) {
+        return "ticks=" + engine.getTick() + " coins=" + coinsCollected + "/" + coinCount;
+    }
+    
+    public int getCoinsCollected() {
+        return coinsCollected;
+    }
+    
+    private void steer(InputManager input) {
+        double vx = 0;
+        double vy = 0;
+        if (input.isKeyPressed(KeyCode.W)) vy -= PLAYER_SPEED;
+        if (input.isKeyPressed(KeyCode.S)) vy += PLAYER_SPEED;
+        if (input.isKeyPressed(KeyCode.A)) vx -= PLAYER_SPEED;
+        if (input.isKeyPressed(KeyCode.D)) vx += PLAYER_SPEED;
+        player.setVelocity(vx, vy);
+        
+        // Keep the player inside the world
+        player.setPosition(
+            Math.max(0, Math.min(WORLD_SIZE - player.getWidth(), player.getX())),
+            Math.max(0, Math.min(WORLD_SIZE - player.getHeight(), player.getY()))
+        );
+    }
+    
+    /**
+     * Seeded random walk: change direction every {@code period} ticks
+     */
+    private static InputSource randomWalk(long seed, int period) {
+        Random random = new Random(seed);
+        KeyCode[] keys = { KeyCode.W, KeyCode.A, KeyCode.S, KeyCode.D };
+        KeyCode[] held = new KeyCode[1];
+        return (tick, input) -> {
+            if (tick % period != 0) return;
+            if (held[0] != null) {
+                input.releaseKey(held[0]);
+            }
+            held[0] = keys[random.nextInt(keys.length)];
+            input.pressKey(held[0]);
+        };
+    }
+    
+    private static boolean overlaps(PhysicsObject a, PhysicsObject b) {
+        return a.getX() < b.getX() + b.getWidth() && a.getX() + a.getWidth() > b.getX()
+            && a.getY() < b.getY() + b.getHeight() && a.getY() + a.getHeight() > b.getY();
+    }
+    
+    private static final class Body extends PhysicsObject {
+        Body(double x, double y, double width, double height) {
+            super(x, y, width, height);
+            setCollidable(false);
+            setAffectedByGravity(false);
+        }
+    }
+    
+    /**
+     * Fired when the player picks up coins
+     */
+    public static final class CoinCollectedEvent extends GameEvent {
+        private final int amount;
+        
+        public CoinCollectedEvent(int amount) {
+            this.amount = amount;
+        }
+        
+        public int getAmount() {
+            return amount;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.coincraft.engine.headless;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import com.coincraft.engine.FrameScheduler;
+import com.coincraft.engine.Updatable;
+import com.coincraft.engine.animation.AnimationManager;
+import com.coincraft.engine.ecs.EntityWorld;
+import com.coincraft.engine.events.EventManager;
+import com.coincraft.engine.input.InputManager;
+import com.coincraft.engine.physics.PhysicsEngine;
+
+/**
+ * Headless game engine
+ * Drives the same systems as {@link com.coincraft.engine.GameEngine} (input,
+ * physics, animation, events) from the calling thread with a fixed timestep
+ * and no Stage, Scene or JavaFX toolkit. Input comes from an
+ * {@link InputSource} and rendering goes to a {@link NullRenderer}, so
+ * simulation can run as fast as the CPU allows and be measured on its own.
+ */
+public class HeadlessEngine {
+    private final PhysicsEngine physicsEngine;
+    private final InputManager inputManager;
+    private final AnimationManager animationManager;
+    private final EventManager eventManager;
+    private final NullRenderer renderer;
+    private final EntityWorld entityWorld;
+    
+    private final Map<FrameScheduler.Phase, List<Updatable>> systems = new EnumMap<>(FrameScheduler.Phase.class);
+    private InputSource inputSource = (tick, input) -> { };
+    
+    private final double fixedDeltaTime;
+    private long tick = 0;
+    private double simulatedTime = 0.0;
+    private long simulationNanos = 0;
+    private long lastStepNanos = 0;
+    
+    public HeadlessEngine() {
+        this(1.0 / 60.0);
+    }
+    
+    public HeadlessEngine(double fixedDeltaTime) {
+        this.fixedDeltaTime = fixedDeltaTime;
+        this.physicsEngine = new PhysicsEngine();
+        this.inputManager = new InputManager();
+        // Timestamp input with the tick so runs are reproducible
+        this.inputManager.setClock(() -> tick);
+        this.animationManager = new AnimationManager();
+        this.eventManager = new EventManager();
+        this.renderer = new NullRenderer();
+        // Fixed seed so entity AI is reproducible between runs
+        this.entityWorld = new EntityWorld().addStandardSystems(0L);
+        
+        for (FrameScheduler.Phase phase : FrameScheduler.Phase.values()) {
+            systems.put(phase, new ArrayList<>());
+        }
+        
+        // Same order as the windowed engine
+        addSystem(FrameScheduler.Phase.INPUT, dt -> {
+            inputManager.update(dt);
+            // Injected after the update so systems see this tick's presses as "just pressed"
+            inputSource.apply(tick, inputManager);
+        });
+        addSystem(FrameScheduler.Phase.SIMULATE, physicsEngine::update);
+        addSystem(FrameScheduler.Phase.SIMULATE, animationManager::update);
+        addSystem(FrameScheduler.Phase.LATE_UPDATE, dt -> eventManager.processEvents());
+        addSystem(FrameScheduler.Phase.RENDER, renderer);
+        for (FrameScheduler.Phase phase : FrameScheduler.Phase.values()) {
+            addSystem(phase, entityWorld.phase(phase));
+        }
+    }
+    
+    /**
+     * Register a gameplay system in a phase, after the ones already there
+     */
+    public HeadlessEngine addSystem(FrameScheduler.Phase phase, Updatable system) {
+        if (system != null) {
+            systems.get(phase).add(system);
+        }
+        return this;
+    }
+    
+    public void removeSystem(Updatable system) {
+        for (List<Updatable> list : systems.values()) {
+            list.remove(system);
+        }
+    }
+    
+    public HeadlessEngine setInputSource(InputSource inputSource) {
+        this.inputSource = inputSource != null ? inputSource : (t, input) -> { };
+        return this;
+    }
+    
+    /**
+     * Advance the simulation by one fixed timestep
+     */
+    public void step() {
+        long start = System.nanoTime();
+        for (FrameScheduler.Phase phase : FrameScheduler.Phase.values()) {
+            List<Updatable> list = systems.get(phase);
+            for (int i = 0; i < list.size(); i++) {
+                list.get(i).update(fixedDeltaTime);
+            }
+        }
+        tick++;
+        simulatedTime += fixedDeltaTime;
+        lastStepNanos = System.nanoTime() - start;
+        simulationNanos += lastStepNanos;
+    }
+    
+    /**
+     * Run a fixed number of ticks
+     */
+    public void run(long ticks) {
+        for (long i = 0; i < ticks; i++) {
+            step();
+        }
+    }
+    
+    /**
+     * Run until the condition holds or the tick limit is reached
+     * @return true if the condition was met
+     */
+    public boolean runUntil(BooleanSupplier done, long maxTicks) {
+        for (long i = 0; i < maxTicks; i++) {
+            if (done.getAsBoolean()) {
+                return true;
+            }
+            step();
+        }
+        return done.getAsBoolean();
+    }
+    
+    // Getters for systems
+    public PhysicsEngine getPhysicsEngine() { return physicsEngine; }
+    public InputManager getInputManager() { return inputManager; }
+    public AnimationManager getAnimationManager() { return animationManager; }
+    public EventManager getEventManager() { return eventManager; }
+    public NullRenderer getRenderer() { return renderer; }
+    public EntityWorld getEntityWorld() { return entityWorld; }
+    
+    // Simulation info
+    public long getTick() { return tick; }
+    public double getFixedDeltaTime() { return fixedDeltaTime; }
+    public double getSimulatedTime() { return simulatedTime; }
+    public long getSimulationNanos() { return simulationNanos; }
+    public long getLastStepNanos() { return lastStepNanos; }
+}
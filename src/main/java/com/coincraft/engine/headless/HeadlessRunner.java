@@ -0,0 +1,126 @@
+package com.coincraft.engine.headless;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+/**
+ * Runs many headless play sessions in parallel and reports throughput.
+ *
+ * Usage: {@code HeadlessRunner [sessions] [threads] [maxTicks] [coins]}
+ * (defaults: 1000 sessions, one thread per core, 3600 ticks, 50 coins).
+ * Each session gets its own {@link HeadlessEngine}; sessions never share
+ * state, so they scale across cores.
+ */
+public class HeadlessRunner {
+    
+    /**
+     * Aggregate results of a batch of sessions
+     */
+    public static final class Report {
+        private final int sessions;
+        private final int failures;
+        private final long totalTicks;
+        private final long simulationNanos;
+        private final long wallNanos;
+        
+        Report(int sessions, int failures, long totalTicks, long simulationNanos, long wallNanos) {
+            this.sessions = sessions;
+            this.failures = failures;
+            this.totalTicks = totalTicks;
+            this.simulationNanos = simulationNanos;
+            this.wallNanos = wallNanos;
+        }
+        
+        public int getSessions() { return sessions; }
+        public int getFailures() { return failures; }
+        public long getTotalTicks() { return totalTicks; }
+        public long getSimulationNanos() { return simulationNanos; }
+        public long getWallNanos() { return wallNanos; }
+        
+        public double getSessionsPerMinute() {
+            return wallNanos > 0 ? sessions * 60_000_000_000.0 / wallNanos : 0.0;
+        }
+        
+        public double getMicrosPerTick() {
+            return totalTicks > 0 ? simulationNanos / 1000.0 / totalTicks : 0.0;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("%d sessions (%d failed), %d ticks in %.2f s: %.0f sessions/min, %.2f µs/tick",
+                sessions, failures, totalTicks, wallNanos / 1e9, getSessionsPerMinute(), getMicrosPerTick());
+        }
+    }
+    
+    /**
+     * Run {@code count} sessions on {@code threads} worker threads.
+     * The factory receives the session index, which makes a convenient seed.
+     */
+    public static Report runSessions(LongFunction<HeadlessSession> factory, int count, int threads, long maxTicks)
+            throws InterruptedException {
+        AtomicInteger failures = new AtomicInteger();
+        AtomicInteger nextThread = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "coincraft-headless-" + nextThread.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        long start = System.nanoTime();
+        List<Future<long[]>> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final long index = i;
+            results.add(pool.submit(() -> runOne(factory.apply(index), maxTicks)));
+        }
+        
+        long totalTicks = 0;
+        long simulationNanos = 0;
+        for (Future<long[]> result : results) {
+            try {
+                long[] stats = result.get();
+                totalTicks += stats[0];
+                simulationNanos += stats[1];
+            } catch (Exception e) {
+                failures.incrementAndGet();
+                System.err.println("❌ Headless session failed: " + e.getMessage());
+            }
+        }
+        long wallNanos = System.nanoTime() - start;
+        
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+        return new Report(count, failures.get(), totalTicks, simulationNanos, wallNanos);
+    }
+    
+    /**
+     * Run a single session to completion on the calling thread
+     * @return {ticks, simulation nanos}
+     */
+    public static long[] runOne(HeadlessSession session, long maxTicks) {
+        HeadlessEngine engine = new HeadlessEngine();
+        session.setup(engine);
+        engine.runUntil(() -> session.isFinished(engine), maxTicks);
+        return new long[] { engine.getTick(), engine.getSimulationNanos() };
+    }
+    
+    public static void main(String[] args) throws InterruptedException {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long maxTicks = args.length > 2 ? Long.parseLong(args[2]) : 3600;
+        int coins = args.length > 3 ? Integer.parseInt(args[3]) : 50;
+        
+        System.out.println("🧪 Running " + sessions + " headless sessions on " + threads + " thread(s), up to "
+            + maxTicks + " ticks each");
+        Report report = runSessions(seed -> new CoinRunSession(seed, coins, maxTicks), sessions, threads, maxTicks);
+        System.out.println("✅ " + report);
+        if (report.getFailures() > 0) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.coincraft.engine.headless;
+
+/**
+ * One simulated play session for {@link HeadlessRunner}
+ */
+public interface HeadlessSession {
+    /**
+     * Register gameplay systems, objects and an input source on a fresh engine
+     */
+    void setup(HeadlessEngine engine);
+    
+    /**
+     * Whether the session has reached its end state
+     */
+    boolean isFinished(HeadlessEngine engine);
+    
+    /**
+     * Short description of the session outcome, used in reports
+     */
+    default String describeResult(HeadlessEngine engine) {
+        return "ticks=" + engine.getTick();
+    }
+}
@@ -0,0 +1,14 @@
+package com.coincraft.engine.headless;
+
+import com.coincraft.engine.input.InputManager;
+
+/**
+ * Supplies input to a headless engine, one simulation tick at a time
+ */
+@FunctionalInterface
+public interface InputSource {
+    /**
+     * Inject the input for this tick into the input manager
+     */
+    void apply(long tick, InputManager input);
+}
@@ -0,0 +1,19 @@
+package com.coincraft.engine.headless;
+
+import com.coincraft.engine.Updatable;
+
+/**
+ * Renderer stand-in for headless runs: draws nothing and only counts frames
+ */
+public class NullRenderer implements Updatable {
+    private long framesRendered = 0;
+    
+    @Override
+    public void update(double deltaTime) {
+        framesRendered++;
+    }
+    
+    public long getFramesRendered() {
+        return framesRendered;
+    }
+}
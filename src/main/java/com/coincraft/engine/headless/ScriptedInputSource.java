@@ -0,0 +1,108 @@
+package com.coincraft.engine.headless;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import com.coincraft.engine.input.InputManager;
+
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
+
+/**
+ * Input source built from a fixed script of per-tick actions.
+ * Example: {@code new ScriptedInputSource().hold(0, 120, KeyCode.D).tap(60, KeyCode.SPACE)}
+ */
+public class ScriptedInputSource implements InputSource {
+    private final TreeMap<Long, List<Consumer<InputManager>>> actions = new TreeMap<>();
+    
+    /**
+     * Press a key at the given tick
+     */
+    public ScriptedInputSource press(long tick, KeyCode key) {
+        return at(tick, input -> input.pressKey(key));
+    }
+    
+    /**
+     * Release a key at the given tick
+     */
+    public ScriptedInputSource release(long tick, KeyCode key) {
+        return at(tick, input -> input.releaseKey(key));
+    }
+    
+    /**
+     * Hold a key from one tick until (but not including) another
+     */
+    public ScriptedInputSource hold(long fromTick, long toTick, KeyCode key) {
+        return press(fromTick, key).release(toTick, key);
+    }
+    
+    /**
+     * Press a key for a single tick
+     */
+    public ScriptedInputSource tap(long tick, KeyCode key) {
+        return hold(tick, tick + 1, key);
+    }
+    
+    public ScriptedInputSource moveMouse(long tick, double x, double y) {
+        return at(tick, input -> input.moveMouse(x, y));
+    }
+    
+    /**
+     * Press, release and click a mouse button within one tick
+     */
+    public ScriptedInputSource click(long tick, double x, double y, MouseButton button) {
+        return at(tick, input -> {
+            input.pressMouse(x, y, button);
+            input.releaseMouse(x, y, button);
+            input.clickMouse(x, y, button);
+        });
+    }
+    
+    /**
+     * Run an arbitrary input action at the given tick
+     */
+    public ScriptedInputSource at(long tick, Consumer<InputManager> action) {
+        actions.computeIfAbsent(tick, t -> new ArrayList<>()).add(action);
+        return this;
+    }
+    
+    /**
+     * Last tick that has a scripted action, or -1 for an empty script
+     */
+    public long getLastTick() {
+        return actions.isEmpty() ? -1 : actions.lastKey();
+    }
+    
+    @Override
+    public void apply(long tick, InputManager input) {
+        List<Consumer<InputManager>> due = actions.get(tick);
+        if (due != null) {
+            for (Consumer<InputManager> action : due) {
+                action.accept(input);
+            }
+        }
+    }
+    
+    /**
+     * Combine several sources; they are applied in order every tick
+     */
+    public static InputSource combine(InputSource... sources) {
+        return (tick, input) -> {
+            for (InputSource source : sources) {
+                source.apply(tick, input);
+            }
+        };
+    }
+    
+    @Override
+    public String toString() {
+        int count = 0;
+        for (Map.Entry<Long, List<Consumer<InputManager>>> entry : actions.entrySet()) {
+            count += entry.getValue().size();
+        }
+        return "ScriptedInputSource[" + count + " actions, last tick " + getLastTick() + "]";
+    }
+}
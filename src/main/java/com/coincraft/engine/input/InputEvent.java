@@ -22,11 +22,18 @@ public class InputEvent {
     private final long timestamp;
     
     public InputEvent(Type type, KeyCode keyCode, double x, double y) {
+        this(type, keyCode, x, y, System.currentTimeMillis());
+    }
+    
+    /**
+     * Create an event with an explicit timestamp (e.g. a simulation tick for replays)
+     */
+    public InputEvent(Type type, KeyCode keyCode, double x, double y, long timestamp) {
         this.type = type;
         this.keyCode = keyCode;
         this.x = x;
         this.y = y;
-        this.timestamp = System.currentTimeMillis();
+        this.timestamp = timestamp;
     }
     
     public Type getType() {
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongSupplier;
 
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
@@ -18,6 +19,7 @@ import javafx.scene.input.MouseEvent;
  * Input manager for handling keyboard and mouse input
  * Provides centralized input handling for the game engine
  * Updated with mouse button support for right-click attack
+ * Can also run without a Scene (headless), with input injected by scripts or replays
  */
 public class InputManager {
     private final Scene scene;
@@ -49,15 +51,27 @@ public class InputManager {
     // Input events
     private final List<InputEvent> inputEvents = new ArrayList<>();
     
+    // Event timestamps; wall clock by default, simulation ticks when headless
+    private LongSupplier clock = System::currentTimeMillis;
+    
     public InputManager(Scene scene) {
         this.scene = scene;
         setupInputHandlers();
     }
     
+    /**
+     * Create a headless input manager that only receives injected input
+     */
+    public InputManager() {
+        this.scene = null;
+    }
+    
     /**
      * Setup input event handlers
      */
     private void setupInputHandlers() {
+        if (scene == null) return;
+        
         // Keyboard events
         scene.setOnKeyPressed(this::handleKeyPressed);
         scene.setOnKeyReleased(this::handleKeyReleased);
@@ -98,85 +112,125 @@ public class InputManager {
      * Handle key pressed event
      */
     private void handleKeyPressed(KeyEvent event) {
-        KeyCode keyCode = event.getCode();
+        pressKey(event.getCode());
+    }
+    
+    /**
+     * Handle key released event
+     */
+    private void handleKeyReleased(KeyEvent event) {
+        releaseKey(event.getCode());
+    }
+    
+    /**
+     * Handle mouse moved event
+     */
+    private void handleMouseMoved(MouseEvent event) {
+        moveMouse(event.getX(), event.getY());
+    }
+    
+    /**
+     * Handle mouse pressed event
+     */
+    private void handleMousePressed(MouseEvent event) {
+        pressMouse(event.getX(), event.getY(), event.getButton());
+    }
+    
+    /**
+     * Handle mouse released event
+     */
+    private void handleMouseReleased(MouseEvent event) {
+        releaseMouse(event.getX(), event.getY(), event.getButton());
+    }
+    
+    /**
+     * Handle mouse clicked event
+     */
+    private void handleMouseClicked(MouseEvent event) {
+        clickMouse(event.getX(), event.getY(), event.getButton());
+    }
+    
+    /**
+     * Press a key (from the scene or injected by a script/replay)
+     */
+    public void pressKey(KeyCode keyCode) {
         keyStates.put(keyCode, true);
         keyPressed.put(keyCode, true);
         
-        inputEvents.add(new InputEvent(InputEvent.Type.KEY_PRESSED, keyCode, 0, 0));
+        inputEvents.add(new InputEvent(InputEvent.Type.KEY_PRESSED, keyCode, 0, 0, clock.getAsLong()));
     }
     
     /**
-     * Handle key released event
+     * Release a key
      */
-    private void handleKeyReleased(KeyEvent event) {
-        KeyCode keyCode = event.getCode();
+    public void releaseKey(KeyCode keyCode) {
         keyStates.put(keyCode, false);
         keyReleased.put(keyCode, true);
         
-        inputEvents.add(new InputEvent(InputEvent.Type.KEY_RELEASED, keyCode, 0, 0));
+        inputEvents.add(new InputEvent(InputEvent.Type.KEY_RELEASED, keyCode, 0, 0, clock.getAsLong()));
     }
     
     /**
-     * Handle mouse moved event
+     * Move the mouse
      */
-    private void handleMouseMoved(MouseEvent event) {
-        mouseX = event.getX();
-        mouseY = event.getY();
+    public void moveMouse(double x, double y) {
+        mouseX = x;
+        mouseY = y;
         
-        inputEvents.add(new InputEvent(InputEvent.Type.MOUSE_MOVED, null, mouseX, mouseY));
+        inputEvents.add(new InputEvent(InputEvent.Type.MOUSE_MOVED, null, mouseX, mouseY, clock.getAsLong()));
     }
     
     /**
-     * Handle mouse pressed event
+     * Press a mouse button
      */
-    private void handleMousePressed(MouseEvent event) {
+    public void pressMouse(double x, double y, MouseButton button) {
         mousePressed = true;
-        mouseX = event.getX();
-        mouseY = event.getY();
-        if (event.getButton() == MouseButton.PRIMARY) {
+        mouseX = x;
+        mouseY = y;
+        if (button == MouseButton.PRIMARY) {
             primaryPressed = true;
             primaryJustPressed = true;
-        } else if (event.getButton() == MouseButton.SECONDARY) {
+        } else if (button == MouseButton.SECONDARY) {
             secondaryPressed = true;
             secondaryJustPressed = true;
         }
         
-        inputEvents.add(new InputEvent(InputEvent.Type.MOUSE_PRESSED, null, mouseX, mouseY));
+        inputEvents.add(new InputEvent(InputEvent.Type.MOUSE_PRESSED, null, mouseX, mouseY, clock.getAsLong()));
     }
     
     /**
-     * Handle mouse released event
+     * Release a mouse button
      */
-    private void handleMouseReleased(MouseEvent event) {
+    public void releaseMouse(double x, double y, MouseButton button) {
         mousePressed = false;
         mouseReleased = true;
-        mouseX = event.getX();
-        mouseY = event.getY();
-        if (event.getButton() == MouseButton.PRIMARY) {
+        mouseX = x;
+        mouseY = y;
+        if (button == MouseButton.PRIMARY) {
             primaryPressed = false;
             primaryReleased = true;
-        } else if (event.getButton() == MouseButton.SECONDARY) {
+        } else if (button == MouseButton.SECONDARY) {
             secondaryPressed = false;
             secondaryReleased = true;
         }
         
-        inputEvents.add(new InputEvent(InputEvent.Type.MOUSE_RELEASED, null, mouseX, mouseY));
+        inputEvents.add(new InputEvent(InputEvent.Type.MOUSE_RELEASED, null, mouseX, mouseY, clock.getAsLong()));
     }
     
     /**
-     * Handle mouse clicked event
+     * Click a mouse button
      */
-    private void handleMouseClicked(MouseEvent event) {
+    public void clickMouse(double x, double y, MouseButton button) {
         mouseClicked = true;
-        mouseX = event.getX();
-        mouseY = event.getY();
-        if (event.getButton() == MouseButton.PRIMARY) {
+        mouseX = x;
+        mouseY = y;
+        if (button == MouseButton.PRIMARY) {
             primaryClicked = true;
-        } else if (event.getButton() == MouseButton.SECONDARY) {
+        } else if (button == MouseButton.SECONDARY) {
             secondaryClicked = true;
         }
         
-        inputEvents.add(new InputEvent(InputEvent.Type.MOUSE_CLICKED, null, mouseX, mouseY));
+        inputEvents.add(new InputEvent(InputEvent.Type.MOUSE_CLICKED, null, mouseX, mouseY, clock.getAsLong()));
     }
     
     // Keyboard input methods
@@ -209,6 +263,16 @@ public class InputManager {
     public boolean isSecondaryMouseJustReleased() { return secondaryReleased; }
     public boolean isSecondaryMouseClicked() { return secondaryClicked; }
     
+    public boolean isHeadless() { return scene == null; }
+    
+    /**
+     * Replace the clock used to timestamp input events, so recorded and
+     * replayed sessions produce identical events
+     */
+    public void setClock(LongSupplier clock) {
+        this.clock = clock != null ? clock : System::currentTimeMillis;
+    }
+    
     // Input handler management
     public void addInputHandler(InputHandler handler) {
         handlers.add(handler);
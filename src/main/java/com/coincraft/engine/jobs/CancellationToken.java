@@ -0,0 +1,68 @@
+package com.coincraft.engine.jobs;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Cooperative cancellation flag shared between a job and its owner.
+ * Cancelling a token cancels all of its children; long-running work should
+ * poll {@link #isCancelled()} and return early.
+ */
+public final class CancellationToken {
+    /**
+     * A token that is never cancelled
+     */
+    public static final CancellationToken NONE = new CancellationToken(false);
+    
+    private final boolean cancellable;
+    private volatile boolean cancelled = false;
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    
+    public CancellationToken() {
+        this(true);
+    }
+    
+    private CancellationToken(boolean cancellable) {
+        this.cancellable = cancellable;
+    }
+    
+    public boolean isCancelled() {
+        return cancelled;
+    }
+    
+    /**
+     * Cancel this token and its children; listeners run on the calling thread
+     */
+    public void cancel() {
+        if (!cancellable || cancelled) return;
+        cancelled = true;
+        for (Runnable listener : listeners) {
+            listener.run();
+        }
+        listeners.clear();
+    }
+    
+    /**
+     * Run an action when the token is cancelled (immediately if it already is)
+     */
+    public void onCancel(Runnable listener) {
+        if (!cancellable) return;
+        listeners.add(listener);
+        if (cancelled && listeners.remove(listener)) {
+            listener.run();
+        }
+    }
+    
+    public void removeListener(Runnable listener) {
+        listeners.remove(listener);
+    }
+    
+    /**
+     * Create a token that is cancelled together with this one, but can also be cancelled on its own
+     */
+    public CancellationToken child() {
+        CancellationToken child = new CancellationToken();
+        onCancel(child::cancel);
+        return child;
+    }
+}
@@ -0,0 +1,146 @@
+package com.coincraft.engine.jobs;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Handle to work submitted to the {@link JobSystem}.
+ *
+ * Callbacks registered with {@link #onComplete} and {@link #onError} run on
+ * the JavaFX thread when the job system drains its completion queue, never
+ * on the worker. They are skipped if the job was cancelled.
+ * {@link #toFuture()} exposes the raw result for code that is not on the FX thread.
+ */
+public final class Job<T> {
+    private final JobSystem system;
+    private final CancellationToken token;
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+    private Runnable parentListener;
+    
+    private Consumer<? super T> successCallback;
+    private Consumer<Throwable> errorCallback;
+    private boolean finished = false;
+    private boolean delivered = false;
+    private T result;
+    private Throwable error;
+    
+    Job(JobSystem system, CancellationToken token) {
+        this.system = system;
+        this.token = token;
+    }
+    
+    /**
+     * Run on the FX thread with the result
+     */
+    public Job<T> onComplete(Consumer<? super T> callback) {
+        boolean deliverNow;
+        synchronized (this) {
+            successCallback = callback;
+            deliverNow = delivered;
+        }
+        if (deliverNow) {
+            system.enqueueCompletion(this);
+        }
+        return this;
+    }
+    
+    /**
+     * Run on the FX thread if the work threw
+     */
+    public Job<T> onError(Consumer<Throwable> callback) {
+        boolean deliverNow;
+        synchronized (this) {
+            errorCallback = callback;
+            deliverNow = delivered;
+        }
+        if (deliverNow) {
+            system.enqueueCompletion(this);
+        }
+        return this;
+    }
+    
+    /**
+     * Cancel the job. Work that has not started is skipped; running work sees
+     * its token cancelled; pending callbacks are dropped.
+     */
+    public void cancel() {
+        token.cancel();
+        future.cancel(false);
+    }
+    
+    public boolean isCancelled() { return token.isCancelled(); }
+    public boolean isDone() { return future.isDone(); }
+    public CancellationToken getToken() { return token; }
+    
+    public CompletableFuture<T> toFuture() {
+        return future;
+    }
+    
+    void setParentListener(Runnable parentListener) {
+        this.parentListener = parentListener;
+    }
+    
+    Runnable getParentListener() {
+        return parentListener;
+    }
+    
+    // Worker side
+    
+    void complete(T value) {
+        synchronized (this) {
+            result = value;
+            finished = true;
+        }
+        future.complete(value);
+    }
+    
+    void fail(Throwable throwable) {
+        synchronized (this) {
+            error = throwable;
+            finished = true;
+        }
+        future.completeExceptionally(throwable);
+    }
+    
+    /**
+     * Whether the finished job has anything to run on the FX thread. With no
+     * callbacks yet it counts as delivered, so a callback registered later
+     * queues itself instead of being missed. Failures always go through so
+     * unhandled ones are still logged.
+     */
+    synchronized boolean needsDelivery() {
+        if (successCallback != null || errorCallback != null || error != null) return true;
+        delivered = true;
+        return false;
+    }
+    
+    // FX side
+    
+    /**
+     * Run whichever callbacks are registered and not yet run
+     */
+    void deliver() {
+        Consumer<? super T> onSuccess;
+        Consumer<Throwable> onFailure;
+        T value;
+        Throwable failure;
+        synchronized (this) {
+            if (!finished) return;
+            delivered = true;
+            onSuccess = successCallback;
+            onFailure = errorCallback;
+            successCallback = null;
+            errorCallback = null;
+            value = result;
+            failure = error;
+        }
+        if (token.isCancelled()) return;
+        if (failure == null) {
+            if (onSuccess != null) onSuccess.accept(value);
+        } else if (onFailure != null) {
+            onFailure.accept(failure);
+        } else {
+            System.err.println("❌ Job failed: " + failure);
+        }
+    }
+}
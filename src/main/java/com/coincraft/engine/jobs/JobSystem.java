@@ -0,0 +1,271 @@
+package com.coincraft.engine.jobs;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.coincraft.engine.FrameScheduler;
+
+import javafx.application.Platform;
+
+/**
+ * Engine-wide job system for work that must not run on the JavaFX thread.
+ *
+ * Jobs run on one of two bounded pools: a CPU pool sized to leave a core for
+ * the FX thread, and a larger I/O pool for blocking calls (network, disk).
+ * Queued jobs start in priority order. Results are not posted to the FX
+ * thread one by one; they go into a completion queue that is drained once
+ * per frame from the {@link FrameScheduler} input phase, within a time
+ * budget, so a burst of finished jobs cannot stall a frame. At most one
+ * {@code Platform.runLater} is outstanding at a time, only to wake the
+ * scheduler when no scene is running.
+ *
+ * Without a JavaFX toolkit (headless runs, tools) nothing drains the queue
+ * automatically; call {@link #drainCompletions(long)} from the loop instead.
+ */
+public class JobSystem {
+    private static JobSystem instance;
+    
+    private static final long DEFAULT_FRAME_BUDGET_NANOS = 2_000_000L;
+    private static final int MAX_IO_THREADS = 16;
+    
+    public enum Kind {
+        CPU, IO
+    }
+    
+    public enum Priority {
+        HIGH, NORMAL, LOW
+    }
+    
+    /**
+     * Work run on a worker thread; should return early once the token is cancelled
+     */
+    @FunctionalInterface
+    public interface Work<T> {
+        T run(CancellationToken token) throws Exception;
+    }
+    
+    private final ThreadPoolExecutor cpuPool;
+    private final ThreadPoolExecutor ioPool;
+    private final AtomicLong sequence = new AtomicLong();
+    
+    private final Queue<Job<?>> completions = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCompletions = new AtomicInteger();
+    private final AtomicBoolean wakeScheduled = new AtomicBoolean(false);
+    private volatile long frameBudgetNanos = DEFAULT_FRAME_BUDGET_NANOS;
+    private FrameScheduler.SceneHandle drainScene;
+    
+    // Statistics
+    private final AtomicLong completedJobs = new AtomicLong();
+    private final AtomicLong failedJobs = new AtomicLong();
+    private final AtomicLong cancelledJobs = new AtomicLong();
+    private long deferredCompletions = 0;
+    
+    public JobSystem(int cpuThreads, int ioThreads) {
+        this.cpuPool = createPool("cpu", Math.max(1, cpuThreads), Thread.NORM_PRIORITY - 1);
+        this.ioPool = createPool("io", Math.max(1, ioThreads), Thread.NORM_PRIORITY);
+    }
+    
+    public static synchronized JobSystem getInstance() {
+        if (instance == null) {
+            int cores = Runtime.getRuntime().availableProcessors();
+            instance = new JobSystem(cores - 1, Math.min(MAX_IO_THREADS, cores * 4));
+        }
+        return instance;
+    }
+    
+    private static ThreadPoolExecutor createPool(String name, int threads, int threadPriority) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+            threads, threads, 30, TimeUnit.SECONDS,
+            new PriorityBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "coincraft-" + name + "-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setPriority(threadPriority);
+                return thread;
+            });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+    
+    /**
+     * Submit work. The job is cancelled together with the given token, e.g. a
+     * scene's {@link FrameScheduler.SceneHandle#getCancellationToken()}.
+     */
+    public <T> Job<T> submit(Kind kind, Priority priority, CancellationToken owner, Work<T> work) {
+        CancellationToken parent = owner != null ? owner : CancellationToken.NONE;
+        CancellationToken token = new CancellationToken();
+        Job<T> job = new Job<>(this, token);
+        Runnable cancelWithParent = job::cancel;
+        job.setParentListener(cancelWithParent);
+        parent.onCancel(cancelWithParent);
+        
+        ThreadPoolExecutor pool = kind == Kind.IO ? ioPool : cpuPool;
+        pool.execute(new QueuedJob(priority, sequence.getAndIncrement(), () -> run(job, parent, work)));
+        return job;
+    }
+    
+    public <T> Job<T> cpu(Work<T> work) {
+        return submit(Kind.CPU, Priority.NORMAL, null, work);
+    }
+    
+    public <T> Job<T> io(Work<T> work) {
+        return submit(Kind.IO, Priority.NORMAL, null, work);
+    }
+    
+    private <T> void run(Job<T> job, CancellationToken parent, Work<T> work) {
+        try {
+            if (job.isCancelled()) {
+                cancelledJobs.incrementAndGet();
+                return;
+            }
+            boolean failed = false;
+            try {
+                job.complete(work.run(job.getToken()));
+            } catch (Throwable t) {
+                job.fail(t);
+                failed = true;
+            }
+            if (job.isCancelled()) {
+                cancelledJobs.incrementAndGet();
+                return;
+            }
+            (failed ? failedJobs : completedJobs).incrementAndGet();
+            if (job.needsDelivery()) {
+                enqueueCompletion(job);
+            }
+        } finally {
+            parent.removeListener(job.getParentListener());
+        }
+    }
+    
+    void enqueueCompletion(Job<?> job) {
+        completions.add(job);
+        pendingCompletions.incrementAndGet();
+        requestWake();
+    }
+    
+    /**
+     * Make sure the drain system gets a frame soon. Coalesced: at most one
+     * wake-up is queued on the FX thread however many jobs finish.
+     */
+    private void requestWake() {
+        if (!wakeScheduled.compareAndSet(false, true)) return;
+        try {
+            Platform.runLater(this::wake);
+        } catch (IllegalStateException e) {
+            // No JavaFX toolkit; the owner drains manually
+            wakeScheduled.set(false);
+        }
+    }
+    
+    private void wake() {
+        wakeScheduled.set(false);
+        if (drainScene == null) {
+            drainScene = FrameScheduler.getInstance().createScene("job-completions");
+            drainScene.addSystem(FrameScheduler.Phase.INPUT, deltaTime -> drainFrame());
+        }
+        drainScene.resume();
+    }
+    
+    private void drainFrame() {
+        drainCompletions(frameBudgetNanos);
+        if (pendingCompletions.get() == 0) {
+            // Nothing left to deliver; stop asking for frames until the next completion
+            drainScene.suspend();
+        }
+    }
+    
+    /**
+     * Run completion callbacks until the queue is empty or the budget is spent.
+     * At least one completion is delivered per call so progress is guaranteed.
+     * Must be called on the thread that owns the callbacks' state (the FX thread).
+     *
+     * @return number of completions delivered
+     */
+    public int drainCompletions(long budgetNanos) {
+        long deadline = System.nanoTime() + budgetNanos;
+        int delivered = 0;
+        Job<?> job;
+        while ((job = completions.poll()) != null) {
+            pendingCompletions.decrementAndGet();
+            try {
+                job.deliver();
+            } catch (Exception e) {
+                System.err.println("❌ Job completion callback failed: " + e.getMessage());
+                e.printStackTrace();
+            }
+            delivered++;
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+        if (!completions.isEmpty()) {
+            deferredCompletions++;
+        }
+        return delivered;
+    }
+    
+    /**
+     * Time per frame the FX thread may spend on completion callbacks
+     */
+    public void setFrameBudgetNanos(long frameBudgetNanos) {
+        this.frameBudgetNanos = Math.max(0, frameBudgetNanos);
+    }
+    
+    public long getFrameBudgetNanos() { return frameBudgetNanos; }
+    public int getPendingCompletions() { return pendingCompletions.get(); }
+    public int getQueuedJobs() { return cpuPool.getQueue().size() + ioPool.getQueue().size(); }
+    public long getCompletedJobs() { return completedJobs.get(); }
+    public long getFailedJobs() { return failedJobs.get(); }
+    public long getCancelledJobs() { return cancelledJobs.get(); }
+    
+    /**
+     * Number of drains that hit the budget and left completions for the next frame
+     */
+    public long getDeferredCompletions() { return deferredCompletions; }
+    
+    /**
+     * Stop accepting jobs; running work is interrupted
+     */
+    public void shutdown() {
+        cpuPool.shutdownNow();
+        ioPool.shutdownNow();
+        if (drainScene != null) {
+            drainScene.dispose();
+            drainScene = null;
+        }
+    }
+    
+    /**
+     * Pool entry ordered by priority, then submission order
+     */
+    private static final class QueuedJob implements Runnable, Comparable<QueuedJob> {
+        private final Priority priority;
+        private final long sequence;
+        private final Runnable task;
+        
+        QueuedJob(Priority priority, long sequence, Runnable task) {
+            this.priority = priority != null ? priority : Priority.NORMAL;
+            this.sequence = sequence;
+            this.task = task;
+        }
+        
+        @Override
+        public void run() {
+            task.run();
+        }
+        
+        @Override
+        public int compareTo(QueuedJob other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.coincraft.engine.particles;
+
+/**
+ * Describes how the particles of one emitter look and move: lifetime, launch
+ * speed and direction, gravity, drag, size over life and palette.
+ * Setters return the effect so presets read as one expression.
+ */
+public class ParticleEffect {
+    private double lifeMin = 0.4;
+    private double lifeMax = 0.8;
+    private double speedMin = 60;
+    private double speedMax = 160;
+    private double angleDegrees = -90; // up
+    private double spreadDegrees = 360;
+    private double gravity = 0;
+    private double drag = 0; // fraction of velocity lost per second
+    private double sizeStart = 4;
+    private double sizeEnd = 1;
+    private boolean fadeOut = true;
+    private boolean round = false;
+    private int[] colors = { 0xFFFFFFFF };
+    
+    /**
+     * Wood splinters thrown out and falling back when a barrel or crate breaks
+     */
+    public static ParticleEffect debris() {
+        return new ParticleEffect()
+            .life(0.45, 0.9)
+            .speed(90, 260)
+            .direction(-90, 160)
+            .gravity(700)
+            .drag(1.5)
+            .size(6, 3)
+            .colors(0xFF8B5A2B, 0xFFA0522D, 0xFF6B4226, 0xFFC19A6B);
+    }
+    
+    /**
+     * Small golden sparks for earned coins
+     */
+    public static ParticleEffect coinSparkle() {
+        return new ParticleEffect()
+            .life(0.5, 1.0)
+            .speed(40, 140)
+            .direction(-90, 360)
+            .gravity(-40)
+            .drag(2.0)
+            .size(5, 1)
+            .round(true)
+            .colors(0xFFFFD700, 0xFFFFC107, 0xFFFFF3B0);
+    }
+    
+    /**
+     * Large, colorful burst for level rewards
+     */
+    public static ParticleEffect rewardBurst() {
+        return new ParticleEffect()
+            .life(0.8, 1.6)
+            .speed(150, 420)
+            .direction(-90, 360)
+            .gravity(380)
+            .drag(1.2)
+            .size(8, 3)
+            .colors(0xFFFFD700, 0xFF667EEA, 0xFF764BA2, 0xFF10B981, 0xFFF59E0B);
+    }
+    
+    public ParticleEffect life(double min, double max) {
+        this.lifeMin = Math.max(0.01, min);
+        this.lifeMax = Math.max(this.lifeMin, max);
+        return this;
+    }
+    
+    public ParticleEffect speed(double min, double max) {
+        this.speedMin = Math.max(0, min);
+        this.speedMax = Math.max(this.speedMin, max);
+        return this;
+    }
+    
+    /**
+     * Launch direction (0 = right, -90 = up) and the cone around it, in degrees
+     */
+    public ParticleEffect direction(double angleDegrees, double spreadDegrees) {
+        this.angleDegrees = angleDegrees;
+        this.spreadDegrees = Math.max(0, Math.min(360, spreadDegrees));
+        return this;
+    }
+    
+    public ParticleEffect gravity(double pixelsPerSecondSquared) {
+        this.gravity = pixelsPerSecondSquared;
+        return this;
+    }
+    
+    public ParticleEffect drag(double perSecond) {
+        this.drag = Math.max(0, perSecond);
+        return this;
+    }
+    
+    public ParticleEffect size(double start, double end) {
+        this.sizeStart = Math.max(0, start);
+        this.sizeEnd = Math.max(0, end);
+        return this;
+    }
+    
+    public ParticleEffect fadeOut(boolean fadeOut) {
+        this.fadeOut = fadeOut;
+        return this;
+    }
+    
+    public ParticleEffect round(boolean round) {
+        this.round = round;
+        return this;
+    }
+    
+    /**
+     * Default palette as ARGB values; each particle picks one at random
+     */
+    public ParticleEffect colors(int... argb) {
+        if (argb != null && argb.length > 0) {
+            this.colors = argb.clone();
+        }
+        return this;
+    }
+    
+    public double getLifeMin() { return lifeMin; }
+    public double getLifeMax() { return lifeMax; }
+    public double getSpeedMin() { return speedMin; }
+    public double getSpeedMax() { return speedMax; }
+    public double getAngleDegrees() { return angleDegrees; }
+    public double getSpreadDegrees() { return spreadDegrees; }
+    public double getGravity() { return gravity; }
+    public double getDrag() { return drag; }
+    public double getSizeStart() { return sizeStart; }
+    public double getSizeEnd() { return sizeEnd; }
+    public boolean isFadeOut() { return fadeOut; }
+    public boolean isRound() { return round; }
+    public int[] getColors() { return colors.clone(); }
+}
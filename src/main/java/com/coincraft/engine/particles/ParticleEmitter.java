@@ -0,0 +1,215 @@
+package com.coincraft.engine.particles;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * Particles of one effect, stored as parallel primitive arrays.
+ *
+ * All storage is allocated up front for the emitter's capacity; live
+ * particles are kept packed at the front of the arrays (a dead particle is
+ * replaced by the last live one), so update is a single loop over
+ * {@code [0, count)} with no per-particle objects and drawing makes one pass
+ * per palette color. Spawning is limited by the emitter capacity and by the
+ * global {@link ParticleSystem} budget.
+ */
+public class ParticleEmitter {
+    private static final int ALPHA_STEPS = 16; // alpha is quantized to limit state changes when drawing
+    
+    private final ParticleEffect effect;
+    private final ParticleSystem system;
+    private final int capacity;
+    private final Random random;
+    
+    private final double[] x;
+    private final double[] y;
+    private final double[] vx;
+    private final double[] vy;
+    private final double[] age;
+    private final double[] life;
+    private final int[] color; // index into colorTable
+    private int count = 0;
+    
+    // Colors are resolved once per distinct ARGB value
+    private final List<Color> colorTable = new ArrayList<>();
+    private final Map<Integer, Integer> colorIndex = new HashMap<>();
+    private final int[] defaultPalette;
+    
+    public ParticleEmitter(ParticleEffect effect, int capacity) {
+        this(effect, capacity, new Random());
+    }
+    
+    public ParticleEmitter(ParticleEffect effect, int capacity, Random random) {
+        this.effect = effect;
+        this.system = ParticleSystem.getInstance();
+        this.capacity = Math.max(1, capacity);
+        this.random = random;
+        this.x = new double[this.capacity];
+        this.y = new double[this.capacity];
+        this.vx = new double[this.capacity];
+        this.vy = new double[this.capacity];
+        this.age = new double[this.capacity];
+        this.life = new double[this.capacity];
+        this.color = new int[this.capacity];
+        this.defaultPalette = indicesFor(effect.getColors());
+    }
+    
+    /**
+     * Spawn particles at a point using the effect's palette
+     * @return number actually spawned after caps
+     */
+    public int burst(double originX, double originY, int requested) {
+        return spawn(originX, originY, requested, defaultPalette);
+    }
+    
+    /**
+     * Spawn particles at a point with a palette other than the effect's (ARGB values)
+     */
+    public int burst(double originX, double originY, int requested, int... argbPalette) {
+        if (argbPalette == null || argbPalette.length == 0) {
+            return burst(originX, originY, requested);
+        }
+        return spawn(originX, originY, requested, indicesFor(argbPalette));
+    }
+    
+    private int spawn(double originX, double originY, int requested, int[] palette) {
+        int wanted = Math.min(requested, capacity - count);
+        if (wanted <= 0) return 0;
+        int granted = system.reserve(wanted);
+        double spread = Math.toRadians(effect.getSpreadDegrees());
+        double baseAngle = Math.toRadians(effect.getAngleDegrees());
+        for (int n = 0; n < granted; n++) {
+            int i = count++;
+            double angle = baseAngle + (random.nextDouble() - 0.5) * spread;
+            double speed = lerp(effect.getSpeedMin(), effect.getSpeedMax(), random.nextDouble());
+            x[i] = originX;
+            y[i] = originY;
+            vx[i] = Math.cos(angle) * speed;
+            vy[i] = Math.sin(angle) * speed;
+            age[i] = 0;
+            life[i] = lerp(effect.getLifeMin(), effect.getLifeMax(), random.nextDouble());
+            color[i] = palette[random.nextInt(palette.length)];
+        }
+        return granted;
+    }
+    
+    /**
+     * Advance every live particle and drop the expired ones
+     */
+    public void update(double deltaTime) {
+        if (count == 0) return;
+        double gravity = effect.getGravity() * deltaTime;
+        double damping = Math.max(0, 1.0 - effect.getDrag() * deltaTime);
+        int expired = 0;
+        for (int i = 0; i < count; i++) {
+            double a = age[i] + deltaTime;
+            if (a >= life[i]) {
+                moveLastInto(i);
+                i--; // revisit the slot, it now holds the former last particle
+                expired++;
+                continue;
+            }
+            age[i] = a;
+            double nvx = vx[i] * damping;
+            double nvy = vy[i] * damping + gravity;
+            vx[i] = nvx;
+            vy[i] = nvy;
+            x[i] += nvx * deltaTime;
+            y[i] += nvy * deltaTime;
+        }
+        if (expired > 0) {
+            system.release(expired);
+        }
+    }
+    
+    private void moveLastInto(int i) {
+        int last = --count;
+        if (i == last) return;
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        age[i] = age[last];
+        life[i] = life[last];
+        color[i] = color[last];
+    }
+    
+    /**
+     * Draw the particles inside the view rectangle; positions are translated by the view origin
+     */
+    public void render(GraphicsContext gc, double viewX, double viewY, double viewWidth, double viewHeight) {
+        if (count == 0) return;
+        double sizeStart = effect.getSizeStart();
+        double sizeDelta = effect.getSizeEnd() - sizeStart;
+        boolean fade = effect.isFadeOut();
+        boolean round = effect.isRound();
+        // One pass per color so the fill changes once per color, not once per particle
+        for (int c = 0; c < colorTable.size(); c++) {
+            boolean fillSet = false;
+            int lastAlpha = -1;
+            for (int i = 0; i < count; i++) {
+                if (color[i] != c) continue;
+                double t = age[i] / life[i];
+                double size = sizeStart + sizeDelta * t;
+                double half = size * 0.5;
+                double px = x[i] - viewX - half;
+                double py = y[i] - viewY - half;
+                if (px > viewWidth || py > viewHeight || px + size < 0 || py + size < 0) continue;
+                
+                if (!fillSet) {
+                    gc.setFill(colorTable.get(c));
+                    fillSet = true;
+                }
+                int alpha = fade ? (int) Math.ceil((1.0 - t) * ALPHA_STEPS) : ALPHA_STEPS;
+                if (alpha != lastAlpha) {
+                    gc.setGlobalAlpha((double) alpha / ALPHA_STEPS);
+                    lastAlpha = alpha;
+                }
+                if (round) {
+                    gc.fillOval(px, py, size, size);
+                } else {
+                    gc.fillRect(px, py, size, size);
+                }
+            }
+        }
+        gc.setGlobalAlpha(1.0);
+    }
+    
+    /**
+     * Remove every live particle and return their slots to the global budget
+     */
+    public void clear() {
+        system.release(count);
+        count = 0;
+    }
+    
+    private int[] indicesFor(int[] argbPalette) {
+        int[] indices = new int[argbPalette.length];
+        for (int i = 0; i < argbPalette.length; i++) {
+            int argb = argbPalette[i];
+            Integer index = colorIndex.get(argb);
+            if (index == null) {
+                index = colorTable.size();
+                colorTable.add(Color.rgb((argb >> 16) & 0xFF, (argb >> 8) & 0xFF, argb & 0xFF,
+                    ((argb >>> 24) & 0xFF) / 255.0));
+                colorIndex.put(argb, index);
+            }
+            indices[i] = index;
+        }
+        return indices;
+    }
+    
+    private static double lerp(double a, double b, double t) {
+        return a + (b - a) * t;
+    }
+    
+    public ParticleEffect getEffect() { return effect; }
+    public int getCount() { return count; }
+    public int getCapacity() { return capacity; }
+}
@@ -0,0 +1,125 @@
+package com.coincraft.engine.particles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.coincraft.engine.FrameScheduler;
+import com.coincraft.engine.Updatable;
+
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * A group of emitters drawn into a single {@link Canvas}.
+ *
+ * The canvas covers the view, not the world: it is placed over the viewport
+ * and particles are drawn relative to a view origin, which can follow a
+ * camera-translated world pane. However many particles are live, the scene
+ * graph sees one node. When nothing is live the canvas is cleared once and
+ * then left alone.
+ */
+public class ParticleLayer implements Updatable {
+    private final Canvas canvas;
+    private final GraphicsContext gc;
+    private final List<ParticleEmitter> emitters = new ArrayList<>();
+    private Node cameraWorld;
+    private double viewX = 0;
+    private double viewY = 0;
+    private boolean drawnLastFrame = false;
+    
+    public ParticleLayer(double viewWidth, double viewHeight) {
+        this.canvas = new Canvas(Math.max(1, viewWidth), Math.max(1, viewHeight));
+        this.canvas.setMouseTransparent(true);
+        this.gc = canvas.getGraphicsContext2D();
+    }
+    
+    /**
+     * Update and draw every frame in the render phase of the given scene
+     */
+    public ParticleLayer attach(FrameScheduler.SceneHandle scene) {
+        scene.addSystem(FrameScheduler.Phase.RENDER, this);
+        return this;
+    }
+    
+    /**
+     * Create an emitter for an effect in this layer
+     * @param capacity maximum live particles for this emitter
+     */
+    public ParticleEmitter addEmitter(ParticleEffect effect, int capacity) {
+        ParticleEmitter emitter = new ParticleEmitter(effect, capacity);
+        emitters.add(emitter);
+        return emitter;
+    }
+    
+    /**
+     * Draw in world coordinates of a pane moved by a camera through its
+     * translation (see {@code CameraFollow}); the view origin is read every frame
+     */
+    public void followCamera(Node world) {
+        this.cameraWorld = world;
+    }
+    
+    /**
+     * Fixed view origin, for layers that are not camera-driven
+     */
+    public void setViewOrigin(double x, double y) {
+        this.cameraWorld = null;
+        this.viewX = x;
+        this.viewY = y;
+    }
+    
+    public void resize(double viewWidth, double viewHeight) {
+        canvas.setWidth(Math.max(1, viewWidth));
+        canvas.setHeight(Math.max(1, viewHeight));
+        drawnLastFrame = true; // force one clear at the new size
+    }
+    
+    @Override
+    public void update(double deltaTime) {
+        int live = 0;
+        for (int i = 0; i < emitters.size(); i++) {
+            ParticleEmitter emitter = emitters.get(i);
+            emitter.update(deltaTime);
+            live += emitter.getCount();
+        }
+        if (live == 0 && !drawnLastFrame) return; // idle: canvas is already empty
+        
+        if (cameraWorld != null) {
+            viewX = -cameraWorld.getTranslateX();
+            viewY = -cameraWorld.getTranslateY();
+        }
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        gc.clearRect(0, 0, width, height);
+        for (int i = 0; i < emitters.size(); i++) {
+            emitters.get(i).render(gc, viewX, viewY, width, height);
+        }
+        drawnLastFrame = live > 0;
+    }
+    
+    public int getLiveParticles() {
+        int live = 0;
+        for (ParticleEmitter emitter : emitters) {
+            live += emitter.getCount();
+        }
+        return live;
+    }
+    
+    /**
+     * The node to add over the viewport
+     */
+    public Canvas getNode() { return canvas; }
+    
+    /**
+     * Remove all particles and emitters, returning their budget
+     */
+    public void dispose() {
+        for (ParticleEmitter emitter : emitters) {
+            emitter.clear();
+        }
+        emitters.clear();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        drawnLastFrame = false;
+    }
+}
@@ -0,0 +1,74 @@
+package com.coincraft.engine.particles;
+
+import com.coincraft.engine.quality.QualityGovernor;
+import com.coincraft.engine.quality.QualityLevel;
+
+/**
+ * Global particle budget shared by every emitter.
+ *
+ * Emitters reserve slots here before spawning and give them back when
+ * particles die, so the total number of live particles never exceeds the
+ * global cap however many layers are on screen. The cap follows the quality
+ * governor when one is bound. Lowering the cap never kills live particles;
+ * new bursts are simply trimmed until enough have expired.
+ *
+ * Used from the FX thread only.
+ */
+public class ParticleSystem {
+    private static ParticleSystem instance;
+    
+    private int globalCap = QualityLevel.HIGH.getParticleCap();
+    private int live = 0;
+    
+    // Metrics
+    private long spawned = 0;
+    private long dropped = 0;
+    private int peakLive = 0;
+    
+    private ParticleSystem() {}
+    
+    public static synchronized ParticleSystem getInstance() {
+        if (instance == null) {
+            instance = new ParticleSystem();
+        }
+        return instance;
+    }
+    
+    /**
+     * Follow the governor's particle cap for its current and future levels
+     */
+    public void bind(QualityGovernor governor) {
+        governor.addListener(level -> setGlobalCap(level.getParticleCap()));
+    }
+    
+    /**
+     * Grant up to {@code requested} slots
+     * @return number of particles the caller may spawn
+     */
+    int reserve(int requested) {
+        int granted = Math.max(0, Math.min(requested, globalCap - live));
+        live += granted;
+        spawned += granted;
+        dropped += requested - granted;
+        peakLive = Math.max(peakLive, live);
+        return granted;
+    }
+    
+    void release(int count) {
+        live = Math.max(0, live - count);
+    }
+    
+    public void setGlobalCap(int globalCap) {
+        this.globalCap = Math.max(0, globalCap);
+    }
+    
+    public int getGlobalCap() { return globalCap; }
+    public int getLiveParticles() { return live; }
+    public int getPeakLiveParticles() { return peakLive; }
+    public long getSpawnedParticles() { return spawned; }
+    
+    /**
+     * Particles requested but not spawned because the global cap was reached
+     */
+    public long getDroppedParticles() { return dropped; }
+}
@@ -0,0 +1,210 @@
+package com.coincraft.engine.quality;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.coincraft.engine.FrameScheduler;
+import com.coincraft.engine.Updatable;
+
+/**
+ * Adapts visual quality to the machine by watching frame times.
+ *
+ * Every frame it records the interval since the previous frame (what the
+ * player sees) and the time the scheduler spent in systems. When the rolling
+ * average interval stays over budget it steps down one {@link QualityLevel};
+ * when frames are back on budget and the systems leave clear headroom for a
+ * longer period it steps back up. Restoring waits longer each time a restored
+ * level had to be dropped again soon after, so the level does not oscillate.
+ *
+ * Screens attach it to their scene and register listeners that apply the
+ * level (decor density, animation rates, smoothing, particle caps).
+ */
+public class QualityGovernor implements Updatable {
+    private static final int WINDOW = 60;
+    private static final double MAX_SAMPLE_SECONDS = 0.1; // one hitch must not dominate the window
+    
+    /**
+     * Notified on the FX thread whenever the level changes
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onQualityChanged(QualityLevel level);
+    }
+    
+    private final double budgetSeconds;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private QualityLevel level = QualityLevel.HIGH;
+    private QualityLevel floor = QualityLevel.MINIMAL;
+    
+    // Thresholds
+    private double degradeFactor = 1.2;
+    private double restoreFactor = 1.05;
+    private double restoreWorkFraction = 0.5;
+    private double degradeAfterSeconds = 1.0;
+    private double baseRestoreAfterSeconds = 5.0;
+    private double maxRestoreAfterSeconds = 60.0;
+    
+    // Rolling window
+    private final double[] intervals = new double[WINDOW];
+    private final double[] work = new double[WINDOW];
+    private int samples = 0;
+    private int cursor = 0;
+    private double intervalSum = 0;
+    private double workSum = 0;
+    
+    // Hysteresis
+    private double overBudgetTime = 0;
+    private double headroomTime = 0;
+    private double restoreAfterSeconds = baseRestoreAfterSeconds;
+    private double sinceLastRestore = Double.MAX_VALUE;
+    
+    // Metrics
+    private int degradeCount = 0;
+    private int restoreCount = 0;
+    
+    public QualityGovernor() {
+        this(1.0 / 60.0);
+    }
+    
+    public QualityGovernor(double budgetSeconds) {
+        this.budgetSeconds = budgetSeconds;
+    }
+    
+    /**
+     * Sample frames of the given scene (render phase, after the scene's own systems)
+     */
+    public QualityGovernor attach(FrameScheduler.SceneHandle scene) {
+        scene.addSystem(FrameScheduler.Phase.RENDER, Integer.MAX_VALUE, this);
+        return this;
+    }
+    
+    @Override
+    public void update(double deltaTime) {
+        sample(deltaTime, FrameScheduler.getInstance().getLastFrameWorkNanos() / 1_000_000_000.0);
+    }
+    
+    /**
+     * Record one frame: its interval and the time spent in systems, both in seconds
+     */
+    public void sample(double intervalSeconds, double workSeconds) {
+        double interval = Math.min(intervalSeconds, MAX_SAMPLE_SECONDS);
+        double busy = Math.min(workSeconds, MAX_SAMPLE_SECONDS);
+        if (samples == WINDOW) {
+            intervalSum -= intervals[cursor];
+            workSum -= work[cursor];
+        } else {
+            samples++;
+        }
+        intervals[cursor] = interval;
+        work[cursor] = busy;
+        intervalSum += interval;
+        workSum += busy;
+        cursor = (cursor + 1) % WINDOW;
+        sinceLastRestore += intervalSeconds;
+        
+        if (samples < WINDOW) return; // judge only full windows
+        
+        double averageInterval = intervalSum / samples;
+        double averageWork = workSum / samples;
+        
+        if (averageInterval > budgetSeconds * degradeFactor) {
+            overBudgetTime += intervalSeconds;
+            headroomTime = 0;
+            if (overBudgetTime >= degradeAfterSeconds && level.ordinal() < floor.ordinal()) {
+                // Dropped soon after a restore: that level was not sustainable, wait longer next time
+                if (sinceLastRestore < restoreAfterSeconds * 2) {
+                    restoreAfterSeconds = Math.min(maxRestoreAfterSeconds, restoreAfterSeconds * 2);
+                }
+                degradeCount++;
+                setLevel(level.lower(), averageInterval);
+            }
+        } else if (averageInterval <= budgetSeconds * restoreFactor
+                && averageWork <= budgetSeconds * restoreWorkFraction) {
+            headroomTime += intervalSeconds;
+            overBudgetTime = 0;
+            if (headroomTime >= restoreAfterSeconds && level != QualityLevel.HIGH) {
+                restoreCount++;
+                sinceLastRestore = 0;
+                setLevel(level.higher(), averageInterval);
+            } else if (headroomTime >= maxRestoreAfterSeconds) {
+                // Long stable stretch: forget earlier oscillation
+                restoreAfterSeconds = baseRestoreAfterSeconds;
+            }
+        } else {
+            // In the dead band between the thresholds nothing changes
+            overBudgetTime = 0;
+            headroomTime = 0;
+        }
+    }
+    
+    private void setLevel(QualityLevel newLevel, double averageInterval) {
+        if (newLevel == level) return;
+        boolean lowered = newLevel.ordinal() > level.ordinal();
+        level = newLevel;
+        overBudgetTime = 0;
+        headroomTime = 0;
+        // Start a fresh window so the new level is judged on its own frames
+        samples = 0;
+        cursor = 0;
+        intervalSum = 0;
+        workSum = 0;
+        System.out.println((lowered ? "📉 Quality lowered to " : "📈 Quality raised to ") + level
+            + String.format(" (avg frame %.1f ms)", averageInterval * 1000));
+        notifyListeners();
+    }
+    
+    private void notifyListeners() {
+        for (Listener listener : listeners) {
+            try {
+                listener.onQualityChanged(level);
+            } catch (Exception e) {
+                System.err.println("❌ Quality listener failed: " + e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Register a listener; it is called immediately with the current level
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+        listener.onQualityChanged(level);
+    }
+    
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+    
+    /**
+     * Force a level (e.g. from settings); automatic adjustment continues from it
+     */
+    public void setLevel(QualityLevel newLevel) {
+        if (newLevel != null) {
+            setLevel(newLevel, samples > 0 ? intervalSum / samples : budgetSeconds);
+        }
+    }
+    
+    /**
+     * Lowest level the governor may degrade to
+     */
+    public void setFloor(QualityLevel floor) {
+        this.floor = floor != null ? floor : QualityLevel.MINIMAL;
+    }
+    
+    public void setDegradeAfterSeconds(double seconds) { this.degradeAfterSeconds = seconds; }
+    
+    public void setRestoreAfterSeconds(double seconds) {
+        this.baseRestoreAfterSeconds = seconds;
+        this.restoreAfterSeconds = seconds;
+    }
+    
+    // Metrics
+    public QualityLevel getLevel() { return level; }
+    public int getLevelIndex() { return level.ordinal(); }
+    public double getBudgetSeconds() { return budgetSeconds; }
+    public double getAverageFrameMillis() { return samples > 0 ? intervalSum / samples * 1000 : 0; }
+    public double getAverageWorkMillis() { return samples > 0 ? workSum / samples * 1000 : 0; }
+    public int getDegradeCount() { return degradeCount; }
+    public int getRestoreCount() { return restoreCount; }
+    public double getCurrentRestoreDelaySeconds() { return restoreAfterSeconds; }
+}
@@ -0,0 +1,65 @@
+package com.coincraft.engine.quality;
+
+/**
+ * Degradation steps applied by the {@link QualityGovernor}, from full quality
+ * down. Each level keeps the reductions of the levels above it.
+ */
+public enum QualityLevel {
+    HIGH(1.0, 1, true, 2000),
+    REDUCED_DECOR(0.5, 1, true, 1000),
+    REDUCED_ANIMATION(0.5, 3, true, 500),
+    NO_SMOOTHING(0.25, 3, false, 250),
+    MINIMAL(0.25, 6, false, 100);
+    
+    private final double decorDensity;
+    private final int offFocusAnimationDivisor;
+    private final boolean smoothing;
+    private final int particleCap;
+    
+    QualityLevel(double decorDensity, int offFocusAnimationDivisor, boolean smoothing, int particleCap) {
+        this.decorDensity = decorDensity;
+        this.offFocusAnimationDivisor = offFocusAnimationDivisor;
+        this.smoothing = smoothing;
+        this.particleCap = particleCap;
+    }
+    
+    /**
+     * Fraction of purely cosmetic decor to keep visible
+     */
+    public double getDecorDensity() { return decorDensity; }
+    
+    /**
+     * Sprites away from the focus (camera/player) advance their animation every N frames
+     */
+    public int getOffFocusAnimationDivisor() { return offFocusAnimationDivisor; }
+    
+    /**
+     * Whether scaled images use smooth filtering
+     */
+    public boolean isSmoothing() { return smoothing; }
+    
+    /**
+     * Maximum live particles
+     */
+    public int getParticleCap() { return particleCap; }
+    
+    public QualityLevel lower() {
+        QualityLevel[] levels = values();
+        return levels[Math.min(levels.length - 1, ordinal() + 1)];
+    }
+    
+    public QualityLevel higher() {
+        return values()[Math.max(0, ordinal() - 1)];
+    }
+    
+    /**
+     * Decide whether the i-th decor item stays visible at this density. Spreads
+     * kept items evenly so thinning never clears a whole area.
+     */
+    public boolean keepsDecor(int index) {
+        if (decorDensity >= 1.0) return true;
+        if (decorDensity <= 0.0) return false;
+        int stride = (int) Math.round(1.0 / decorDensity);
+        return index % stride == 0;
+    }
+}
@@ -0,0 +1,72 @@
+package com.coincraft.engine.replay;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Per-frame simulation times of a replay, for comparing builds against a baseline
+ */
+public class FrameTrace {
+    private long[] nanos = new long[1024];
+    private int size = 0;
+    
+    public void add(long frameNanos) {
+        if (size == nanos.length) {
+            nanos = Arrays.copyOf(nanos, size * 2);
+        }
+        nanos[size++] = frameNanos;
+    }
+    
+    public int size() { return size; }
+    
+    public long get(int frame) {
+        if (frame < 0 || frame >= size) {
+            throw new IndexOutOfBoundsException("Frame " + frame + " of " + size);
+        }
+        return nanos[frame];
+    }
+    
+    public long getTotalNanos() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += nanos[i];
+        }
+        return total;
+    }
+    
+    /**
+     * Frame time at the given percentile (0-100), in nanoseconds
+     */
+    public long percentile(double percentile) {
+        if (size == 0) return 0;
+        long[] sorted = Arrays.copyOf(nanos, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return sorted[Math.max(0, Math.min(size - 1, index))];
+    }
+    
+    /**
+     * Write "frame,nanos" rows
+     */
+    public void writeCsv(Path path) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            out.write("frame,nanos");
+            out.newLine();
+            for (int i = 0; i < size; i++) {
+                out.write(i + "," + nanos[i]);
+                out.newLine();
+            }
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%d frames, p50 %.1f µs, p95 %.1f µs, p99 %.1f µs, max %.1f µs",
+            size, percentile(50) / 1000.0, percentile(95) / 1000.0, percentile(99) / 1000.0,
+            percentile(100) / 1000.0);
+    }
+}
@@ -0,0 +1,102 @@
+package com.coincraft.engine.replay;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.coincraft.engine.Updatable;
+import com.coincraft.engine.input.InputManager;
+
+import javafx.scene.input.KeyCode;
+
+/**
+ * Records the input state of every frame into a {@link ReplayLog}.
+ *
+ * Register it before any gameplay system (e.g. in the input phase) so each
+ * sample reflects the input the systems of that frame will see. Only changes
+ * are stored: held keys, mouse position and mouse buttons. A press and
+ * release that both happen between two frames is never seen by systems that
+ * poll held state, so it is not recorded either.
+ */
+public class InputRecorder implements Updatable {
+    private final InputManager inputManager;
+    private final ReplayLog log;
+    private Supplier<byte[]> initialState;
+    private long tick = 0;
+    
+    // Last recorded state
+    private KeyCode[] lastKeys = new KeyCode[0];
+    private double lastMouseX = Double.NaN;
+    private double lastMouseY = Double.NaN;
+    private boolean lastPrimary = false;
+    private boolean lastSecondary = false;
+    
+    public InputRecorder(InputManager inputManager, double fixedDeltaTime) {
+        this.inputManager = inputManager;
+        this.log = new ReplayLog(fixedDeltaTime);
+    }
+    
+    /**
+     * Record a seed used by the session so the replay can reuse it
+     */
+    public InputRecorder putSeed(String name, long seed) {
+        log.putSeed(name, seed);
+        return this;
+    }
+    
+    /**
+     * Capture the initial world state on the first recorded frame, after layout
+     */
+    public InputRecorder setInitialState(Supplier<byte[]> initialState) {
+        this.initialState = initialState;
+        return this;
+    }
+    
+    @Override
+    public void update(double deltaTime) {
+        if (tick == 0 && initialState != null) {
+            log.setInitialState(initialState.get());
+        }
+        
+        int flags = 0;
+        KeyCode[] keys = heldKeys();
+        if (!Arrays.equals(keys, lastKeys)) {
+            flags |= ReplayLog.KEYS_CHANGED;
+            lastKeys = keys;
+        }
+        double mouseX = inputManager.getMouseX();
+        double mouseY = inputManager.getMouseY();
+        if (mouseX != lastMouseX || mouseY != lastMouseY) {
+            flags |= ReplayLog.MOUSE_MOVED;
+            lastMouseX = mouseX;
+            lastMouseY = mouseY;
+        }
+        boolean primary = inputManager.isPrimaryMousePressed();
+        boolean secondary = inputManager.isSecondaryMousePressed();
+        if (primary != lastPrimary || secondary != lastSecondary) {
+            flags |= ReplayLog.BUTTONS_CHANGED;
+            lastPrimary = primary;
+            lastSecondary = secondary;
+        }
+        
+        if (flags != 0) {
+            if (primary) flags |= ReplayLog.PRIMARY_DOWN;
+            if (secondary) flags |= ReplayLog.SECONDARY_DOWN;
+            log.addFrame(new ReplayLog.Frame(tick, flags, keys, (float) mouseX, (float) mouseY));
+        }
+        tick++;
+        log.setTickCount(tick);
+    }
+    
+    private KeyCode[] heldKeys() {
+        Set<KeyCode> pressed = inputManager.getPressedKeys();
+        KeyCode[] keys = pressed.toArray(new KeyCode[0]);
+        // Stable order so equal sets compare equal
+        Arrays.sort(keys, Comparator.comparing(KeyCode::name));
+        return keys;
+    }
+    
+    public long getTick() { return tick; }
+    public ReplayLog getLog() { return log; }
+}
@@ -0,0 +1,82 @@
+package com.coincraft.engine.replay;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.coincraft.engine.headless.InputSource;
+import com.coincraft.engine.input.InputManager;
+
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
+
+/**
+ * Feeds a recorded {@link ReplayLog} back into an input manager, tick by tick.
+ * Recorded states are turned into the press/release/move calls that lead to
+ * them, so systems see the same held keys, mouse position and buttons as in
+ * the recorded session.
+ */
+public class ReplayInputSource implements InputSource {
+    private final List<ReplayLog.Frame> frames;
+    private int nextFrame = 0;
+    private final Set<KeyCode> held = new HashSet<>();
+    private double mouseX = 0;
+    private double mouseY = 0;
+    
+    public ReplayInputSource(ReplayLog log) {
+        this.frames = log.getFrames();
+    }
+    
+    @Override
+    public void apply(long tick, InputManager input) {
+        while (nextFrame < frames.size() && frames.get(nextFrame).getTick() < tick) {
+            nextFrame++; // ticks skipped by the caller
+        }
+        if (nextFrame >= frames.size() || frames.get(nextFrame).getTick() != tick) {
+            return;
+        }
+        ReplayLog.Frame frame = frames.get(nextFrame++);
+        
+        if (frame.mouseMoved()) {
+            mouseX = frame.getMouseX();
+            mouseY = frame.getMouseY();
+            input.moveMouse(mouseX, mouseY);
+        }
+        if (frame.keysChanged()) {
+            Set<KeyCode> next = Set.of(frame.getKeys());
+            for (KeyCode key : held.toArray(new KeyCode[0])) {
+                if (!next.contains(key)) {
+                    input.releaseKey(key);
+                    held.remove(key);
+                }
+            }
+            for (KeyCode key : frame.getKeys()) {
+                if (held.add(key)) {
+                    input.pressKey(key);
+                }
+            }
+        }
+        if (frame.buttonsChanged()) {
+            applyButton(input, MouseButton.PRIMARY, input.isPrimaryMousePressed(), frame.isPrimaryDown());
+            applyButton(input, MouseButton.SECONDARY, input.isSecondaryMousePressed(), frame.isSecondaryDown());
+        }
+    }
+    
+    private void applyButton(InputManager input, MouseButton button, boolean wasDown, boolean isDown) {
+        if (isDown && !wasDown) {
+            input.pressMouse(mouseX, mouseY, button);
+        } else if (!isDown && wasDown) {
+            input.releaseMouse(mouseX, mouseY, button);
+        }
+    }
+    
+    /**
+     * Restart from the first tick (the input manager must be reset by the caller)
+     */
+    public void rewind() {
+        nextFrame = 0;
+        held.clear();
+        mouseX = 0;
+        mouseY = 0;
+    }
+}
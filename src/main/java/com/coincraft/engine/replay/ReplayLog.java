@@ -0,0 +1,268 @@
+package com.coincraft.engine.replay;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.scene.input.KeyCode;
+
+/**
+ * Recorded gameplay session: fixed timestep, RNG seeds, an opaque initial
+ * world state and the input state of every tick where it changed.
+ *
+ * Binary layout (big-endian, via DataOutputStream):
+ * <pre>
+ *   int    magic 'CCRP'
+ *   short  version
+ *   double fixed delta time
+ *   int    tick count
+ *   short  seed count, then (UTF name, long seed)*
+ *   int    initial state length, then bytes
+ *   short  key table size, then (UTF key name)*
+ *   int    frame count, then frames:
+ *          varint tick delta, byte flags,
+ *          [varint key count, varint key index*]  if KEYS changed
+ *          [float x, float y]                     if MOUSE moved
+ * </pre>
+ * Keys are stored by name through a table so logs survive KeyCode reordering.
+ */
+public class ReplayLog {
+    private static final int MAGIC = 0x43435250; // "CCRP"
+    private static final short VERSION = 1;
+    
+    // Frame flags
+    static final int KEYS_CHANGED = 1;
+    static final int MOUSE_MOVED = 1 << 1;
+    static final int BUTTONS_CHANGED = 1 << 2;
+    static final int PRIMARY_DOWN = 1 << 3;
+    static final int SECONDARY_DOWN = 1 << 4;
+    
+    private final double fixedDeltaTime;
+    private final Map<String, Long> seeds = new LinkedHashMap<>();
+    private byte[] initialState = new byte[0];
+    private final List<Frame> frames = new ArrayList<>();
+    private long tickCount = 0;
+    
+    /**
+     * Input state at one tick. Only the parts flagged as changed are meaningful.
+     */
+    public static final class Frame {
+        private final long tick;
+        private final int flags;
+        private final KeyCode[] keys;
+        private final float mouseX;
+        private final float mouseY;
+        
+        Frame(long tick, int flags, KeyCode[] keys, float mouseX, float mouseY) {
+            this.tick = tick;
+            this.flags = flags;
+            this.keys = keys;
+            this.mouseX = mouseX;
+            this.mouseY = mouseY;
+        }
+        
+        public long getTick() { return tick; }
+        public boolean keysChanged() { return (flags & KEYS_CHANGED) != 0; }
+        public boolean mouseMoved() { return (flags & MOUSE_MOVED) != 0; }
+        public boolean buttonsChanged() { return (flags & BUTTONS_CHANGED) != 0; }
+        public boolean isPrimaryDown() { return (flags & PRIMARY_DOWN) != 0; }
+        public boolean isSecondaryDown() { return (flags & SECONDARY_DOWN) != 0; }
+        public KeyCode[] getKeys() { return keys; }
+        public float getMouseX() { return mouseX; }
+        public float getMouseY() { return mouseY; }
+        int getFlags() { return flags; }
+    }
+    
+    public ReplayLog(double fixedDeltaTime) {
+        this.fixedDeltaTime = fixedDeltaTime;
+    }
+    
+    public double getFixedDeltaTime() { return fixedDeltaTime; }
+    public long getTickCount() { return tickCount; }
+    public List<Frame> getFrames() { return Collections.unmodifiableList(frames); }
+    public byte[] getInitialState() { return initialState; }
+    public Map<String, Long> getSeeds() { return Collections.unmodifiableMap(seeds); }
+    
+    public long getSeed(String name, long fallback) {
+        return seeds.getOrDefault(name, fallback);
+    }
+    
+    void putSeed(String name, long seed) {
+        seeds.put(name, seed);
+    }
+    
+    void setInitialState(byte[] initialState) {
+        this.initialState = initialState != null ? initialState : new byte[0];
+    }
+    
+    void addFrame(Frame frame) {
+        frames.add(frame);
+    }
+    
+    void setTickCount(long tickCount) {
+        this.tickCount = tickCount;
+    }
+    
+    public void save(Path path) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path))) {
+            write(out);
+        }
+    }
+    
+    public static ReplayLog load(Path path) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            return read(in);
+        }
+    }
+    
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeDouble(fixedDeltaTime);
+        out.writeInt((int) tickCount);
+        
+        out.writeShort(seeds.size());
+        for (Map.Entry<String, Long> seed : seeds.entrySet()) {
+            out.writeUTF(seed.getKey());
+            out.writeLong(seed.getValue());
+        }
+        
+        out.writeInt(initialState.length);
+        out.write(initialState);
+        
+        // Key table: every key that appears in the session, in first-seen order
+        Map<KeyCode, Integer> keyIndex = new LinkedHashMap<>();
+        for (Frame frame : frames) {
+            if (frame.keysChanged()) {
+                for (KeyCode key : frame.keys) {
+                    keyIndex.putIfAbsent(key, keyIndex.size());
+                }
+            }
+        }
+        out.writeShort(keyIndex.size());
+        for (KeyCode key : keyIndex.keySet()) {
+            out.writeUTF(key.name());
+        }
+        
+        out.writeInt(frames.size());
+        long previousTick = 0;
+        for (Frame frame : frames) {
+            writeVarint(out, frame.tick - previousTick);
+            previousTick = frame.tick;
+            out.writeByte(frame.flags);
+            if (frame.keysChanged()) {
+                writeVarint(out, frame.keys.length);
+                for (KeyCode key : frame.keys) {
+                    writeVarint(out, keyIndex.get(key));
+                }
+            }
+            if (frame.mouseMoved()) {
+                out.writeFloat(frame.mouseX);
+                out.writeFloat(frame.mouseY);
+            }
+        }
+        out.flush();
+    }
+    
+    public static ReplayLog read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a replay log");
+        }
+        short version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported replay log version " + version);
+        }
+        ReplayLog log = new ReplayLog(in.readDouble());
+        log.tickCount = in.readInt() & 0xFFFFFFFFL;
+        
+        int seedCount = in.readUnsignedShort();
+        for (int i = 0; i < seedCount; i++) {
+            log.seeds.put(in.readUTF(), in.readLong());
+        }
+        
+        byte[] state = new byte[in.readInt()];
+        in.readFully(state);
+        log.initialState = state;
+        
+        int keyCount = in.readUnsignedShort();
+        KeyCode[] keyTable = new KeyCode[keyCount];
+        Map<String, KeyCode> byName = new HashMap<>();
+        for (KeyCode key : KeyCode.values()) {
+            byName.put(key.name(), key);
+        }
+        for (int i = 0; i < keyCount; i++) {
+            String name = in.readUTF();
+            KeyCode key = byName.get(name);
+            if (key == null) {
+                throw new IOException("Unknown key in replay log: " + name);
+            }
+            keyTable[i] = key;
+        }
+        
+        int frameCount = in.readInt();
+        long tick = 0;
+        for (int i = 0; i < frameCount; i++) {
+            tick += readVarint(in);
+            int flags = in.readUnsignedByte();
+            KeyCode[] keys = null;
+            if ((flags & KEYS_CHANGED) != 0) {
+                keys = new KeyCode[(int) readVarint(in)];
+                for (int k = 0; k < keys.length; k++) {
+                    keys[k] = keyTable[(int) readVarint(in)];
+                }
+            }
+            float x = 0;
+            float y = 0;
+            if ((flags & MOUSE_MOVED) != 0) {
+                x = in.readFloat();
+                y = in.readFloat();
+            }
+            log.frames.add(new Frame(tick, flags, keys, x, y));
+        }
+        return log;
+    }
+    
+    private static void writeVarint(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+    
+    private static long readVarint(DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+            if (shift > 63) {
+                throw new IOException("Malformed varint in replay log");
+            }
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return "ReplayLog[" + tickCount + " ticks @ " + fixedDeltaTime + "s, " + frames.size()
+            + " input frames, " + seeds.size() + " seeds, " + initialState.length + " state bytes]";
+    }
+}
@@ -0,0 +1,38 @@
+package com.coincraft.engine.replay;
+
+/**
+ * 64-bit FNV-1a hash over simulation state.
+ * Doubles are hashed by their exact bits, so any divergence shows up.
+ */
+public class StateHasher {
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+    
+    private long hash = OFFSET_BASIS;
+    
+    public StateHasher putLong(long value) {
+        for (int i = 0; i < 8; i++) {
+            hash ^= (value >>> (i * 8)) & 0xFF;
+            hash *= PRIME;
+        }
+        return this;
+    }
+    
+    public StateHasher putInt(int value) {
+        return putLong(value);
+    }
+    
+    public StateHasher putDouble(double value) {
+        return putLong(Double.doubleToLongBits(value));
+    }
+    
+    public StateHasher putBoolean(boolean value) {
+        return putLong(value ? 1 : 0);
+    }
+    
+    public long get() { return hash; }
+    
+    public String toHex() {
+        return String.format("%016x", hash);
+    }
+}
@@ -1,15 +1,19 @@
 package com.coincraft.game.adventure;
 
+import com.coincraft.engine.jobs.CancellationToken;
+import com.coincraft.game.adventure.models.AdventureInteractable;
+import com.coincraft.game.adventure.models.AdventureNPC;
 import com.coincraft.game.adventure.models.AdventureZone;
-import com.coincraft.game.adventure.zones.BudgetBayZone;
-import com.coincraft.game.adventure.zones.SavingsSummitZone;
-import com.coincraft.game.adventure.zones.InvestmentIslandZone;
-import com.coincraft.game.adventure.zones.BankingBayouZone;
-import com.coincraft.game.adventure.zones.DigitalSafetyZone;
+import com.coincraft.game.adventure.zones.ZoneDefinition;
+import com.coincraft.game.adventure.zones.ZoneLoader;
+import com.coincraft.ui.util.ImageCache;
 
 /**
  * Manages adventure zones and zone transitions
  * Similar to Echo Quest's zone management system
+ *
+ * Progression zones are data-driven: they are defined in /game/zones/*.json
+ * and built by {@link ZoneLoader}.
  */
 public class AdventureZoneManager {
     
@@ -17,37 +21,86 @@ public class AdventureZoneManager {
      * Get the starting zone for new players
      */
     public static AdventureZone getStartingZone() {
-        return new BudgetBayZone();
+        return ZoneLoader.getInstance().load("budget_bay");
     }
     
     /**
-     * Get a specific zone by name
+     * Get a specific zone by name; uses the preloaded zone when it matches,
+     * otherwise any preload in flight is cancelled
      */
     public static AdventureZone getZone(String zoneName) {
-        return switch (zoneName.toLowerCase()) {
-            case "budget bay", "budgetbay" -> new BudgetBayZone();
-            case "savings summit", "savingssummit" -> new SavingsSummitZone();
-            case "investment island", "investmentisland" -> new InvestmentIslandZone();
-            case "banking bayou", "bankingbayou" -> new BankingBayouZone();
-            default -> getStartingZone();
-        };
+        String key = zoneKey(zoneName);
+        AdventureZone preloaded = ZonePrefetcher.getInstance().take(key);
+        return preloaded != null ? preloaded : createZone(key);
     }
     
     /**
-     * Get the next zone in the progression
+     * Get the next zone in the progression; instant when it was preloaded
+     * with {@link #prefetchNextZone}
      */
     public static AdventureZone getNextZone(AdventureZone currentZone) {
-        String currentName = currentZone.getZoneName().toLowerCase();
-        
-        return switch (currentName) {
-            case "budget bay" -> new SavingsSummitZone();
-            case "savings summit" -> new InvestmentIslandZone();
-            case "investment island" -> new BankingBayouZone();
-            case "banking bayou" -> new DigitalSafetyZone();
-            default -> getStartingZone();
+        String key = nextZoneKey(currentZone);
+        AdventureZone preloaded = ZonePrefetcher.getInstance().take(key);
+        return preloaded != null ? preloaded : createZone(key);
+    }
+    
+    /**
+     * Start preparing the zone after {@code currentZone} in the background.
+     * Call once the player has entered {@code currentZone}.
+     */
+    public static void prefetchNextZone(AdventureZone currentZone) {
+        String key = nextZoneKey(currentZone);
+        ZonePrefetcher.getInstance().prefetch(key, token -> preloadZone(key, token), () -> createZone(key));
+    }
+    
+    /**
+     * Worker side of a prefetch: the zone definition and decoded sprites, no nodes
+     */
+    private static void preloadZone(String key, CancellationToken token) {
+        ZoneDefinition definition = ZoneLoader.getInstance().loadDefinition(zoneId(key));
+        for (ZoneDefinition.Npc npc : definition.npcs) {
+            if (token.isCancelled()) return;
+            ImageCache.get(AdventureNPC.spriteResource(npc.name));
+        }
+        if (!definition.interactables.isEmpty() && !token.isCancelled()) {
+            ImageCache.get(AdventureInteractable.SPRITE_RESOURCE);
+        }
+    }
+    
+    private static String nextZoneKey(AdventureZone currentZone) {
+        return switch (zoneKey(currentZone.getZoneName())) {
+            case "budgetbay" -> "savingssummit";
+            case "savingssummit" -> "investmentisland";
+            case "investmentisland" -> "bankingbayou";
+            case "bankingbayou" -> "digitalsafety";
+            default -> "budgetbay";
         };
     }
     
+    private static AdventureZone createZone(String key) {
+        return ZoneLoader.getInstance().load(zoneId(key));
+    }
+    
+    /**
+     * Zone file id for a key; unknown keys get the starting zone
+     */
+    private static String zoneId(String key) {
+        return switch (key) {
+            case "savingssummit" -> "savings_summit";
+            case "investmentisland" -> "investment_island";
+            case "bankingbayou" -> "banking_bayou";
+            case "digitalsafety" -> "digital_safety";
+            default -> "budget_bay";
+        };
+    }
+    
+    /**
+     * "Budget Bay", "budget bay" and "budgetbay" all map to "budgetbay"
+     */
+    private static String zoneKey(String zoneName) {
+        return zoneName.toLowerCase().replace(" ", "");
+    }
+    
     /**
      * Check if a zone is unlocked for the player
      */
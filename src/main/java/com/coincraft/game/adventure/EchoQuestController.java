@@ -1,6 +1,5 @@
 package com.coincraft.game.adventure;
 
-import javafx.animation.AnimationTimer;
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
@@ -8,6 +7,7 @@ import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 
+import com.coincraft.engine.FrameScheduler;
 import com.coincraft.models.User;
 import com.coincraft.game.models.GameState;
 import com.coincraft.game.adventure.models.EchoQuestPlayer;
@@ -43,9 +43,8 @@ public class EchoQuestController {
     private int emotionalClarity = 0;
     private boolean isInMeditationMode = false;
     
-    // Animation
-    private AnimationTimer gameLoop;
-    private long lastUpdateTime = 0;
+    // Animation (a scene on the shared frame scheduler)
+    private FrameScheduler.SceneHandle gameLoop;
     
     public EchoQuestController(User user, GameState gameState) {
         this.user = user;
@@ -132,20 +131,10 @@ public class EchoQuestController {
     }
     
     private void startGameLoop() {
-        gameLoop = new AnimationTimer() {
-            @Override
-            public void handle(long now) {
-                if (lastUpdateTime == 0) {
-                    lastUpdateTime = now;
-                    return;
-                }
-                
-                lastUpdateTime = now;
-                
-                updateGame();
-            }
-        };
-        gameLoop.start();
+        gameLoop = FrameScheduler.getInstance().createScene("echo-quest");
+        gameLoop.addSystem(FrameScheduler.Phase.SIMULATE, deltaTime -> updateGame());
+        gameLoop.suspendWhenHidden(scene);
+        gameLoop.resume();
     }
     
     private void updateGame() {
@@ -244,7 +233,7 @@ public class EchoQuestController {
     
     public void stopAdventure() {
         if (gameLoop != null) {
-            gameLoop.stop();
+            gameLoop.dispose();
         }
         System.out.println("🌟 Echo Quest adventure stopped. Inner peace achieved.");
     }
@@ -3,8 +3,8 @@ package com.coincraft.game.adventure;
 import com.coincraft.game.models.GameState;
 import com.coincraft.models.User;
 import com.coincraft.game.adventure.models.*;
+import com.coincraft.engine.FrameScheduler;
 
-import javafx.animation.AnimationTimer;
 import javafx.scene.Scene;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
@@ -29,11 +29,11 @@ public class EnhancedAdventureController {
     
     // Enhanced NPCs
     private List<AdventureNPC> npcs;
+    private NPCTickScheduler<AdventureNPC> npcScheduler;
     
-    // Game loop
-    private AnimationTimer gameLoop;
+    // Game loop (a scene on the shared frame scheduler)
+    private FrameScheduler.SceneHandle gameLoop;
     private boolean isRunning = false;
-    private long lastUpdateTime = 0;
     
     // UI Elements
     private Text playerInfo;
@@ -82,9 +82,15 @@ public class EnhancedAdventureController {
         System.out.println("👥 Initializing NPCs...");
         
         npcs = new ArrayList<>();
+        npcScheduler = new NPCTickScheduler<>(
+            AdventureNPC::getCenterX,
+            AdventureNPC::getCenterY,
+            (npc, deltaTime) -> npc.update(deltaTime, player)
+        );
         
         // Create NPCs
         createNPCs();
+        npcs.forEach(npcScheduler::add);
         
         System.out.println("👥 NPCs initialized: " + npcs.size() + " NPCs");
     }
@@ -225,12 +231,11 @@ public class EnhancedAdventureController {
             double closestDistance = Double.MAX_VALUE;
             
             for (AdventureNPC npc : npcs) {
-                double distance = Math.sqrt(
-                    Math.pow(player.getCenterX() - npc.getCenterX(), 2) + 
-                    Math.pow(player.getCenterY() - npc.getCenterY(), 2)
-                );
+                double dx = player.getCenterX() - npc.getCenterX();
+                double dy = player.getCenterY() - npc.getCenterY();
+                double distance = dx * dx + dy * dy;
                 
-                if (distance < closestDistance && distance < 100) { // 100 pixel interaction radius
+                if (distance < closestDistance && distance < 100 * 100) { // 100 pixel interaction radius
                     closestDistance = distance;
                     closestNPC = npc;
                 }
@@ -252,43 +257,28 @@ public class EnhancedAdventureController {
         System.out.println("🔄 Starting enhanced game loop...");
         
         isRunning = true;
-        gameLoop = new AnimationTimer() {
-            @Override
-            public void handle(long now) {
-                if (isRunning) {
-                    updateGame(now);
-                }
-            }
-        };
+        gameLoop = FrameScheduler.getInstance().createScene("enhanced-adventure");
+        gameLoop.addSystem(FrameScheduler.Phase.SIMULATE, this::updateGame);
+        gameLoop.addSystem(FrameScheduler.Phase.RENDER, deltaTime -> updateUI());
+        gameLoop.suspendWhenHidden(adventureScene);
         
-        gameLoop.start();
+        gameLoop.resume();
         System.out.println("🔄 Enhanced game loop started!");
     }
     
     /**
      * Update game state
      */
-    private void updateGame(long currentTime) {
-        if (lastUpdateTime == 0) {
-            lastUpdateTime = currentTime;
-            return;
-        }
-        
-        double deltaTime = (currentTime - lastUpdateTime) / 1_000_000_000.0; // Convert to seconds
-        lastUpdateTime = currentTime;
+    private void updateGame(double deltaTime) {
+        if (!isRunning) return;
         
         // Update player
         player.update(deltaTime);
         
-        // Update NPCs
-        if (npcs != null) {
-            for (AdventureNPC npc : npcs) {
-                npc.update(deltaTime, player);
-            }
+        // Update NPCs (distant ones less often, within a per-frame budget)
+        if (npcScheduler != null) {
+            npcScheduler.tick(deltaTime, player.getCenterX(), player.getCenterY());
         }
-        
-        // Update UI
-        updateUI();
     }
     
     /**
@@ -307,12 +297,11 @@ public class EnhancedAdventureController {
             double closestDistance = Double.MAX_VALUE;
             
             for (AdventureNPC npc : npcs) {
-                double distance = Math.sqrt(
-                    Math.pow(player.getCenterX() - npc.getCenterX(), 2) + 
-                    Math.pow(player.getCenterY() - npc.getCenterY(), 2)
-                );
+                double dx = player.getCenterX() - npc.getCenterX();
+                double dy = player.getCenterY() - npc.getCenterY();
+                double distance = dx * dx + dy * dy;
                 
-                if (distance < closestDistance && distance < 100) {
+                if (distance < closestDistance && distance < 100 * 100) {
                     closestDistance = distance;
                     nearbyNPC = npc;
                 }
@@ -336,7 +325,7 @@ public class EnhancedAdventureController {
         
         isRunning = false;
         if (gameLoop != null) {
-            gameLoop.stop();
+            gameLoop.dispose();
         }
         
         // Cleanup NPCs
@@ -345,6 +334,9 @@ public class EnhancedAdventureController {
                 npc.cleanup();
             }
         }
+        if (npcScheduler != null) {
+            npcScheduler.clear();
+        }
         
         System.out.println("🛑 Enhanced adventure stopped!");
     }
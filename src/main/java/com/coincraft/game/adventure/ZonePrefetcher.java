@@ -0,0 +1,157 @@
+package com.coincraft.game.adventure;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.coincraft.engine.jobs.CancellationToken;
+import com.coincraft.engine.jobs.Job;
+import com.coincraft.engine.jobs.JobSystem;
+import com.coincraft.game.adventure.models.AdventureZone;
+
+/**
+ * Prepares the zone the player is likely to enter next while they are still
+ * in the current one.
+ *
+ * A low-priority background job does the thread-safe part: reading the zone
+ * data and decoding its images into the shared caches. No scene graph nodes
+ * are created there. When it finishes, the zone and its scene graph are
+ * built on the JavaFX thread into a detached pane, so entering the zone later
+ * only moves finished nodes into the game world. At most one zone is held; a
+ * prefetch for a different zone, or taking any zone that is not ready,
+ * cancels the one in flight. A prebuilt scene graph whose decoded images
+ * exceed the memory budget is dropped and the zone builds on entry as before.
+ *
+ * All methods are called on the JavaFX thread.
+ */
+public class ZonePrefetcher {
+    private static ZonePrefetcher instance;
+    
+    private static final long DEFAULT_MEMORY_BUDGET_BYTES = 64L * 1024 * 1024;
+    
+    private long memoryBudgetBytes = DEFAULT_MEMORY_BUDGET_BYTES;
+    private String pendingKey;
+    private Job<Boolean> pending;
+    private String readyKey;
+    private AdventureZone ready;
+    private long readyBytes;
+    
+    // Statistics
+    private int hits = 0;
+    private int misses = 0;
+    private int cancelled = 0;
+    private int overBudget = 0;
+    
+    private ZonePrefetcher() {}
+    
+    public static synchronized ZonePrefetcher getInstance() {
+        if (instance == null) {
+            instance = new ZonePrefetcher();
+        }
+        return instance;
+    }
+    
+    /**
+     * Start preparing a zone in the background unless it is already ready or in flight
+     * @param zoneKey normalized zone key, used to match the later {@link #take}
+     * @param preload loads the zone's data and images; runs on a worker thread and must not create nodes
+     * @param factory creates the zone once the preload is done; runs on the FX thread
+     */
+    public void prefetch(String zoneKey, Consumer<CancellationToken> preload, Supplier<AdventureZone> factory) {
+        if (zoneKey.equals(readyKey) || zoneKey.equals(pendingKey)) return;
+        cancel();
+        
+        pendingKey = zoneKey;
+        Job<Boolean> job = JobSystem.getInstance().submit(JobSystem.Kind.IO, JobSystem.Priority.LOW, null, token -> {
+            preload.accept(token);
+            return Boolean.TRUE;
+        });
+        pending = job;
+        job.onComplete(done -> {
+                if (pending != job) return;
+                pending = null;
+                pendingKey = null;
+                try {
+                    // Decoding is done, so this is node construction only
+                    AdventureZone zone = factory.get();
+                    zone.prebuild();
+                    accept(zoneKey, zone);
+                } catch (RuntimeException e) {
+                    System.err.println("⚠️ Could not preload zone " + zoneKey + ": " + e.getMessage());
+                }
+            })
+            .onError(error -> {
+                if (pending != job) return;
+                pending = null;
+                pendingKey = null;
+                System.err.println("⚠️ Could not preload zone " + zoneKey + ": " + error.getMessage());
+            });
+    }
+    
+    /**
+     * The prefetched zone for the key, or null if it is not ready (the caller
+     * then builds it itself). Never waits: a preload still in flight is
+     * cancelled, and whatever it already decoded is reused from the caches
+     * by the caller's build.
+     */
+    public AdventureZone take(String zoneKey) {
+        if (zoneKey.equals(readyKey)) {
+            AdventureZone zone = ready;
+            clearReady();
+            hits++;
+            return zone;
+        }
+        cancel();
+        misses++;
+        return null;
+    }
+    
+    /**
+     * Drop the prefetched zone and cancel any prefetch in flight
+     */
+    public void cancel() {
+        if (pending != null) {
+            pending.cancel();
+            pending = null;
+            pendingKey = null;
+            cancelled++;
+        }
+        clearReady();
+    }
+    
+    private void accept(String zoneKey, AdventureZone zone) {
+        if (zone == null) return;
+        long bytes = zone.estimatePrebuiltBytes();
+        if (bytes > memoryBudgetBytes) {
+            // Keep the zone model; its scene graph is built on entry instead
+            zone.discardPrebuilt();
+            overBudget++;
+            System.out.println("📦 Zone " + zone.getZoneName() + " is over the preload budget ("
+                + (bytes / 1024) + " KB), keeping data only");
+            bytes = 0;
+        }
+        ready = zone;
+        readyKey = zoneKey;
+        readyBytes = bytes;
+        System.out.println("📦 Preloaded zone " + zone.getZoneName() + " (" + (bytes / 1024) + " KB of images)");
+    }
+    
+    private void clearReady() {
+        ready = null;
+        readyKey = null;
+        readyBytes = 0;
+    }
+    
+    public void setMemoryBudgetBytes(long memoryBudgetBytes) {
+        this.memoryBudgetBytes = Math.max(0, memoryBudgetBytes);
+    }
+    
+    // Metrics
+    public long getMemoryBudgetBytes() { return memoryBudgetBytes; }
+    public long getReadyBytes() { return readyBytes; }
+    public boolean isReady(String zoneKey) { return zoneKey.equals(readyKey); }
+    public boolean isPending(String zoneKey) { return zoneKey.equals(pendingKey); }
+    public int getHits() { return hits; }
+    public int getMisses() { return misses; }
+    public int getCancelled() { return cancelled; }
+    public int getOverBudget() { return overBudget; }
+}
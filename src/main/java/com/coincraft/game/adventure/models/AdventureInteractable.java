@@ -1,5 +1,7 @@
 package com.coincraft.game.adventure.models;
 
+import com.coincraft.ui.util.ImageCache;
+
 import javafx.scene.Node;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -14,6 +16,9 @@ import javafx.scene.text.Text;
  * Similar to Echo Quest's interactable elements
  */
 public abstract class AdventureInteractable {
+    /** Classpath path of the barrel sprite every interactable uses */
+    public static final String SPRITE_RESOURCE = "/Assets/Sprites/Objects and buildings/Barrels and crates/spr_barrel1.png";
+    
     private final String name;
     private final String emoji;
     private final String description;
@@ -34,8 +39,8 @@ public abstract class AdventureInteractable {
     private void createInteractableSprite() {
         try {
             // Load barrel sprite from Assets
-            String barrelSpritePath = getClass().getResource("/Assets/Sprites/Objects and buildings/Barrels and crates/spr_barrel1.png").toExternalForm();
-            Image barrelImage = new Image(barrelSpritePath);
+            Image barrelImage = ImageCache.get(SPRITE_RESOURCE); // shared with zone preloads
+            if (barrelImage == null) throw new IllegalStateException("missing " + SPRITE_RESOURCE);
             ImageView barrelImageView = new ImageView(barrelImage);
             barrelImageView.setFitWidth(50);
             barrelImageView.setFitHeight(50);
@@ -1,5 +1,7 @@
 package com.coincraft.game.adventure.models;
 
+import com.coincraft.ui.util.ImageCache;
+
 import javafx.scene.Node;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -31,28 +33,32 @@ public class AdventureNPC {
         createNPCSprite();
     }
     
-    private String getNPCSpritePath() {
+    /**
+     * Classpath path of the sprite for an NPC name, so a zone preload can decode it ahead of time
+     */
+    public static String spriteResource(String name) {
         // Map NPC names to their corresponding sprite files
         String lowerName = name.toLowerCase();
         
         if (lowerName.contains("business") || lowerName.contains("venture") || lowerName.contains("profit")) {
-            return getClass().getResource("/Assets/NPC/Smart Businessman.png").toExternalForm();
+            return "/Assets/NPC/Smart Businessman.png";
         } else if (lowerName.contains("adventure") || lowerName.contains("thorin") || lowerName.contains("marcus") || lowerName.contains("gareth") || lowerName.contains("finn")) {
-            return getClass().getResource("/Assets/NPC/Strong Adventurere.png").toExternalForm();
+            return "/Assets/NPC/Strong Adventurere.png";
         } else if (lowerName.contains("wise") || lowerName.contains("sage") || lowerName.contains("luna") || lowerName.contains("aria") || lowerName.contains("elena")) {
-            return getClass().getResource("/Assets/NPC/Wise Lady.png").toExternalForm();
+            return "/Assets/NPC/Wise Lady.png";
         } else {
             // Default to Smart Businessman if no match
-            return getClass().getResource("/Assets/NPC/Smart Businessman.png").toExternalForm();
+            return "/Assets/NPC/Smart Businessman.png";
         }
     }
     
     private void createNPCSprite() {
         try {
             // Load appropriate NPC sprite based on name
-            String npcImagePath = getNPCSpritePath();
+            String npcImagePath = spriteResource(name);
             System.out.println("Loading NPC sprite for " + name + " from: " + npcImagePath);
-            Image npcImage = new Image(npcImagePath);
+            Image npcImage = ImageCache.get(npcImagePath); // shared with zone preloads
+            if (npcImage == null) throw new IllegalStateException("missing " + npcImagePath);
             ImageView npcImageView = new ImageView(npcImage);
             npcImageView.setFitWidth(60);
             npcImageView.setFitHeight(60);
@@ -1,11 +1,18 @@
 package com.coincraft.game.adventure.models;
 
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Represents a themed zone in the adventure mode
@@ -20,6 +27,7 @@ public abstract class AdventureZone {
     protected List<AdventureInteractable> interactables;
     protected boolean isCompleted = false;
     protected int completionReward = 100;
+    private Pane prebuilt; // scene graph built ahead of entry, see prebuild()
     
     public AdventureZone(String zoneName, String description) {
         this.zoneName = zoneName;
@@ -41,6 +49,16 @@ public abstract class AdventureZone {
         gameWorld.getChildren().removeIf(node -> 
             node.getStyleClass().contains("zone-element"));
         
+        // Built ahead of time: just move the finished nodes in
+        if (prebuilt != null) {
+            List<Node> nodes = new ArrayList<>(prebuilt.getChildren());
+            prebuilt.getChildren().clear();
+            prebuilt = null;
+            gameWorld.getChildren().addAll(nodes);
+            System.out.println("Entered prebuilt zone: " + zoneName + " (" + nodes.size() + " nodes)");
+            return;
+        }
+        
         // Add background
         Rectangle background = new Rectangle(0, 0, 1200, 800);
         background.setFill(zoneColor);
@@ -64,6 +82,48 @@ public abstract class AdventureZone {
     
     protected abstract void renderZoneElements(Pane gameWorld);
     
+    /**
+     * Build the zone's scene graph into a detached pane, so that a later
+     * {@link #renderZone} only moves nodes. Call on the FX thread; the slow
+     * part, decoding images, can be done ahead of time through ImageCache.
+     */
+    public void prebuild() {
+        Pane offscreen = new Pane();
+        renderZone(offscreen);
+        prebuilt = offscreen;
+    }
+    
+    public boolean isPrebuilt() { return prebuilt != null; }
+    
+    public void discardPrebuilt() {
+        prebuilt = null;
+    }
+    
+    /**
+     * Rough decoded size of the images held by the prebuilt scene graph (4 bytes per pixel)
+     */
+    public long estimatePrebuiltBytes() {
+        if (prebuilt == null) return 0;
+        Set<Image> images = Collections.newSetFromMap(new IdentityHashMap<>());
+        collectImages(prebuilt, images);
+        long bytes = 0;
+        for (Image image : images) {
+            bytes += (long) image.getWidth() * (long) image.getHeight() * 4;
+        }
+        return bytes;
+    }
+    
+    private static void collectImages(Node node, Set<Image> images) {
+        if (node instanceof ImageView view && view.getImage() != null) {
+            images.add(view.getImage());
+        }
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                collectImages(child, images);
+            }
+        }
+    }
+    
     public void update(double deltaTime, AdventurePlayer player) {
         // Update NPCs
         for (AdventureNPC npc : npcs) {
@@ -3,6 +3,7 @@ package com.coincraft.game.adventure.models;
 import com.coincraft.models.User;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Coin Management System for Quiz Rewards
@@ -12,6 +13,15 @@ import java.util.List;
 public class CoinManager {
     private static User currentUser;
     private static final List<CoinTransaction> transactionHistory = new ArrayList<>();
+    private static final List<CoinListener> listeners = new CopyOnWriteArrayList<>();
+    
+    /**
+     * Notified after every recorded transaction (e.g. to play a reward effect)
+     */
+    @FunctionalInterface
+    public interface CoinListener {
+        void onTransaction(CoinTransaction transaction);
+    }
     
     public static class CoinTransaction {
         private final String description;
@@ -59,7 +69,7 @@ public class CoinManager {
         currentUser.setSmartCoinBalance(newBalance);
         
         String description = String.format("Correct answer on Q%d (%s)", questionNumber, questionTopic);
-        transactionHistory.add(new CoinTransaction(description, coinsEarned, "QUIZ_CORRECT"));
+        record(new CoinTransaction(description, coinsEarned, "QUIZ_CORRECT"));
         
         System.out.println("✅ +" + coinsEarned + " coins for correct answer! New balance: " + newBalance);
         return coinsEarned;
@@ -79,7 +89,7 @@ public class CoinManager {
         currentUser.setSmartCoinBalance(newBalance);
         
         String description = String.format("Wrong answer on Q%d (%s)", questionNumber, questionTopic);
-        transactionHistory.add(new CoinTransaction(description, -coinsLost, "QUIZ_WRONG"));
+        record(new CoinTransaction(description, -coinsLost, "QUIZ_WRONG"));
         
         System.out.println("❌ -" + coinsLost + " coins for wrong answer! New balance: " + newBalance);
         return coinsLost;
@@ -107,13 +117,32 @@ public class CoinManager {
             int newBalance = currentUser.getSmartCoinBalance() + bonus;
             currentUser.setSmartCoinBalance(newBalance);
             String description = String.format("Quiz completion bonus (%d/%d correct)", correctAnswers, totalQuestions);
-            transactionHistory.add(new CoinTransaction(description, bonus, "QUIZ_BONUS"));
+            record(new CoinTransaction(description, bonus, "QUIZ_BONUS"));
             System.out.println("🎉 +" + bonus + " coins quiz completion bonus! New balance: " + newBalance);
         }
         
         return bonus;
     }
     
+    private static void record(CoinTransaction transaction) {
+        transactionHistory.add(transaction);
+        for (CoinListener listener : listeners) {
+            try {
+                listener.onTransaction(transaction);
+            } catch (Exception e) {
+                System.err.println("❌ Coin listener failed: " + e.getMessage());
+            }
+        }
+    }
+    
+    public static void addListener(CoinListener listener) {
+        listeners.add(listener);
+    }
+    
+    public static void removeListener(CoinListener listener) {
+        listeners.remove(listener);
+    }
+    
     /**
      * Get current coin balance
      */
@@ -196,11 +196,9 @@ public class NPCCharacter extends PhysicsObject implements Renderable {
     }
     
     public boolean canInteract(AdventurePlayer player) {
-        double distance = Math.sqrt(
-            Math.pow(player.getCenterX() - getX(), 2) + 
-            Math.pow(player.getCenterY() - getY(), 2)
-        );
-        return distance <= interactionRadius;
+        double dx = player.getCenterX() - getX();
+        double dy = player.getCenterY() - getY();
+        return dx * dx + dy * dy <= interactionRadius * interactionRadius;
     }
     
     public void interact(AdventurePlayer player) {
@@ -267,6 +265,17 @@ public class NPCCharacter extends PhysicsObject implements Renderable {
         System.out.println("📢 NPC dialogue closed event: " + name);
     }
     
+    /**
+     * Nodes this NPC currently has attached to the scene graph
+     */
+    public java.util.List<Node> getSceneNodes() {
+        java.util.List<Node> nodes = new java.util.ArrayList<>(3);
+        if (npcSprite != null && npcSprite.getParent() != null) nodes.add(npcSprite);
+        if (npcName != null && npcName.getParent() != null) nodes.add(npcName);
+        if (dialogueBox != null && dialogueBox.getParent() != null) nodes.add(dialogueBox);
+        return nodes;
+    }
+    
     public void cleanup() {
         if (npcSprite != null && npcSprite.getParent() != null) {
             ((Pane) npcSprite.getParent()).getChildren().remove(npcSprite);
@@ -1,9 +1,14 @@
 package com.coincraft.game.adventure.models;
 
+import javafx.scene.Node;
 import javafx.scene.layout.Pane;
-import java.util.List;
 import java.util.ArrayList;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 // Event system integration removed for now - can be added later
@@ -11,19 +16,49 @@ import java.util.stream.Collectors;
 /**
  * NPC Manager - Handles multiple NPCs efficiently
  * Integrates with the game engine's event system and physics
+ *
+ * NPCs are bucketed in a uniform grid so activation only looks at the cells
+ * around the player. Activation uses separate enter/exit radii (hysteresis)
+ * so NPCs on the boundary don't flicker in and out, and active-set changes
+ * are applied to the scene as batched add/remove deltas in {@link #render(Pane)}.
+ *
+ * Not thread-safe. A manager belongs to its zone and every call (update,
+ * render, input) comes from the JavaFX thread, which is why the active set
+ * and the grid are plain collections; they are never iterated concurrently.
  */
 public class NPCManager {
-    private final List<NPCCharacter> npcs = new CopyOnWriteArrayList<>();
-    private final List<NPCCharacter> activeNPCs = new CopyOnWriteArrayList<>();
+    private static final double ENTER_RADIUS = 500.0; // 500 pixel render distance
+    private static final double EXIT_RADIUS = 560.0;  // must leave a bit further before deactivating
+    private static final double ENTER_RADIUS_SQ = ENTER_RADIUS * ENTER_RADIUS;
+    private static final double EXIT_RADIUS_SQ = EXIT_RADIUS * EXIT_RADIUS;
+    private static final double CELL_SIZE = EXIT_RADIUS;
+    // Tick tiers must sit inside the activation radius, or active NPCs never reach the far tier
+    private static final double NEAR_TICK_RADIUS = 200.0;
+    private static final double MID_TICK_RADIUS = 400.0;
+    
+    private final List<NPCCharacter> npcs = new ArrayList<>();
+    private final Set<NPCCharacter> activeNPCs = new LinkedHashSet<>();
+    private final Map<Long, List<NPCCharacter>> grid = new HashMap<>();
+    private final Map<NPCCharacter, Long> npcCells = new HashMap<>();
+    private double interactionReach = 0.0; // largest interaction radius among added NPCs
     private AdventurePlayer currentPlayer;
-    // gameWorld removed as it's not used in current implementation
+    
+    // Pending scene deltas, flushed by render()
+    private final Set<NPCCharacter> pendingAdds = new LinkedHashSet<>();
+    private final Set<NPCCharacter> pendingRemoves = new LinkedHashSet<>();
+    private Pane renderTarget;
+    
+    // Distance-based update frequencies for active NPCs
+    private final NPCTickScheduler<NPCCharacter> tickScheduler =
+        new NPCTickScheduler<>(NPCCharacter::getX, NPCCharacter::getY, this::tickNPC);
     
     // Performance tracking
-    private int maxNPCs = 50;
+    private int maxNPCs = 500;
     private double updateInterval = 1.0 / 60.0; // 60 FPS
     private double lastUpdateTime = 0.0;
     
     public NPCManager() {
+        tickScheduler.setTierRadii(NEAR_TICK_RADIUS, MID_TICK_RADIUS);
         System.out.println("🎭 NPC Manager initialized");
     }
     
@@ -37,8 +72,10 @@ public class NPCManager {
         }
         
         npcs.add(npc);
-        if (isNPCInRange(npc)) {
-            activeNPCs.add(npc);
+        bucket(npc);
+        interactionReach = Math.max(interactionReach, npc.getInteractionRadius());
+        if (distanceSquared(npc) <= ENTER_RADIUS_SQ) {
+            activate(npc);
         }
         
         System.out.println("➕ Added NPC: " + npc.getName() + " (Total: " + npcs.size() + ")");
@@ -49,7 +86,11 @@ public class NPCManager {
      */
     public void removeNPC(NPCCharacter npc) {
         npcs.remove(npc);
+        unbucket(npc);
         activeNPCs.remove(npc);
+        tickScheduler.remove(npc);
+        pendingAdds.remove(npc);
+        pendingRemoves.remove(npc);
         npc.cleanup();
         
         System.out.println("➖ Removed NPC: " + npc.getName() + " (Total: " + npcs.size() + ")");
@@ -102,95 +143,215 @@ public class NPCManager {
     public void update(double deltaTime) {
         lastUpdateTime += deltaTime;
         
+        // Update active NPCs; far ones less often, within the frame budget
+        if (currentPlayer != null) {
+            tickScheduler.tick(deltaTime, currentPlayer.getCenterX(), currentPlayer.getCenterY());
+        } else {
+            tickScheduler.tick(deltaTime, Double.NaN, Double.NaN);
+        }
+        
         if (lastUpdateTime >= updateInterval) {
-            // Update active NPCs
-            for (NPCCharacter npc : activeNPCs) {
-                if (npc.isActive()) {
-                    npc.update(deltaTime);
-                }
-            }
-            
             // Update NPC visibility based on player position
             updateNPCVisibility();
             
             lastUpdateTime = 0.0;
         }
+        
+        // Deliver any activation changes to the world we last rendered into
+        if (renderTarget != null && (!pendingAdds.isEmpty() || !pendingRemoves.isEmpty())) {
+            render(renderTarget);
+        }
     }
     
     /**
-     * Render all active NPCs
+     * Render active NPCs. The first call for a pane renders every active NPC;
+     * later calls only apply the batched add/remove deltas since the last render.
      */
     public void render(Pane gameWorld) {
-        for (NPCCharacter npc : activeNPCs) {
+        if (gameWorld != renderTarget) {
+            renderTarget = gameWorld;
+            pendingAdds.clear();
+            pendingRemoves.clear();
+            for (NPCCharacter npc : activeNPCs) {
+                if (npc.isActive()) {
+                    npc.render(gameWorld);
+                }
+            }
+            return;
+        }
+        
+        if (!pendingRemoves.isEmpty()) {
+            Set<Node> detached = new HashSet<>();
+            for (NPCCharacter npc : pendingRemoves) {
+                detached.addAll(npc.getSceneNodes());
+            }
+            gameWorld.getChildren().removeAll(detached);
+            pendingRemoves.clear();
+        }
+        
+        for (NPCCharacter npc : pendingAdds) {
             if (npc.isActive()) {
                 npc.render(gameWorld);
             }
         }
+        pendingAdds.clear();
     }
     
     /**
-     * Handle player interaction with nearby NPCs
+     * Handle player interaction with nearby NPCs.
+     * Only the grid cells within interaction reach of the player are examined.
      */
     public void handlePlayerInteraction(AdventurePlayer player) {
-        List<NPCCharacter> interactableNPCs = getInteractableNPCs(player);
+        NPCCharacter closestNPC = null;
+        double closestDistSq = Double.MAX_VALUE;
         
-        if (!interactableNPCs.isEmpty()) {
-            // Interact with the closest NPC
-            NPCCharacter closestNPC = interactableNPCs.stream()
-                .min((npc1, npc2) -> {
-                    double dist1 = getDistance(player, npc1);
-                    double dist2 = getDistance(player, npc2);
-                    return Double.compare(dist1, dist2);
-                })
-                .orElse(null);
-            
-            if (closestNPC != null) {
-                closestNPC.interact(player);
+        double px = player.getCenterX();
+        double py = player.getCenterY();
+        
+        // Interact with the closest NPC
+        for (int row = cellCoord(py - interactionReach); row <= cellCoord(py + interactionReach); row++) {
+            for (int col = cellCoord(px - interactionReach); col <= cellCoord(px + interactionReach); col++) {
+                List<NPCCharacter> cell = grid.get(cellKey(col, row));
+                if (cell == null) continue;
+                for (int i = 0; i < cell.size(); i++) {
+                    NPCCharacter npc = cell.get(i);
+                    if (!npc.canInteract(player)) continue;
+                    double distSq = distanceSquared(px, py, npc);
+                    if (distSq < closestDistSq) {
+                        closestDistSq = distSq;
+                        closestNPC = npc;
+                    }
+                }
             }
         }
+        
+        if (closestNPC != null) {
+            closestNPC.interact(player);
+        }
     }
     
     /**
-     * Update which NPCs are visible/active based on player position
+     * Update which NPCs are visible/active based on player position.
+     * Only the grid cells around the player's cell are examined.
      */
     private void updateNPCVisibility() {
         if (currentPlayer == null) return;
         
-        // Remove NPCs that are out of range
-        activeNPCs.removeIf(npc -> !isNPCInRange(npc));
+        double px = currentPlayer.getCenterX();
+        double py = currentPlayer.getCenterY();
         
-        // Add NPCs that are now in range
-        for (NPCCharacter npc : npcs) {
-            if (!activeNPCs.contains(npc) && isNPCInRange(npc)) {
-                activeNPCs.add(npc);
+        // Deactivate NPCs that moved past the exit radius
+        List<NPCCharacter> leaving = null;
+        for (NPCCharacter npc : activeNPCs) {
+            if (distanceSquared(px, py, npc) > EXIT_RADIUS_SQ) {
+                if (leaving == null) leaving = new ArrayList<>();
+                leaving.add(npc);
+            }
+        }
+        if (leaving != null) {
+            for (NPCCharacter npc : leaving) {
+                deactivate(npc);
+            }
+        }
+        
+        // Activate NPCs in nearby cells that came inside the enter radius
+        int playerCol = cellCoord(px);
+        int playerRow = cellCoord(py);
+        for (int row = playerRow - 1; row <= playerRow + 1; row++) {
+            for (int col = playerCol - 1; col <= playerCol + 1; col++) {
+                List<NPCCharacter> cell = grid.get(cellKey(col, row));
+                if (cell == null) continue;
+                for (int i = 0; i < cell.size(); i++) {
+                    NPCCharacter npc = cell.get(i);
+                    if (!activeNPCs.contains(npc) && distanceSquared(px, py, npc) <= ENTER_RADIUS_SQ) {
+                        activate(npc);
+                    }
+                }
             }
         }
     }
     
-    /**
-     * Check if NPC is within rendering range
-     */
-    private boolean isNPCInRange(NPCCharacter npc) {
-        if (currentPlayer == null) return true;
-        
-        double distance = getDistance(currentPlayer, npc);
-        return distance <= 500.0; // 500 pixel render distance
+    private void tickNPC(NPCCharacter npc, double deltaTime) {
+        if (npc.isActive()) {
+            npc.update(deltaTime);
+            rebucketIfMoved(npc);
+        }
+    }
+    
+    private void activate(NPCCharacter npc) {
+        if (activeNPCs.add(npc)) {
+            tickScheduler.add(npc);
+            if (!pendingRemoves.remove(npc)) {
+                pendingAdds.add(npc);
+            }
+        }
+    }
+    
+    private void deactivate(NPCCharacter npc) {
+        if (activeNPCs.remove(npc)) {
+            tickScheduler.remove(npc);
+            if (!pendingAdds.remove(npc)) {
+                pendingRemoves.add(npc);
+            }
+        }
+    }
+    
+    private void bucket(NPCCharacter npc) {
+        long key = cellKey(cellCoord(npc.getX()), cellCoord(npc.getY()));
+        grid.computeIfAbsent(key, k -> new ArrayList<>()).add(npc);
+        npcCells.put(npc, key);
+    }
+    
+    private void unbucket(NPCCharacter npc) {
+        Long key = npcCells.remove(npc);
+        if (key == null) return;
+        List<NPCCharacter> cell = grid.get(key);
+        if (cell != null) {
+            cell.remove(npc);
+            if (cell.isEmpty()) {
+                grid.remove(key);
+            }
+        }
+    }
+    
+    private void rebucketIfMoved(NPCCharacter npc) {
+        Long key = npcCells.get(npc);
+        if (key != null && key != cellKey(cellCoord(npc.getX()), cellCoord(npc.getY()))) {
+            unbucket(npc);
+            bucket(npc);
+        }
+    }
+    
+    private static int cellCoord(double v) {
+        return (int) Math.floor(v / CELL_SIZE);
+    }
+    
+    private static long cellKey(int col, int row) {
+        return ((long) col << 32) ^ (row & 0xffffffffL);
     }
     
     /**
-     * Calculate distance between player and NPC
+     * Squared distance between the current player and an NPC (0 when there is no player)
      */
-    private double getDistance(AdventurePlayer player, NPCCharacter npc) {
-        return Math.sqrt(
-            Math.pow(player.getCenterX() - npc.getX(), 2) + 
-            Math.pow(player.getCenterY() - npc.getY(), 2)
-        );
+    private double distanceSquared(NPCCharacter npc) {
+        if (currentPlayer == null) return 0.0;
+        return distanceSquared(currentPlayer, npc);
+    }
+    
+    private static double distanceSquared(AdventurePlayer player, NPCCharacter npc) {
+        return distanceSquared(player.getCenterX(), player.getCenterY(), npc);
+    }
+    
+    private static double distanceSquared(double x, double y, NPCCharacter npc) {
+        double dx = x - npc.getX();
+        double dy = y - npc.getY();
+        return dx * dx + dy * dy;
     }
     
     /**
      * Create a new NPC with default settings
      */
-    public NPCCharacter createNPC(String name, String greeting, String[] dialogue, 
+    public NPCCharacter createNPC(String name, String greeting, String[] dialogue,
                                 NPCCharacter.NPCType type, double x, double y) {
         NPCCharacter npc = new NPCCharacter(name, greeting, dialogue, type, x, y);
         addNPC(npc);
@@ -248,6 +409,12 @@ public class NPCManager {
         }
         npcs.clear();
         activeNPCs.clear();
+        tickScheduler.clear();
+        grid.clear();
+        npcCells.clear();
+        pendingAdds.clear();
+        pendingRemoves.clear();
+        renderTarget = null;
         
         // Event system cleanup removed for now
         
@@ -262,6 +429,7 @@ public class NPCManager {
     public int getNPCCount() { return npcs.size(); }
     public int getActiveNPCCount() { return activeNPCs.size(); }
     public int getMaxNPCs() { return maxNPCs; }
+    public NPCTickScheduler<NPCCharacter> getTickScheduler() { return tickScheduler; }
     
     // Setters
     public void setMaxNPCs(int maxNPCs) { this.maxNPCs = maxNPCs; }
@@ -0,0 +1,213 @@
+package com.coincraft.game.adventure.models;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Level-of-detail tick scheduler for NPC updates.
+ *
+ * NPCs are sorted into tiers by distance to the viewer: near NPCs update every
+ * frame, mid NPCs every 4th frame and far NPCs every 30th frame, receiving the
+ * delta time accumulated since their last update. Each NPC gets a stagger slot
+ * so a tier's work is spread evenly across frames instead of landing on the
+ * same one. Mid and far updates also share a per-frame time budget, counted
+ * from the end of the near pass; NPCs that do not fit are carried over and run
+ * first on the next frame, at least one of them per frame so none can starve.
+ */
+public class NPCTickScheduler<T> {
+    
+    /**
+     * Callback that performs one NPC update
+     */
+    @FunctionalInterface
+    public interface TickHandler<T> {
+        void tick(T npc, double deltaTime);
+    }
+    
+    public enum Tier {
+        NEAR(1), MID(4), FAR(30);
+        
+        private final int period;
+        
+        Tier(int period) {
+            this.period = period;
+        }
+        
+        public int getPeriod() { return period; }
+    }
+    
+    private final ToDoubleFunction<T> xOf;
+    private final ToDoubleFunction<T> yOf;
+    private final TickHandler<T> handler;
+    
+    private final List<Agent<T>> agents = new ArrayList<>();
+    private final Map<T, Agent<T>> byNpc = new HashMap<>();
+    private final ArrayDeque<Agent<T>> carryOver = new ArrayDeque<>();
+    
+    private double nearRadiusSq = 300.0 * 300.0;
+    private double midRadiusSq = 800.0 * 800.0;
+    private long frameBudgetNanos = 2_000_000L; // 2 ms of NPC work per frame
+    private long frame = 0;
+    private int nextSlot = 0;
+    
+    // Stats for the last frame
+    private int lastUpdatedCount = 0;
+    private int lastDeferredCount = 0;
+    private long lastFrameNanos = 0;
+    
+    public NPCTickScheduler(ToDoubleFunction<T> xOf, ToDoubleFunction<T> yOf, TickHandler<T> handler) {
+        this.xOf = xOf;
+        this.yOf = yOf;
+        this.handler = handler;
+    }
+    
+    /**
+     * Start scheduling an NPC
+     */
+    public void add(T npc) {
+        if (byNpc.containsKey(npc)) return;
+        Agent<T> agent = new Agent<>(npc, nextSlot++);
+        agent.index = agents.size();
+        agents.add(agent);
+        byNpc.put(npc, agent);
+    }
+    
+    /**
+     * Stop scheduling an NPC
+     */
+    public void remove(T npc) {
+        Agent<T> agent = byNpc.remove(npc);
+        if (agent == null) return;
+        // Swap-remove keeps removal O(1)
+        int last = agents.size() - 1;
+        Agent<T> moved = agents.get(last);
+        agents.set(agent.index, moved);
+        moved.index = agent.index;
+        agents.remove(last);
+        agent.removed = true;
+    }
+    
+    public void clear() {
+        agents.clear();
+        byNpc.clear();
+        carryOver.clear();
+    }
+    
+    public boolean contains(T npc) {
+        return byNpc.containsKey(npc);
+    }
+    
+    public int size() {
+        return agents.size();
+    }
+    
+    /**
+     * Run one frame of NPC updates around the viewer position.
+     * Pass NaN coordinates when there is no viewer to treat every NPC as near.
+     */
+    public void tick(double deltaTime, double viewerX, double viewerY) {
+        long start = System.nanoTime();
+        boolean noViewer = Double.isNaN(viewerX) || Double.isNaN(viewerY);
+        int updated = 0;
+        frame++;
+        
+        // Near NPCs always update; everything else just accumulates time
+        for (int i = 0; i < agents.size(); i++) {
+            Agent<T> agent = agents.get(i);
+            agent.accumulated += deltaTime;
+            agent.tier = noViewer ? Tier.NEAR : classify(agent.npc, viewerX, viewerY);
+            if (agent.tier == Tier.NEAR) {
+                run(agent);
+                updated++;
+            }
+        }
+        
+        // The budget is for mid/far work only, so it starts after the near pass
+        long deadline = System.nanoTime() + frameBudgetNanos;
+        
+        // Work deferred from previous frames goes first; one agent always
+        // advances even when the budget is already spent
+        boolean advanced = false;
+        while (!carryOver.isEmpty() && (!advanced || System.nanoTime() < deadline)) {
+            Agent<T> agent = carryOver.poll();
+            if (agent.deferred && !agent.removed) {
+                run(agent);
+                updated++;
+                advanced = true;
+            }
+        }
+        
+        // Staggered mid/far updates that are due this frame
+        int deferred = 0;
+        for (int i = 0; i < agents.size(); i++) {
+            Agent<T> agent = agents.get(i);
+            if (agent.tier == Tier.NEAR || agent.deferred) continue;
+            if ((frame + agent.slot) % agent.tier.period != 0) continue;
+            if (System.nanoTime() < deadline) {
+                run(agent);
+                updated++;
+            } else {
+                agent.deferred = true;
+                carryOver.add(agent);
+                deferred++;
+            }
+        }
+        
+        lastUpdatedCount = updated;
+        lastDeferredCount = deferred;
+        lastFrameNanos = System.nanoTime() - start;
+    }
+    
+    private Tier classify(T npc, double viewerX, double viewerY) {
+        double dx = xOf.applyAsDouble(npc) - viewerX;
+        double dy = yOf.applyAsDouble(npc) - viewerY;
+        double distSq = dx * dx + dy * dy;
+        if (distSq <= nearRadiusSq) return Tier.NEAR;
+        if (distSq <= midRadiusSq) return Tier.MID;
+        return Tier.FAR;
+    }
+    
+    private void run(Agent<T> agent) {
+        double delta = agent.accumulated;
+        agent.accumulated = 0.0;
+        agent.deferred = false;
+        handler.tick(agent.npc, delta);
+    }
+    
+    /**
+     * Set the distance limits for the near and mid tiers
+     */
+    public void setTierRadii(double nearRadius, double midRadius) {
+        this.nearRadiusSq = nearRadius * nearRadius;
+        this.midRadiusSq = Math.max(nearRadius, midRadius) * Math.max(nearRadius, midRadius);
+    }
+    
+    public void setFrameBudgetNanos(long frameBudgetNanos) {
+        this.frameBudgetNanos = Math.max(0L, frameBudgetNanos);
+    }
+    
+    public long getFrameBudgetNanos() { return frameBudgetNanos; }
+    public int getLastUpdatedCount() { return lastUpdatedCount; }
+    public int getLastDeferredCount() { return lastDeferredCount; }
+    public long getLastFrameNanos() { return lastFrameNanos; }
+    public int getCarryOverCount() { return carryOver.size(); }
+    
+    private static final class Agent<T> {
+        final T npc;
+        final int slot;
+        int index;
+        Tier tier = Tier.NEAR;
+        double accumulated = 0.0;
+        boolean deferred = false;
+        boolean removed = false;
+        
+        Agent(T npc, int slot) {
+            this.npc = npc;
+            this.slot = slot;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.coincraft.game.adventure.zones;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.Shape;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import com.coincraft.game.adventure.models.AdventureZone;
+import com.coincraft.game.adventure.models.AdventurePlayer;
+import com.coincraft.game.adventure.models.AdventureNPC;
+import com.coincraft.game.adventure.models.AdventureInteractable;
+
+/**
+ * Zone built entirely from a {@link ZoneDefinition}, see {@link ZoneLoader}
+ */
+public class DataDrivenZone extends AdventureZone {
+    private final ZoneDefinition definition;
+    
+    public DataDrivenZone(ZoneDefinition definition) {
+        super(definition.name, definition.description);
+        this.definition = definition;
+        this.zoneColor = color(definition.color);
+        this.backgroundStyle = definition.backgroundStyle;
+        this.completionReward = definition.completionReward;
+        
+        // setupZone() runs inside the super constructor, before the definition is set
+        for (ZoneDefinition.Npc npc : definition.npcs) {
+            npcs.add(new AdventureNPC(npc.name, npc.emoji, npc.greeting, npc.x, npc.y));
+        }
+        for (ZoneDefinition.Interactable item : definition.interactables) {
+            interactables.add(new AdventureInteractable(item.name, item.emoji, item.description, item.x, item.y) {
+                @Override
+                public void onInteract(AdventurePlayer player) {
+                    showLesson(item, player);
+                }
+            });
+        }
+    }
+    
+    @Override
+    protected void setupZone() {
+        // Populated from the definition in the constructor
+    }
+    
+    @Override
+    protected void renderZoneElements(Pane gameWorld) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (ZoneDefinition.Layer layer : definition.layers) {
+            for (int i = 0; i < layer.count; i++) {
+                Node node = switch (layer.shape) {
+                    case RECT -> new Rectangle(
+                        layer.x.at(i, random.nextDouble()),
+                        layer.y.at(i, random.nextDouble()),
+                        layer.width.at(i, random.nextDouble()),
+                        layer.height.at(i, random.nextDouble())
+                    );
+                    case CIRCLE -> new Circle(
+                        layer.x.at(i, random.nextDouble()),
+                        layer.y.at(i, random.nextDouble()),
+                        layer.width.at(i, random.nextDouble())
+                    );
+                    case TEXT -> {
+                        Text text = new Text(
+                            layer.x.at(i, random.nextDouble()),
+                            layer.y.at(i, random.nextDouble()),
+                            layer.text.replace("{name}", zoneName)
+                        );
+                        text.setFont(Font.font(layer.font, layer.fontSize));
+                        yield text;
+                    }
+                };
+                Shape shape = (Shape) node;
+                shape.setFill(color(layer.fill));
+                if (layer.strokeWidth > 0) {
+                    shape.setStroke(color(layer.stroke));
+                    shape.setStrokeWidth(layer.strokeWidth);
+                }
+                node.getStyleClass().add("zone-element");
+                gameWorld.getChildren().add(node);
+            }
+        }
+    }
+    
+    @Override
+    protected void checkZoneCompletion(AdventurePlayer player) {
+        if (definition.isCompletedAt(player.getCenterX(), player.getCenterY())) {
+            setCompleted(true);
+        }
+    }
+    
+    private void showLesson(ZoneDefinition.Interactable item, AdventurePlayer player) {
+        for (String line : item.lesson) {
+            System.out.println(line
+                .replace("{x}", String.valueOf(player.getCenterX()))
+                .replace("{y}", String.valueOf(player.getCenterY())));
+        }
+    }
+    
+    private static Color color(int argb) {
+        return Color.rgb((argb >> 16) & 0xFF, (argb >> 8) & 0xFF, argb & 0xFF, ((argb >>> 24) & 0xFF) / 255.0);
+    }
+    
+    public ZoneDefinition getDefinition() { return definition; }
+    public String getZoneId() { return definition.id; }
+    public String getMusic() { return definition.music; }
+    public double getSpawnX() { return definition.spawnX; }
+    public double getSpawnY() { return definition.spawnY; }
+}
@@ -0,0 +1,170 @@
+package com.coincraft.game.adventure.zones;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import javafx.scene.paint.Color;
+
+/**
+ * Compiles zone JSON into a {@link ZoneDefinition}.
+ *
+ * Layer numbers are either a plain number or {@code [base, step, jitter]},
+ * e.g. {@code "x": [100, 200]} places repeated shapes 200 px apart and
+ * {@code "y": [0, 0, 800]} scatters them anywhere in the first 800 px.
+ * Colors are any CSS color name or hex accepted by {@link Color#web}.
+ */
+public final class ZoneCompiler {
+    
+    private ZoneCompiler() {}
+    
+    /**
+     * Hash of the JSON source, stored in compiled files to detect stale caches
+     */
+    public static long sourceHash(byte[] json) {
+        CRC32 crc = new CRC32();
+        crc.update(json);
+        return (crc.getValue() << 32) ^ json.length;
+    }
+    
+    public static ZoneDefinition compile(String json) {
+        JsonObject root = JsonParser.parseString(json).getAsJsonObject();
+        String id = string(root, "id", "");
+        if (id.isEmpty()) {
+            throw new IllegalArgumentException("Zone definition has no id");
+        }
+        String name = string(root, "name", id);
+        
+        JsonObject spawn = object(root, "spawn");
+        JsonObject complete = object(root, "completeWhen");
+        
+        List<ZoneDefinition.Layer> layers = new ArrayList<>();
+        for (JsonElement element : array(root, "layers")) {
+            layers.add(layer(element.getAsJsonObject()));
+        }
+        
+        List<ZoneDefinition.Npc> npcs = new ArrayList<>();
+        for (JsonElement element : array(root, "npcs")) {
+            JsonObject npc = element.getAsJsonObject();
+            String npcName = string(npc, "name", "");
+            npcs.add(new ZoneDefinition.Npc(
+                string(npc, "id", npcName.toLowerCase().replace(' ', '_')),
+                npcName,
+                string(npc, "emoji", ""),
+                string(npc, "greeting", ""),
+                number(npc, "x", 0),
+                number(npc, "y", 0)
+            ));
+        }
+        
+        List<ZoneDefinition.Interactable> interactables = new ArrayList<>();
+        for (JsonElement element : array(root, "interactables")) {
+            JsonObject item = element.getAsJsonObject();
+            List<String> lesson = new ArrayList<>();
+            for (JsonElement line : array(item, "lesson")) {
+                lesson.add(line.getAsString());
+            }
+            interactables.add(new ZoneDefinition.Interactable(
+                string(item, "name", ""),
+                string(item, "emoji", ""),
+                string(item, "description", ""),
+                number(item, "x", 0),
+                number(item, "y", 0),
+                lesson
+            ));
+        }
+        
+        return new ZoneDefinition(
+            id,
+            name,
+            string(root, "description", ""),
+            color(string(root, "color", "LIGHTBLUE"), 1.0),
+            string(root, "backgroundStyle", ""),
+            string(root, "music", ""),
+            (int) number(root, "completionReward", 100),
+            number(spawn, "x", 600),
+            number(spawn, "y", 400),
+            number(complete, "minX", Float.NaN),
+            number(complete, "maxX", Float.NaN),
+            number(complete, "minY", Float.NaN),
+            number(complete, "maxY", Float.NaN),
+            layers,
+            npcs,
+            interactables
+        );
+    }
+    
+    private static ZoneDefinition.Layer layer(JsonObject layer) {
+        String shapeName = string(layer, "shape", "rect");
+        ZoneDefinition.Shape shape;
+        try {
+            shape = ZoneDefinition.Shape.valueOf(shapeName.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown layer shape: " + shapeName);
+        }
+        double opacity = number(layer, "opacity", 1);
+        String stroke = string(layer, "stroke", "");
+        return new ZoneDefinition.Layer(
+            shape,
+            Math.max(1, (int) number(layer, "count", 1)),
+            value(layer, "x"),
+            value(layer, "y"),
+            value(layer, shape == ZoneDefinition.Shape.CIRCLE ? "r" : "w"),
+            value(layer, "h"),
+            color(string(layer, "fill", "WHITE"), opacity),
+            stroke.isEmpty() ? 0 : color(stroke, 1.0),
+            stroke.isEmpty() ? 0 : number(layer, "strokeWidth", 1),
+            string(layer, "text", ""),
+            string(layer, "font", "Arial"),
+            number(layer, "fontSize", 24)
+        );
+    }
+    
+    private static ZoneDefinition.Value value(JsonObject obj, String key) {
+        JsonElement element = obj.get(key);
+        if (element == null || element.isJsonNull()) {
+            return new ZoneDefinition.Value(0, 0, 0);
+        }
+        if (element.isJsonArray()) {
+            JsonArray parts = element.getAsJsonArray();
+            float base = parts.size() > 0 ? parts.get(0).getAsFloat() : 0;
+            float step = parts.size() > 1 ? parts.get(1).getAsFloat() : 0;
+            float jitter = parts.size() > 2 ? parts.get(2).getAsFloat() : 0;
+            return new ZoneDefinition.Value(base, step, jitter);
+        }
+        return new ZoneDefinition.Value(element.getAsFloat(), 0, 0);
+    }
+    
+    private static int color(String css, double opacity) {
+        Color c = Color.web(css, opacity);
+        return ((int) Math.round(c.getOpacity() * 255) << 24)
+            | ((int) Math.round(c.getRed() * 255) << 16)
+            | ((int) Math.round(c.getGreen() * 255) << 8)
+            | (int) Math.round(c.getBlue() * 255);
+    }
+    
+    private static String string(JsonObject obj, String key, String def) {
+        JsonElement element = obj != null ? obj.get(key) : null;
+        return element != null && !element.isJsonNull() ? element.getAsString() : def;
+    }
+    
+    private static float number(JsonObject obj, String key, float def) {
+        JsonElement element = obj != null ? obj.get(key) : null;
+        return element != null && !element.isJsonNull() ? element.getAsFloat() : def;
+    }
+    
+    private static JsonObject object(JsonObject obj, String key) {
+        JsonElement element = obj.get(key);
+        return element != null && element.isJsonObject() ? element.getAsJsonObject() : null;
+    }
+    
+    private static JsonArray array(JsonObject obj, String key) {
+        JsonElement element = obj.get(key);
+        return element != null && element.isJsonArray() ? element.getAsJsonArray() : new JsonArray();
+    }
+}
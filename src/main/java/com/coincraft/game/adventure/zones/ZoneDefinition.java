@@ -0,0 +1,301 @@
+package com.coincraft.game.adventure.zones;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Declarative description of an adventure zone: background layers, spawn
+ * point, NPCs, interactables and music.
+ *
+ * Authored as JSON under {@code /game/zones}, turned into this form by
+ * {@link ZoneCompiler} and cached as a compact binary that {@link ZoneLoader}
+ * reads back without touching JSON. Pure data with no JavaFX types, so it can
+ * be read on any thread; colors are packed ARGB.
+ */
+public final class ZoneDefinition {
+    private static final int MAGIC = 0x435A4F4E; // "CZON"
+    private static final int VERSION = 1;
+    
+    public enum Shape {
+        RECT, CIRCLE, TEXT
+    }
+    
+    /**
+     * A number that can vary per repeated element: base + index * step + random * jitter
+     */
+    public static final class Value {
+        public final float base;
+        public final float step;
+        public final float jitter;
+        
+        public Value(float base, float step, float jitter) {
+            this.base = base;
+            this.step = step;
+            this.jitter = jitter;
+        }
+        
+        public double at(int index, double random) {
+            return base + index * step + random * jitter;
+        }
+    }
+    
+    /**
+     * {@code count} shapes of one kind and style
+     */
+    public static final class Layer {
+        public final Shape shape;
+        public final int count;
+        public final Value x;
+        public final Value y;
+        public final Value width;  // rect width, circle radius
+        public final Value height; // rect height
+        public final int fill;
+        public final int stroke;
+        public final float strokeWidth; // 0 = no stroke
+        public final String text; // TEXT only; "{name}" is replaced by the zone name
+        public final String font;
+        public final float fontSize;
+        
+        public Layer(Shape shape, int count, Value x, Value y, Value width, Value height,
+                     int fill, int stroke, float strokeWidth, String text, String font, float fontSize) {
+            this.shape = shape;
+            this.count = count;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.fill = fill;
+            this.stroke = stroke;
+            this.strokeWidth = strokeWidth;
+            this.text = text;
+            this.font = font;
+            this.fontSize = fontSize;
+        }
+    }
+    
+    public static final class Npc {
+        public final String id;
+        public final String name;
+        public final String emoji;
+        public final String greeting;
+        public final float x;
+        public final float y;
+        
+        public Npc(String id, String name, String emoji, String greeting, float x, float y) {
+            this.id = id;
+            this.name = name;
+            this.emoji = emoji;
+            this.greeting = greeting;
+            this.x = x;
+            this.y = y;
+        }
+    }
+    
+    public static final class Interactable {
+        public final String name;
+        public final String emoji;
+        public final String description;
+        public final float x;
+        public final float y;
+        public final List<String> lesson; // printed on interaction; "{x}"/"{y}" become the player position
+        
+        public Interactable(String name, String emoji, String description, float x, float y, List<String> lesson) {
+            this.name = name;
+            this.emoji = emoji;
+            this.description = description;
+            this.x = x;
+            this.y = y;
+            this.lesson = Collections.unmodifiableList(new ArrayList<>(lesson));
+        }
+    }
+    
+    public final String id;
+    public final String name;
+    public final String description;
+    public final int color;
+    public final String backgroundStyle;
+    public final String music; // resource path, empty for none
+    public final int completionReward;
+    public final float spawnX;
+    public final float spawnY;
+    // Zone completes when the player is past these bounds (NaN = unbounded)
+    public final float completeMinX;
+    public final float completeMaxX;
+    public final float completeMinY;
+    public final float completeMaxY;
+    public final List<Layer> layers;
+    public final List<Npc> npcs;
+    public final List<Interactable> interactables;
+    
+    public ZoneDefinition(String id, String name, String description, int color, String backgroundStyle,
+                          String music, int completionReward, float spawnX, float spawnY,
+                          float completeMinX, float completeMaxX, float completeMinY, float completeMaxY,
+                          List<Layer> layers, List<Npc> npcs, List<Interactable> interactables) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.color = color;
+        this.backgroundStyle = backgroundStyle;
+        this.music = music;
+        this.completionReward = completionReward;
+        this.spawnX = spawnX;
+        this.spawnY = spawnY;
+        this.completeMinX = completeMinX;
+        this.completeMaxX = completeMaxX;
+        this.completeMinY = completeMinY;
+        this.completeMaxY = completeMaxY;
+        this.layers = Collections.unmodifiableList(new ArrayList<>(layers));
+        this.npcs = Collections.unmodifiableList(new ArrayList<>(npcs));
+        this.interactables = Collections.unmodifiableList(new ArrayList<>(interactables));
+    }
+    
+    /**
+     * True once the player stands past every completion bound
+     */
+    public boolean isCompletedAt(double x, double y) {
+        return (Float.isNaN(completeMinX) || x > completeMinX)
+            && (Float.isNaN(completeMaxX) || x < completeMaxX)
+            && (Float.isNaN(completeMinY) || y > completeMinY)
+            && (Float.isNaN(completeMaxY) || y < completeMaxY);
+    }
+    
+    /**
+     * Write the compiled form, tagged with the hash of the source it came from
+     */
+    public void write(DataOutputStream out, long sourceHash) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(sourceHash);
+        out.writeUTF(id);
+        out.writeUTF(name);
+        out.writeUTF(description);
+        out.writeInt(color);
+        out.writeUTF(backgroundStyle);
+        out.writeUTF(music);
+        out.writeInt(completionReward);
+        out.writeFloat(spawnX);
+        out.writeFloat(spawnY);
+        out.writeFloat(completeMinX);
+        out.writeFloat(completeMaxX);
+        out.writeFloat(completeMinY);
+        out.writeFloat(completeMaxY);
+        
+        out.writeShort(layers.size());
+        for (Layer layer : layers) {
+            out.writeByte(layer.shape.ordinal());
+            out.writeShort(layer.count);
+            writeValue(out, layer.x);
+            writeValue(out, layer.y);
+            writeValue(out, layer.width);
+            writeValue(out, layer.height);
+            out.writeInt(layer.fill);
+            out.writeInt(layer.stroke);
+            out.writeFloat(layer.strokeWidth);
+            out.writeUTF(layer.text);
+            out.writeUTF(layer.font);
+            out.writeFloat(layer.fontSize);
+        }
+        
+        out.writeShort(npcs.size());
+        for (Npc npc : npcs) {
+            out.writeUTF(npc.id);
+            out.writeUTF(npc.name);
+            out.writeUTF(npc.emoji);
+            out.writeUTF(npc.greeting);
+            out.writeFloat(npc.x);
+            out.writeFloat(npc.y);
+        }
+        
+        out.writeShort(interactables.size());
+        for (Interactable item : interactables) {
+            out.writeUTF(item.name);
+            out.writeUTF(item.emoji);
+            out.writeUTF(item.description);
+            out.writeFloat(item.x);
+            out.writeFloat(item.y);
+            out.writeShort(item.lesson.size());
+            for (String line : item.lesson) {
+                out.writeUTF(line);
+            }
+        }
+    }
+    
+    /**
+     * Hash of the source a compiled file was built from, without reading the rest
+     */
+    public static long readSourceHash(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Not a compiled zone (or an older version)");
+        }
+        return in.readLong();
+    }
+    
+    /**
+     * Read the rest of a compiled zone after {@link #readSourceHash}
+     */
+    public static ZoneDefinition read(DataInputStream in) throws IOException {
+        String id = in.readUTF();
+        String name = in.readUTF();
+        String description = in.readUTF();
+        int color = in.readInt();
+        String backgroundStyle = in.readUTF();
+        String music = in.readUTF();
+        int completionReward = in.readInt();
+        float spawnX = in.readFloat();
+        float spawnY = in.readFloat();
+        float completeMinX = in.readFloat();
+        float completeMaxX = in.readFloat();
+        float completeMinY = in.readFloat();
+        float completeMaxY = in.readFloat();
+        
+        Shape[] shapes = Shape.values();
+        int layerCount = in.readUnsignedShort();
+        List<Layer> layers = new ArrayList<>(layerCount);
+        for (int i = 0; i < layerCount; i++) {
+            int shape = in.readUnsignedByte();
+            if (shape >= shapes.length) throw new IOException("Corrupt compiled zone");
+            layers.add(new Layer(shapes[shape], in.readUnsignedShort(),
+                readValue(in), readValue(in), readValue(in), readValue(in),
+                in.readInt(), in.readInt(), in.readFloat(), in.readUTF(), in.readUTF(), in.readFloat()));
+        }
+        
+        int npcCount = in.readUnsignedShort();
+        List<Npc> npcs = new ArrayList<>(npcCount);
+        for (int i = 0; i < npcCount; i++) {
+            npcs.add(new Npc(in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(), in.readFloat(), in.readFloat()));
+        }
+        
+        int itemCount = in.readUnsignedShort();
+        List<Interactable> interactables = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            String itemName = in.readUTF();
+            String emoji = in.readUTF();
+            String itemDescription = in.readUTF();
+            float x = in.readFloat();
+            float y = in.readFloat();
+            int lines = in.readUnsignedShort();
+            List<String> lesson = new ArrayList<>(lines);
+            for (int l = 0; l < lines; l++) {
+                lesson.add(in.readUTF());
+            }
+            interactables.add(new Interactable(itemName, emoji, itemDescription, x, y, lesson));
+        }
+        
+        return new ZoneDefinition(id, name, description, color, backgroundStyle, music, completionReward,
+            spawnX, spawnY, completeMinX, completeMaxX, completeMinY, completeMaxY, layers, npcs, interactables);
+    }
+    
+    private static void writeValue(DataOutputStream out, Value value) throws IOException {
+        out.writeFloat(value.base);
+        out.writeFloat(value.step);
+        out.writeFloat(value.jitter);
+    }
+    
+    private static Value readValue(DataInputStream in) throws IOException {
+        return new Value(in.readFloat(), in.readFloat(), in.readFloat());
+    }
+}
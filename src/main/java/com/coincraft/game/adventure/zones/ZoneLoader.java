@@ -0,0 +1,160 @@
+package com.coincraft.game.adventure.zones;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.coincraft.engine.jobs.CancellationToken;
+import com.coincraft.engine.jobs.Job;
+import com.coincraft.engine.jobs.JobSystem;
+import com.coincraft.game.adventure.models.AdventureZone;
+
+/**
+ * Instantiates zones from compiled zone definitions.
+ *
+ * Sources are JSON files: {@code edited/zones/<id>.json} if present, else the
+ * bundled {@code /game/zones/<id>.json}. Each is compiled once into
+ * {@code ~/.coincraft/zones/<id>.zone} (next to the save directory) and
+ * recompiled only when the source changes; after that, building a zone is a
+ * binary read. A compiled file with no source next to it is used as is.
+ * Safe to call from worker threads.
+ */
+public class ZoneLoader {
+    private static ZoneLoader instance;
+    
+    private static final String RESOURCE_DIR = "/game/zones/";
+    
+    private final Path cacheDir;
+    private final Path editedDir;
+    private final Map<String, ZoneDefinition> definitions = new ConcurrentHashMap<>();
+    
+    public ZoneLoader(Path cacheDir, Path editedDir) {
+        this.cacheDir = cacheDir;
+        this.editedDir = editedDir;
+    }
+    
+    public static synchronized ZoneLoader getInstance() {
+        if (instance == null) {
+            instance = new ZoneLoader(
+                Paths.get(System.getProperty("user.home"), ".coincraft", "zones"),
+                Paths.get("edited", "zones"));
+        }
+        return instance;
+    }
+    
+    /**
+     * A new zone instance built from the definition
+     * @throws IllegalArgumentException if no zone with this id exists
+     */
+    public AdventureZone load(String zoneId) {
+        return new DataDrivenZone(loadDefinition(zoneId));
+    }
+    
+    /**
+     * Load on the I/O pool; the zone is delivered on the FX thread
+     */
+    public Job<AdventureZone> loadAsync(String zoneId, CancellationToken owner) {
+        return JobSystem.getInstance().submit(JobSystem.Kind.IO, JobSystem.Priority.NORMAL, owner,
+            token -> load(zoneId));
+    }
+    
+    public boolean hasZone(String zoneId) {
+        if (definitions.containsKey(zoneId)) return true;
+        try {
+            return readSource(zoneId) != null || Files.exists(compiledFile(zoneId));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * The compiled definition, compiling and caching the source when needed
+     */
+    public ZoneDefinition loadDefinition(String zoneId) {
+        ZoneDefinition known = definitions.get(zoneId);
+        if (known != null) return known;
+        
+        ZoneDefinition definition;
+        try {
+            definition = compileIfStale(zoneId);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not load zone " + zoneId + ": " + e.getMessage(), e);
+        }
+        definitions.put(zoneId, definition);
+        return definition;
+    }
+    
+    /**
+     * Forget loaded definitions, e.g. after editing zone files while running
+     */
+    public void invalidate() {
+        definitions.clear();
+    }
+    
+    private ZoneDefinition compileIfStale(String zoneId) throws IOException {
+        byte[] source = readSource(zoneId);
+        Path compiled = compiledFile(zoneId);
+        
+        if (Files.exists(compiled)) {
+            long expected = source != null ? ZoneCompiler.sourceHash(source) : 0;
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(compiled)))) {
+                long hash = ZoneDefinition.readSourceHash(in);
+                if (source == null || hash == expected) {
+                    return ZoneDefinition.read(in);
+                }
+            } catch (IOException e) {
+                if (source == null) throw e;
+                System.err.println("⚠️ Recompiling unreadable zone cache " + compiled + ": " + e.getMessage());
+            }
+        }
+        if (source == null) {
+            throw new IllegalArgumentException("Unknown zone: " + zoneId);
+        }
+        
+        long start = System.nanoTime();
+        ZoneDefinition definition = ZoneCompiler.compile(new String(source, StandardCharsets.UTF_8));
+        store(compiled, definition, ZoneCompiler.sourceHash(source));
+        System.out.println(String.format("🗺️ Compiled zone %s in %.1f ms", zoneId, (System.nanoTime() - start) / 1_000_000.0));
+        return definition;
+    }
+    
+    private byte[] readSource(String zoneId) throws IOException {
+        Path edited = editedDir.resolve(zoneId + ".json");
+        if (Files.exists(edited)) {
+            return Files.readAllBytes(edited);
+        }
+        try (InputStream is = ZoneLoader.class.getResourceAsStream(RESOURCE_DIR + zoneId + ".json")) {
+            return is != null ? is.readAllBytes() : null;
+        }
+    }
+    
+    private void store(Path file, ZoneDefinition definition, long sourceHash) {
+        try {
+            Files.createDirectories(cacheDir);
+            // Write then move, so a crash never leaves a truncated zone behind
+            Path tmp = Files.createTempFile(cacheDir, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                definition.write(out, sourceHash);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not cache compiled zone: " + e.getMessage());
+        }
+    }
+    
+    private Path compiledFile(String zoneId) {
+        return cacheDir.resolve(zoneId.replaceAll("[^A-Za-z0-9_-]", "_") + ".zone");
+    }
+    
+    public Path getCacheDirectory() { return cacheDir; }
+}
@@ -7,12 +7,13 @@ import com.coincraft.engine.rendering.Sprite;
  */
 public class BreakableObject {
     private final Sprite sprite;
-    private final double x;
-    private final double y;
+    private double x;
+    private double y;
     private final double width;
     private final double height;
     private boolean isBroken;
     private final String objectType;
+    int activeIndex = -1; // slot in the manager's active list, -1 while pooled
     
     public BreakableObject(Sprite sprite, double x, double y, double width, double height, String objectType) {
         this.sprite = sprite;
@@ -32,9 +33,22 @@ public class BreakableObject {
         if (!isBroken) {
             isBroken = true;
             sprite.setVisible(false);
+            sprite.update(0.0); // apply visibility to the node
         }
     }
     
+    /**
+     * Reuse a pooled object at a new position
+     */
+    void reset(double x, double y) {
+        this.x = x;
+        this.y = y;
+        this.isBroken = false;
+        sprite.setPosition(x, y);
+        sprite.setVisible(true);
+        sprite.update(0.0);
+    }
+    
     public boolean checkCollision(double attackX, double attackY, double attackWidth, double attackHeight) {
         if (isBroken) return false;
         
@@ -1,57 +1,210 @@
 package com.coincraft.game.play;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 
+import com.coincraft.engine.particles.ParticleEmitter;
 import com.coincraft.engine.rendering.Sprite;
+import com.coincraft.ui.util.ImageCache;
 
+import javafx.scene.Node;
 import javafx.scene.image.Image;
 import javafx.scene.layout.Pane;
 
 /**
- * Manages breakable objects in the game world
+ * Manages breakable objects in the game world.
+ *
+ * Unbroken objects are bucketed in a uniform grid by their top-left corner,
+ * so attack and movement queries only visit the cells around the query area
+ * and their cost does not grow with the number of objects in the zone.
+ * Broken objects leave the grid and go to a per-type pool; their hidden
+ * nodes stay in the pane and are reused by the next spawn of that type,
+ * up to a limit after which extra nodes are detached.
  */
 public class BreakableObjectManager {
-    private final List<BreakableObject> breakableObjects;
+    private static final double CELL_SIZE = 256;
+    private static final int MAX_POOLED_PER_TYPE = 256;
+    private static final String BARREL_IMAGE = "/Assets/Sprites/Objects and buildings/Barrels and crates/spr_barrel1.png";
+    private static final String CRATE_IMAGE = "/Assets/Sprites/Objects and buildings/Barrels and crates/spr_crate1.png";
+    private static final int DEBRIS_PER_BREAK = 24;
+    private static final int[] CRATE_DEBRIS_COLORS = { 0xFFD2B48C, 0xFFC19A6B, 0xFF8B7355, 0xFFE6CFA3 };
+    
+    private final List<BreakableObject> activeObjects = new ArrayList<>();
+    private final Map<Long, List<BreakableObject>> cells = new HashMap<>();
+    private final Map<String, ArrayDeque<BreakableObject>> pools = new HashMap<>();
+    private final List<BreakableObject> hits = new ArrayList<>(); // scratch for attack queries
     private final Pane worldPane;
     private final Random random;
+    private final long seed;
+    private double maxObjectWidth = 0;
+    private double maxObjectHeight = 0;
+    private ParticleEmitter breakEffect;
+    
+    // Metrics
+    private int brokenCount = 0;
+    private int reusedCount = 0;
+    private long lastQueryVisits = 0;
     
     public BreakableObjectManager(Pane worldPane) {
-        this.breakableObjects = new ArrayList<>();
+        this(worldPane, new Random().nextLong());
+    }
+    
+    /**
+     * Create a manager whose random placement is reproducible from the seed
+     */
+    public BreakableObjectManager(Pane worldPane, long seed) {
         this.worldPane = worldPane;
-        this.random = new Random();
+        this.seed = seed;
+        this.random = new Random(seed);
     }
     
     /**
      * Add a breakable object to the world
      */
     public void addBreakableObject(BreakableObject obj) {
-        breakableObjects.add(obj);
-        worldPane.getChildren().add(obj.getSprite().getNode());
+        if (obj.getSprite().getNode().getParent() != worldPane) {
+            worldPane.getChildren().add(obj.getSprite().getNode());
+        }
+        activate(obj);
+    }
+    
+    private void activate(BreakableObject obj) {
+        obj.activeIndex = activeObjects.size();
+        activeObjects.add(obj);
+        maxObjectWidth = Math.max(maxObjectWidth, obj.getWidth());
+        maxObjectHeight = Math.max(maxObjectHeight, obj.getHeight());
+        cells.computeIfAbsent(key(cellCoord(obj.getX()), cellCoord(obj.getY())), k -> new ArrayList<>()).add(obj);
+    }
+    
+    /**
+     * Take a broken object out of the grid and the active list
+     */
+    private void deactivate(BreakableObject obj) {
+        long key = key(cellCoord(obj.getX()), cellCoord(obj.getY()));
+        List<BreakableObject> bucket = cells.get(key);
+        if (bucket != null) {
+            bucket.remove(obj);
+            if (bucket.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+        // Swap-remove keeps the active list packed
+        int index = obj.activeIndex;
+        BreakableObject last = activeObjects.remove(activeObjects.size() - 1);
+        if (last != obj) {
+            activeObjects.set(index, last);
+            last.activeIndex = index;
+        }
+        obj.activeIndex = -1;
+    }
+    
+    private void recycle(BreakableObject obj) {
+        ArrayDeque<BreakableObject> pool = pools.computeIfAbsent(obj.getObjectType(), k -> new ArrayDeque<>());
+        if (pool.size() < MAX_POOLED_PER_TYPE) {
+            pool.push(obj); // node stays in the pane, hidden, until reused
+        } else {
+            worldPane.getChildren().remove(obj.getSprite().getNode());
+        }
     }
     
     /**
      * Check for attack collisions with breakable objects
      */
     public void checkAttackCollision(double attackX, double attackY, double attackWidth, double attackHeight) {
-        for (BreakableObject obj : breakableObjects) {
+        hits.clear();
+        collect(attackX, attackY, attackX + attackWidth, attackY + attackHeight, hits);
+        for (int i = 0; i < hits.size(); i++) {
+            BreakableObject obj = hits.get(i);
             if (obj.checkCollision(attackX, attackY, attackWidth, attackHeight)) {
                 obj.breakObject();
+                deactivate(obj);
+                recycle(obj);
+                brokenCount++;
+                emitDebris(obj);
                 System.out.println("Broke " + obj.getObjectType() + "!");
             }
         }
+        hits.clear();
+    }
+    
+    private void emitDebris(BreakableObject obj) {
+        if (breakEffect == null) return;
+        double centerX = obj.getX() + obj.getWidth() * 0.5;
+        double centerY = obj.getY() + obj.getHeight() * 0.5;
+        if ("Crate".equals(obj.getObjectType())) {
+            breakEffect.burst(centerX, centerY, DEBRIS_PER_BREAK, CRATE_DEBRIS_COLORS);
+        } else {
+            breakEffect.burst(centerX, centerY, DEBRIS_PER_BREAK);
+        }
+    }
+    
+    /**
+     * Emitter (in world coordinates) that receives a debris burst for every broken object
+     */
+    public void setBreakEffect(ParticleEmitter breakEffect) {
+        this.breakEffect = breakEffect;
+    }
+    
+    /**
+     * Report unbroken objects overlapping an area; they block player movement
+     */
+    public void forEachSolidIn(double minX, double minY, double maxX, double maxY, SweptMover.BoxVisitor visitor) {
+        int minCol = cellCoord(minX - maxObjectWidth), maxCol = cellCoord(maxX);
+        int minRow = cellCoord(minY - maxObjectHeight), maxRow = cellCoord(maxY);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                List<BreakableObject> bucket = cells.get(key(col, row));
+                if (bucket == null) continue;
+                for (int i = 0; i < bucket.size(); i++) {
+                    BreakableObject obj = bucket.get(i);
+                    if (obj.checkCollision(minX, minY, maxX - minX, maxY - minY)) {
+                        visitor.visit(obj.getX(), obj.getY(), obj.getWidth(), obj.getHeight());
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * Gather unbroken objects from every cell that may overlap the area.
+     * Objects are bucketed by their top-left corner, so the range is widened
+     * by the largest object size.
+     */
+    private void collect(double minX, double minY, double maxX, double maxY, List<BreakableObject> out) {
+        int minCol = cellCoord(minX - maxObjectWidth), maxCol = cellCoord(maxX);
+        int minRow = cellCoord(minY - maxObjectHeight), maxRow = cellCoord(maxY);
+        long visits = 0;
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                List<BreakableObject> bucket = cells.get(key(col, row));
+                if (bucket != null) {
+                    out.addAll(bucket);
+                    visits += bucket.size();
+                }
+            }
+        }
+        lastQueryVisits = visits;
     }
     
     /**
      * Create and add random breakable objects to the world
      */
     public void spawnRandomObjects(int count, double worldWidth, double worldHeight, int tileSize) {
+        // Decoded once and shared with every other user of the cache
+        Image barrelImg = ImageCache.get(BARREL_IMAGE);
+        Image crateImg = ImageCache.get(CRATE_IMAGE);
+        if (barrelImg == null || crateImg == null) {
+            System.err.println("Could not load breakable object images");
+            return;
+        }
+        
         try {
-            // Load barrel and crate images
-            Image barrelImg = new Image(getClass().getResourceAsStream("/Assets/Sprites/Objects and buildings/Barrels and crates/spr_barrel1.png"));
-            Image crateImg = new Image(getClass().getResourceAsStream("/Assets/Sprites/Objects and buildings/Barrels and crates/spr_crate1.png"));
-            
             for (int i = 0; i < count; i++) {
                 // Random position (avoid center spawn area)
                 double x = random.nextDouble() * (worldWidth - 64);
@@ -72,14 +225,24 @@ public class BreakableObjectManager {
                 
                 // Choose random object type
                 boolean isBarrel = random.nextBoolean();
-                Image objImage = isBarrel ? barrelImg : crateImg;
                 String objType = isBarrel ? "Barrel" : "Crate";
                 
+                // Reuse a broken object of the same type before creating a new one
+                ArrayDeque<BreakableObject> pool = pools.get(objType);
+                BreakableObject pooled = pool != null ? pool.poll() : null;
+                if (pooled != null) {
+                    pooled.reset(x, y);
+                    activate(pooled);
+                    reusedCount++;
+                    continue;
+                }
+                
                 // Create sprite for the object
-                Sprite objSprite = SpriteSheetUtil.createSquareRowSprite(objImage);
+                Sprite objSprite = SpriteSheetUtil.createSquareRowSprite(isBarrel ? barrelImg : crateImg);
                 objSprite.setSize(64, 64);
                 objSprite.setPosition(x, y);
                 objSprite.setVisible(true);
+                objSprite.update(0.0); // apply position to the node
                 
                 // Create breakable object
                 BreakableObject breakableObj = new BreakableObject(objSprite, x, y, 64, 64, objType);
@@ -87,24 +250,69 @@ public class BreakableObjectManager {
             }
             
         } catch (Exception e) {
-            System.err.println("Could not load breakable object images: " + e.getMessage());
+            System.err.println("Could not create breakable objects: " + e.getMessage());
         }
     }
     
+    private static int cellCoord(double value) {
+        return (int) Math.floor(value / CELL_SIZE);
+    }
+    
+    private static long key(int col, int row) {
+        return ((long) col << 32) ^ (row & 0xffffffffL);
+    }
+    
+    /**
+     * Seed used for random placement; record it to reproduce a session
+     */
+    public long getSeed() {
+        return seed;
+    }
+    
     /**
-     * Get all breakable objects
+     * Get all unbroken objects
      */
     public List<BreakableObject> getBreakableObjects() {
-        return new ArrayList<>(breakableObjects);
+        return new ArrayList<>(activeObjects);
     }
     
+    // Metrics
+    public int getActiveCount() { return activeObjects.size(); }
+    public int getBrokenCount() { return brokenCount; }
+    public int getReusedCount() { return reusedCount; }
+    
+    public int getPooledCount() {
+        int pooled = 0;
+        for (ArrayDeque<BreakableObject> pool : pools.values()) {
+            pooled += pool.size();
+        }
+        return pooled;
+    }
+    
+    /**
+     * Objects visited by the last attack query
+     */
+    public long getLastQueryVisits() { return lastQueryVisits; }
+    
     /**
-     * Clear all breakable objects
+     * Clear all breakable objects, pooled ones included
      */
     public void clearAll() {
-        for (BreakableObject obj : breakableObjects) {
-            worldPane.getChildren().remove(obj.getSprite().getNode());
+        Set<Node> nodes = new HashSet<>();
+        for (BreakableObject obj : activeObjects) {
+            nodes.add(obj.getSprite().getNode());
+            obj.activeIndex = -1;
+        }
+        for (ArrayDeque<BreakableObject> pool : pools.values()) {
+            for (BreakableObject obj : pool) {
+                nodes.add(obj.getSprite().getNode());
+            }
         }
-        breakableObjects.clear();
+        worldPane.getChildren().removeAll(nodes);
+        activeObjects.clear();
+        cells.clear();
+        pools.clear();
+        maxObjectWidth = 0;
+        maxObjectHeight = 0;
     }
 }
@@ -0,0 +1,169 @@
+package com.coincraft.game.play;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Uniform grid of explicitly registered NPCs.
+ * Proximity and collision queries only visit the cells around the query
+ * point, so their cost depends on how many NPCs are nearby rather than on
+ * the size of the scene graph.
+ */
+public class NPCSpatialIndex<T> {
+    private final double cellSize;
+    private final Map<Long, List<Entry<T>>> cells = new HashMap<>();
+    private final List<Entry<T>> entries = new ArrayList<>();
+    private double maxRadius = 0;
+
+    public NPCSpatialIndex(double cellSize) {
+        this.cellSize = Math.max(1.0, cellSize);
+    }
+
+    /**
+     * Register an NPC centered at (x, y)
+     */
+    public Entry<T> register(String name, T type, double x, double y, double radius) {
+        Entry<T> entry = new Entry<>(name, type, x, y, Math.max(0, radius));
+        entries.add(entry);
+        maxRadius = Math.max(maxRadius, entry.radius);
+        cellFor(entry.x, entry.y).add(entry);
+        return entry;
+    }
+
+    /**
+     * Move a registered NPC, re-bucketing it only when it changes cells
+     */
+    public void move(Entry<T> entry, double x, double y) {
+        long oldKey = key(cellCoord(entry.x), cellCoord(entry.y));
+        long newKey = key(cellCoord(x), cellCoord(y));
+        entry.x = x;
+        entry.y = y;
+        if (oldKey != newKey) {
+            removeFromCell(oldKey, entry);
+            cellFor(x, y).add(entry);
+        }
+    }
+
+    public void remove(Entry<T> entry) {
+        if (entries.remove(entry)) {
+            removeFromCell(key(cellCoord(entry.x), cellCoord(entry.y)), entry);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        cells.clear();
+        maxRadius = 0;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public List<Entry<T>> getEntries() {
+        return new ArrayList<>(entries);
+    }
+
+    /**
+     * Closest NPC whose center lies within range of (x, y), or null
+     */
+    public Entry<T> findNearest(double x, double y, double range) {
+        double rangeSq = range * range;
+        Entry<T> best = null;
+        double bestSq = Double.MAX_VALUE;
+        int minCol = cellCoord(x - range), maxCol = cellCoord(x + range);
+        int minRow = cellCoord(y - range), maxRow = cellCoord(y + range);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                List<Entry<T>> bucket = cells.get(key(col, row));
+                if (bucket == null) continue;
+                for (int i = 0; i < bucket.size(); i++) {
+                    Entry<T> e = bucket.get(i);
+                    double dx = e.x - x;
+                    double dy = e.y - y;
+                    double distSq = dx * dx + dy * dy;
+                    if (distSq <= rangeSq && distSq < bestSq) {
+                        bestSq = distSq;
+                        best = e;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * First NPC whose circle overlaps a circle of the given radius at (x, y), or null
+     */
+    public Entry<T> findOverlapping(double x, double y, double radius) {
+        double reach = radius + maxRadius;
+        int minCol = cellCoord(x - reach), maxCol = cellCoord(x + reach);
+        int minRow = cellCoord(y - reach), maxRow = cellCoord(y + reach);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                List<Entry<T>> bucket = cells.get(key(col, row));
+                if (bucket == null) continue;
+                for (int i = 0; i < bucket.size(); i++) {
+                    Entry<T> e = bucket.get(i);
+                    double dx = e.x - x;
+                    double dy = e.y - y;
+                    double distSq = dx * dx + dy * dy;
+                    double minDistance = e.radius + radius;
+                    if (distSq > 0 && distSq < minDistance * minDistance) {
+                        return e;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private List<Entry<T>> cellFor(double x, double y) {
+        return cells.computeIfAbsent(key(cellCoord(x), cellCoord(y)), k -> new ArrayList<>(2));
+    }
+
+    private void removeFromCell(long key, Entry<T> entry) {
+        List<Entry<T>> bucket = cells.get(key);
+        if (bucket != null) {
+            bucket.remove(entry);
+            if (bucket.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private int cellCoord(double v) {
+        return (int) Math.floor(v / cellSize);
+    }
+
+    private static long key(int col, int row) {
+        return ((long) col << 32) ^ (row & 0xffffffffL);
+    }
+
+    /**
+     * A registered NPC: center position, collision radius, name and type
+     */
+    public static final class Entry<T> {
+        private final String name;
+        private final T type;
+        private final double radius;
+        private double x;
+        private double y;
+
+        Entry(String name, T type, double x, double y, double radius) {
+            this.name = name;
+            this.type = type;
+            this.x = x;
+            this.y = y;
+            this.radius = radius;
+        }
+
+        public String getName() { return name; }
+        public T getType() { return type; }
+        public double getX() { return x; }
+        public double getY() { return y; }
+        public double getRadius() { return radius; }
+    }
+}
@@ -0,0 +1,314 @@
+package com.coincraft.game.play;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+import com.coincraft.engine.FrameScheduler;
+import com.coincraft.engine.headless.HeadlessEngine;
+import com.coincraft.engine.input.InputManager;
+import com.coincraft.engine.rendering.Sprite;
+import com.coincraft.engine.replay.FrameTrace;
+import com.coincraft.engine.replay.InputRecorder;
+import com.coincraft.engine.replay.ReplayInputSource;
+import com.coincraft.engine.replay.ReplayLog;
+import com.coincraft.engine.replay.StateHasher;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Pane;
+
+/**
+ * Record and replay Free Play sessions of the sprite-sheet player.
+ *
+ * Recording is enabled with {@code -Dcoincraft.replay.record=<file>}; the log
+ * holds every tick's input, the RNG seeds and the initial world (player spawn,
+ * bounds and collision map). Replaying drives a fresh
+ * {@link PlayerSheetController} through a {@link HeadlessEngine} at the
+ * recorded fixed timestep, and yields a per-frame timing trace plus a hash of
+ * the player state over every frame.
+ *
+ * Usage: {@code PlayerReplay <log> [trace.csv] [runs] [expectedHash]}
+ */
+public final class PlayerReplay {
+    public static final String RECORD_PROPERTY = "coincraft.replay.record";
+    public static final String BREAKABLES_SEED = "breakables";
+    public static final double FIXED_DELTA_TIME = 1.0 / 60.0;
+    
+    private static final String IDLE_SHEET = "/Assets/Sprites/Player/Side animations/spr_player_right_idle.png";
+    private static final String WALK_SHEET = "/Assets/Sprites/Player/Side animations/spr_player_right_walk.png";
+    
+    private PlayerReplay() {}
+    
+    /**
+     * World the recorded session started from
+     */
+    public static final class InitialState {
+        final double playerX;
+        final double playerY;
+        final double playerSize;
+        final double moveSpeed;
+        final double worldWidth;
+        final double worldHeight;
+        final double viewportWidth;
+        final double viewportHeight;
+        final double worldOriginX; // scene position of the untranslated world pane
+        final double worldOriginY;
+        final int breakableCount;
+        final TileCollisionMap collisions;
+        
+        public InitialState(double playerX, double playerY, double playerSize, double moveSpeed,
+                            double worldWidth, double worldHeight,
+                            double viewportWidth, double viewportHeight,
+                            double worldOriginX, double worldOriginY,
+                            int breakableCount, TileCollisionMap collisions) {
+            this.playerX = playerX;
+            this.playerY = playerY;
+            this.playerSize = playerSize;
+            this.moveSpeed = moveSpeed;
+            this.worldWidth = worldWidth;
+            this.worldHeight = worldHeight;
+            this.viewportWidth = viewportWidth;
+            this.viewportHeight = viewportHeight;
+            this.worldOriginX = worldOriginX;
+            this.worldOriginY = worldOriginY;
+            this.breakableCount = breakableCount;
+            this.collisions = collisions;
+        }
+        
+        public byte[] toBytes() {
+            try {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                DataOutputStream out = new DataOutputStream(bytes);
+                out.writeDouble(playerX);
+                out.writeDouble(playerY);
+                out.writeDouble(playerSize);
+                out.writeDouble(moveSpeed);
+                out.writeDouble(worldWidth);
+                out.writeDouble(worldHeight);
+                out.writeDouble(viewportWidth);
+                out.writeDouble(viewportHeight);
+                out.writeDouble(worldOriginX);
+                out.writeDouble(worldOriginY);
+                out.writeInt(breakableCount);
+                if (collisions == null) {
+                    out.writeInt(0);
+                } else {
+                    int cols = collisions.getCols();
+                    int rows = collisions.getRows();
+                    out.writeInt(collisions.getTileSize());
+                    out.writeInt(cols);
+                    out.writeInt(rows);
+                    // One bit per tile, row-major
+                    byte[] bits = new byte[(cols * rows + 7) / 8];
+                    for (int row = 0; row < rows; row++) {
+                        for (int col = 0; col < cols; col++) {
+                            if (collisions.isBlockedTile(col, row)) {
+                                int i = row * cols + col;
+                                bits[i >> 3] |= (byte) (1 << (i & 7));
+                            }
+                        }
+                    }
+                    out.write(bits);
+                }
+                out.flush();
+                return bytes.toByteArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        
+        public static InitialState fromBytes(byte[] data) throws IOException {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+            double playerX = in.readDouble();
+            double playerY = in.readDouble();
+            double playerSize = in.readDouble();
+            double moveSpeed = in.readDouble();
+            double worldWidth = in.readDouble();
+            double worldHeight = in.readDouble();
+            double viewportWidth = in.readDouble();
+            double viewportHeight = in.readDouble();
+            double worldOriginX = in.readDouble();
+            double worldOriginY = in.readDouble();
+            int breakableCount = in.readInt();
+            TileCollisionMap collisions = null;
+            int tileSize = in.readInt();
+            if (tileSize > 0) {
+                int cols = in.readInt();
+                int rows = in.readInt();
+                byte[] bits = new byte[(cols * rows + 7) / 8];
+                in.readFully(bits);
+                collisions = new TileCollisionMap(cols, rows, tileSize);
+                for (int row = 0; row < rows; row++) {
+                    for (int col = 0; col < cols; col++) {
+                        int i = row * cols + col;
+                        if ((bits[i >> 3] & (1 << (i & 7))) != 0) {
+                            collisions.setBlocked(col, row, true);
+                        }
+                    }
+                }
+            }
+            return new InitialState(playerX, playerY, playerSize, moveSpeed, worldWidth, worldHeight,
+                viewportWidth, viewportHeight, worldOriginX, worldOriginY, breakableCount, collisions);
+        }
+    }
+    
+    /**
+     * Outcome of one replay
+     */
+    public static final class Result {
+        private final long stateHash;
+        private final FrameTrace trace;
+        private final double finalX;
+        private final double finalY;
+        
+        Result(long stateHash, FrameTrace trace, double finalX, double finalY) {
+            this.stateHash = stateHash;
+            this.trace = trace;
+            this.finalX = finalX;
+            this.finalY = finalY;
+        }
+        
+        public long getStateHash() { return stateHash; }
+        public String getStateHashHex() { return String.format("%016x", stateHash); }
+        public FrameTrace getTrace() { return trace; }
+        public double getFinalX() { return finalX; }
+        public double getFinalY() { return finalY; }
+    }
+    
+    /**
+     * Create a recorder for a live session. Register it in the input phase so
+     * it samples input before the player controller runs.
+     */
+    public static InputRecorder startRecording(InputManager inputManager,
+                                               Supplier<InitialState> initialState) {
+        return new InputRecorder(inputManager, FIXED_DELTA_TIME)
+            .setInitialState(() -> initialState.get().toBytes());
+    }
+    
+    /**
+     * Replay a log. Must run on the JavaFX thread since it builds sprites.
+     */
+    public static Result replay(ReplayLog log, Image idleSheet, Image walkSheet) throws IOException {
+        InitialState state = InitialState.fromBytes(log.getInitialState());
+        HeadlessEngine engine = new HeadlessEngine(log.getFixedDeltaTime());
+        
+        // World pane placed where it was in the window, so mouse facing resolves the same way
+        Pane world = new Pane();
+        world.setLayoutX(state.worldOriginX);
+        world.setLayoutY(state.worldOriginY);
+        
+        Sprite idleSprite = SpriteSheetUtil.createSquareRowSprite(idleSheet);
+        Sprite walkSprite = SpriteSheetUtil.createSquareRowSprite(walkSheet);
+        idleSprite.setSize(state.playerSize, state.playerSize);
+        walkSprite.setSize(state.playerSize, state.playerSize);
+        idleSprite.setPosition(state.playerX, state.playerY);
+        walkSprite.setPosition(state.playerX, state.playerY);
+        world.getChildren().addAll(idleSprite.getNode(), walkSprite.getNode());
+        
+        PlayerSheetController controller = new PlayerSheetController(
+            engine.getInputManager(),
+            idleSprite,
+            walkSprite,
+            state.moveSpeed,
+            0, 0, state.worldWidth, state.worldHeight,
+            state.collisions
+        );
+        
+        BreakableObjectManager breakables = null;
+        if (state.breakableCount > 0) {
+            breakables = new BreakableObjectManager(world, log.getSeed(BREAKABLES_SEED, 0L));
+            int tileSize = state.collisions != null ? state.collisions.getTileSize() : 48;
+            breakables.spawnRandomObjects(state.breakableCount, state.worldWidth, state.worldHeight, tileSize);
+            controller.setBreakableObjectManager(breakables);
+        }
+        
+        CameraFollow camera = new CameraFollow(
+            world, idleSprite, state.viewportWidth, state.viewportHeight, state.worldWidth, state.worldHeight);
+        engine.addSystem(FrameScheduler.Phase.SIMULATE, controller)
+            .addSystem(FrameScheduler.Phase.SIMULATE, camera)
+            .setInputSource(new ReplayInputSource(log));
+        
+        FrameTrace trace = new FrameTrace();
+        StateHasher hasher = new StateHasher();
+        for (long tick = 0; tick < log.getTickCount(); tick++) {
+            engine.step();
+            trace.add(engine.getLastStepNanos());
+            
+            Sprite active = controller.getActiveSprite();
+            hasher.putDouble(active.getX())
+                .putDouble(active.getY())
+                .putDouble(active.getScaleX())
+                .putBoolean(controller.isDashing())
+                .putBoolean(controller.isAttacking());
+        }
+        if (breakables != null) {
+            // Broken objects leave the active list, so hash what is left and how many broke
+            hasher.putInt(breakables.getBrokenCount());
+            for (BreakableObject obj : breakables.getBreakableObjects()) {
+                hasher.putDouble(obj.getX()).putDouble(obj.getY());
+            }
+        }
+        
+        Sprite active = controller.getActiveSprite();
+        return new Result(hasher.get(), trace, active.getX(), active.getY());
+    }
+    
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: PlayerReplay <log> [trace.csv] [runs] [expectedHash]");
+            System.exit(2);
+        }
+        Path logPath = Paths.get(args[0]);
+        Path tracePath = args.length > 1 && !args[1].isEmpty() ? Paths.get(args[1]) : null;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        String expectedHash = args.length > 3 ? args[3] : null;
+        
+        ReplayLog log = ReplayLog.load(logPath);
+        System.out.println("🎬 Replaying " + log);
+        
+        // Sprites need the JavaFX toolkit; no window is opened
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+        
+        FutureTask<Boolean> task = new FutureTask<>(() -> {
+            Image idle = new Image(PlayerReplay.class.getResourceAsStream(IDLE_SHEET));
+            Image walk = new Image(PlayerReplay.class.getResourceAsStream(WALK_SHEET));
+            String firstHash = null;
+            boolean ok = true;
+            for (int run = 0; run < runs; run++) {
+                Result result = replay(log, idle, walk);
+                String hash = result.getStateHashHex();
+                System.out.println("✅ Run " + (run + 1) + ": hash " + hash + ", " + result.getTrace());
+                if (firstHash == null) {
+                    firstHash = hash;
+                    if (tracePath != null) {
+                        result.getTrace().writeCsv(tracePath);
+                        System.out.println("📈 Frame trace written to " + tracePath);
+                    }
+                } else if (!firstHash.equals(hash)) {
+                    System.err.println("❌ Replay diverged: " + hash + " != " + firstHash);
+                    ok = false;
+                }
+            }
+            if (expectedHash != null && !expectedHash.equalsIgnoreCase(firstHash)) {
+                System.err.println("❌ State hash " + firstHash + " does not match baseline " + expectedHash);
+                ok = false;
+            }
+            return ok;
+        });
+        Platform.runLater(task);
+        boolean ok = task.get();
+        Platform.exit();
+        System.exit(ok ? 0 : 1);
+    }
+}
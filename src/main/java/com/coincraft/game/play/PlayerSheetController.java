@@ -21,9 +21,16 @@ public class PlayerSheetController implements Updatable {
     private final double minY;
     private final double maxX;
     private final double maxY;
-    private final TileCollisionMap collisions;
+    private final SweptMover mover;
     private BreakableObjectManager breakableObjectManager;
     
+    // Collision box inside the sprite frame (frames have transparent padding around the character)
+    private static final double DEFAULT_COLLIDER_FRACTION = 0.25;
+    private double colliderX = Double.NaN; // NaN = centered, sized from the sprite
+    private double colliderY = Double.NaN;
+    private double colliderW = Double.NaN;
+    private double colliderH = Double.NaN;
+    
     // Dash mechanics
     private static final double DASH_DURATION_SECONDS = 0.15; // seconds the dash is active
     private static final double DASH_COOLDOWN_SECONDS = 0.60; // seconds before another dash
@@ -62,7 +69,7 @@ public class PlayerSheetController implements Updatable {
         this.minY = minY;
         this.maxX = maxX;
         this.maxY = maxY;
-        this.collisions = collisions;
+        this.mover = new SweptMover(collisions);
 
         this.idleSprite.setLoopAnimation(true);
         this.walkSprite.setLoopAnimation(true);
@@ -168,27 +175,18 @@ public class PlayerSheetController implements Updatable {
             double dist = speed * deltaTime;
             double nextX = activeSprite.getX() + usedDx * dist;
             double nextY = activeSprite.getY() + usedDy * dist;
-            double halfW = Math.max(1.0, activeSprite.getWidth()) * 0.5;
-            double halfH = Math.max(1.0, activeSprite.getHeight()) * 0.5;
+            double w = Math.max(1.0, activeSprite.getWidth());
+            double h = Math.max(1.0, activeSprite.getHeight());
             // clamp within bounds
-            nextX = Math.max(minX, Math.min(maxX - halfW * 2, nextX));
-            nextY = Math.max(minY, Math.min(maxY - halfH * 2, nextY));
-            double newX = nextX;
-            double newY = nextY;
-            if (collisions != null) {
-                double w = Math.max(1.0, activeSprite.getWidth());
-                double h = Math.max(1.0, activeSprite.getHeight());
-                // attempt horizontal, then vertical separately for simple resolution
-                if (!collisions.isRectBlocked(newX, activeSprite.getY(), w, h)) {
-                    activeSprite.setX(newX);
-                }
-                if (!collisions.isRectBlocked(activeSprite.getX(), newY, w, h)) {
-                    activeSprite.setY(newY);
-                }
-            } else {
-                activeSprite.setX(newX);
-                activeSprite.setY(newY);
-            }
+            nextX = Math.max(minX, Math.min(maxX - w, nextX));
+            nextY = Math.max(minY, Math.min(maxY - h, nextY));
+            // sweep the collider to the target so long frames cannot skip walls, sliding along them
+            double boxX = activeSprite.getX() + colliderOffsetX(w);
+            double boxY = activeSprite.getY() + colliderOffsetY(h);
+            mover.move(boxX, boxY, colliderWidth(w), colliderHeight(h),
+                nextX - activeSprite.getX(), nextY - activeSprite.getY());
+            activeSprite.setX(activeSprite.getX() + (mover.getX() - boxX));
+            activeSprite.setY(activeSprite.getY() + (mover.getY() - boxY));
         }
 
         // Update attack state/animation if active
@@ -280,7 +278,41 @@ public class PlayerSheetController implements Updatable {
     // Set the breakable object manager for attack collision detection
     public void setBreakableObjectManager(BreakableObjectManager manager) {
         this.breakableObjectManager = manager;
+        // unbroken objects also block movement
+        mover.setObstacles(manager != null ? manager::forEachSolidIn : null);
+    }
+    
+    /**
+     * Override the collision box, relative to the sprite's top-left corner.
+     * By default a centered box a quarter of the sprite's size is used.
+     */
+    public void setCollider(double offsetX, double offsetY, double width, double height) {
+        this.colliderX = offsetX;
+        this.colliderY = offsetY;
+        this.colliderW = Math.max(1.0, width);
+        this.colliderH = Math.max(1.0, height);
+    }
+    
+    private double colliderWidth(double spriteWidth) {
+        return Double.isNaN(colliderW) ? Math.max(1.0, spriteWidth * DEFAULT_COLLIDER_FRACTION) : colliderW;
     }
+    
+    private double colliderHeight(double spriteHeight) {
+        return Double.isNaN(colliderH) ? Math.max(1.0, spriteHeight * DEFAULT_COLLIDER_FRACTION) : colliderH;
+    }
+    
+    private double colliderOffsetX(double spriteWidth) {
+        return Double.isNaN(colliderX) ? (spriteWidth - colliderWidth(spriteWidth)) * 0.5 : colliderX;
+    }
+    
+    private double colliderOffsetY(double spriteHeight) {
+        return Double.isNaN(colliderY) ? (spriteHeight - colliderHeight(spriteHeight)) * 0.5 : colliderY;
+    }
+    
+    // State accessors (used by replays to hash the simulation)
+    public Sprite getActiveSprite() { return activeSprite; }
+    public boolean isAttacking() { return isAttacking; }
+    public boolean isDashing() { return dashTimeRemaining > 0.0; }
 }
 
 
@@ -0,0 +1,222 @@
+package com.coincraft.game.play;
+
+/**
+ * Continuous movement of an axis-aligned box against the tile collision map
+ * and dynamic obstacles (e.g. unbroken breakables).
+ *
+ * Each move is swept: the box travels until its first time of impact, the
+ * blocked component of the remaining motion is dropped and the rest is
+ * applied along the wall (sliding). Because impacts are solved exactly, a
+ * large displacement from a long frame cannot tunnel through a thin wall.
+ * Long moves are split into sub-steps of at most a fraction of a tile so
+ * the candidate set per step stays small; the number of sub-steps per move
+ * is capped, after which the steps simply get longer.
+ *
+ * Boxes the mover already overlaps at the start of a step are ignored, so a
+ * player spawned inside an obstacle can walk out of it.
+ */
+public class SweptMover {
+    private static final double SKIN = 0.01; // gap kept to walls so flush boxes do not re-hit
+    private static final int MAX_SLIDES = 3; // impacts resolved per sub-step (corner = 2)
+    
+    /**
+     * Dynamic boxes that block movement
+     */
+    @FunctionalInterface
+    public interface Obstacles {
+        /**
+         * Report every solid box that may intersect the given area
+         */
+        void query(double minX, double minY, double maxX, double maxY, BoxVisitor visitor);
+    }
+    
+    @FunctionalInterface
+    public interface BoxVisitor {
+        void visit(double x, double y, double width, double height);
+    }
+    
+    private final TileCollisionMap tiles;
+    private Obstacles obstacles;
+    private int maxSubsteps = 8;
+    private double maxStepFraction = 0.5; // of a tile
+    
+    // Result of the last move
+    private double x;
+    private double y;
+    private boolean blockedX;
+    private boolean blockedY;
+    private int lastSubsteps;
+    
+    // Per-step scratch, reused so moving does not allocate
+    private double boxX, boxY, boxW, boxH, moveX, moveY;
+    private double hitTime;
+    private int hitAxis; // 0 = none, 1 = x, 2 = y
+    private final BoxVisitor candidate = this::testBox;
+    
+    public SweptMover(TileCollisionMap tiles) {
+        this.tiles = tiles;
+    }
+    
+    public void setObstacles(Obstacles obstacles) {
+        this.obstacles = obstacles;
+    }
+    
+    /**
+     * Upper bound on sub-steps per move; longer moves use longer steps
+     */
+    public void setMaxSubsteps(int maxSubsteps) {
+        this.maxSubsteps = Math.max(1, maxSubsteps);
+    }
+    
+    /**
+     * Preferred sub-step length as a fraction of the tile size
+     */
+    public void setMaxStepFraction(double fraction) {
+        this.maxStepFraction = Math.max(0.05, fraction);
+    }
+    
+    /**
+     * Move the box at (x, y) of the given size by (dx, dy), stopping at walls
+     * and sliding along them. Read the resolved position with {@link #getX()}
+     * and {@link #getY()}.
+     */
+    public void move(double x, double y, double width, double height, double dx, double dy) {
+        this.x = x;
+        this.y = y;
+        blockedX = false;
+        blockedY = false;
+        lastSubsteps = 0;
+        double distance = Math.sqrt(dx * dx + dy * dy);
+        if (distance == 0) return;
+        
+        double stepLength = (tiles != null ? tiles.getTileSize() : Math.max(width, height)) * maxStepFraction;
+        int steps = (int) Math.ceil(distance / Math.max(1e-6, stepLength));
+        steps = Math.max(1, Math.min(maxSubsteps, steps));
+        double stepX = dx / steps;
+        double stepY = dy / steps;
+        
+        for (int i = 0; i < steps; i++) {
+            lastSubsteps++;
+            double beforeX = this.x;
+            double beforeY = this.y;
+            step(width, height, stepX, stepY);
+            if (Math.abs(this.x - beforeX) < SKIN && Math.abs(this.y - beforeY) < SKIN) {
+                break; // pinned against walls; further steps cannot move
+            }
+        }
+    }
+    
+    private void step(double width, double height, double dx, double dy) {
+        for (int slide = 0; slide < MAX_SLIDES && (dx != 0 || dy != 0); slide++) {
+            boxX = x;
+            boxY = y;
+            boxW = width;
+            boxH = height;
+            moveX = dx;
+            moveY = dy;
+            hitTime = 1.0;
+            hitAxis = 0;
+            
+            double minX = Math.min(x, x + dx);
+            double minY = Math.min(y, y + dy);
+            double maxX = Math.max(x, x + dx) + width;
+            double maxY = Math.max(y, y + dy) + height;
+            collectTiles(minX, minY, maxX, maxY);
+            if (obstacles != null) {
+                obstacles.query(minX, minY, maxX, maxY, candidate);
+            }
+            
+            if (hitAxis == 0) {
+                x += dx;
+                y += dy;
+                return;
+            }
+            
+            // Advance to the impact, backed off by the skin along the blocked axis
+            double t = Math.max(0, hitTime);
+            x += dx * t;
+            y += dy * t;
+            if (hitAxis == 1) {
+                x -= Math.signum(dx) * SKIN;
+                blockedX = true;
+                dx = 0;
+                dy *= (1 - t);
+            } else {
+                y -= Math.signum(dy) * SKIN;
+                blockedY = true;
+                dy = 0;
+                dx *= (1 - t);
+            }
+        }
+    }
+    
+    private void collectTiles(double minX, double minY, double maxX, double maxY) {
+        if (tiles == null) return;
+        int tileSize = tiles.getTileSize();
+        int minCol = (int) Math.floor(minX / tileSize);
+        int maxCol = (int) Math.floor(maxX / tileSize);
+        int minRow = (int) Math.floor(minY / tileSize);
+        int maxRow = (int) Math.floor(maxY / tileSize);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                if (tiles.isBlockedTile(col, row)) {
+                    testBox(col * tileSize, row * tileSize, tileSize, tileSize);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Swept test of the current step against one static box; keeps the earliest impact
+     */
+    private void testBox(double ox, double oy, double ow, double oh) {
+        double entryX, exitX, entryY, exitY;
+        if (moveX > 0) {
+            entryX = (ox - (boxX + boxW)) / moveX;
+            exitX = (ox + ow - boxX) / moveX;
+        } else if (moveX < 0) {
+            entryX = (ox + ow - boxX) / moveX;
+            exitX = (ox - (boxX + boxW)) / moveX;
+        } else if (boxX < ox + ow && boxX + boxW > ox) {
+            entryX = Double.NEGATIVE_INFINITY;
+            exitX = Double.POSITIVE_INFINITY;
+        } else {
+            return; // never overlaps on x
+        }
+        if (moveY > 0) {
+            entryY = (oy - (boxY + boxH)) / moveY;
+            exitY = (oy + oh - boxY) / moveY;
+        } else if (moveY < 0) {
+            entryY = (oy + oh - boxY) / moveY;
+            exitY = (oy - (boxY + boxH)) / moveY;
+        } else if (boxY < oy + oh && boxY + boxH > oy) {
+            entryY = Double.NEGATIVE_INFINITY;
+            exitY = Double.POSITIVE_INFINITY;
+        } else {
+            return; // never overlaps on y
+        }
+        
+        double entry = Math.max(entryX, entryY);
+        double exit = Math.min(exitX, exitY);
+        if (entry > exit || entry >= hitTime || exit <= 0) return;
+        if (entryX < 0 && entryY < 0) return; // already overlapping: let the box leave
+        
+        hitTime = entry;
+        hitAxis = entryX > entryY ? 1 : 2;
+    }
+    
+    public double getX() { return x; }
+    public double getY() { return y; }
+    
+    /**
+     * Whether the last move was stopped on the x axis (a wall to the left or right)
+     */
+    public boolean wasBlockedX() { return blockedX; }
+    
+    /**
+     * Whether the last move was stopped on the y axis (a wall above or below)
+     */
+    public boolean wasBlockedY() { return blockedY; }
+    
+    public int getLastSubsteps() { return lastSubsteps; }
+}
@@ -17,7 +17,7 @@ public class GameProgressService {
         this.firebaseService = FirebaseService.getInstance();
     }
     
-    public static GameProgressService getInstance() {
+    public static synchronized GameProgressService getInstance() {
         if (instance == null) {
             instance = new GameProgressService();
         }
@@ -0,0 +1,156 @@
+package com.coincraft.game.stress;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Per-frame timings of a stress run: the interval between frames (what the
+ * player sees, including layout and rendering), the time spent in the
+ * scenario's own update systems, and GC time that landed in the frame.
+ */
+public class FrameTimeReport {
+    private static final double FRAME_60_FPS_MS = 1000.0 / 60.0;
+    private static final double FRAME_30_FPS_MS = 1000.0 / 30.0;
+    
+    private long[] intervalNanos = new long[4096];
+    private long[] updateNanos = new long[4096];
+    private long[] gcMillis = new long[4096];
+    private int[] qualityLevels = new int[4096];
+    private int size = 0;
+    
+    private long gcCount = 0;
+    private long gcTimeMillis = 0;
+    private long buildNanos = 0;
+    
+    public void add(long interval, long update, long gc) {
+        add(interval, update, gc, 0);
+    }
+    
+    /**
+     * Record a frame together with the quality level it ran at (0 = full quality)
+     */
+    public void add(long interval, long update, long gc, int quality) {
+        if (size == intervalNanos.length) {
+            intervalNanos = Arrays.copyOf(intervalNanos, size * 2);
+            updateNanos = Arrays.copyOf(updateNanos, size * 2);
+            gcMillis = Arrays.copyOf(gcMillis, size * 2);
+            qualityLevels = Arrays.copyOf(qualityLevels, size * 2);
+        }
+        intervalNanos[size] = interval;
+        updateNanos[size] = update;
+        gcMillis[size] = gc;
+        qualityLevels[size] = quality;
+        size++;
+    }
+    
+    void setGcTotals(long count, long timeMillis) {
+        this.gcCount = count;
+        this.gcTimeMillis = timeMillis;
+    }
+    
+    void setBuildNanos(long buildNanos) {
+        this.buildNanos = buildNanos;
+    }
+    
+    public int size() { return size; }
+    
+    public double meanIntervalMillis() {
+        return mean(intervalNanos) / 1_000_000.0;
+    }
+    
+    public double intervalPercentileMillis(double percentile) {
+        return percentile(intervalNanos, percentile) / 1_000_000.0;
+    }
+    
+    public double meanUpdateMillis() {
+        return mean(updateNanos) / 1_000_000.0;
+    }
+    
+    public double updatePercentileMillis(double percentile) {
+        return percentile(updateNanos, percentile) / 1_000_000.0;
+    }
+    
+    public long getMaxFrameGcMillis() {
+        long max = 0;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, gcMillis[i]);
+        }
+        return max;
+    }
+    
+    public int getMaxQualityLevel() {
+        int max = 0;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, qualityLevels[i]);
+        }
+        return max;
+    }
+    
+    public int framesOver(double millis) {
+        long limit = (long) (millis * 1_000_000);
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (intervalNanos[i] > limit) count++;
+        }
+        return count;
+    }
+    
+    private double mean(long[] values) {
+        if (size == 0) return 0;
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += values[i];
+        }
+        return total / size;
+    }
+    
+    private long percentile(long[] values, double percentile) {
+        if (size == 0) return 0;
+        long[] sorted = Arrays.copyOf(values, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return sorted[Math.max(0, Math.min(size - 1, index))];
+    }
+    
+    /**
+     * Write "frame,interval_ms,update_ms,gc_ms,quality" rows
+     */
+    public void writeCsv(Path path) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            out.write("frame,interval_ms,update_ms,gc_ms,quality");
+            out.newLine();
+            for (int i = 0; i < size; i++) {
+                out.write(String.format(Locale.ROOT, "%d,%.3f,%.3f,%d,%d",
+                    i, intervalNanos[i] / 1_000_000.0, updateNanos[i] / 1_000_000.0, gcMillis[i], qualityLevels[i]));
+                out.newLine();
+            }
+        }
+    }
+    
+    public void writeSummary(Path path, String header) throws IOException {
+        Files.writeString(path, header + System.lineSeparator() + summary() + System.lineSeparator(),
+            StandardCharsets.UTF_8);
+    }
+    
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("world build: %.1f ms%n", buildNanos / 1_000_000.0));
+        sb.append(String.format("frames: %d%n", size));
+        sb.append(String.format("frame interval: mean %.2f ms, p50 %.2f ms, p95 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+            meanIntervalMillis(), intervalPercentileMillis(50), intervalPercentileMillis(95),
+            intervalPercentileMillis(99), intervalPercentileMillis(100)));
+        sb.append(String.format("frames over 16.7 ms: %d, over 33.3 ms: %d%n",
+            framesOver(FRAME_60_FPS_MS), framesOver(FRAME_30_FPS_MS)));
+        sb.append(String.format("update systems: mean %.2f ms, p99 %.2f ms, max %.2f ms%n",
+            meanUpdateMillis(), updatePercentileMillis(99), updatePercentileMillis(100)));
+        sb.append(String.format("gc: %d collections, %d ms total, worst frame %d ms%n", gcCount, gcTimeMillis,
+            getMaxFrameGcMillis()));
+        sb.append(String.format("lowest quality level reached: %d", getMaxQualityLevel()));
+        return sb.toString();
+    }
+}
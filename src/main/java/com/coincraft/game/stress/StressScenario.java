@@ -0,0 +1,456 @@
+package com.coincraft.game.stress;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Random;
+
+import com.coincraft.engine.FrameScheduler;
+import com.coincraft.engine.ecs.Components;
+import com.coincraft.engine.ecs.EntityWorld;
+import com.coincraft.engine.ecs.SpriteAnimationSystem;
+import com.coincraft.engine.particles.ParticleEffect;
+import com.coincraft.engine.particles.ParticleEmitter;
+import com.coincraft.engine.particles.ParticleLayer;
+import com.coincraft.engine.particles.ParticleSystem;
+import com.coincraft.engine.quality.QualityGovernor;
+import com.coincraft.engine.rendering.Renderer;
+import com.coincraft.engine.rendering.Sprite;
+import com.coincraft.game.adventure.models.AdventurePlayer;
+import com.coincraft.game.adventure.models.NPCCharacter;
+import com.coincraft.game.adventure.models.NPCManager;
+import com.coincraft.game.play.BreakableObjectManager;
+import com.coincraft.game.play.SpriteSheetUtil;
+import com.coincraft.game.play.TileMapRenderer;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Synthetic large-world stress scenario.
+ *
+ * Builds a configurable world out of the real game systems (tile ground from
+ * {@link TileMapRenderer}, breakables from {@link BreakableObjectManager},
+ * NPCs from {@link NPCManager}, animated sprites through {@link Renderer}),
+ * then flies the camera along a fixed path and records every frame into a
+ * {@link FrameTimeReport}. The camera advances a fixed distance per frame, so
+ * every run visits the same places in the same number of frames.
+ *
+ * {@code entities=N} adds N wandering sprites as {@link EntityWorld} entities
+ * next to the Renderer ones; {@code sprites=0} leaves only the entity path.
+ * The report header names the sprite path that ran.
+ */
+public class StressScenario {
+    private static final String GROUND_TILE = "/Assets/Tilemap/grass.png";
+    private static final String ANIMATED_SHEET = "/Assets/Sprites/Blue Slime/spr_Blue_slime_walk.png";
+    private static final double SPRITE_SIZE = 48;
+    private static final double SPRITE_WANDER_SPEED = 40;
+    private static final int PARTICLES_PER_BURST = 24;
+    private static final int PARTICLE_CAPACITY = 4_000;
+    private static final NPCCharacter.NPCType[] NPC_TYPES = NPCCharacter.NPCType.values();
+    
+    /**
+     * World size, population and run length
+     */
+    public static final class Config {
+        private int tilesX = 200;
+        private int tilesY = 200;
+        private int tileSize = 32;
+        private int breakables = 10_000;
+        private int npcs = 500;
+        private int animatedSprites = 2_000;
+        private int entitySprites = 0;
+        private long seed = 1;
+        private int frames = 3_600;
+        private double cameraSpeed = 600; // pixels per second, advanced 1/60 s per frame
+        private double viewportWidth = 1280;
+        private double viewportHeight = 720;
+        private Path outputDir = Paths.get("build", "stress");
+        private boolean adaptiveQuality = false;
+        private double particleBursts = 0; // debris bursts per second around the camera
+        
+        /**
+         * Parse "key=value" arguments, e.g. {@code tiles=300 npcs=1000 frames=7200}
+         */
+        public static Config fromArgs(String[] args) {
+            Config config = new Config();
+            for (String arg : args) {
+                int eq = arg.indexOf('=');
+                if (eq <= 0) {
+                    throw new IllegalArgumentException("Expected key=value, got: " + arg);
+                }
+                String key = arg.substring(0, eq);
+                String value = arg.substring(eq + 1);
+                switch (key) {
+                    case "tiles" -> { config.tilesX = Integer.parseInt(value); config.tilesY = config.tilesX; }
+                    case "tilesX" -> config.tilesX = Integer.parseInt(value);
+                    case "tilesY" -> config.tilesY = Integer.parseInt(value);
+                    case "tileSize" -> config.tileSize = Integer.parseInt(value);
+                    case "breakables" -> config.breakables = Integer.parseInt(value);
+                    case "npcs" -> config.npcs = Integer.parseInt(value);
+                    case "sprites" -> config.animatedSprites = Integer.parseInt(value);
+                    case "entities" -> config.entitySprites = Integer.parseInt(value);
+                    case "seed" -> config.seed = Long.parseLong(value);
+                    case "frames" -> config.frames = Integer.parseInt(value);
+                    case "speed" -> config.cameraSpeed = Double.parseDouble(value);
+                    case "out" -> config.outputDir = Paths.get(value);
+                    case "adaptive" -> config.adaptiveQuality = Boolean.parseBoolean(value);
+                    case "bursts" -> config.particleBursts = Double.parseDouble(value);
+                    default -> throw new IllegalArgumentException("Unknown stress option: " + key);
+                }
+            }
+            return config;
+        }
+        
+        public int getTilesX() { return tilesX; }
+        public int getTilesY() { return tilesY; }
+        public int getTileSize() { return tileSize; }
+        public int getBreakables() { return breakables; }
+        public int getNpcs() { return npcs; }
+        public int getAnimatedSprites() { return animatedSprites; }
+        public int getEntitySprites() { return entitySprites; }
+        public long getSeed() { return seed; }
+        public int getFrames() { return frames; }
+        public double getViewportWidth() { return viewportWidth; }
+        public double getViewportHeight() { return viewportHeight; }
+        public Path getOutputDir() { return outputDir; }
+        public boolean isAdaptiveQuality() { return adaptiveQuality; }
+        public double getParticleBursts() { return particleBursts; }
+        public double getWorldWidth() { return (double) tilesX * tileSize; }
+        public double getWorldHeight() { return (double) tilesY * tileSize; }
+        
+        /**
+         * Which sprite paths the run exercises, for the report header
+         */
+        public String getSpritePath() {
+            if (entitySprites == 0) return "Renderer";
+            if (animatedSprites == 0) return "ECS";
+            return "Renderer + ECS";
+        }
+        
+        @Override
+        public String toString() {
+            return tilesX + "x" + tilesY + " tiles @" + tileSize + "px, " + breakables + " breakables, "
+                + npcs + " NPCs, " + animatedSprites + " Renderer sprites, " + entitySprites + " ECS sprites, "
+                + frames + " frames, seed " + seed
+                + (particleBursts > 0 ? ", " + particleBursts + " particle bursts/s" : "")
+                + (adaptiveQuality ? ", adaptive quality" : "");
+        }
+    }
+    
+    private final Config config;
+    private final FrameTimeReport report = new FrameTimeReport();
+    private final List<GarbageCollectorMXBean> gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+    
+    private Pane viewport;
+    private Pane world;
+    private NPCManager npcManager;
+    private Renderer renderer;
+    private EntityWorld entities;
+    private Pane groundLayer;
+    private QualityGovernor qualityGovernor;
+    private ParticleLayer particles;
+    private ParticleEmitter debris;
+    private Random burstRandom;
+    private double burstAccumulator = 0;
+    private AdventurePlayer cameraProxy;
+    private FrameScheduler.SceneHandle scene;
+    
+    // Camera path (closed polyline of waypoints)
+    private double[] pathX;
+    private double[] pathY;
+    private int pathSegment = 0;
+    private double cameraX;
+    private double cameraY;
+    
+    // Per-frame measurement
+    private long frameStart;
+    private long lastGcMillis;
+    private long startGcCount;
+    private long startGcMillis;
+    private int frame = 0;
+    private Runnable onFinished;
+    
+    public StressScenario(Config config) {
+        this.config = config;
+    }
+    
+    /**
+     * Build the world; returns the clipped viewport to place in a scene.
+     * Must run on the JavaFX thread.
+     */
+    public Pane build() {
+        long start = System.nanoTime();
+        double worldW = config.getWorldWidth();
+        double worldH = config.getWorldHeight();
+        Random random = new Random(config.seed);
+        
+        viewport = new Pane();
+        viewport.setPrefSize(config.viewportWidth, config.viewportHeight);
+        viewport.setClip(new Rectangle(config.viewportWidth, config.viewportHeight));
+        world = new Pane();
+        world.setPrefSize(worldW, worldH);
+        viewport.getChildren().add(world);
+        
+        groundLayer = new Pane();
+        Pane objectLayer = new Pane();
+        Pane npcLayer = new Pane();
+        Pane spriteLayer = new Pane();
+        world.getChildren().addAll(groundLayer, objectLayer, npcLayer, spriteLayer);
+        
+        // Ground: one node per tile, as Free Play does
+        Image ground = new Image(getClass().getResourceAsStream(GROUND_TILE));
+        new TileMapRenderer(groundLayer, ground, config.tileSize, config.tileSize).fill((int) worldW, (int) worldH);
+        
+        // Breakables use their own seeded placement
+        BreakableObjectManager breakables = new BreakableObjectManager(objectLayer, config.seed);
+        breakables.spawnRandomObjects(config.breakables, worldW, worldH, config.tileSize);
+        
+        // Particles: one canvas over the viewport, drawn in camera-relative world coordinates
+        particles = new ParticleLayer(config.viewportWidth, config.viewportHeight);
+        particles.followCamera(world);
+        debris = particles.addEmitter(ParticleEffect.debris(), PARTICLE_CAPACITY);
+        breakables.setBreakEffect(debris);
+        viewport.getChildren().add(particles.getNode());
+        burstRandom = new Random(config.seed);
+        
+        // NPCs activate around the camera, which stands in for the player
+        buildCameraPath(worldW, worldH);
+        cameraX = pathX[0];
+        cameraY = pathY[0];
+        cameraProxy = new AdventurePlayer("Stress Camera", cameraX, cameraY);
+        npcManager = new NPCManager();
+        npcManager.setMaxNPCs(Math.max(config.npcs, npcManager.getMaxNPCs()));
+        npcManager.setCurrentPlayer(cameraProxy);
+        String[] dialogue = { "Stress test" };
+        for (int i = 0; i < config.npcs; i++) {
+            npcManager.createNPC("NPC " + i, "Hello", dialogue, NPC_TYPES[i % NPC_TYPES.length],
+                40 + random.nextDouble() * (worldW - 80), 40 + random.nextDouble() * (worldH - 80));
+        }
+        npcManager.render(npcLayer);
+        
+        // Animated sprites drawn through the engine renderer
+        renderer = new Renderer(spriteLayer);
+        Image sheet = new Image(getClass().getResourceAsStream(ANIMATED_SHEET));
+        for (int i = 0; i < config.animatedSprites; i++) {
+            Sprite sprite = SpriteSheetUtil.createSquareRowSprite(sheet);
+            sprite.setSize(SPRITE_SIZE, SPRITE_SIZE);
+            sprite.setPosition(random.nextDouble() * (worldW - SPRITE_SIZE), random.nextDouble() * (worldH - SPRITE_SIZE));
+            sprite.setAnimationSpeed(8 + random.nextDouble() * 8);
+            sprite.startAnimation();
+            renderer.addSprite(sprite);
+        }
+        
+        // Entity sprites: one wander/motion/animation/sync pass covers all of them
+        entities = new EntityWorld().addStandardSystems(config.seed);
+        int frameSize = (int) sheet.getHeight();
+        int frameCount = (int) Math.max(1, Math.floor(sheet.getWidth() / frameSize));
+        for (int i = 0; i < config.entitySprites; i++) {
+            ImageView view = new ImageView(sheet);
+            view.setViewport(new Rectangle2D(0, 0, frameSize, frameSize));
+            view.setFitWidth(SPRITE_SIZE);
+            view.setFitHeight(SPRITE_SIZE);
+            spriteLayer.getChildren().add(view);
+            
+            int entity = entities.create(Components.POSITION, Components.VELOCITY, Components.BOUNDS,
+                Components.WANDER, Components.NODE, Components.SPRITE_ANIMATION);
+            entities.setDouble(entity, Components.POSITION, Components.X, random.nextDouble() * (worldW - SPRITE_SIZE));
+            entities.setDouble(entity, Components.POSITION, Components.Y, random.nextDouble() * (worldH - SPRITE_SIZE));
+            entities.setDouble(entity, Components.BOUNDS, Components.MAX_X, worldW - SPRITE_SIZE);
+            entities.setDouble(entity, Components.BOUNDS, Components.MAX_Y, worldH - SPRITE_SIZE);
+            entities.setDouble(entity, Components.WANDER, Components.WANDER_SPEED, SPRITE_WANDER_SPEED);
+            entities.setDouble(entity, Components.WANDER, Components.WANDER_INTERVAL, 1 + random.nextDouble() * 2);
+            entities.setReference(entity, Components.NODE, view);
+            entities.setDouble(entity, Components.SPRITE_ANIMATION, Components.ANIM_FPS, 8 + random.nextDouble() * 8);
+            entities.setInt(entity, Components.SPRITE_ANIMATION, Components.ANIM_FRAME_COUNT, frameCount);
+            entities.setInt(entity, Components.SPRITE_ANIMATION, Components.ANIM_COLUMNS, frameCount);
+            entities.setInt(entity, Components.SPRITE_ANIMATION, Components.ANIM_FRAME_WIDTH, frameSize);
+            entities.setInt(entity, Components.SPRITE_ANIMATION, Components.ANIM_FRAME_HEIGHT, frameSize);
+            entities.setInt(entity, Components.SPRITE_ANIMATION, Components.ANIM_FLAGS,
+                Components.ANIM_PLAYING | Components.ANIM_LOOP);
+        }
+        
+        moveCamera(0);
+        long buildNanos = System.nanoTime() - start;
+        report.setBuildNanos(buildNanos);
+        System.out.println(String.format("🏗️ Stress world built in %.0f ms", buildNanos / 1_000_000.0));
+        return viewport;
+    }
+    
+    /**
+     * Lawnmower sweep over the world, then diagonals back to the start
+     */
+    private void buildCameraPath(double worldW, double worldH) {
+        double marginX = Math.min(worldW / 2, config.viewportWidth / 2);
+        double marginY = Math.min(worldH / 2, config.viewportHeight / 2);
+        int rows = 5;
+        pathX = new double[rows * 2 + 2];
+        pathY = new double[rows * 2 + 2];
+        int p = 0;
+        for (int r = 0; r < rows; r++) {
+            double y = marginY + (worldH - 2 * marginY) * r / (rows - 1);
+            boolean leftToRight = r % 2 == 0;
+            pathX[p] = leftToRight ? marginX : worldW - marginX;
+            pathY[p++] = y;
+            pathX[p] = leftToRight ? worldW - marginX : marginX;
+            pathY[p++] = y;
+        }
+        pathX[p] = worldW / 2;
+        pathY[p++] = worldH / 2;
+        pathX[p] = marginX;
+        pathY[p] = marginY;
+    }
+    
+    /**
+     * Start the run; {@code onFinished} runs on the FX thread after the report is written
+     */
+    public void start(Runnable onFinished) {
+        this.onFinished = onFinished;
+        startGcCount = gcCount();
+        startGcMillis = gcMillis();
+        lastGcMillis = startGcMillis;
+        
+        scene = FrameScheduler.getInstance().createScene("stress-scenario");
+        scene.addSystem(FrameScheduler.Phase.INPUT, dt -> frameStart = System.nanoTime());
+        scene.addSystem(FrameScheduler.Phase.SIMULATE, dt -> moveCamera(1.0 / 60.0));
+        scene.addSystem(FrameScheduler.Phase.SIMULATE, npcManager::update);
+        scene.addSystem(FrameScheduler.Phase.RENDER, renderer::update);
+        entities.attach(scene);
+        if (config.particleBursts > 0) {
+            scene.addSystem(FrameScheduler.Phase.SIMULATE, dt -> emitBursts(1.0 / 60.0));
+        }
+        particles.attach(scene);
+        if (config.adaptiveQuality) {
+            SpriteAnimationSystem animation = entities.getSystem(SpriteAnimationSystem.class);
+            double focusRadius = Math.max(config.viewportWidth, config.viewportHeight) * 0.75;
+            scene.addSystem(FrameScheduler.Phase.SIMULATE, dt -> animation.setFocus(cameraX, cameraY, focusRadius));
+            qualityGovernor = new QualityGovernor().attach(scene);
+            ParticleSystem.getInstance().bind(qualityGovernor);
+            qualityGovernor.addListener(level -> {
+                animation.setOffFocusDivisor(level.getOffFocusAnimationDivisor());
+                for (Node tile : groundLayer.getChildren()) {
+                    if (tile instanceof ImageView view) {
+                        view.setSmooth(level.isSmoothing());
+                    }
+                }
+            });
+        }
+        scene.addSystem(FrameScheduler.Phase.RENDER, this::endFrame);
+        scene.resume();
+        System.out.println("🚀 Stress run started: " + config);
+    }
+    
+    private void moveCamera(double step) {
+        double remaining = config.cameraSpeed * step;
+        while (remaining > 0) {
+            int next = (pathSegment + 1) % pathX.length;
+            double dx = pathX[next] - cameraX;
+            double dy = pathY[next] - cameraY;
+            double dist = Math.sqrt(dx * dx + dy * dy);
+            if (dist <= remaining) {
+                cameraX = pathX[next];
+                cameraY = pathY[next];
+                pathSegment = next;
+                remaining -= dist;
+                if (dist == 0) break;
+            } else {
+                cameraX += dx / dist * remaining;
+                cameraY += dy / dist * remaining;
+                remaining = 0;
+            }
+        }
+        world.setTranslateX(-(cameraX - config.viewportWidth / 2));
+        world.setTranslateY(-(cameraY - config.viewportHeight / 2));
+        cameraProxy.setLayoutX(cameraX - cameraProxy.getPrefWidth() / 2);
+        cameraProxy.setLayoutY(cameraY - cameraProxy.getPrefHeight() / 2);
+    }
+    
+    /**
+     * Debris bursts at random points in view, at the configured rate
+     */
+    private void emitBursts(double step) {
+        burstAccumulator += config.particleBursts * step;
+        while (burstAccumulator >= 1) {
+            burstAccumulator -= 1;
+            double x = cameraX + (burstRandom.nextDouble() - 0.5) * config.viewportWidth;
+            double y = cameraY + (burstRandom.nextDouble() - 0.5) * config.viewportHeight;
+            debris.burst(x, y, PARTICLES_PER_BURST);
+        }
+    }
+    
+    private void endFrame(double deltaTime) {
+        long update = System.nanoTime() - frameStart;
+        long gc = gcMillis();
+        int quality = qualityGovernor != null ? qualityGovernor.getLevelIndex() : 0;
+        report.add((long) (deltaTime * 1_000_000_000L), update, gc - lastGcMillis, quality);
+        lastGcMillis = gc;
+        frame++;
+        if (frame >= config.frames) {
+            finish();
+        }
+    }
+    
+    private void finish() {
+        scene.dispose();
+        particles.dispose();
+        report.setGcTotals(gcCount() - startGcCount, gcMillis() - startGcMillis);
+        try {
+            Files.createDirectories(config.outputDir);
+            Path csv = config.outputDir.resolve("stress-frames.csv");
+            Path summary = config.outputDir.resolve("stress-summary.txt");
+            report.writeCsv(csv);
+            report.writeSummary(summary, "Stress scenario: " + config + System.lineSeparator()
+                + "sprite path: " + config.getSpritePath());
+            System.out.println("📈 Frame times written to " + csv);
+        } catch (IOException e) {
+            System.err.println("Could not write stress report: " + e.getMessage());
+        }
+        System.out.println("✅ Stress run finished (sprite path: " + config.getSpritePath() + ")"
+            + System.lineSeparator() + report.summary());
+        if (onFinished != null) {
+            onFinished.run();
+        }
+    }
+    
+    /**
+     * Stop early without writing a report
+     */
+    public void stop() {
+        if (scene != null) {
+            scene.dispose();
+        }
+        if (particles != null) {
+            particles.dispose();
+        }
+        if (npcManager != null) {
+            npcManager.cleanup();
+        }
+    }
+    
+    private long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean bean : gcBeans) {
+            count += Math.max(0, bean.getCollectionCount());
+        }
+        return count;
+    }
+    
+    private long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean bean : gcBeans) {
+            millis += Math.max(0, bean.getCollectionTime());
+        }
+        return millis;
+    }
+    
+    public FrameTimeReport getReport() { return report; }
+    public Config getConfig() { return config; }
+}
@@ -0,0 +1,198 @@
+package com.coincraft.game.tile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.coincraft.engine.jobs.CancellationToken;
+
+/**
+ * Seeded procedural placement of decor, rocks and vegetation.
+ *
+ * Pure computation with no JavaFX access, so it can run on a worker thread.
+ * Each pass draws from its own random stream derived from the zone seed, so
+ * the same spec always yields the same layout. Solid placements claim their
+ * footprint in an {@link OccupancyGrid}; paths, the border ring and the
+ * spawn area are claimed up front.
+ */
+public final class DecorGenerator {
+
+    /**
+     * Everything that determines a layout
+     */
+    public static final class Spec {
+        final String zoneId;
+        final long seed;
+        final int cols;
+        final int rows;
+        boolean[][] path;
+        int spawnCol;
+        int spawnRow;
+        int reserveRadius = 2;
+        int scatterVariants = 0; // 0 = no scattered decor (e.g. hand-placed CSV in use)
+        double scatterChance = 0.08;
+        int rockVariants = 0;
+        double rockChance = 0.05;
+        int[] vegetationSizes = new int[0]; // footprint (square, in tiles) per vegetation image
+        double vegetationChance = 0.04;
+
+        public Spec(String zoneId, long seed, int cols, int rows) {
+            this.zoneId = zoneId;
+            this.seed = seed;
+            this.cols = cols;
+            this.rows = rows;
+            this.spawnCol = cols / 2;
+            this.spawnRow = rows / 2;
+        }
+
+        /** Tiles that must stay clear of solid decor, [row][col] */
+        public Spec path(boolean[][] path) { this.path = path; return this; }
+
+        public Spec spawn(int col, int row, int reserveRadius) {
+            this.spawnCol = col;
+            this.spawnRow = row;
+            this.reserveRadius = Math.max(0, reserveRadius);
+            return this;
+        }
+
+        public Spec scatter(int variants, double chance) {
+            this.scatterVariants = Math.max(0, variants);
+            this.scatterChance = chance;
+            return this;
+        }
+
+        public Spec rocks(int variants, double chance) {
+            this.rockVariants = Math.max(0, variants);
+            this.rockChance = chance;
+            return this;
+        }
+
+        public Spec vegetation(int[] sizes, double chance) {
+            this.vegetationSizes = sizes != null ? sizes.clone() : new int[0];
+            this.vegetationChance = chance;
+            return this;
+        }
+
+        public String getZoneId() { return zoneId; }
+        public long getSeed() { return seed; }
+
+        /**
+         * Hash of every input, so a cached layout is only reused for the same world
+         */
+        public long hash() {
+            long h = 0xcbf29ce484222325L;
+            h = mix(h, zoneId.hashCode());
+            h = mix(h, seed);
+            h = mix(h, cols);
+            h = mix(h, rows);
+            h = mix(h, spawnCol);
+            h = mix(h, spawnRow);
+            h = mix(h, reserveRadius);
+            h = mix(h, scatterVariants);
+            h = mix(h, Double.doubleToLongBits(scatterChance));
+            h = mix(h, rockVariants);
+            h = mix(h, Double.doubleToLongBits(rockChance));
+            for (int size : vegetationSizes) h = mix(h, size);
+            h = mix(h, Double.doubleToLongBits(vegetationChance));
+            if (path != null) {
+                for (boolean[] line : path) {
+                    long bits = 0;
+                    int n = 0;
+                    for (boolean cell : line) {
+                        bits = (bits << 1) | (cell ? 1 : 0);
+                        if (++n == 64) { h = mix(h, bits); bits = 0; n = 0; }
+                    }
+                    h = mix(h, bits ^ ((long) line.length << 32));
+                }
+            }
+            return h;
+        }
+
+        private static long mix(long h, long value) {
+            h ^= value;
+            h *= 0x100000001b3L;
+            return h ^ (h >>> 29);
+        }
+    }
+
+    private DecorGenerator() {}
+
+    /**
+     * Build a layout. Returns early (with a partial layout) if the token is cancelled.
+     */
+    public static DecorLayout generate(Spec spec, CancellationToken token) {
+        List<DecorLayout.Placement> placements = new ArrayList<>();
+        int cols = spec.cols;
+        int rows = spec.rows;
+
+        // Cosmetic scatter ignores occupancy; the path layer draws over it
+        if (spec.scatterVariants > 0) {
+            Random rng = stream(spec.seed, 1);
+            for (int r = 1; r < rows - 1; r++) {
+                for (int c = 1; c < cols - 1; c++) {
+                    if (rng.nextDouble() < spec.scatterChance) {
+                        placements.add(new DecorLayout.Placement(DecorLayout.Kind.SCATTER,
+                            rng.nextInt(spec.scatterVariants), c, r, 1, 1));
+                    }
+                }
+                if (token.isCancelled()) return new DecorLayout(spec.hash(), placements);
+            }
+        }
+
+        // Claimed before solid decor: border ring, paths and the spawn area
+        OccupancyGrid occupied = new OccupancyGrid(cols, rows);
+        occupied.fill(0, 0, cols, 1);
+        occupied.fill(0, rows - 1, cols, 1);
+        occupied.fill(0, 0, 1, rows);
+        occupied.fill(cols - 1, 0, 1, rows);
+        occupied.fill(spec.path);
+        int reserve = spec.reserveRadius;
+        occupied.fill(spec.spawnCol - reserve, spec.spawnRow - reserve, reserve * 2 + 1, reserve * 2 + 1);
+
+        if (spec.rockVariants > 0) {
+            Random rng = stream(spec.seed, 2);
+            for (int r = 1; r < rows - 1; r++) {
+                for (int c = 1; c < cols - 1; c++) {
+                    if (occupied.isOccupied(c, r)) continue;
+                    if (rng.nextDouble() < spec.rockChance) {
+                        placements.add(new DecorLayout.Placement(DecorLayout.Kind.ROCK,
+                            rng.nextInt(spec.rockVariants), c, r, 1, 1));
+                        occupied.set(c, r);
+                    }
+                }
+                if (token.isCancelled()) return new DecorLayout(spec.hash(), placements);
+            }
+        }
+
+        int[] sizes = spec.vegetationSizes;
+        if (sizes.length > 0) {
+            Random rng = stream(spec.seed, 3);
+            for (int r = 1; r < rows - 1; r++) {
+                for (int c = 1; c < cols - 1; c++) {
+                    if (occupied.isOccupied(c, r)) continue;
+                    if (rng.nextDouble() < spec.vegetationChance) {
+                        int variant = rng.nextInt(sizes.length);
+                        int size = Math.max(1, sizes[variant]);
+                        if (occupied.isFree(c, r, size, size)) {
+                            placements.add(new DecorLayout.Placement(DecorLayout.Kind.VEGETATION,
+                                variant, c, r, size, size));
+                            occupied.fill(c, r, size, size);
+                        }
+                    }
+                }
+                if (token.isCancelled()) return new DecorLayout(spec.hash(), placements);
+            }
+        }
+        return new DecorLayout(spec.hash(), placements);
+    }
+
+    /**
+     * Independent random stream per pass, so changing one pass leaves the others intact
+     */
+    private static Random stream(long seed, int pass) {
+        long z = seed + pass * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return new Random(z ^ (z >>> 31));
+    }
+}
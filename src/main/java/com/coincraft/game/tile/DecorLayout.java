@@ -0,0 +1,105 @@
+package com.coincraft.game.tile;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Generated decor for one zone: a ready-to-render list of placements in tile
+ * coordinates. Built off the FX thread; the FX thread only turns placements
+ * into nodes (and solid ones into collision).
+ */
+public final class DecorLayout {
+    private static final int MAGIC = 0x44434F52; // "DCOR"
+    private static final int VERSION = 1;
+
+    public enum Kind {
+        /** Cosmetic decor tile from the decor atlas; no collision */
+        SCATTER,
+        /** Rock, blocks movement */
+        ROCK,
+        /** Bush or tree, blocks movement */
+        VEGETATION
+    }
+
+    public static final class Placement {
+        public final Kind kind;
+        public final int variant; // atlas index for SCATTER, image index otherwise
+        public final int col;
+        public final int row;
+        public final int widthTiles;
+        public final int heightTiles;
+
+        public Placement(Kind kind, int variant, int col, int row, int widthTiles, int heightTiles) {
+            this.kind = kind;
+            this.variant = variant;
+            this.col = col;
+            this.row = row;
+            this.widthTiles = widthTiles;
+            this.heightTiles = heightTiles;
+        }
+
+        public boolean isSolid() {
+            return kind != Kind.SCATTER;
+        }
+    }
+
+    private final long specHash;
+    private final List<Placement> placements;
+
+    public DecorLayout(long specHash, List<Placement> placements) {
+        this.specHash = specHash;
+        this.placements = Collections.unmodifiableList(new ArrayList<>(placements));
+    }
+
+    /**
+     * Hash of the generator input this layout was built from
+     */
+    public long getSpecHash() { return specHash; }
+
+    public List<Placement> getPlacements() { return placements; }
+
+    public int count(Kind kind) {
+        int n = 0;
+        for (Placement p : placements) {
+            if (p.kind == kind) n++;
+        }
+        return n;
+    }
+
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(specHash);
+        out.writeInt(placements.size());
+        for (Placement p : placements) {
+            out.writeByte(p.kind.ordinal());
+            out.writeShort(p.variant);
+            out.writeShort(p.col);
+            out.writeShort(p.row);
+            out.writeByte(p.widthTiles);
+            out.writeByte(p.heightTiles);
+        }
+    }
+
+    public static DecorLayout read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Not a decor layout (or an older version)");
+        }
+        long specHash = in.readLong();
+        int count = in.readInt();
+        if (count < 0) throw new IOException("Corrupt decor layout");
+        Kind[] kinds = Kind.values();
+        List<Placement> placements = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int kind = in.readUnsignedByte();
+            if (kind >= kinds.length) throw new IOException("Corrupt decor layout");
+            placements.add(new Placement(kinds[kind], in.readUnsignedShort(), in.readUnsignedShort(),
+                in.readUnsignedShort(), in.readUnsignedByte(), in.readUnsignedByte()));
+        }
+        return new DecorLayout(specHash, placements);
+    }
+}
@@ -0,0 +1,94 @@
+package com.coincraft.game.tile;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import com.coincraft.engine.jobs.CancellationToken;
+import com.coincraft.engine.jobs.Job;
+import com.coincraft.engine.jobs.JobSystem;
+
+/**
+ * Disk cache of generated decor layouts, one file per (zone, seed).
+ *
+ * A cached file is only used when its stored spec hash matches the current
+ * spec (same world size, paths, densities...); otherwise the layout is
+ * regenerated and the file replaced. Reads, generation and writes all happen
+ * on a worker thread via {@link #loadAsync}.
+ */
+public final class DecorLayoutCache {
+    private final Path directory;
+
+    public DecorLayoutCache() {
+        this(Paths.get(System.getProperty("user.home"), ".coincraft", "cache", "decor"));
+    }
+
+    public DecorLayoutCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Cached layout for the spec, or a freshly generated (and stored) one.
+     * Blocking; call from a worker thread.
+     */
+    public DecorLayout loadOrGenerate(DecorGenerator.Spec spec, CancellationToken token) {
+        Path file = fileFor(spec);
+        long hash = spec.hash();
+        if (Files.exists(file)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                DecorLayout cached = DecorLayout.read(in);
+                if (cached.getSpecHash() == hash) {
+                    return cached;
+                }
+            } catch (IOException e) {
+                System.err.println("⚠️ Ignoring unreadable decor cache " + file + ": " + e.getMessage());
+            }
+        }
+
+        long start = System.nanoTime();
+        DecorLayout layout = DecorGenerator.generate(spec, token);
+        if (token.isCancelled()) {
+            return layout; // partial; not worth caching
+        }
+        System.out.println(String.format("🌳 Generated %s decor (seed %d): %d placements in %.1f ms",
+            spec.getZoneId(), spec.getSeed(), layout.getPlacements().size(), (System.nanoTime() - start) / 1_000_000.0));
+        store(file, layout);
+        return layout;
+    }
+
+    /**
+     * Load or generate on the CPU pool; the result is delivered on the FX thread.
+     * Cancelled together with {@code owner} (e.g. the zone's scene).
+     */
+    public Job<DecorLayout> loadAsync(DecorGenerator.Spec spec, CancellationToken owner) {
+        return JobSystem.getInstance().submit(JobSystem.Kind.CPU, JobSystem.Priority.HIGH, owner,
+            token -> loadOrGenerate(spec, token));
+    }
+
+    private void store(Path file, DecorLayout layout) {
+        try {
+            Files.createDirectories(directory);
+            // Write then move, so a crash never leaves a truncated layout behind
+            Path tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                layout.write(out);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not cache decor layout: " + e.getMessage());
+        }
+    }
+
+    private Path fileFor(DecorGenerator.Spec spec) {
+        String zone = spec.getZoneId().replaceAll("[^A-Za-z0-9_-]", "_");
+        return directory.resolve(zone + "-" + Long.toHexString(spec.getSeed()) + ".layout");
+    }
+
+    public Path getDirectory() { return directory; }
+}
@@ -0,0 +1,94 @@
+package com.coincraft.game.tile;
+
+/**
+ * One bit per tile, packed 64 tiles to a word per row.
+ * Rectangle tests and fills touch whole words: a footprint up to 64 tiles
+ * wide costs one or two mask operations per row instead of a test per tile.
+ */
+public final class OccupancyGrid {
+    private final int cols;
+    private final int rows;
+    private final int wordsPerRow;
+    private final long[] words;
+
+    public OccupancyGrid(int cols, int rows) {
+        this.cols = Math.max(0, cols);
+        this.rows = Math.max(0, rows);
+        this.wordsPerRow = (this.cols + 63) >>> 6;
+        this.words = new long[wordsPerRow * this.rows];
+    }
+
+    public int getCols() { return cols; }
+    public int getRows() { return rows; }
+
+    public boolean isOccupied(int col, int row) {
+        if (col < 0 || row < 0 || col >= cols || row >= rows) return true;
+        return (words[row * wordsPerRow + (col >>> 6)] & (1L << col)) != 0;
+    }
+
+    public void set(int col, int row) {
+        if (col < 0 || row < 0 || col >= cols || row >= rows) return;
+        words[row * wordsPerRow + (col >>> 6)] |= 1L << col;
+    }
+
+    /**
+     * True when every tile of the rectangle is inside the grid and unoccupied
+     */
+    public boolean isFree(int col, int row, int width, int height) {
+        if (width <= 0 || height <= 0) return true;
+        if (col < 0 || row < 0 || col + width > cols || row + height > rows) return false;
+        int lastCol = col + width - 1;
+        int firstWord = col >>> 6;
+        int lastWord = lastCol >>> 6;
+        for (int r = row; r < row + height; r++) {
+            int base = r * wordsPerRow;
+            for (int w = firstWord; w <= lastWord; w++) {
+                if ((words[base + w] & mask(w, col, lastCol)) != 0) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Mark every tile of the rectangle (clipped to the grid) as occupied
+     */
+    public void fill(int col, int row, int width, int height) {
+        int c0 = Math.max(0, col);
+        int r0 = Math.max(0, row);
+        int c1 = Math.min(cols, col + width) - 1;
+        int r1 = Math.min(rows, row + height) - 1;
+        if (c0 > c1 || r0 > r1) return;
+        int firstWord = c0 >>> 6;
+        int lastWord = c1 >>> 6;
+        for (int r = r0; r <= r1; r++) {
+            int base = r * wordsPerRow;
+            for (int w = firstWord; w <= lastWord; w++) {
+                words[base + w] |= mask(w, c0, c1);
+            }
+        }
+    }
+
+    /**
+     * Occupy every tile set in a [row][col] grid (e.g. paths)
+     */
+    public void fill(boolean[][] cells) {
+        if (cells == null) return;
+        for (int r = 0; r < Math.min(rows, cells.length); r++) {
+            boolean[] line = cells[r];
+            if (line == null) continue;
+            for (int c = 0; c < Math.min(cols, line.length); c++) {
+                if (line[c]) set(c, r);
+            }
+        }
+    }
+
+    /**
+     * Bits of word {@code w} that fall inside columns [from, to]
+     */
+    private static long mask(int w, int from, int to) {
+        int lo = Math.max(from, w << 6) & 63;
+        int hi = Math.min(to, (w << 6) + 63) & 63;
+        long upTo = hi == 63 ? -1L : (1L << (hi + 1)) - 1;
+        return upTo & (-1L << lo);
+    }
+}
@@ -0,0 +1,166 @@
+package com.coincraft.game.tile;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A map imported from Tiled (JSON or TMX) by {@link TiledMapLoader}.
+ *
+ * Tile layers keep their gids in one row-major int array with the flip bits
+ * already stripped; 0 is empty. A gid belongs to the tileset with the highest
+ * {@code firstGid} not above it, see {@link #tilesetFor(int)}.
+ */
+public final class TiledMap {
+    /** Flip/rotation flags Tiled stores in the top bits of a gid */
+    public static final int FLIP_MASK = 0xF0000000;
+
+    public static final class Tileset {
+        public final int firstGid;
+        public final String name;
+        public final String image; // resolved against the declaring map or tileset file; as written for classpath maps
+        public final int tileWidth;
+        public final int tileHeight;
+        public final int columns;
+        public final int tileCount;
+
+        public Tileset(int firstGid, String name, String image, int tileWidth, int tileHeight, int columns, int tileCount) {
+            this.firstGid = firstGid;
+            this.name = name;
+            this.image = image;
+            this.tileWidth = tileWidth;
+            this.tileHeight = tileHeight;
+            this.columns = columns;
+            this.tileCount = tileCount;
+        }
+    }
+
+    public static final class TileLayer {
+        public final String name;
+        public final int width;
+        public final int height;
+        public final int[] gids;
+        public final boolean visible;
+        public final float opacity;
+
+        public TileLayer(String name, int width, int height, int[] gids, boolean visible, float opacity) {
+            this.name = name;
+            this.width = width;
+            this.height = height;
+            this.gids = gids;
+            this.visible = visible;
+            this.opacity = opacity;
+        }
+
+        public int get(int col, int row) {
+            return gids[row * width + col];
+        }
+
+        /**
+         * [row][col] copy, the shape {@link TiledCsvMapLoader#renderLayer} takes
+         */
+        public int[][] toGrid() {
+            int[][] grid = new int[height][width];
+            for (int r = 0; r < height; r++) {
+                System.arraycopy(gids, r * width, grid[r], 0, width);
+            }
+            return grid;
+        }
+    }
+
+    public static final class MapObject {
+        public final int id;
+        public final String name;
+        public final String type;
+        public final double x;
+        public final double y;
+        public final double width;
+        public final double height;
+        public final int gid; // tile objects only, else 0
+        public final Map<String, String> properties;
+
+        public MapObject(int id, String name, String type, double x, double y, double width, double height,
+                         int gid, Map<String, String> properties) {
+            this.id = id;
+            this.name = name;
+            this.type = type;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.gid = gid;
+            this.properties = Collections.unmodifiableMap(new LinkedHashMap<>(properties));
+        }
+    }
+
+    public static final class ObjectLayer {
+        public final String name;
+        public final List<MapObject> objects;
+        public final boolean visible;
+
+        public ObjectLayer(String name, List<MapObject> objects, boolean visible) {
+            this.name = name;
+            this.objects = Collections.unmodifiableList(new ArrayList<>(objects));
+            this.visible = visible;
+        }
+    }
+
+    private final int width;
+    private final int height;
+    private final int tileWidth;
+    private final int tileHeight;
+    private final List<Tileset> tilesets;
+    private final List<TileLayer> tileLayers;
+    private final List<ObjectLayer> objectLayers;
+
+    public TiledMap(int width, int height, int tileWidth, int tileHeight,
+                    List<Tileset> tilesets, List<TileLayer> tileLayers, List<ObjectLayer> objectLayers) {
+        this.width = width;
+        this.height = height;
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+        List<Tileset> sorted = new ArrayList<>(tilesets);
+        sorted.sort((a, b) -> Integer.compare(a.firstGid, b.firstGid));
+        this.tilesets = Collections.unmodifiableList(sorted);
+        this.tileLayers = Collections.unmodifiableList(new ArrayList<>(tileLayers));
+        this.objectLayers = Collections.unmodifiableList(new ArrayList<>(objectLayers));
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int getTileWidth() { return tileWidth; }
+    public int getTileHeight() { return tileHeight; }
+    public List<Tileset> getTilesets() { return tilesets; }
+    public List<TileLayer> getTileLayers() { return tileLayers; }
+    public List<ObjectLayer> getObjectLayers() { return objectLayers; }
+
+    /**
+     * Tileset a gid belongs to, or null for 0 / unknown gids
+     */
+    public Tileset tilesetFor(int gid) {
+        gid &= ~FLIP_MASK;
+        if (gid <= 0) return null;
+        Tileset found = null;
+        for (Tileset tileset : tilesets) {
+            if (tileset.firstGid > gid) break;
+            found = tileset;
+        }
+        return found;
+    }
+
+    public TileLayer getTileLayer(String name) {
+        for (TileLayer layer : tileLayers) {
+            if (layer.name.equals(name)) return layer;
+        }
+        return null;
+    }
+
+    public ObjectLayer getObjectLayer(String name) {
+        for (ObjectLayer layer : objectLayers) {
+            if (layer.name.equals(name)) return layer;
+        }
+        return null;
+    }
+}
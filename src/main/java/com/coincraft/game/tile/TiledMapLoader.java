@@ -0,0 +1,674 @@
+package com.coincraft.game.tile;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+
+/**
+ * Imports Tiled maps saved as JSON ({@code .json}/{@code .tmj}) or TMX.
+ *
+ * Supports multiple tile layers (group layers are flattened), object layers
+ * and multiple tilesets, embedded or external ({@code .tsj}/{@code .tsx},
+ * resolved next to the map). Layer data may be CSV, a plain array / XML
+ * tiles, or base64 with optional zlib or gzip compression, inflated with
+ * {@link Inflater} straight into the gid array. Both formats are read with
+ * streaming parsers (Jackson {@link JsonParser}, StAX), so no document tree
+ * is built. Infinite (chunked) maps and zstd compression are not supported.
+ */
+public final class TiledMapLoader {
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final XMLInputFactory XML = XMLInputFactory.newFactory();
+
+    static {
+        XML.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    private TiledMapLoader() {}
+
+    /**
+     * Load a map file; the format is picked by extension (.tmx, else JSON)
+     */
+    public static TiledMap load(Path file) throws IOException {
+        Path baseDir = file.toAbsolutePath().getParent();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return isXml(file) ? readTmx(in, baseDir) : readJson(in, baseDir);
+        }
+    }
+
+    /**
+     * Load a map from the classpath. External tilesets are not resolved.
+     */
+    public static TiledMap loadResource(String resourcePath) throws IOException {
+        try (InputStream is = TiledMapLoader.class.getResourceAsStream(resourcePath)) {
+            if (is == null) throw new IOException("Missing map resource: " + resourcePath);
+            InputStream in = new BufferedInputStream(is);
+            return resourcePath.toLowerCase().endsWith(".tmx") ? readTmx(in, null) : readJson(in, null);
+        }
+    }
+
+    /**
+     * Add one ImageView per tile of a layer, picking each tile's tileset image
+     * @param images tileset to image, e.g. via ImageCache; tiles whose tileset has no image are skipped
+     */
+    public static void renderTileLayer(Pane target, TiledMap map, TiledMap.TileLayer layer,
+                                       Function<TiledMap.Tileset, Image> images, int dstTileSize) {
+        Map<TiledMap.Tileset, Image> resolved = new LinkedHashMap<>();
+        for (int r = 0; r < layer.height; r++) {
+            for (int c = 0; c < layer.width; c++) {
+                int gid = layer.get(c, r);
+                if (gid <= 0) continue; // 0 = empty
+                TiledMap.Tileset tileset = map.tilesetFor(gid);
+                if (tileset == null) continue;
+                Image image = resolved.computeIfAbsent(tileset, images);
+                if (image == null) continue;
+                int tw = tileset.tileWidth > 0 ? tileset.tileWidth : Math.max(1, map.getTileWidth());
+                int th = tileset.tileHeight > 0 ? tileset.tileHeight : Math.max(1, map.getTileHeight());
+                int columns = tileset.columns > 0 ? tileset.columns : Math.max(1, (int) Math.floor(image.getWidth() / tw));
+                int index = gid - tileset.firstGid;
+                ImageView iv = new ImageView(image);
+                iv.setViewport(new Rectangle2D((index % columns) * tw, (index / columns) * th, tw, th));
+                iv.setFitWidth(dstTileSize);
+                iv.setFitHeight(dstTileSize);
+                iv.setPreserveRatio(false);
+                iv.setSmooth(true);
+                iv.setOpacity(layer.opacity);
+                iv.setLayoutX(c * dstTileSize);
+                iv.setLayoutY(r * dstTileSize);
+                target.getChildren().add(iv);
+            }
+        }
+    }
+
+    private static boolean isXml(Path file) {
+        String name = file.getFileName().toString().toLowerCase();
+        return name.endsWith(".tmx") || name.endsWith(".tsx");
+    }
+
+    /** Accumulates a map while parsing */
+    private static final class MapBuilder {
+        int width;
+        int height;
+        int tileWidth;
+        int tileHeight;
+        final List<TiledMap.Tileset> tilesets = new ArrayList<>();
+        final List<TiledMap.TileLayer> tileLayers = new ArrayList<>();
+        final List<TiledMap.ObjectLayer> objectLayers = new ArrayList<>();
+
+        TiledMap build() {
+            return new TiledMap(width, height, tileWidth, tileHeight, tilesets, tileLayers, objectLayers);
+        }
+    }
+
+    // JSON
+
+    static TiledMap readJson(InputStream in, Path baseDir) throws IOException {
+        try (JsonParser p = JSON.createParser(in)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) throw new IOException("Not a Tiled JSON map");
+            MapBuilder map = new MapBuilder();
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.getCurrentName();
+                p.nextToken();
+                switch (field) {
+                    case "width" -> map.width = p.getIntValue();
+                    case "height" -> map.height = p.getIntValue();
+                    case "tilewidth" -> map.tileWidth = p.getIntValue();
+                    case "tileheight" -> map.tileHeight = p.getIntValue();
+                    case "infinite" -> {
+                        if (p.getBooleanValue()) throw new IOException("Infinite Tiled maps are not supported");
+                    }
+                    case "layers" -> readJsonLayers(p, map);
+                    case "tilesets" -> {
+                        while (p.nextToken() == JsonToken.START_OBJECT) {
+                            map.tilesets.add(readJsonTileset(p, 0, baseDir));
+                        }
+                    }
+                    default -> p.skipChildren();
+                }
+            }
+            return map.build();
+        }
+    }
+
+    private static void readJsonLayers(JsonParser p, MapBuilder map) throws IOException {
+        while (p.nextToken() == JsonToken.START_OBJECT) {
+            String type = "";
+            String name = "";
+            int width = 0;
+            int height = 0;
+            boolean visible = true;
+            float opacity = 1;
+            String encoding = "";
+            String compression = "";
+            String encodedData = null;
+            int[] arrayData = null;
+            int arrayLength = 0;
+            List<TiledMap.MapObject> objects = null;
+            MapBuilder group = null;
+
+            // Fields come in any order: collect, then build
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.getCurrentName();
+                JsonToken token = p.nextToken();
+                switch (field) {
+                    case "type" -> type = p.getText();
+                    case "name" -> name = p.getText();
+                    case "width" -> width = p.getIntValue();
+                    case "height" -> height = p.getIntValue();
+                    case "visible" -> visible = p.getBooleanValue();
+                    case "opacity" -> opacity = p.getFloatValue();
+                    case "encoding" -> encoding = p.getText();
+                    case "compression" -> compression = p.getText();
+                    case "data" -> {
+                        if (token == JsonToken.VALUE_STRING) {
+                            encodedData = p.getText();
+                        } else if (token == JsonToken.START_ARRAY) {
+                            arrayData = new int[Math.max(16, width * height)];
+                            while (p.nextToken() != JsonToken.END_ARRAY) {
+                                if (arrayLength == arrayData.length) arrayData = Arrays.copyOf(arrayData, arrayLength * 2);
+                                arrayData[arrayLength++] = (int) p.getLongValue() & ~TiledMap.FLIP_MASK;
+                            }
+                        }
+                    }
+                    case "objects" -> {
+                        objects = new ArrayList<>();
+                        while (p.nextToken() == JsonToken.START_OBJECT) {
+                            objects.add(readJsonObject(p));
+                        }
+                    }
+                    case "layers" -> {
+                        group = new MapBuilder();
+                        readJsonLayers(p, group);
+                    }
+                    default -> p.skipChildren();
+                }
+            }
+
+            switch (type) {
+                case "tilelayer" -> {
+                    int count = width * height;
+                    int[] gids;
+                    if (encodedData != null) {
+                        gids = decode(encodedData, encoding, compression, count);
+                    } else if (arrayData != null) {
+                        if (arrayLength != count) throw new IOException("Layer " + name + " has " + arrayLength + " tiles, expected " + count);
+                        gids = arrayLength == arrayData.length ? arrayData : Arrays.copyOf(arrayData, arrayLength);
+                    } else {
+                        throw new IOException("Layer " + name + " has no data (infinite maps are not supported)");
+                    }
+                    map.tileLayers.add(new TiledMap.TileLayer(name, width, height, gids, visible, opacity));
+                }
+                case "objectgroup" -> map.objectLayers.add(new TiledMap.ObjectLayer(name,
+                    objects != null ? objects : List.of(), visible));
+                case "group" -> {
+                    if (group != null) {
+                        map.tileLayers.addAll(group.tileLayers);
+                        map.objectLayers.addAll(group.objectLayers);
+                    }
+                }
+                default -> { } // image layers and future types are ignored
+            }
+        }
+    }
+
+    private static TiledMap.MapObject readJsonObject(JsonParser p) throws IOException {
+        int id = 0;
+        String name = "";
+        String type = "";
+        double x = 0, y = 0, width = 0, height = 0;
+        int gid = 0;
+        Map<String, String> properties = new LinkedHashMap<>();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.getCurrentName();
+            p.nextToken();
+            switch (field) {
+                case "id" -> id = p.getIntValue();
+                case "name" -> name = p.getText();
+                case "type", "class" -> type = p.getText();
+                case "x" -> x = p.getDoubleValue();
+                case "y" -> y = p.getDoubleValue();
+                case "width" -> width = p.getDoubleValue();
+                case "height" -> height = p.getDoubleValue();
+                case "gid" -> gid = (int) p.getLongValue() & ~TiledMap.FLIP_MASK;
+                case "properties" -> {
+                    while (p.nextToken() == JsonToken.START_OBJECT) {
+                        String key = null;
+                        String value = "";
+                        while (p.nextToken() == JsonToken.FIELD_NAME) {
+                            String propField = p.getCurrentName();
+                            p.nextToken();
+                            if (propField.equals("name")) key = p.getText();
+                            else if (propField.equals("value")) value = p.getValueAsString("");
+                            else p.skipChildren();
+                        }
+                        if (key != null) properties.put(key, value);
+                    }
+                }
+                default -> p.skipChildren();
+            }
+        }
+        return new TiledMap.MapObject(id, name, type, x, y, width, height, gid, properties);
+    }
+
+    /**
+     * Tileset object from a map (may reference an external file) or from a .tsj file
+     */
+    private static TiledMap.Tileset readJsonTileset(JsonParser p, int firstGidOverride, Path baseDir) throws IOException {
+        int firstGid = firstGidOverride;
+        String source = null;
+        String name = "";
+        String image = "";
+        int tileWidth = 0, tileHeight = 0, columns = 0, tileCount = 0;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.getCurrentName();
+            p.nextToken();
+            switch (field) {
+                case "firstgid" -> { if (firstGidOverride == 0) firstGid = p.getIntValue(); }
+                case "source" -> source = p.getText();
+                case "name" -> name = p.getText();
+                case "image" -> image = p.getText();
+                case "tilewidth" -> tileWidth = p.getIntValue();
+                case "tileheight" -> tileHeight = p.getIntValue();
+                case "columns" -> columns = p.getIntValue();
+                case "tilecount" -> tileCount = p.getIntValue();
+                default -> p.skipChildren();
+            }
+        }
+        if (source != null) {
+            return readExternalTileset(firstGid, source, baseDir);
+        }
+        return new TiledMap.Tileset(firstGid, name, resolveImage(image, baseDir), tileWidth, tileHeight, columns, tileCount);
+    }
+
+    private static TiledMap.Tileset readExternalTileset(int firstGid, String source, Path baseDir) throws IOException {
+        if (baseDir == null) {
+            // No directory to resolve against: keep the gid range, without image data
+            return new TiledMap.Tileset(firstGid, source, "", 0, 0, 0, 0);
+        }
+        Path file = baseDir.resolve(source);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            if (isXml(file)) {
+                XMLStreamReader r = XML.createXMLStreamReader(in);
+                try {
+                    while (r.hasNext()) {
+                        if (r.next() == XMLStreamConstants.START_ELEMENT && r.getLocalName().equals("tileset")) {
+                            return readTmxTileset(r, firstGid, file.getParent());
+                        }
+                    }
+                    throw new IOException("No tileset in " + file);
+                } finally {
+                    r.close();
+                }
+            }
+            try (JsonParser p = JSON.createParser(in)) {
+                if (p.nextToken() != JsonToken.START_OBJECT) throw new IOException("Not a Tiled tileset: " + file);
+                return readJsonTileset(p, firstGid, file.getParent());
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Bad tileset " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    // TMX
+
+    static TiledMap readTmx(InputStream in, Path baseDir) throws IOException {
+        try {
+            XMLStreamReader r = XML.createXMLStreamReader(in);
+            try {
+                while (r.hasNext()) {
+                    if (r.next() == XMLStreamConstants.START_ELEMENT && r.getLocalName().equals("map")) {
+                        if ("1".equals(r.getAttributeValue(null, "infinite"))) {
+                            throw new IOException("Infinite Tiled maps are not supported");
+                        }
+                        MapBuilder map = new MapBuilder();
+                        map.width = intAttr(r, "width", 0);
+                        map.height = intAttr(r, "height", 0);
+                        map.tileWidth = intAttr(r, "tilewidth", 0);
+                        map.tileHeight = intAttr(r, "tileheight", 0);
+                        readTmxChildren(r, map, baseDir);
+                        return map.build();
+                    }
+                }
+                throw new IOException("Not a TMX map");
+            } finally {
+                r.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Bad TMX map: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Read layers and tilesets until the end of the current element (map or group)
+     */
+    private static void readTmxChildren(XMLStreamReader r, MapBuilder map, Path baseDir) throws XMLStreamException, IOException {
+        int depth = 1;
+        while (depth > 0 && r.hasNext()) {
+            int event = r.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (r.getLocalName()) {
+                    case "tileset" -> {
+                        int firstGid = intAttr(r, "firstgid", 1);
+                        String source = r.getAttributeValue(null, "source");
+                        if (source != null) {
+                            skipElement(r);
+                            map.tilesets.add(readExternalTileset(firstGid, source, baseDir));
+                        } else {
+                            map.tilesets.add(readTmxTileset(r, firstGid, baseDir));
+                        }
+                    }
+                    case "layer" -> map.tileLayers.add(readTmxLayer(r));
+                    case "objectgroup" -> map.objectLayers.add(readTmxObjectGroup(r));
+                    case "group" -> readTmxChildren(r, map, baseDir); // flattened
+                    default -> skipElement(r);
+                }
+            }
+        }
+    }
+
+    /**
+     * Called on a tileset start element; consumes it
+     */
+    private static TiledMap.Tileset readTmxTileset(XMLStreamReader r, int firstGid, Path baseDir) throws XMLStreamException {
+        String name = attr(r, "name", "");
+        int tileWidth = intAttr(r, "tilewidth", 0);
+        int tileHeight = intAttr(r, "tileheight", 0);
+        int columns = intAttr(r, "columns", 0);
+        int tileCount = intAttr(r, "tilecount", 0);
+        String image = "";
+        int depth = 1;
+        while (depth > 0 && r.hasNext()) {
+            int event = r.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if (depth == 1 && r.getLocalName().equals("image")) {
+                    image = attr(r, "source", "");
+                }
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+        return new TiledMap.Tileset(firstGid, name, resolveImage(image, baseDir), tileWidth, tileHeight, columns, tileCount);
+    }
+
+    /**
+     * A tileset image path is relative to the file that declares the tileset
+     * (the map, or the external .tsx/.tsj), so resolve it while that
+     * directory is known
+     */
+    private static String resolveImage(String image, Path baseDir) {
+        if (image.isEmpty() || baseDir == null) return image;
+        return baseDir.resolve(image).normalize().toString();
+    }
+
+    private static TiledMap.TileLayer readTmxLayer(XMLStreamReader r) throws XMLStreamException, IOException {
+        String name = attr(r, "name", "");
+        int width = intAttr(r, "width", 0);
+        int height = intAttr(r, "height", 0);
+        boolean visible = !"0".equals(r.getAttributeValue(null, "visible"));
+        float opacity = Float.parseFloat(attr(r, "opacity", "1"));
+        int[] gids = null;
+        int depth = 1;
+        while (depth > 0 && r.hasNext()) {
+            int event = r.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                if (r.getLocalName().equals("data")) {
+                    gids = readTmxData(r, width * height);
+                } else {
+                    skipElement(r);
+                }
+            }
+        }
+        if (gids == null) throw new IOException("Layer " + name + " has no data (infinite maps are not supported)");
+        return new TiledMap.TileLayer(name, width, height, gids, visible, opacity);
+    }
+
+    /**
+     * Called on a data start element; consumes it
+     */
+    private static int[] readTmxData(XMLStreamReader r, int count) throws XMLStreamException, IOException {
+        String encoding = attr(r, "encoding", "");
+        String compression = attr(r, "compression", "");
+        if (encoding.isEmpty()) {
+            // <tile gid="..."/> children
+            int[] gids = new int[count];
+            int n = 0;
+            int depth = 1;
+            while (depth > 0 && r.hasNext()) {
+                int event = r.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    if (r.getLocalName().equals("chunk")) throw new IOException("Infinite Tiled maps are not supported");
+                    if (r.getLocalName().equals("tile") && n < count) {
+                        gids[n++] = (int) Long.parseLong(attr(r, "gid", "0")) & ~TiledMap.FLIP_MASK;
+                    }
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                }
+            }
+            return gids;
+        }
+        StringBuilder text = new StringBuilder();
+        int depth = 1;
+        while (depth > 0 && r.hasNext()) {
+            int event = r.next();
+            if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+                if (depth == 1) text.append(r.getTextCharacters(), r.getTextStart(), r.getTextLength());
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                if (r.getLocalName().equals("chunk")) throw new IOException("Infinite Tiled maps are not supported");
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+        return decode(text.toString(), encoding, compression, count);
+    }
+
+    private static TiledMap.ObjectLayer readTmxObjectGroup(XMLStreamReader r) throws XMLStreamException {
+        String name = attr(r, "name", "");
+        boolean visible = !"0".equals(r.getAttributeValue(null, "visible"));
+        List<TiledMap.MapObject> objects = new ArrayList<>();
+        int depth = 1;
+        while (depth > 0 && r.hasNext()) {
+            int event = r.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                if (r.getLocalName().equals("object")) {
+                    objects.add(readTmxObject(r));
+                } else {
+                    skipElement(r);
+                }
+            }
+        }
+        return new TiledMap.ObjectLayer(name, objects, visible);
+    }
+
+    private static TiledMap.MapObject readTmxObject(XMLStreamReader r) throws XMLStreamException {
+        int id = intAttr(r, "id", 0);
+        String name = attr(r, "name", "");
+        String type = attr(r, "type", attr(r, "class", ""));
+        double x = Double.parseDouble(attr(r, "x", "0"));
+        double y = Double.parseDouble(attr(r, "y", "0"));
+        double width = Double.parseDouble(attr(r, "width", "0"));
+        double height = Double.parseDouble(attr(r, "height", "0"));
+        int gid = (int) Long.parseLong(attr(r, "gid", "0")) & ~TiledMap.FLIP_MASK;
+        Map<String, String> properties = new LinkedHashMap<>();
+        int depth = 1;
+        while (depth > 0 && r.hasNext()) {
+            int event = r.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if (r.getLocalName().equals("property")) {
+                    String value = r.getAttributeValue(null, "value");
+                    String key = attr(r, "name", "");
+                    if (value == null) {
+                        // Multi-line string properties keep their value as text
+                        properties.put(key, r.getElementText());
+                        continue; // getElementText consumed the end element
+                    }
+                    properties.put(key, value);
+                }
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+        return new TiledMap.MapObject(id, name, type, x, y, width, height, gid, properties);
+    }
+
+    private static void skipElement(XMLStreamReader r) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && r.hasNext()) {
+            int event = r.next();
+            if (event == XMLStreamConstants.START_ELEMENT) depth++;
+            else if (event == XMLStreamConstants.END_ELEMENT) depth--;
+        }
+    }
+
+    private static String attr(XMLStreamReader r, String name, String def) {
+        String value = r.getAttributeValue(null, name);
+        return value != null ? value : def;
+    }
+
+    private static int intAttr(XMLStreamReader r, String name, int def) {
+        String value = r.getAttributeValue(null, name);
+        return value != null ? Integer.parseInt(value.trim()) : def;
+    }
+
+    // Layer data
+
+    /**
+     * Decode layer data into {@code count} gids with flip bits stripped
+     */
+    static int[] decode(String data, String encoding, String compression, int count) throws IOException {
+        if ("csv".equals(encoding)) {
+            return parseCsv(data, count);
+        }
+        if (!"base64".equals(encoding)) {
+            throw new IOException("Unsupported layer encoding: " + encoding);
+        }
+        byte[] raw = Base64.getMimeDecoder().decode(data.trim());
+        byte[] bytes = switch (compression == null ? "" : compression) {
+            case "" -> raw;
+            case "zlib" -> inflate(raw, 0, false, count * 4);
+            case "gzip" -> inflate(raw, gzipHeaderLength(raw), true, count * 4);
+            default -> throw new IOException("Unsupported layer compression: " + compression);
+        };
+        if (bytes.length < count * 4) {
+            throw new IOException("Layer data has " + bytes.length / 4 + " tiles, expected " + count);
+        }
+        int[] gids = new int[count];
+        for (int i = 0, b = 0; i < count; i++, b += 4) {
+            int gid = (bytes[b] & 0xFF)
+                | (bytes[b + 1] & 0xFF) << 8
+                | (bytes[b + 2] & 0xFF) << 16
+                | (bytes[b + 3] & 0xFF) << 24; // little-endian
+            gids[i] = gid & ~TiledMap.FLIP_MASK;
+        }
+        return gids;
+    }
+
+    private static byte[] inflate(byte[] input, int offset, boolean raw, int expectedLength) throws IOException {
+        Inflater inflater = new Inflater(raw);
+        try {
+            inflater.setInput(input, offset, input.length - offset);
+            byte[] out = new byte[expectedLength];
+            int n = 0;
+            while (n < out.length && !inflater.finished()) {
+                int read = inflater.inflate(out, n, out.length - n);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Truncated compressed layer data");
+                }
+                n += read;
+            }
+            return n == out.length ? out : Arrays.copyOf(out, n);
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt compressed layer data: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Size of a gzip member header (RFC 1952), so the deflate stream can go to a raw Inflater
+     */
+    private static int gzipHeaderLength(byte[] data) throws IOException {
+        if (data.length < 10 || (data[0] & 0xFF) != 0x1F || (data[1] & 0xFF) != 0x8B || data[2] != 8) {
+            throw new IOException("Not gzip layer data");
+        }
+        int flags = data[3] & 0xFF;
+        int pos = 10;
+        if ((flags & 0x04) != 0) { // FEXTRA
+            if (pos + 2 > data.length) throw new IOException("Truncated gzip header");
+            pos += 2 + ((data[pos] & 0xFF) | (data[pos + 1] & 0xFF) << 8);
+        }
+        if ((flags & 0x08) != 0) { // FNAME
+            while (pos < data.length && data[pos] != 0) pos++;
+            pos++;
+        }
+        if ((flags & 0x10) != 0) { // FCOMMENT
+            while (pos < data.length && data[pos] != 0) pos++;
+            pos++;
+        }
+        if ((flags & 0x02) != 0) pos += 2; // FHCRC
+        if (pos > data.length) throw new IOException("Truncated gzip header");
+        return pos;
+    }
+
+    /**
+     * Comma-separated gids, scanned in place without splitting
+     */
+    private static int[] parseCsv(String data, int count) throws IOException {
+        int[] gids = new int[count];
+        int n = 0;
+        long value = 0;
+        boolean inNumber = false;
+        for (int i = 0, len = data.length(); i < len; i++) {
+            char ch = data.charAt(i);
+            if (ch >= '0' && ch <= '9') {
+                value = value * 10 + (ch - '0');
+                inNumber = true;
+            } else if (inNumber) {
+                if (n == count) throw new IOException("Layer CSV has more than " + count + " tiles");
+                gids[n++] = (int) value & ~TiledMap.FLIP_MASK;
+                value = 0;
+                inNumber = false;
+            }
+        }
+        if (inNumber) {
+            if (n == count) throw new IOException("Layer CSV has more than " + count + " tiles");
+            gids[n++] = (int) value & ~TiledMap.FLIP_MASK;
+        }
+        if (n != count) throw new IOException("Layer CSV has " + n + " tiles, expected " + count);
+        return gids;
+    }
+}
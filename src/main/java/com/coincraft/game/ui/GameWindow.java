@@ -1,14 +1,27 @@
 package com.coincraft.game.ui;
 
+import com.coincraft.engine.FrameScheduler;
 import com.coincraft.engine.GameLoop;
 import com.coincraft.engine.Updatable;
 import com.coincraft.engine.input.InputManager;
+import com.coincraft.engine.jobs.Job;
+import com.coincraft.engine.particles.ParticleEffect;
+import com.coincraft.engine.particles.ParticleEmitter;
+import com.coincraft.engine.particles.ParticleLayer;
+import com.coincraft.engine.particles.ParticleSystem;
+import com.coincraft.engine.quality.QualityGovernor;
+import com.coincraft.engine.quality.QualityLevel;
+import com.coincraft.engine.replay.InputRecorder;
 import com.coincraft.game.play.PlayerSheetController;
 import com.coincraft.engine.rendering.Sprite;
 import com.coincraft.game.play.SpriteSheetUtil;
 import com.coincraft.game.play.TileCollisionMap;
 import com.coincraft.game.play.CameraFollow;
+import com.coincraft.game.play.NPCSpatialIndex;
+import com.coincraft.game.play.PlayerReplay;
 import com.coincraft.game.models.GameLevel;
+import com.coincraft.game.adventure.models.CoinManager;
+import com.coincraft.game.adventure.models.ConversationalNPC;
 import com.coincraft.game.adventure.models.ConversationalNPCManager;
 import com.coincraft.game.adventure.models.ConversationSystem;
 import com.coincraft.game.adventure.models.NPCConversationTrees;
@@ -17,11 +30,17 @@ import com.coincraft.game.models.Question;
 import com.coincraft.game.models.QuestionChoice;
 import com.coincraft.game.services.GameDataLoader;
 import com.coincraft.game.services.GameProgressService;
+import com.coincraft.game.tile.DecorGenerator;
+import com.coincraft.game.tile.DecorLayout;
+import com.coincraft.game.tile.DecorLayoutCache;
+import com.coincraft.ui.util.ImageCache;
 import java.io.IOException;
 import com.coincraft.models.User;
 import javafx.animation.FadeTransition;
 import javafx.animation.ScaleTransition;
+import javafx.geometry.Bounds;
 import javafx.geometry.Insets;
+import javafx.geometry.Point2D;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
@@ -49,15 +68,56 @@ public class GameWindow {
     private int currentQuestionIndex = 0;
     private int sessionCoins = 0;
     
+    private static final double NPC_CELL_SIZE = 256;
+    private static final double NPC_INTERACTION_RANGE = 200;
+    private static final String FREE_PLAY_ZONE = "free_play";
+    private static final long FREE_PLAY_DECOR_SEED = 1234;
+    private static final String[] ROCK_IMAGES = {
+        "/Assets/Sprites/Rocks/spr_boulder1.png",
+        "/Assets/Sprites/Rocks/spr_boulder2.png",
+        "/Assets/Sprites/Rocks/spr_boulder3.png",
+        "/Assets/Sprites/Rocks/spr_smallrock2.png",
+        "/Assets/Sprites/Rocks/spr_boulder4.png",
+        "/Assets/Sprites/Rocks/spr_smallrock1.png"
+    };
+    private static final String[] VEGETATION_IMAGES = {
+        "/Assets/Sprites/Vegetation/Bush.png",
+        "/Assets/Sprites/Vegetation/Bush1.png",
+        "/Assets/Sprites/Vegetation/spr_tree1.png",
+        "/Assets/Sprites/Vegetation/spr_tree2.png",
+        "/Assets/Sprites/Vegetation/spr_tree3.png",
+        "/Assets/Sprites/Vegetation/tree.png",
+        "/Assets/Sprites/Vegetation/tree1.png"
+    };
+    private static final int[] VEGETATION_SIZES = {1, 1, 2, 2, 2, 2, 2}; // bushes 1x1, trees 2x2
+    
     private final GameDataLoader dataLoader;
     private final GameProgressService progressService;
+    private final DecorLayoutCache decorCache = new DecorLayoutCache();
     
     // UI Components
     private Label coinLabel;
     private VBox contentArea;
     private GameLoop gameLoop;
+    private InputRecorder replayRecorder;
+    private java.nio.file.Path replayRecordPath;
+    private NPCSpatialIndex<ConversationalNPC.NPCType> npcIndex;
     private boolean paused = false;
     
+    // One governor per window; each Free Play entry only swaps its world listener
+    private QualityGovernor qualityGovernor;
+    private QualityGovernor.Listener worldQualityListener;
+    
+    // Coin and reward effects, drawn into one canvas over the whole window
+    private ParticleLayer rewardParticles;
+    private ParticleEmitter coinSparkles;
+    private ParticleEmitter rewardBursts;
+    private final CoinManager.CoinListener coinEffectListener = transaction -> {
+        if (transaction.getAmount() > 0) {
+            playCoinEffect(transaction.getAmount());
+        }
+    };
+    
     public GameWindow(User user) {
         this.currentUser = user;
         this.dataLoader = GameDataLoader.getInstance();
@@ -88,7 +148,14 @@ public class GameWindow {
         // Show level select screen
         showLevelSelect();
         
-        Scene scene = new Scene(root, 1280, 720);
+        rewardParticles = new ParticleLayer(1280, 720);
+        addRewardEmitters();
+        StackPane sceneRoot = new StackPane(root, rewardParticles.getNode());
+        StackPane.setAlignment(rewardParticles.getNode(), Pos.TOP_LEFT);
+        
+        Scene scene = new Scene(sceneRoot, 1280, 720);
+        scene.widthProperty().addListener((obs, oldW, newW) -> rewardParticles.resize(newW.doubleValue(), scene.getHeight()));
+        scene.heightProperty().addListener((obs, oldH, newH) -> rewardParticles.resize(scene.getWidth(), newH.doubleValue()));
         // Setup pause toggle (ESC)
         scene.setOnKeyPressed(e -> {
             switch (e.getCode()) {
@@ -103,10 +170,33 @@ public class GameWindow {
         gameLoop.addUpdatable((Updatable) deltaTime -> {
             // Reserved for future per-frame UI/game updates in this window
         });
+        rewardParticles.attach(gameLoop.getScene());
+
+        // Trade decor, smoothing and particles for frame rate on slow machines
+        qualityGovernor = new QualityGovernor().attach(gameLoop.getScene());
+        ParticleSystem.getInstance().bind(qualityGovernor);
 
         // Start/stop lifecycle
-        stage.setOnShown(e -> startLoop());
-        stage.setOnHiding(e -> stopLoop());
+        stage.setOnShown(e -> {
+            if (coinSparkles == null) {
+                addRewardEmitters(); // disposed when the window was last hidden
+            }
+            CoinManager.addListener(coinEffectListener);
+            startLoop();
+        });
+        stage.setOnHiding(e -> {
+            stopLoop();
+            CoinManager.removeListener(coinEffectListener);
+            // Frees the emitters' particles and budget; drop them so nothing bursts into a disposed layer
+            rewardParticles.dispose();
+            coinSparkles = null;
+            rewardBursts = null;
+        });
+    }
+    
+    private void addRewardEmitters() {
+        coinSparkles = rewardParticles.addEmitter(ParticleEffect.coinSparkle(), 400);
+        rewardBursts = rewardParticles.addEmitter(ParticleEffect.rewardBurst(), 800);
     }
     
     private HBox createTopBar() {
@@ -409,10 +499,16 @@ public class GameWindow {
 
         // Render tilemap background (plains)
         TileCollisionMap collisionMap = null;
+        // Decor without collision, which the quality governor may thin out
+        java.util.List<javafx.scene.Node> cosmeticDecor = new java.util.ArrayList<>();
+        Job<DecorLayout> decorJob = null;
+        Image decorAtlas = null;
+        final int decorTileSize = 48;
+        final int decorSrcTileSize = 16;
         try {
             // Scale tiles up to match 96x96 player (use 48x48 tiles)
-            final int tileSize = 48;
-            final int srcTileSize = 16;
+            final int tileSize = decorTileSize;
+            final int srcTileSize = decorSrcTileSize;
             int colsForTiles = (int) (worldW / tileSize);
             int rowsForTiles = (int) (worldH / tileSize);
             // Ground: repeat grass.png everywhere
@@ -429,39 +525,39 @@ public class GameWindow {
                     baseLayer.getChildren().add(iv);
                 }
             }
-            // Decor: prefer external CSV (manual placement); else scatter random
+            // Decor: prefer an external Tiled map or CSV (manual placement); else scatter random
             Image decorImg = new Image(getClass().getResourceAsStream("/Assets/Tilemap/decor_16x16.png"));
             boolean renderedDecorFromCsv = false;
             try {
+                java.nio.file.Path dtiled = java.nio.file.Paths.get("edited/decor.tmx");
+                if (!java.nio.file.Files.exists(dtiled)) dtiled = java.nio.file.Paths.get("edited/decor.json");
                 java.nio.file.Path dcsv = java.nio.file.Paths.get("edited/decor.csv");
-                if (java.nio.file.Files.exists(dcsv)) {
+                if (java.nio.file.Files.exists(dtiled)) {
+                    // Tiled export: every visible tile layer, each tile from its own tileset image
+                    com.coincraft.game.tile.TiledMap decorMap = com.coincraft.game.tile.TiledMapLoader.load(dtiled);
+                    for (com.coincraft.game.tile.TiledMap.TileLayer layer : decorMap.getTileLayers()) {
+                        if (!layer.visible) continue;
+                        com.coincraft.game.tile.TiledMapLoader.renderTileLayer(decorLayer, decorMap, layer, tileset -> {
+                            // The loader already resolved the image against the file that declared its tileset
+                            java.nio.file.Path img = tileset.image.isEmpty() ? null : java.nio.file.Paths.get(tileset.image);
+                            return img != null && java.nio.file.Files.exists(img) ? new Image(img.toUri().toString()) : decorImg;
+                        }, tileSize);
+                    }
+                    renderedDecorFromCsv = true;
+                } else if (java.nio.file.Files.exists(dcsv)) {
                     int[][] gids = com.coincraft.game.tile.TiledCsvMapLoader.loadCsv(dcsv);
                     com.coincraft.game.tile.TiledCsvMapLoader.renderLayer(decorLayer, decorImg, gids, srcTileSize, tileSize);
                     renderedDecorFromCsv = true;
                 }
             } catch (IOException ignored) {}
-            if (!renderedDecorFromCsv) {
-                java.util.Random rng = new java.util.Random(1234);
+            decorAtlas = decorImg;
+            int scatterVariants = 0; // random scatter only when there is no hand-placed CSV
+            if (renderedDecorFromCsv) {
+                cosmeticDecor.addAll(decorLayer.getChildren());
+            } else {
                 int decorCols = Math.max(1, (int)Math.floor(decorImg.getWidth() / srcTileSize));
                 int decorRows = Math.max(1, (int)Math.floor(decorImg.getHeight() / srcTileSize));
-                for (int r = 1; r < rowsForTiles - 1; r++) {
-                    for (int c = 1; c < colsForTiles - 1; c++) {
-                        if (rng.nextDouble() < 0.08) { // 8% chance
-                            int idx = rng.nextInt(decorCols * decorRows);
-                            int sx = (idx % decorCols) * srcTileSize;
-                            int sy = (idx / decorCols) * srcTileSize;
-                            ImageView iv = new ImageView(decorImg);
-                            iv.setViewport(new javafx.geometry.Rectangle2D(sx, sy, srcTileSize, srcTileSize));
-                            iv.setFitWidth(tileSize);
-                            iv.setFitHeight(tileSize);
-                            iv.setPreserveRatio(false);
-                            iv.setSmooth(true);
-                            iv.setLayoutX(c * tileSize);
-                            iv.setLayoutY(r * tileSize);
-                            decorLayer.getChildren().add(iv);
-                        }
-                    }
-                }
+                scatterVariants = decorCols * decorRows;
             }
 
             // External CSV import disabled for color-only mode
@@ -532,72 +628,15 @@ public class GameWindow {
                 collisionMap.setBlocked(cols - 1, r, true);
             }
 
-            // Reserve spawn area around center so player doesn't spawn blocked
-            int spawnCol = cols / 2;
-            int spawnRow = rows / 2;
-            int reserveRadius = 2; // keep 5x5 clear
-            java.util.function.BiPredicate<Integer,Integer> isReserved = (gc, gr) ->
-                Math.abs(gc - spawnCol) <= reserveRadius && Math.abs(gr - spawnRow) <= reserveRadius;
-
-            // Place rock sprites as collidable obstacles (cannot walk through)
-            try {
-                Image[] rocks = new Image[] {
-                    new Image(getClass().getResourceAsStream("/Assets/Sprites/Rocks/spr_boulder1.png")),
-                    new Image(getClass().getResourceAsStream("/Assets/Sprites/Rocks/spr_boulder2.png")),
-                    new Image(getClass().getResourceAsStream("/Assets/Sprites/Rocks/spr_boulder3.png")),
-                    new Image(getClass().getResourceAsStream("/Assets/Sprites/Rocks/spr_smallrock2.png")),
-                    new Image(getClass().getResourceAsStream("/Assets/Sprites/Rocks/spr_boulder4.png")),
-                    new Image(getClass().getResourceAsStream("/Assets/Sprites/Rocks/spr_smallrock1.png"))
-                };
-                java.util.Random rockRng = new java.util.Random(4321);
-                for (int ry = 1; ry < rows - 1; ry++) {
-                    for (int cx = 1; cx < cols - 1; cx++) {
-                        if (path[ry][cx]) continue; // keep paths clear
-                        if (isReserved.test(cx, ry)) continue; // keep spawn clear
-                        if (rockRng.nextDouble() < 0.05) { // 5% chance per cell
-                            Image rock = rocks[rockRng.nextInt(rocks.length)];
-                            addObstacle(rock, decorLayer, cx, ry, 1, 1, tileSize, collisionMap);
-                        }
-                    }
-                }
-            } catch (Exception ignoredRocks) {}
-
-            // Vegetation (bushes/trees) as collidable obstacles
-            try {
-                Image[] veg = new Image[] {
-                    new Image(getClass().getResourceAsStream("/Assets/Sprites/Vegetation/Bush.png")),      // 1x1
-                    new Image(getClass().getResourceAsStream("/Assets/Sprites/Vegetation/Bush1.png")),     // 1x1
-                    new Image(getClass().getResourceAsStream("/Assets/Sprites/Vegetation/spr_tree1.png")), // 2x2
-                    new Image(getClass().getResourceAsStream("/Assets/Sprites/Vegetation/spr_tree2.png")), // 2x2
-                    new Image(getClass().getResourceAsStream("/Assets/Sprites/Vegetation/spr_tree3.png")), // 2x2
-                    new Image(getClass().getResourceAsStream("/Assets/Sprites/Vegetation/tree.png")),      // 2x2
-                    new Image(getClass().getResourceAsStream("/Assets/Sprites/Vegetation/tree1.png"))      // 2x2
-                };
-                java.util.Random vegRng = new java.util.Random(9876);
-                for (int ry = 1; ry < rows - 1; ry++) {
-                    for (int cx = 1; cx < cols - 1; cx++) {
-                        if (path[ry][cx]) continue; // keep paths clear
-                        if (isReserved.test(cx, ry)) continue; // keep spawn clear
-                        if (vegetationAllowedOnTile(vegRng)) {
-                            int idx = vegRng.nextInt(veg.length);
-                            Image im = veg[idx];
-                            int wTiles = (idx <= 1) ? 1 : 2; // bushes 1x1, trees 2x2
-                            int hTiles = (idx <= 1) ? 1 : 2;
-                            // ensure footprint is within bounds and not on path/blocked
-                            boolean ok = true;
-                            for (int rr = 0; rr < hTiles && ok; rr++) {
-                                for (int cc = 0; cc < wTiles; cc++) {
-                                    int gr = ry + rr, gc = cx + cc;
-                                    if (gr >= rows - 1 || gc >= cols - 1 || path[gr][gc] || isReserved.test(gc, gr) || collisionMap.isBlockedTile(gc, gr)) { ok = false; break; }
-                                }
-                            }
-                            if (ok) {
-                                addObstacle(im, decorLayer, cx, ry, wTiles, hTiles, tileSize, collisionMap);
-                            }
-                        }
-                    }
-                }
-            } catch (Exception ignoredVegetation) {}
+            // Scattered decor, rocks and vegetation are generated on a worker thread
+            // (or read from the layout cache); they appear once the layout is delivered
+            DecorGenerator.Spec decorSpec = new DecorGenerator.Spec(FREE_PLAY_ZONE, FREE_PLAY_DECOR_SEED, cols, rows)
+                .path(path)
+                .spawn(cols / 2, rows / 2, 2) // keep 5x5 clear so the player doesn't spawn blocked
+                .scatter(scatterVariants, 0.08)
+                .rocks(ROCK_IMAGES.length, 0.05)
+                .vegetation(VEGETATION_SIZES, 0.04);
+            decorJob = decorCache.loadAsync(decorSpec, gameLoop.getScene().getCancellationToken());
 
             // Collision map only; decor drawn above already
         } catch (Exception ignore) {}
@@ -665,6 +704,28 @@ public class GameWindow {
         // Register controller with the game loop
         gameLoop.addUpdatable(controller);
 
+        // Optional input recording for deterministic replays (-Dcoincraft.replay.record=<file>)
+        // Starts once generated obstacles are in the collision map, so the recorded world is final
+        final TileCollisionMap recordedCollisions = collisionMap;
+        Runnable startRecording = () -> {
+            String recordPath = System.getProperty(PlayerReplay.RECORD_PROPERTY);
+            if (recordPath != null && !recordPath.isBlank()) {
+                replayRecordPath = java.nio.file.Paths.get(recordPath);
+                replayRecorder = PlayerReplay.startRecording(inputManager, () -> {
+                    javafx.geometry.Point2D origin = pane.localToScene(0, 0);
+                    return new PlayerReplay.InitialState(
+                        idleSprite.getX(), idleSprite.getY(), idleSprite.getWidth(), 220,
+                        worldW, worldH, viewportW, viewportH,
+                        origin.getX() - pane.getTranslateX(), origin.getY() - pane.getTranslateY(),
+                        0, recordedCollisions
+                    );
+                });
+                // Input phase runs before the controller, so each sample is what the controller sees
+                gameLoop.getScene().addSystem(FrameScheduler.Phase.INPUT, replayRecorder);
+                System.out.println("🎬 Recording Free Play input to " + replayRecordPath);
+            }
+        };
+
         // Camera follow on idle sprite (active sprite position is kept in sync)
         CameraFollow camera = new CameraFollow(
             pane,
@@ -676,11 +737,35 @@ public class GameWindow {
         );
         gameLoop.addUpdatable(camera);
 
+        // Apply the quality level to this world, replacing the previous entry's world
+        if (worldQualityListener != null) {
+            qualityGovernor.removeListener(worldQualityListener);
+        }
+        worldQualityListener = level -> applyWorldQuality(level, cosmeticDecor, baseLayer, decorLayer);
+        qualityGovernor.addListener(worldQualityListener);
+
+        // Turn the generated layout into nodes and collision when it arrives
+        if (decorJob != null) {
+            final Image atlas = decorAtlas;
+            final TileCollisionMap collisions = collisionMap;
+            decorJob.onComplete(layout -> {
+                    renderDecorLayout(layout, decorLayer, atlas, decorSrcTileSize, decorTileSize, collisions, cosmeticDecor);
+                    applyWorldQuality(qualityGovernor.getLevel(), cosmeticDecor, baseLayer, decorLayer);
+                    startRecording.run();
+                })
+                .onError(error -> {
+                    System.err.println("⚠️ Decor generation failed: " + error.getMessage());
+                    startRecording.run();
+                });
+        } else {
+            startRecording.run();
+        }
+
         // Add NPCs to the game world
         addNPCsToGameWorld(pane, worldW, worldH);
         
         // Initialize CoinManager with current user
-        com.coincraft.game.adventure.models.CoinManager.initialize(currentUser);
+        CoinManager.initialize(currentUser);
         
         // Add NPC interaction system
         addNPCInteractionSystem(controller, pane, idleSprite, inputManager);
@@ -730,6 +815,19 @@ public class GameWindow {
         // Render all NPCs in the game world
         npcManager.renderAll(gameWorld);
         
+        // Register NPCs explicitly so interaction and collision never scan the scene graph
+        npcIndex = new NPCSpatialIndex<>(NPC_CELL_SIZE);
+        for (ConversationalNPC npc : npcManager.getNPCs()) {
+            javafx.geometry.Bounds b = npc.getNpcSprite().getBoundsInParent();
+            npcIndex.register(
+                npc.getName(),
+                npc.getType(),
+                (b.getMinX() + b.getMaxX()) * 0.5,
+                (b.getMinY() + b.getMaxY()) * 0.5,
+                Math.max(b.getWidth(), b.getHeight()) * 0.5
+            );
+        }
+        
         System.out.println("✅ Added " + npcManager.getNPCCount() + " Conversational NPCs to Free Play world");
         System.out.println("🎮 NPCs now have full conversation systems!");
         System.out.println("💡 Walk near NPCs and press SPACE to start conversations");
@@ -762,7 +860,7 @@ public class GameWindow {
                 System.out.println("Player position: (" + playerX + ", " + playerY + ")");
                 
                 // Check for nearby NPCs and interact
-                checkForNPCInteractions(gameWorld, playerX, playerY);
+                checkForNPCInteractions(playerX, playerY);
             }
             
             // Update space key state
@@ -775,127 +873,52 @@ public class GameWindow {
     /**
      * Check for NPCs near the player and handle interactions
      */
-    private void checkForNPCInteractions(javafx.scene.layout.Pane gameWorld, double playerX, double playerY) {
+    private void checkForNPCInteractions(double playerX, double playerY) {
         System.out.println("🔍 Checking for NPC interactions...");
         
-        boolean foundNPC = false;
-        
-        // Look for NPCs in the game world
-        for (javafx.scene.Node node : getAllDescendants(gameWorld)) {
-            if (node instanceof javafx.scene.shape.Circle npcCircle) {
-                double npcX = npcCircle.getLayoutX();
-                double npcY = npcCircle.getLayoutY();
-                double distance = Math.sqrt(Math.pow(playerX - npcX, 2) + Math.pow(playerY - npcY, 2));
-                
-                if (distance <= 200) {
-                    System.out.println("✅ NPC within interaction range!");
-                    startConversationWithNPC(npcCircle);
-                    foundNPC = true;
-                    break;
-                }
-            } else if (node instanceof javafx.scene.image.ImageView npcImage) {
-                double npcX = npcImage.getLayoutX() + Math.max(1.0, npcImage.getBoundsInParent().getWidth()) * 0.5;
-                double npcY = npcImage.getLayoutY() + Math.max(1.0, npcImage.getBoundsInParent().getHeight()) * 0.5;
-                double distance = Math.sqrt(Math.pow(playerX - npcX, 2) + Math.pow(playerY - npcY, 2));
-                
-                if (distance <= 200) {
-                    String npcNameNearby = null;
-                    for (javafx.scene.Node sibling : getAllDescendants(gameWorld)) {
-                        if (sibling instanceof javafx.scene.text.Text t) {
-                            double tx = t.getLayoutX();
-                            double ty = t.getLayoutY();
-                            double nameDist = Math.sqrt(Math.pow(tx - npcX, 2) + Math.pow(ty - (npcY - 40), 2));
-                            if (nameDist < 120) { 
-                                npcNameNearby = t.getText(); 
-                                break; 
-                            }
-                        }
-                    }
-                    
-                    String npcType = "unknown";
-                    if (npcNameNearby != null) {
-                        String s = npcNameNearby.toLowerCase();
-                        if (s.contains("adventurer")) npcType = "adventurer";
-                        else if (s.contains("wise")) npcType = "wise_lady";
-                        else if (s.contains("business")) npcType = "businessman";
-                    }
-                    
-                    System.out.println("✅ Image NPC within range. Name: " + npcNameNearby + ", Type: " + npcType);
-                    startConversationWithNPC(npcImage, npcNameNearby, npcType);
-                    foundNPC = true;
-                    break;
-                }
-            }
-        }
+        NPCSpatialIndex.Entry<ConversationalNPC.NPCType> npc =
+            npcIndex != null ? npcIndex.findNearest(playerX, playerY, NPC_INTERACTION_RANGE) : null;
         
-        if (!foundNPC) {
+        if (npc == null) {
             System.out.println("❌ No NPCs found within interaction range");
+            return;
         }
+        
+        System.out.println("✅ NPC within range. Name: " + npc.getName() + ", Type: " + npc.getType());
+        startConversationWithNPC(npc);
     }
     
     /**
-     * Collect all descendant nodes (breadth-first) under the given root pane
-     */
-    private java.util.List<javafx.scene.Node> getAllDescendants(javafx.scene.Parent root) {
-        java.util.ArrayList<javafx.scene.Node> all = new java.util.ArrayList<>();
-        java.util.ArrayDeque<javafx.scene.Parent> q = new java.util.ArrayDeque<>();
-        q.add(root);
-        while (!q.isEmpty()) {
-            javafx.scene.Parent p = q.poll();
-            for (javafx.scene.Node n : p.getChildrenUnmodifiable()) {
-                all.add(n);
-                if (n instanceof javafx.scene.Parent child) {
-                    q.add(child);
-                }
-            }
-        }
-        return all;
-    }
-    
-    /**
-     * Start conversation with an NPC (Circle fallback)
-     */
-    private void startConversationWithNPC(javafx.scene.shape.Circle npcCircle) {
-        System.out.println("💬 Starting conversation with Circle NPC at position: (" + npcCircle.getLayoutX() + ", " + npcCircle.getLayoutY() + ")");
-        // For now, show a simple interaction message
-        javafx.scene.control.Alert alert = new javafx.scene.control.Alert(javafx.scene.control.Alert.AlertType.INFORMATION);
-        alert.setTitle("NPC Interaction");
-        alert.setHeaderText("NPC Conversation");
-        alert.setContentText("You've found an NPC! The conversation system is now active. This NPC would normally start a full dialogue tree with multiple conversation options.");
-        alert.showAndWait();
-    }
-    
-    /**
-     * Start conversation with an NPC (ImageView with name and type)
+     * Start conversation with a registered NPC
      */
-    private void startConversationWithNPC(javafx.scene.image.ImageView npcImage, String npcName, String npcType) {
-        System.out.println("💬 Starting conversation with " + npcName + " (Type: " + npcType + ") at position: (" + npcImage.getLayoutX() + ", " + npcImage.getLayoutY() + ")");
+    private void startConversationWithNPC(NPCSpatialIndex.Entry<ConversationalNPC.NPCType> npc) {
+        System.out.println("💬 Starting conversation with " + npc.getName() + " (Type: " + npc.getType() + ") at position: (" + npc.getX() + ", " + npc.getY() + ")");
         
         // Create conversation system based on NPC type
         ConversationSystem.DialogueNode conversationTree;
         String npcDisplayType;
         
-        switch (npcType) {
-            case "adventurer" -> {
+        switch (npc.getType()) {
+            case ADVENTURER -> {
                 conversationTree = NPCConversationTrees.createAdventurerConversation();
                 npcDisplayType = "Game Guide";
             }
-            case "wise_lady" -> {
+            case SAGE -> {
                 conversationTree = NPCConversationTrees.createWiseLadyConversation();
                 npcDisplayType = "Financial Sage";
             }
-            case "businessman" -> {
+            case MERCHANT -> {
                 conversationTree = NPCConversationTrees.createBusinessmanConversation();
                 npcDisplayType = "Business Expert";
             }
             default -> {
-                System.out.println("❌ Unknown NPC type: " + npcType);
+                System.out.println("❌ Unknown NPC type: " + npc.getType());
                 return;
             }
         }
         
         if (conversationTree != null) {
-            ConversationSystem conversationSystem = new ConversationSystem(npcName, npcDisplayType, conversationTree);
+            ConversationSystem conversationSystem = new ConversationSystem(npc.getName(), npcDisplayType, conversationTree);
             conversationSystem.startConversation();
         }
     }
@@ -909,6 +932,8 @@ public class GameWindow {
         
         // Create a custom updatable for NPC collision detection
         gameLoop.addUpdatable(deltaTime -> {
+            if (npcIndex == null) return;
+            
             // Get player position and size
             double playerX = idleSprite.getX();
             double playerY = idleSprite.getY();
@@ -916,71 +941,21 @@ public class GameWindow {
             double playerHeight = Math.max(1.0, idleSprite.getHeight());
             double playerRadius = Math.max(playerWidth, playerHeight) * 0.5;
             
-            // Check collision with all NPCs
-            for (javafx.scene.Node node : getAllDescendants(gameWorld)) {
-                // Skip player's own sprite
-                if (node == idleSprite.getNode()) continue;
-                
-                // Only consider likely NPC visuals
-                if (!isLikelyNPC(node, gameWorld)) continue;
-                
-                javafx.geometry.Point2D npcCenter;
-                double npcRadius;
-                
-                if (node instanceof javafx.scene.shape.Circle c) {
-                    npcCenter = new javafx.geometry.Point2D(c.getLayoutX(), c.getLayoutY());
-                    npcRadius = Math.max(1.0, c.getRadius());
-                } else if (node instanceof javafx.scene.image.ImageView iv) {
-                    npcCenter = new javafx.geometry.Point2D(
-                        iv.getLayoutX() + Math.max(1.0, iv.getBoundsInParent().getWidth()) * 0.5,
-                        iv.getLayoutY() + Math.max(1.0, iv.getBoundsInParent().getHeight()) * 0.5
-                    );
-                    npcRadius = Math.max(iv.getBoundsInParent().getWidth(), iv.getBoundsInParent().getHeight()) * 0.5;
-                } else {
-                    continue;
-                }
-                
-                // Calculate distance between player and NPC
-                double dx = playerX - npcCenter.getX();
-                double dy = playerY - npcCenter.getY();
-                double distance = Math.sqrt(dx * dx + dy * dy);
-                double minDistance = npcRadius + playerRadius + 2.0; // Reduced to 2 pixel buffer
-                
-                // If too close, just log the collision (no push-back)
-                if (distance > 0 && distance < minDistance) {
-                    System.out.println("🚫 NPC collision detected: player too close to NPC (distance: " + String.format("%.1f", distance) + "px)");
-                    break; // Only handle one collision per frame
-                }
+            // Only NPCs in nearby grid cells are tested; 2 pixel buffer
+            NPCSpatialIndex.Entry<ConversationalNPC.NPCType> npc =
+                npcIndex.findOverlapping(playerX, playerY, playerRadius + 2.0);
+            
+            // If too close, just log the collision (no push-back)
+            if (npc != null) {
+                double dx = playerX - npc.getX();
+                double dy = playerY - npc.getY();
+                System.out.println("🚫 NPC collision detected: player too close to " + npc.getName() + " (distance: " + String.format("%.1f", Math.sqrt(dx * dx + dy * dy)) + "px)");
             }
         });
         
         System.out.println("✅ NPC collision detection added - Reduced collision area (2px buffer, no push-back)");
     }
     
-    /**
-     * Check if a node is likely an NPC visual
-     */
-    private boolean isLikelyNPC(javafx.scene.Node node, javafx.scene.Parent searchRoot) {
-        if (node instanceof javafx.scene.shape.Circle) return true;
-        if (node instanceof javafx.scene.image.ImageView iv) {
-            // Check for nearby name text within ~140px above the image center
-            javafx.geometry.Bounds b = iv.localToScene(iv.getBoundsInLocal());
-            javafx.geometry.Point2D centerScene = new javafx.geometry.Point2D(
-                (b.getMinX() + b.getMaxX()) * 0.5,
-                (b.getMinY() + b.getMaxY()) * 0.5
-            );
-            javafx.geometry.Point2D centerLocal = searchRoot.sceneToLocal(centerScene);
-            for (javafx.scene.Node sibling : getAllDescendants(searchRoot)) {
-                if (sibling instanceof javafx.scene.text.Text t) {
-                    double dx = t.getLayoutX() - centerLocal.getX();
-                    double dy = (t.getLayoutY() - 40) - centerLocal.getY();
-                    if (Math.hypot(dx, dy) < 140) return true;
-                }
-            }
-        }
-        return false;
-    }
-    
     private void showNPCIntro() {
         contentArea.getChildren().clear();
         
@@ -1179,6 +1154,9 @@ public class GameWindow {
         sessionCoins += coinChange;
         currentUser.setSmartCoinBalance(currentUser.getSmartCoinBalance() + coinChange);
         updateCoinDisplay();
+        if (isCorrect && coinChange > 0) {
+            playCoinEffect(coinChange);
+        }
         
         // Record answer
         gameState.recordAnswer(isCorrect);
@@ -1284,6 +1262,7 @@ public class GameWindow {
         currentUser.setSmartCoinBalance(currentUser.getSmartCoinBalance() + currentLevel.getCompletionReward());
         sessionCoins += currentLevel.getCompletionReward();
         updateCoinDisplay();
+        playRewardEffect(currentLevel.getCompletionReward());
         
         // Save progress
         progressService.saveGameState(gameState);
@@ -1425,6 +1404,27 @@ public class GameWindow {
         pulse.play();
     }
     
+    /**
+     * Sparkles from the coin counter, more for bigger rewards
+     */
+    private void playCoinEffect(int coins) {
+        if (coinSparkles == null || coinLabel == null || coinLabel.getScene() == null) return;
+        Bounds bounds = coinLabel.localToScene(coinLabel.getBoundsInLocal());
+        Point2D at = rewardParticles.getNode().sceneToLocal(bounds.getCenterX(), bounds.getCenterY());
+        coinSparkles.burst(at.getX(), at.getY(), Math.min(120, 20 + coins * 2));
+    }
+    
+    /**
+     * Burst in the middle of the window for level completion
+     */
+    private void playRewardEffect(int coins) {
+        if (rewardBursts == null) return;
+        double width = rewardParticles.getNode().getWidth();
+        double height = rewardParticles.getNode().getHeight();
+        rewardBursts.burst(width * 0.5, height * 0.45, 300);
+        playCoinEffect(coins);
+    }
+    
     public void show() {
         stage.show();
     }
@@ -1443,6 +1443,20 @@ public class GameWindow {
         if (gameLoop != null) {
             gameLoop.stop();
         }
+        saveReplay();
+    }
+
+    /**
+     * Write the input recorded so far (the whole log is rewritten each time)
+     */
+    private void saveReplay() {
+        if (replayRecorder == null || replayRecordPath == null) return;
+        try {
+            replayRecorder.getLog().save(replayRecordPath);
+            System.out.println("🎬 Saved replay: " + replayRecorder.getLog());
+        } catch (IOException e) {
+            System.err.println("Could not save replay: " + e.getMessage());
+        }
     }
 
     private void togglePause() {
@@ -1489,8 +1503,61 @@ public class GameWindow {
 
     // Removed unused nineMax method
 
-    private boolean vegetationAllowedOnTile(java.util.Random rng) {
-        return rng.nextDouble() < 0.04; // 4% chance
+    /**
+     * Apply a quality level to the Free Play world: thin cosmetic decor and
+     * toggle smooth scaling of tiles and obstacles
+     */
+    private void applyWorldQuality(QualityLevel level, java.util.List<javafx.scene.Node> cosmeticDecor,
+                                   javafx.scene.layout.Pane... layers) {
+        for (int i = 0; i < cosmeticDecor.size(); i++) {
+            cosmeticDecor.get(i).setVisible(level.keepsDecor(i));
+        }
+        for (javafx.scene.layout.Pane layer : layers) {
+            for (javafx.scene.Node node : layer.getChildren()) {
+                if (node instanceof ImageView iv) {
+                    iv.setSmooth(level.isSmoothing());
+                }
+            }
+        }
+    }
+
+    /**
+     * Turn a generated decor layout into nodes; rocks and vegetation also block movement
+     */
+    private void renderDecorLayout(DecorLayout layout, javafx.scene.layout.Pane layer, Image atlas,
+                                   int srcTileSize, int tileSize, TileCollisionMap collision,
+                                   java.util.List<javafx.scene.Node> cosmeticDecor) {
+        int atlasCols = atlas != null ? Math.max(1, (int)Math.floor(atlas.getWidth() / srcTileSize)) : 1;
+        for (DecorLayout.Placement p : layout.getPlacements()) {
+            switch (p.kind) {
+                case SCATTER -> {
+                    if (atlas == null) continue;
+                    int sx = (p.variant % atlasCols) * srcTileSize;
+                    int sy = (p.variant / atlasCols) * srcTileSize;
+                    ImageView iv = new ImageView(atlas);
+                    iv.setViewport(new javafx.geometry.Rectangle2D(sx, sy, srcTileSize, srcTileSize));
+                    iv.setFitWidth(tileSize);
+                    iv.setFitHeight(tileSize);
+                    iv.setPreserveRatio(false);
+                    iv.setSmooth(true);
+                    iv.setLayoutX(p.col * tileSize);
+                    iv.setLayoutY(p.row * tileSize);
+                    layer.getChildren().add(iv);
+                    cosmeticDecor.add(iv);
+                }
+                case ROCK -> {
+                    if (collision == null || p.variant >= ROCK_IMAGES.length) continue;
+                    addObstacle(ImageCache.get(ROCK_IMAGES[p.variant]), layer, p.col, p.row,
+                        p.widthTiles, p.heightTiles, tileSize, collision);
+                }
+                case VEGETATION -> {
+                    if (collision == null || p.variant >= VEGETATION_IMAGES.length) continue;
+                    addObstacle(ImageCache.get(VEGETATION_IMAGES[p.variant]), layer, p.col, p.row,
+                        p.widthTiles, p.heightTiles, tileSize, collision);
+                }
+            }
+        }
+        System.out.println("🌳 Placed " + layout.getPlacements().size() + " decor items");
     }
 
     private void addObstacle(Image img, javafx.scene.layout.Pane layer, int col, int row, int wTiles, int hTiles, int tileSize, TileCollisionMap collision) {
@@ -7,6 +7,7 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import com.coincraft.engine.jobs.JobSystem;
 import com.coincraft.models.Badge;
 import com.coincraft.models.Task;
 import com.coincraft.models.User;
@@ -50,7 +51,7 @@ public class FirebaseDataManager {
     /**
      * Initialize the data manager
      */
-    public void initialize() {
+    public synchronized void initialize() {
         try {
             firebaseService = FirebaseService.getInstance();
             firebaseService.initialize();
@@ -72,143 +73,149 @@ public class FirebaseDataManager {
      * Save user data with automatic validation and caching
      */
     public CompletableFuture<Boolean> saveUserAsync(User user) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                if (!initialized) initialize();
-                
-                // Validate user data
-                if (!validateUserData(user)) {
-                    LOGGER.warning("Invalid user data provided");
-                    return false;
-                }
-                
-                // Update timestamps
-                if (user.getLastLogin() == null) {
-                    user.setLastLogin(LocalDateTime.now());
-                }
-                
-                // Save to Firebase
-                boolean success = false;
-                if (firestoreService != null && currentIdToken != null) {
-                    firestoreService.setIdToken(currentIdToken);
-                    success = firestoreService.saveUser(user);
-                } else {
-                    // Fallback to Firebase service
-                    firebaseService.saveUser(user);
-                    success = true; // Assume success for Firebase service
-                }
-                
-                if (success) {
-                    // Update cache
-                    currentUserCache = user;
-                    lastCacheUpdate = LocalDateTime.now();
-                    LOGGER.info("User data saved successfully: " + user.getName());
-                }
-                
-                return success;
-                
-            } catch (Exception e) {
-                LOGGER.severe("Error saving user data: " + e.getMessage());
+        return JobSystem.getInstance().io(token -> saveUserNow(user)).toFuture();
+    }
+    
+    private boolean saveUserNow(User user) {
+        try {
+            if (!initialized) initialize();
+            
+            // Validate user data
+            if (!validateUserData(user)) {
+                LOGGER.warning("Invalid user data provided");
                 return false;
             }
-        });
+            
+            // Update timestamps
+            if (user.getLastLogin() == null) {
+                user.setLastLogin(LocalDateTime.now());
+            }
+            
+            // Save to Firebase
+            boolean success = false;
+            if (firestoreService != null && currentIdToken != null) {
+                firestoreService.setIdToken(currentIdToken);
+                success = firestoreService.saveUser(user);
+            } else {
+                // Fallback to Firebase service
+                firebaseService.saveUser(user);
+                success = true; // Assume success for Firebase service
+            }
+            
+            if (success) {
+                // Update cache
+                currentUserCache = user;
+                lastCacheUpdate = LocalDateTime.now();
+                LOGGER.info("User data saved successfully: " + user.getName());
+            }
+            
+            return success;
+            
+        } catch (Exception e) {
+            LOGGER.severe("Error saving user data: " + e.getMessage());
+            return false;
+        }
     }
     
     /**
      * Load user data with caching
      */
     public CompletableFuture<User> loadUserAsync(String userId) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                if (!initialized) initialize();
-                
-                // Check cache first (if less than 5 minutes old)
-                if (currentUserCache != null && 
-                    currentUserCache.getUserId().equals(userId) &&
-                    lastCacheUpdate != null &&
-                    lastCacheUpdate.isAfter(LocalDateTime.now().minusMinutes(5))) {
-                    LOGGER.info("Returning cached user data: " + userId);
-                    return currentUserCache;
-                }
-                
-                // Load from Firebase
-                User user = null;
-                if (firestoreService != null && currentIdToken != null) {
-                    firestoreService.setIdToken(currentIdToken);
-                    user = firestoreService.loadUser(userId);
-                } else {
-                    user = firebaseService.loadUser(userId);
-                }
-                
-                if (user != null) {
-                    // Update cache
-                    currentUserCache = user;
-                    lastCacheUpdate = LocalDateTime.now();
-                    LOGGER.info("User data loaded successfully: " + user.getName());
-                }
-                
-                return user;
-                
-            } catch (Exception e) {
-                LOGGER.severe("Error loading user data: " + e.getMessage());
-                return null;
+        return JobSystem.getInstance().io(token -> loadUserNow(userId)).toFuture();
+    }
+    
+    private User loadUserNow(String userId) {
+        try {
+            if (!initialized) initialize();
+            
+            // Check cache first (if less than 5 minutes old)
+            if (currentUserCache != null && 
+                currentUserCache.getUserId().equals(userId) &&
+                lastCacheUpdate != null &&
+                lastCacheUpdate.isAfter(LocalDateTime.now().minusMinutes(5))) {
+                LOGGER.info("Returning cached user data: " + userId);
+                return currentUserCache;
             }
-        });
+            
+            // Load from Firebase
+            User user = null;
+            if (firestoreService != null && currentIdToken != null) {
+                firestoreService.setIdToken(currentIdToken);
+                user = firestoreService.loadUser(userId);
+            } else {
+                user = firebaseService.loadUser(userId);
+            }
+            
+            if (user != null) {
+                // Update cache
+                currentUserCache = user;
+                lastCacheUpdate = LocalDateTime.now();
+                LOGGER.info("User data loaded successfully: " + user.getName());
+            }
+            
+            return user;
+            
+        } catch (Exception e) {
+            LOGGER.severe("Error loading user data: " + e.getMessage());
+            return null;
+        }
     }
     
     /**
      * Save task with automatic validation
      */
     public CompletableFuture<Boolean> saveTaskAsync(Task task) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                if (!initialized) initialize();
-                
-                // Validate task data
-                if (!validateTaskData(task)) {
-                    LOGGER.warning("Invalid task data provided");
-                    return false;
-                }
-                
-                // Update timestamps
-                if (task.getCreatedAt() == null) {
-                    task.setCreatedAt(LocalDateTime.now());
-                }
-                if (task.isCompleted() && task.getCompletedAt() == null) {
-                    task.setCompletedAt(LocalDateTime.now());
-                }
-                
-                // Save to Firebase
-                boolean success = false;
-                if (firestoreService != null && currentIdToken != null) {
-                    firestoreService.setIdToken(currentIdToken);
-                    success = firestoreService.saveTask(task);
-                } else {
-                    // Fallback to Firebase service
-                    firebaseService.saveTask(task);
-                    success = true; // Assume success for Firebase service
-                }
-                
-                if (success) {
-                    // Update cache
-                    updateTaskInCache(task);
-                    LOGGER.info("Task saved successfully: " + task.getTaskId());
-                }
-                
-                return success;
-                
-            } catch (Exception e) {
-                LOGGER.severe("Error saving task: " + e.getMessage());
+        return JobSystem.getInstance().io(token -> saveTaskNow(task)).toFuture();
+    }
+    
+    private boolean saveTaskNow(Task task) {
+        try {
+            if (!initialized) initialize();
+            
+            // Validate task data
+            if (!validateTaskData(task)) {
+                LOGGER.warning("Invalid task data provided");
                 return false;
             }
-        });
+            
+            // Update timestamps
+            if (task.getCreatedAt() == null) {
+                task.setCreatedAt(LocalDateTime.now());
+            }
+            if (task.isCompleted() && task.getCompletedAt() == null) {
+                task.setCompletedAt(LocalDateTime.now());
+            }
+            
+            // Save to Firebase
+            boolean success = false;
+            if (firestoreService != null && currentIdToken != null) {
+                firestoreService.setIdToken(currentIdToken);
+                success = firestoreService.saveTask(task);
+            } else {
+                // Fallback to Firebase service
+                firebaseService.saveTask(task);
+                success = true; // Assume success for Firebase service
+            }
+            
+            if (success) {
+                // Update cache
+                updateTaskInCache(task);
+                LOGGER.info("Task saved successfully: " + task.getTaskId());
+            }
+            
+            return success;
+            
+        } catch (Exception e) {
+            LOGGER.severe("Error saving task: " + e.getMessage());
+            return false;
+        }
     }
     
     /**
      * Load user tasks with caching
      */
     public CompletableFuture<List<Task>> loadUserTasksAsync(String userId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return JobSystem.getInstance().<List<Task>>io(token -> {
             try {
                 if (!initialized) initialize();
                 
@@ -242,17 +249,17 @@ public class FirebaseDataManager {
                 LOGGER.severe("Error loading user tasks: " + e.getMessage());
                 return new ArrayList<>();
             }
-        });
+        }).toFuture();
     }
     
     /**
      * Update user progress (coins, level, etc.)
      */
     public CompletableFuture<Boolean> updateUserProgressAsync(String userId, int coinsEarned, int experienceGained) {
-        return CompletableFuture.supplyAsync(() -> {
+        return JobSystem.getInstance().io(token -> {
             try {
                 // Load current user
-                User user = loadUserAsync(userId).get();
+                User user = loadUserNow(userId);
                 if (user == null) {
                     LOGGER.warning("User not found for progress update: " + userId);
                     return false;
@@ -269,7 +276,7 @@ public class FirebaseDataManager {
                 }
                 
                 // Save updated user
-                boolean success = saveUserAsync(user).get();
+                boolean success = saveUserNow(user);
                 
                 if (success) {
                     LOGGER.info("User progress updated: +" + coinsEarned + " coins, +" + experienceGained + " XP");
@@ -281,14 +288,14 @@ public class FirebaseDataManager {
                 LOGGER.severe("Error updating user progress: " + e.getMessage());
                 return false;
             }
-        });
+        }).toFuture();
     }
     
     /**
      * Complete a task and award rewards
      */
     public CompletableFuture<Boolean> completeTaskAsync(Task task, String completionNotes) {
-        return CompletableFuture.supplyAsync(() -> {
+        return JobSystem.getInstance().io(token -> {
             try {
                 // Mark task as completed
                 task.setCompleted(true);
@@ -297,7 +304,7 @@ public class FirebaseDataManager {
                 task.setValidationStatus(com.coincraft.models.ValidationStatus.PENDING);
                 
                 // Save task
-                boolean taskSaved = saveTaskAsync(task).get();
+                boolean taskSaved = saveTaskNow(task);
                 
                 if (taskSaved) {
                     // Do not award coins here. Coins are escrowed on task creation
@@ -313,14 +320,14 @@ public class FirebaseDataManager {
                 LOGGER.severe("Error completing task: " + e.getMessage());
                 return false;
             }
-        });
+        }).toFuture();
     }
     
     /**
      * Get leaderboard data
      */
     public CompletableFuture<List<User>> getLeaderboardAsync(int limit) {
-        return CompletableFuture.supplyAsync(() -> {
+        return JobSystem.getInstance().<List<User>>io(token -> {
             try {
                 if (!initialized) initialize();
                 
@@ -339,7 +346,7 @@ public class FirebaseDataManager {
                 LOGGER.severe("Error loading leaderboard: " + e.getMessage());
                 return new ArrayList<>();
             }
-        });
+        }).toFuture();
     }
     
     /**
@@ -6,9 +6,13 @@ import java.io.PrintWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
@@ -16,6 +20,7 @@ import java.util.logging.Logger;
 import com.coincraft.models.Task;
 import com.coincraft.models.User;
 import com.coincraft.models.UserRole;
+import com.coincraft.models.ValidationStatus;
 import com.coincraft.models.Product;
 
 /**
@@ -29,12 +34,28 @@ public class FirebaseService {
     private FirebaseConfig config;
     private FirebaseAuthService authService;
     private FirestoreService firestoreService;
-    private boolean initialized = false;
+    private volatile boolean initialized = false;
     private String currentIdToken;
     
     // Mock user registry for testing (in production, this would be in Firebase)
     private static final Map<String, User> mockUserRegistry = new HashMap<>();
     
+    // Append-only local stores (offline fallback), opened on first use
+    private final Object localStoreLock = new Object();
+    private LocalRecordStore userStore;
+    private LocalRecordStore taskStore;
+    private LocalRecordStore productStore;
+    private TaskRepository taskRepository;
+    
+    // Recently decoded local users (LRU); callers get copies so their edits never leak into it
+    private static final int DECODED_USER_CACHE_SIZE = 256;
+    private final Map<String, User> decodedUsers = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, User> eldest) {
+            return size() > DECODED_USER_CACHE_SIZE;
+        }
+    };
+    
     // Collection names for future use
     // private static final String USERS_COLLECTION = "users";
     // private static final String TASKS_COLLECTION = "tasks";
@@ -43,7 +64,7 @@ public class FirebaseService {
     
     private FirebaseService() {}
     
-    public static FirebaseService getInstance() {
+    public static synchronized FirebaseService getInstance() {
         if (instance == null) {
             instance = new FirebaseService();
         }
@@ -52,9 +73,11 @@ public class FirebaseService {
     
     /**
      * Initialize Firebase with real configuration
-     * Uses dynamic loading to handle optional Firebase dependencies
+     * Uses dynamic loading to handle optional Firebase dependencies.
+     * Synchronized because startup initializes it off the FX thread while
+     * screens may lazily call it at the same time.
      */
-    public void initialize() {
+    public synchronized void initialize() {
         try {
             if (initialized) {
                 LOGGER.info("Firebase already initialized");
@@ -344,18 +367,28 @@ public class FirebaseService {
     }
     
     /**
-     * Get a specific user by their user ID from local storage
+     * Get a specific user by their user ID from local storage.
+     * Index lookup plus one record decode, or a copy from the decoded-user cache.
      */
     private User getUserByIdLocally(String userId) {
+        if (userId == null) {
+            return null;
+        }
         try {
-            List<User> allUsers = loadUsersLocally();
-            for (User user : allUsers) {
-                if (user.getUserId().equals(userId)) {
-                    return user;
+            // Lookup and fill under one lock, so a concurrent save cannot be overwritten by a stale decode
+            synchronized (decodedUsers) {
+                User user = decodedUsers.get(userId);
+                if (user == null) {
+                    String line = userStore().get(userId);
+                    user = line != null ? parseUserDataFromFile(line) : null;
+                    if (user == null) {
+                        return null;
+                    }
+                    decodedUsers.put(userId, user);
                 }
+                return copyStoredFields(user);
             }
-            return null;
-        } catch (RuntimeException e) {
+        } catch (IOException | RuntimeException e) {
             LOGGER.warning("Failed to get user by ID locally: %s".formatted(e.getMessage()));
             return null;
         }
@@ -573,29 +606,15 @@ public class FirebaseService {
     }
     
     /**
-     * Save user to local storage as fallback
+     * Save user to local storage as fallback.
+     * Appends one record to the user log instead of rewriting every user.
      */
     private void saveUserLocally(User user) {
         try {
-            // Create data directory if it doesn't exist
-            Path dataDir = Paths.get(System.getProperty("user.home"), ".coincraft", "data");
-            Files.createDirectories(dataDir);
-            
-            // Create user file
-            Path userFile = dataDir.resolve("users.txt");
-            
-            // Load existing users
-            List<User> existingUsers = loadUsersFromFile(userFile);
-            
-            // Remove existing user with same ID (update scenario)
-            existingUsers.removeIf(u -> u.getUserId().equals(user.getUserId()));
-            
-            // Add the new/updated user
-            existingUsers.add(user);
-            
-            // Save all users back to file
-            saveUsersToFile(existingUsers, userFile);
-            
+            synchronized (decodedUsers) {
+                userStore().put(user.getUserId(), userToLine(user));
+                decodedUsers.remove(user.getUserId());
+            }
             LOGGER.info("User saved locally: %s".formatted(user.getName()));
             
         } catch (IOException e) {
@@ -608,18 +627,15 @@ public class FirebaseService {
      */
     private List<User> loadUsersLocally() {
         try {
-            // Create data directory if it doesn't exist
-            Path dataDir = Paths.get(System.getProperty("user.home"), ".coincraft", "data");
-            Path userFile = dataDir.resolve("users.txt");
-            
-            if (Files.exists(userFile)) {
-                List<User> users = loadUsersFromFile(userFile);
-                LOGGER.info("Loaded %d users from local storage".formatted(users.size()));
-                return users;
-            } else {
-                LOGGER.info("No local user data file found");
-                return new ArrayList<>();
+            List<User> users = new ArrayList<>();
+            for (String line : userStore().values()) {
+                User user = parseUserDataFromFile(line);
+                if (user != null) {
+                    users.add(user);
+                }
             }
+            LOGGER.info("Loaded %d users from local storage".formatted(users.size()));
+            return users;
             
         } catch (IOException e) {
             LOGGER.warning("Failed to load users locally: %s".formatted(e.getMessage()));
@@ -628,43 +644,36 @@ public class FirebaseService {
     }
     
     /**
-     * Save users to file
+     * New user with the fields the local store keeps
      */
-    private void saveUsersToFile(List<User> users, Path userFile) throws IOException {
-        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(userFile))) {
-            for (User user : users) {
-                String userData = user.getUserId() + "|" + user.getName() + "|" + user.getRole() + "|" + 
-                                user.getAge() + "|" + user.getSmartCoinBalance() + "|" + user.getLevel() + "|" + 
-                                user.getDailyStreaks() + "|" + (user.getEmail() != null ? user.getEmail() : "") + "|" +
-                                (user.getUsername() != null ? user.getUsername() : "") + "|" +
-                                (user.getLastLogin() != null ? user.getLastLogin().toString() : "") + "|" +
-                                (user.getCreatedAt() != null ? user.getCreatedAt().toString() : "") + "|" +
-                                (user.getParentId() != null ? user.getParentId() : "");
-                writer.println(userData);
-            }
-        }
+    private User copyStoredFields(User source) {
+        User user = new User();
+        user.setUserId(source.getUserId());
+        user.setName(source.getName());
+        user.setRole(source.getRole());
+        user.setAge(source.getAge());
+        user.setSmartCoinBalance(source.getSmartCoinBalance());
+        user.setLevel(source.getLevel());
+        user.setDailyStreaks(source.getDailyStreaks());
+        user.setEmail(source.getEmail());
+        user.setUsername(source.getUsername());
+        user.setLastLogin(source.getLastLogin());
+        user.setCreatedAt(source.getCreatedAt());
+        user.setParentId(source.getParentId());
+        return user;
     }
     
     /**
-     * Load users from file
+     * Local store line for a user
      */
-    private List<User> loadUsersFromFile(Path userFile) throws IOException {
-        List<User> users = new ArrayList<>();
-        if (!Files.exists(userFile)) {
-            return users;
-        }
-        
-        try (BufferedReader reader = Files.newBufferedReader(userFile)) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                User user = parseUserDataFromFile(line);
-                if (user != null) {
-                    users.add(user);
-                }
-            }
-        }
-        
-        return users;
+    private String userToLine(User user) {
+        return user.getUserId() + "|" + user.getName() + "|" + user.getRole() + "|" + 
+               user.getAge() + "|" + user.getSmartCoinBalance() + "|" + user.getLevel() + "|" + 
+               user.getDailyStreaks() + "|" + (user.getEmail() != null ? user.getEmail() : "") + "|" +
+               (user.getUsername() != null ? user.getUsername() : "") + "|" +
+               (user.getLastLogin() != null ? user.getLastLogin().toString() : "") + "|" +
+               (user.getCreatedAt() != null ? user.getCreatedAt().toString() : "") + "|" +
+               (user.getParentId() != null ? user.getParentId() : "");
     }
     
     /**
@@ -797,29 +806,12 @@ public class FirebaseService {
     }
     
     /**
-     * Save task to local storage as fallback
+     * Save task to local storage as fallback.
+     * Appends one record to the task log instead of rewriting every task.
      */
     private void saveTaskLocally(Task task) {
         try {
-            // Create data directory if it doesn't exist
-            Path dataDir = Paths.get(System.getProperty("user.home"), ".coincraft", "data");
-            Files.createDirectories(dataDir);
-            
-            // Create tasks file
-            Path tasksFile = dataDir.resolve("tasks.txt");
-            
-            // Load existing tasks
-            List<Task> existingTasks = loadTasksFromFile(tasksFile);
-            
-            // Remove existing task with same ID (update scenario)
-            existingTasks.removeIf(t -> t.getTaskId().equals(task.getTaskId()));
-            
-            // Add the new/updated task
-            existingTasks.add(task);
-            
-            // Save all tasks back to file
-            saveTasksToFile(existingTasks, tasksFile);
-            
+            taskRepository().save(task);
             LOGGER.info("Task saved locally: %s".formatted(task.getTitle()));
             
         } catch (IOException e) {
@@ -828,50 +820,23 @@ public class FirebaseService {
     }
     
     /**
-     * Save tasks to file
+     * Local store line for a task
      */
-    private void saveTasksToFile(List<Task> tasks, Path tasksFile) throws IOException {
-        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(tasksFile))) {
-            for (Task task : tasks) {
-                String taskData = task.getTaskId() + "|" + 
-                                task.getTitle() + "|" + 
-                                task.getDescription() + "|" + 
-                                task.getType() + "|" + 
-                                task.getAssignedBy() + "|" + 
-                                (task.getAssignedTo() != null ? task.getAssignedTo() : "") + "|" + // new field (v2)
-                                task.getRewardCoins() + "|" + 
-                                task.getDifficultyLevel() + "|" + 
-                                task.isCompleted() + "|" + 
-                                task.getValidationStatus() + "|" + 
-                                (task.getDeadline() != null ? task.getDeadline().toString() : "") + "|" +
-                                (task.getCreatedAt() != null ? task.getCreatedAt().toString() : "") + "|" +
-                                (task.getCompletedAt() != null ? task.getCompletedAt().toString() : "") + "|" +
-                                (task.getCompletionNotes() != null ? task.getCompletionNotes() : "");
-                writer.println(taskData);
-            }
-        }
-    }
-    
-    /**
-     * Load tasks from file
-     */
-    private List<Task> loadTasksFromFile(Path tasksFile) throws IOException {
-        List<Task> tasks = new ArrayList<>();
-        if (!Files.exists(tasksFile)) {
-            return tasks;
-        }
-        
-        try (BufferedReader reader = Files.newBufferedReader(tasksFile)) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                Task task = parseTaskDataFromFile(line);
-                if (task != null) {
-                    tasks.add(task);
-                }
-            }
-        }
-        
-        return tasks;
+    private String taskToLine(Task task) {
+        return task.getTaskId() + "|" + 
+               task.getTitle() + "|" + 
+               task.getDescription() + "|" + 
+               task.getType() + "|" + 
+               task.getAssignedBy() + "|" + 
+               (task.getAssignedTo() != null ? task.getAssignedTo() : "") + "|" + // new field (v2)
+               task.getRewardCoins() + "|" + 
+               task.getDifficultyLevel() + "|" + 
+               task.isCompleted() + "|" + 
+               task.getValidationStatus() + "|" + 
+               (task.getDeadline() != null ? task.getDeadline().toString() : "") + "|" +
+               (task.getCreatedAt() != null ? task.getCreatedAt().toString() : "") + "|" +
+               (task.getCompletedAt() != null ? task.getCompletedAt().toString() : "") + "|" +
+               (task.getCompletionNotes() != null ? task.getCompletionNotes() : "");
     }
     
     /**
@@ -996,19 +961,12 @@ public class FirebaseService {
      */
     private List<Task> loadUserTasksLocally(String userId) {
         try {
-            List<Task> allTasks = loadAllTasksLocally();
-            List<Task> userTasks = new ArrayList<>();
-            
-            // Filter tasks assigned to this user (simplified - in real app would have proper assignment logic)
-            for (Task task : allTasks) {
-                // For now, return all tasks as they could be assigned to any adventurer
-                userTasks.add(task);
-            }
-            
+            // Assigned to this user, to all adventurers, or unscoped
+            List<Task> userTasks = taskRepository().findVisibleTo(List.of(userId));
             LOGGER.info("Loaded %d tasks for user: %s".formatted(userTasks.size(), userId));
             return userTasks;
             
-        } catch (RuntimeException e) {
+        } catch (IOException | RuntimeException e) {
             LOGGER.warning("Failed to load user tasks locally: %s".formatted(e.getMessage()));
             return new ArrayList<>();
         }
@@ -1019,20 +977,101 @@ public class FirebaseService {
      */
     private List<Task> loadAllTasksLocally() {
         try {
-            Path dataDir = Paths.get(System.getProperty("user.home"), ".coincraft", "data");
-            Path tasksFile = dataDir.resolve("tasks.txt");
+            List<Task> tasks = taskRepository().findAll();
+            LOGGER.info("Loaded %d tasks from local storage".formatted(tasks.size()));
+            return tasks;
+            
+        } catch (IOException e) {
+            LOGGER.warning("Failed to load tasks locally: %s".formatted(e.getMessage()));
+            return new ArrayList<>();
+        }
+    }
+    
+    /**
+     * Load the tasks a group of adventurers can see (assigned to one of them,
+     * to all adventurers, or unscoped), e.g. one parent's family
+     */
+    public List<Task> loadTasksForAdventurers(Collection<String> adventurerIds) {
+        try {
+            if (!initialized) {
+                throw new IllegalStateException("Firebase not initialized");
+            }
             
-            if (Files.exists(tasksFile)) {
-                List<Task> tasks = loadTasksFromFile(tasksFile);
-                LOGGER.info("Loaded %d tasks from local storage".formatted(tasks.size()));
-                return tasks;
+            if (firestoreService != null && currentIdToken != null) {
+                // Firestore has no assignee query here: fetch the collection once and filter
+                List<Task> visible = new ArrayList<>();
+                for (Task task : firestoreService.getAllTasks()) {
+                    if (TaskRepository.isVisibleTo(task, adventurerIds)) {
+                        visible.add(task);
+                    }
+                }
+                return visible;
             } else {
-                LOGGER.info("No local tasks file found");
-                return new ArrayList<>();
+                return taskRepository().findVisibleTo(adventurerIds);
             }
             
-        } catch (IOException e) {
-            LOGGER.warning("Failed to load tasks locally: %s".formatted(e.getMessage()));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.severe("Failed to load adventurer tasks: %s".formatted(e.getMessage()));
+            return new ArrayList<>();
+        }
+    }
+    
+    /**
+     * Load tasks a parent created that are waiting for their approval
+     */
+    public List<Task> loadTasksAwaitingApproval(String parentId) {
+        try {
+            if (!initialized) {
+                throw new IllegalStateException("Firebase not initialized");
+            }
+            
+            if (firestoreService != null && currentIdToken != null) {
+                List<Task> awaiting = new ArrayList<>();
+                for (Task task : firestoreService.getAllTasks()) {
+                    if (parentId.equals(task.getAssignedBy()) && task.getValidationStatus() == ValidationStatus.AWAITING_APPROVAL) {
+                        awaiting.add(task);
+                    }
+                }
+                return awaiting;
+            } else {
+                return taskRepository().findByCreatorAndStatus(parentId, ValidationStatus.AWAITING_APPROVAL);
+            }
+            
+        } catch (IOException | RuntimeException e) {
+            LOGGER.severe("Failed to load tasks awaiting approval: %s".formatted(e.getMessage()));
+            return new ArrayList<>();
+        }
+    }
+    
+    /**
+     * Load the tasks an adventurer can see (same rule as {@link #loadTasksForAdventurers})
+     * with a deadline between now and now + window, earliest first
+     */
+    public List<Task> loadTasksDueWithin(String adventurerId, Duration window) {
+        try {
+            if (!initialized) {
+                throw new IllegalStateException("Firebase not initialized");
+            }
+            
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime until = now.plus(window);
+            if (firestoreService != null && currentIdToken != null) {
+                List<Task> due = new ArrayList<>();
+                List<String> viewer = List.of(adventurerId);
+                for (Task task : firestoreService.getAllTasks()) {
+                    LocalDateTime deadline = task.getDeadline();
+                    if (TaskRepository.isVisibleTo(task, viewer) && deadline != null && !deadline.isBefore(now) && deadline.isBefore(until)) {
+                        due.add(task);
+                    }
+                }
+                due.sort(Comparator.comparing(Task::getDeadline));
+                return due;
+            } else {
+                return taskRepository().findDueBetween(now, until, adventurerId);
+            }
+            
+        } catch (IOException | RuntimeException e) {
+            LOGGER.severe("Failed to load due tasks: %s".formatted(e.getMessage()));
             return new ArrayList<>();
         }
     }
@@ -1221,30 +1260,29 @@ public class FirebaseService {
         try {
             Path dataDir = Paths.get(System.getProperty("user.home"), ".coincraft", "data");
             Files.createDirectories(dataDir);
-            Path userFile = dataDir.resolve("users.txt");
 
-            // Filter users file
-            if (Files.exists(userFile)) {
-                List<User> users = loadUsersFromFile(userFile);
-                List<User> filtered = new ArrayList<>();
-                for (User u : users) {
-                    if (u == null) continue;
-                    String email = u.getEmail();
-                    String name = u.getName();
-                    String uid = u.getUserId();
-                    String username = u.getUsername();
-                    boolean isDemo = (email != null && email.endsWith("@demo.com")) ||
-                                     ("Demo Child".equalsIgnoreCase(name)) ||
-                                     ("Demo Parent".equalsIgnoreCase(name)) ||
-                                     ("Demo Teacher".equalsIgnoreCase(name)) ||
-                                     ("Connection Test User".equalsIgnoreCase(name)) ||
-                                     (username != null && "testadventurer".equalsIgnoreCase(username)) ||
-                                     (uid != null && (uid.startsWith("adventurer_test_") || uid.startsWith("connection_test_")));
-                    if (!isDemo) {
-                        filtered.add(u);
+            // Tombstone demo users in the user log
+            LocalRecordStore users = userStore();
+            for (String line : users.values()) {
+                User u = parseUserDataFromFile(line);
+                if (u == null) continue;
+                String email = u.getEmail();
+                String name = u.getName();
+                String uid = u.getUserId();
+                String username = u.getUsername();
+                boolean isDemo = (email != null && email.endsWith("@demo.com")) ||
+                                 ("Demo Child".equalsIgnoreCase(name)) ||
+                                 ("Demo Parent".equalsIgnoreCase(name)) ||
+                                 ("Demo Teacher".equalsIgnoreCase(name)) ||
+                                 ("Connection Test User".equalsIgnoreCase(name)) ||
+                                 (username != null && "testadventurer".equalsIgnoreCase(username)) ||
+                                 (uid != null && (uid.startsWith("adventurer_test_") || uid.startsWith("connection_test_")));
+                if (isDemo) {
+                    synchronized (decodedUsers) {
+                        users.delete(uid);
+                        decodedUsers.remove(uid);
                     }
                 }
-                saveUsersToFile(filtered, userFile);
             }
 
             // Filter credentials file
@@ -1658,36 +1696,11 @@ public class FirebaseService {
      */
     private void saveProductLocally(Product product) {
         try {
-            // Create data directory if it doesn't exist
-            Path dataDir = Paths.get(System.getProperty("user.home"), ".coincraft", "data");
-            Files.createDirectories(dataDir);
-            
-            // Create products file
-            Path productsFile = dataDir.resolve("products.txt");
-            
-            // Load existing products
-            List<Product> existingProducts = loadProductsFromFile(productsFile);
-            
-            // Add or update the product
-            boolean found = false;
-            for (int i = 0; i < existingProducts.size(); i++) {
-                if (existingProducts.get(i).getId() != null && existingProducts.get(i).getId().equals(product.getId())) {
-                    existingProducts.set(i, product);
-                    found = true;
-                    break;
-                }
-            }
-            
-            if (!found) {
-                // Generate ID if not set
-                if (product.getId() == null || product.getId().isEmpty()) {
-                    product.setId("product_" + System.currentTimeMillis());
-                }
-                existingProducts.add(product);
+            // Generate ID if not set
+            if (product.getId() == null || product.getId().isEmpty()) {
+                product.setId("product_" + System.currentTimeMillis());
             }
-            
-            // Save back to file
-            saveProductsToFile(productsFile, existingProducts);
+            productStore().put(product.getId(), productToString(product));
             
         } catch (IOException e) {
             LOGGER.warning("Failed to save product locally: %s".formatted(e.getMessage()));
@@ -1699,16 +1712,18 @@ public class FirebaseService {
      */
     private List<Product> loadAllProductsLocally() {
         try {
-            Path dataDir = Paths.get(System.getProperty("user.home"), ".coincraft", "data");
-            Path productsFile = dataDir.resolve("products.txt");
-            
-            if (Files.exists(productsFile)) {
-                return loadProductsFromFile(productsFile);
-            } else {
-                // Create some sample products for testing
-                createSampleProducts();
-                return loadProductsFromFile(productsFile);
+            List<Product> products = new ArrayList<>();
+            for (String line : productStore().values()) {
+                try {
+                    Product product = parseProductFromLine(line);
+                    if (product != null) {
+                        products.add(product);
+                    }
+                } catch (RuntimeException e) {
+                    LOGGER.warning("Failed to parse product line: %s".formatted(line));
+                }
             }
+            return products;
             
         } catch (IOException e) {
             LOGGER.warning("Failed to load products locally: %s".formatted(e.getMessage()));
@@ -1716,44 +1731,6 @@ public class FirebaseService {
         }
     }
     
-    /**
-     * Load products from file
-     */
-    private List<Product> loadProductsFromFile(Path filePath) throws IOException {
-        List<Product> products = new ArrayList<>();
-        
-        if (Files.exists(filePath)) {
-            try (BufferedReader reader = Files.newBufferedReader(filePath)) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    if (!line.trim().isEmpty()) {
-                        try {
-                            Product product = parseProductFromLine(line);
-                            if (product != null) {
-                                products.add(product);
-                            }
-                        } catch (Exception e) {
-                            LOGGER.warning("Failed to parse product line: %s".formatted(line));
-                        }
-                    }
-                }
-            }
-        }
-        
-        return products;
-    }
-    
-    /**
-     * Save products to file
-     */
-    private void saveProductsToFile(Path filePath, List<Product> products) throws IOException {
-        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(filePath))) {
-            for (Product product : products) {
-                writer.println(productToString(product));
-            }
-        }
-    }
-    
     /**
      * Parse product from line (simple format: id|name|description|price|imageUrl|category|active|parentId)
      */
@@ -1790,24 +1767,15 @@ public class FirebaseService {
     }
     
     /**
-     * Update product in local storage
+     * Update product in local storage (only if it exists there)
      */
     private void updateProductLocally(Product product) {
         try {
-            Path dataDir = Paths.get(System.getProperty("user.home"), ".coincraft", "data");
-            Path productsFile = dataDir.resolve("products.txt");
-            
-            List<Product> existingProducts = loadProductsFromFile(productsFile);
-            
-            for (int i = 0; i < existingProducts.size(); i++) {
-                if (existingProducts.get(i).getId().equals(product.getId())) {
-                    existingProducts.set(i, product);
-                    break;
-                }
+            LocalRecordStore products = productStore();
+            if (products.contains(product.getId())) {
+                products.put(product.getId(), productToString(product));
             }
             
-            saveProductsToFile(productsFile, existingProducts);
-            
         } catch (IOException e) {
             LOGGER.warning("Failed to update product locally: %s".formatted(e.getMessage()));
         }
@@ -1818,34 +1786,56 @@ public class FirebaseService {
      */
     private void deleteProductLocally(String productId) {
         try {
-            Path dataDir = Paths.get(System.getProperty("user.home"), ".coincraft", "data");
-            Path productsFile = dataDir.resolve("products.txt");
-            
-            List<Product> existingProducts = loadProductsFromFile(productsFile);
-            existingProducts.removeIf(product -> product.getId().equals(productId));
-            
-            saveProductsToFile(productsFile, existingProducts);
+            productStore().delete(productId);
             
         } catch (IOException e) {
             LOGGER.warning("Failed to delete product locally: %s".formatted(e.getMessage()));
         }
     }
     
+    // ==================== LOCAL STORES ====================
+    
+    private LocalRecordStore userStore() throws IOException {
+        synchronized (localStoreLock) {
+            if (userStore == null) {
+                userStore = openLocalStore("users");
+            }
+            return userStore;
+        }
+    }
+    
+    private LocalRecordStore taskStore() throws IOException {
+        synchronized (localStoreLock) {
+            if (taskStore == null) {
+                taskStore = openLocalStore("tasks");
+            }
+            return taskStore;
+        }
+    }
+    
+    private TaskRepository taskRepository() throws IOException {
+        synchronized (localStoreLock) {
+            if (taskRepository == null) {
+                taskRepository = new TaskRepository(taskStore(), this::parseTaskDataFromFile, this::taskToLine);
+            }
+            return taskRepository;
+        }
+    }
+    
+    private LocalRecordStore productStore() throws IOException {
+        synchronized (localStoreLock) {
+            if (productStore == null) {
+                productStore = openLocalStore("products");
+            }
+            return productStore;
+        }
+    }
+    
     /**
-     * Create empty products file (no sample data)
+     * Open {@code <name>.log}, importing the old {@code <name>.txt} on first use
      */
-    private void createSampleProducts() {
-        try {
-            Path dataDir = Paths.get(System.getProperty("user.home"), ".coincraft", "data");
-            Files.createDirectories(dataDir);
-            Path productsFile = dataDir.resolve("products.txt");
-            
-            // Create empty file - parents will add their own products
-            Files.writeString(productsFile, "");
-            LOGGER.info("Created empty products file - ready for parent-created products");
-            
-        } catch (IOException e) {
-            LOGGER.warning("Failed to create products file: %s".formatted(e.getMessage()));
-        }
+    private LocalRecordStore openLocalStore(String name) throws IOException {
+        Path dataDir = Paths.get(System.getProperty("user.home"), ".coincraft", "data");
+        return LocalRecordStore.openMigrating(dataDir.resolve(name + ".log"), dataDir.resolve(name + ".txt"));
     }
 }
@@ -0,0 +1,605 @@
+package com.coincraft.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only key/value log used for the local (offline) copies of users,
+ * tasks and products.
+ *
+ * Every save appends one record and every delete appends a tombstone; an
+ * in-memory index maps each key to its latest record, so a save writes only
+ * that record instead of rewriting the whole file. Records carry a CRC, and
+ * a torn record at the tail (crash mid-write) is cut off when the log is
+ * reopened. Writes are fsynced in groups by a background thread every
+ * {@value #SYNC_INTERVAL_MS} ms. Once superseded records make up more than
+ * half of the file, the live records are copied to a new file in the
+ * background and swapped in atomically.
+ *
+ * The key index is checkpointed to {@code <log>.idx} (on close, after a
+ * compaction and every {@value #INDEX_CHECKPOINT_BYTES} bytes of appends),
+ * so reopening only replays the records written after the checkpoint.
+ * Point reads decode just the requested record, straight from a read-only
+ * memory map of the log.
+ */
+public final class LocalRecordStore implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(LocalRecordStore.class.getName());
+
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final int HEADER_BYTES = 8; // body length + CRC32 of the body
+    private static final int MAX_KEY_BYTES = 0xFFFF;
+    private static final long SYNC_INTERVAL_MS = 25;
+    private static final double COMPACT_GARBAGE_RATIO = 0.5;
+    private static final long COMPACT_MIN_BYTES = 64 * 1024;
+    private static final int INDEX_MAGIC = 0x43494458; // "CIDX"
+    private static final int INDEX_VERSION = 1;
+    private static final long INDEX_CHECKPOINT_BYTES = 1024 * 1024;
+    // Windows cannot replace a file that is still mapped, which compaction needs
+    private static final boolean MMAP_READS = !System.getProperty("os.name", "").toLowerCase().startsWith("windows");
+
+    // One daemon thread does the group fsyncs of every store
+    private static final ScheduledExecutorService BACKGROUND = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "coincraft-local-store");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Compactions get their own thread so a long copy never delays a group fsync
+    private static final ExecutorService COMPACTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "coincraft-local-store-compact");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final List<LocalRecordStore> OPEN_STORES = new CopyOnWriteArrayList<>();
+
+    static {
+        BACKGROUND.scheduleWithFixedDelay(() -> OPEN_STORES.forEach(LocalRecordStore::syncIfDirty),
+            SYNC_INTERVAL_MS, SYNC_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> OPEN_STORES.forEach(store -> {
+            store.syncIfDirty();
+            store.checkpointQuietly();
+        }), "coincraft-local-store-flush"));
+    }
+
+    /** Location of a key's latest record */
+    private static final class Entry {
+        final long offset;
+        final int length;
+
+        Entry(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    /** Receives records in file order while scanning */
+    private interface RecordVisitor {
+        void visit(byte type, String key, byte[] body, long offset, int length);
+    }
+
+    private final Path file;
+    private final Path compactFile;
+    private final Path indexFile;
+    private FileChannel channel;
+    private Map<String, Entry> index = new LinkedHashMap<>();
+    private long end = 0;
+    private long indexedEnd = -1; // log length covered by the index file, -1 if none
+    private MappedByteBuffer mapped; // [0, mapped.limit()) of the log, remapped as it grows
+    private long garbageBytes = 0;
+    private boolean dirty = false;
+    private boolean compacting = false;
+    private boolean closed = false;
+
+    private LocalRecordStore(Path file) {
+        this.file = file;
+        this.compactFile = file.resolveSibling(file.getFileName() + ".compact");
+        this.indexFile = file.resolveSibling(file.getFileName() + ".idx");
+    }
+
+    /**
+     * Open (or create) a log. The index comes from the checkpoint when it is
+     * valid, plus a replay of the records appended after it.
+     */
+    public static LocalRecordStore open(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        LocalRecordStore store = new LocalRecordStore(file);
+        Files.deleteIfExists(store.compactFile); // left over from a crash during compaction
+        store.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        store.replay(store.loadIndex() ? store.indexedEnd : 0);
+        OPEN_STORES.add(store);
+        return store;
+    }
+
+    /**
+     * Open a log, importing a legacy pipe-delimited text file while it is
+     * still there. Each non-blank line becomes one record keyed by its first
+     * field; the text file is then renamed to {@code *.migrated}. Importing
+     * is idempotent by key, so if the app dies before the rename the next
+     * open just imports the file again.
+     */
+    public static LocalRecordStore openMigrating(Path file, Path legacyTextFile) throws IOException {
+        LocalRecordStore store = open(file);
+        if (legacyTextFile != null && Files.exists(legacyTextFile)) {
+            int imported = 0;
+            try (BufferedReader reader = Files.newBufferedReader(legacyTextFile)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) continue;
+                    int bar = line.indexOf('|');
+                    store.put(bar >= 0 ? line.substring(0, bar) : line, line);
+                    imported++;
+                }
+            }
+            store.flush();
+            store.checkpoint();
+            Files.move(legacyTextFile, legacyTextFile.resolveSibling(legacyTextFile.getFileName() + ".migrated"),
+                StandardCopyOption.REPLACE_EXISTING);
+            LOGGER.info("Migrated %d records from %s".formatted(imported, legacyTextFile.getFileName()));
+        }
+        return store;
+    }
+
+    // Reads
+
+    public synchronized String get(String key) throws IOException {
+        ensureOpen();
+        Entry entry = index.get(key);
+        if (entry == null) return null;
+        byte[] body = new byte[entry.length - HEADER_BYTES];
+        if (MMAP_READS && end <= Integer.MAX_VALUE) {
+            if (mapped == null || entry.offset + entry.length > mapped.limit()) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, end);
+            }
+            mapped.get((int) entry.offset + HEADER_BYTES, body);
+        } else {
+            readFully(channel, ByteBuffer.wrap(body), entry.offset + HEADER_BYTES);
+        }
+        return valueOf(body);
+    }
+
+    public synchronized boolean contains(String key) {
+        return index.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * Latest value of every key, in first-insertion order. One sequential pass over the log.
+     */
+    public synchronized List<String> values() throws IOException {
+        ensureOpen();
+        Map<String, String> latest = new HashMap<>(index.size() * 2);
+        scan(channel, 0, end, (type, key, body, offset, length) -> {
+            Entry entry = index.get(key);
+            if (type == PUT && entry != null && entry.offset == offset) {
+                latest.put(key, valueOf(body));
+            }
+        });
+        List<String> values = new ArrayList<>(index.size());
+        for (String key : index.keySet()) {
+            String value = latest.get(key);
+            if (value != null) values.add(value);
+        }
+        return values;
+    }
+
+    // Writes
+
+    /**
+     * Append a new version of a record. Durable within one sync interval.
+     */
+    public synchronized void put(String key, String value) throws IOException {
+        ensureOpen();
+        long offset = end;
+        int length = append(PUT, key, value.getBytes(StandardCharsets.UTF_8));
+        Entry previous = index.get(key);
+        if (previous != null) {
+            garbageBytes += previous.length;
+        }
+        index.put(key, new Entry(offset, length)); // keeps the key's original position
+        afterWrite();
+    }
+
+    /**
+     * Append a tombstone
+     * @return false if the key was not present
+     */
+    public synchronized boolean delete(String key) throws IOException {
+        ensureOpen();
+        Entry previous = index.remove(key);
+        if (previous == null) return false;
+        int length = append(DELETE, key, new byte[0]);
+        garbageBytes += previous.length + length; // the tombstone itself is dropped by compaction
+        afterWrite();
+        return true;
+    }
+
+    /**
+     * Force pending writes to disk now instead of at the next group sync
+     */
+    public void flush() throws IOException {
+        FileChannel target;
+        synchronized (this) {
+            if (closed || !dirty) return;
+            dirty = false;
+            target = channel;
+        }
+        target.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        OPEN_STORES.remove(this);
+        synchronized (this) {
+            if (closed) return;
+            checkpoint();
+            closed = true;
+            mapped = null;
+            channel.close();
+        }
+    }
+
+    public synchronized long getFileBytes() { return end; }
+    public synchronized long getGarbageBytes() { return garbageBytes; }
+
+    private int append(byte type, String key, byte[] value) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length > MAX_KEY_BYTES) throw new IOException("Key too long: " + key.length() + " chars");
+        int bodyLength = 1 + 2 + keyBytes.length + value.length;
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_BYTES + bodyLength);
+        buf.putInt(bodyLength);
+        buf.putInt(0); // CRC, filled in below
+        buf.put(type);
+        buf.putShort((short) keyBytes.length);
+        buf.put(keyBytes);
+        buf.put(value);
+        CRC32 crc = new CRC32();
+        crc.update(buf.array(), HEADER_BYTES, bodyLength);
+        buf.putInt(4, (int) crc.getValue());
+        buf.flip();
+        long position = end;
+        while (buf.hasRemaining()) {
+            position += channel.write(buf, position);
+        }
+        end = position;
+        return HEADER_BYTES + bodyLength;
+    }
+
+    private void afterWrite() {
+        dirty = true;
+        if (!compacting && end >= COMPACT_MIN_BYTES && garbageBytes > end * COMPACT_GARBAGE_RATIO) {
+            compacting = true;
+            COMPACTOR.execute(this::compact);
+        }
+    }
+
+    private void syncIfDirty() {
+        try {
+            flush();
+        } catch (IOException e) {
+            // The channel may have been swapped by a compaction, which forces its own file
+            LOGGER.fine("Group sync skipped for %s: %s".formatted(file.getFileName(), e.getMessage()));
+        }
+        synchronized (this) {
+            if (closed || end - Math.max(0, indexedEnd) < INDEX_CHECKPOINT_BYTES) return;
+        }
+        checkpointQuietly();
+    }
+
+    private void checkpointQuietly() {
+        try {
+            checkpoint();
+        } catch (IOException e) {
+            LOGGER.warning("Index checkpoint of %s failed: %s".formatted(file.getFileName(), e.getMessage()));
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) throw new IOException("Store closed: " + file);
+    }
+
+    // Recovery and compaction
+
+    private void replay(long from) throws IOException {
+        long size = channel.size();
+        long valid = scan(channel, from, size, (type, key, body, offset, length) -> {
+            Entry previous = type == PUT ? index.put(key, new Entry(offset, length)) : index.remove(key);
+            if (previous != null) garbageBytes += previous.length;
+            if (type == DELETE) garbageBytes += length;
+        });
+        if (valid < size) {
+            LOGGER.warning("Truncating %d bytes of incomplete records at the end of %s".formatted(size - valid, file.getFileName()));
+            channel.truncate(valid);
+            channel.force(false);
+        }
+        end = valid;
+    }
+
+    /**
+     * Write the index for everything appended so far. The log is forced
+     * first, so the index never points at records that are not on disk.
+     */
+    private synchronized void checkpoint() throws IOException {
+        if (closed || end == indexedEnd) return;
+        channel.force(false);
+        dirty = false;
+        writeIndex(index, end, garbageBytes);
+        indexedEnd = end;
+    }
+
+    private void writeIndex(Map<String, Entry> entries, long coveredEnd, long garbage) throws IOException {
+        int size = 4 + 4 + 8 + 8 + 4;
+        List<byte[]> keys = new ArrayList<>(entries.size());
+        for (String key : entries.keySet()) {
+            byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+            keys.add(keyBytes);
+            size += 2 + keyBytes.length + 8 + 4;
+        }
+        ByteBuffer buf = ByteBuffer.allocate(size + 4);
+        buf.putInt(INDEX_MAGIC).putInt(INDEX_VERSION).putLong(coveredEnd).putLong(garbage).putInt(entries.size());
+        int i = 0;
+        for (Entry entry : entries.values()) {
+            byte[] keyBytes = keys.get(i++);
+            buf.putShort((short) keyBytes.length).put(keyBytes).putLong(entry.offset).putInt(entry.length);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buf.array(), 0, size);
+        buf.putInt((int) crc.getValue());
+        buf.flip();
+
+        Path tmp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(out, buf, 0);
+            out.force(false);
+        }
+        Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Load the index checkpoint if it is intact and matches the log
+     * @return false to rebuild the index by replaying the whole log
+     */
+    private boolean loadIndex() {
+        try {
+            if (!Files.exists(indexFile)) return false;
+            byte[] data = Files.readAllBytes(indexFile);
+            if (data.length < 32) return false;
+            CRC32 crc = new CRC32();
+            crc.update(data, 0, data.length - 4);
+            ByteBuffer buf = ByteBuffer.wrap(data);
+            if (buf.getInt(data.length - 4) != (int) crc.getValue()) return false;
+            if (buf.getInt() != INDEX_MAGIC || buf.getInt() != INDEX_VERSION) return false;
+            long coveredEnd = buf.getLong();
+            long garbage = buf.getLong();
+            int count = buf.getInt();
+            if (coveredEnd > channel.size()) return false;
+
+            Map<String, Entry> loaded = new LinkedHashMap<>(count * 2);
+            Entry last = null;
+            for (int i = 0; i < count; i++) {
+                int keyLength = buf.getShort() & 0xFFFF;
+                String key = new String(data, buf.position(), keyLength, StandardCharsets.UTF_8);
+                buf.position(buf.position() + keyLength);
+                Entry entry = new Entry(buf.getLong(), buf.getInt());
+                if (entry.offset + entry.length > coveredEnd) return false;
+                if (last == null || entry.offset > last.offset) last = entry;
+                loaded.put(key, entry);
+            }
+            // The newest record it points at must still be there (log not replaced behind our back)
+            if (last != null && scan(channel, last.offset, last.offset + last.length, (t, k, b, o, l) -> { })
+                    != last.offset + last.length) {
+                return false;
+            }
+            index = loaded;
+            garbageBytes = garbage;
+            indexedEnd = coveredEnd;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warning("Ignoring index %s: %s".formatted(indexFile.getFileName(), e.getMessage()));
+            return false;
+        }
+    }
+
+    /**
+     * Copy the live records to a new file while writers keep appending to the
+     * old one, then copy whatever was appended meanwhile and swap the files
+     */
+    private void compact() {
+        try {
+            FileChannel source;
+            long snapshotEnd;
+            List<Map.Entry<String, Entry>> live;
+            synchronized (this) {
+                if (closed) return;
+                source = channel;
+                snapshotEnd = end;
+                live = new ArrayList<>(index.entrySet());
+            }
+
+            Map<String, Entry> newIndex = new LinkedHashMap<>(live.size() * 2);
+            long newEnd = 0;
+            try (FileChannel target = FileChannel.open(compactFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                for (Map.Entry<String, Entry> e : live) {
+                    Entry entry = e.getValue();
+                    ByteBuffer buf = ByteBuffer.allocate(entry.length);
+                    readFully(source, buf, entry.offset);
+                    buf.flip();
+                    newEnd += writeFully(target, buf, newEnd);
+                    newIndex.put(e.getKey(), new Entry(newEnd - entry.length, entry.length));
+                }
+
+                synchronized (this) {
+                    if (closed) return;
+                    // Records appended during the copy go to the new file as-is
+                    long tailStart = newEnd;
+                    long shift = tailStart - snapshotEnd;
+                    scan(channel, snapshotEnd, end, (type, key, body, offset, length) -> {
+                        if (type == PUT) newIndex.put(key, new Entry(offset + shift, length));
+                        else newIndex.remove(key);
+                    });
+                    if (end > snapshotEnd) {
+                        ByteBuffer tail = ByteBuffer.allocate((int) (end - snapshotEnd));
+                        readFully(channel, tail, snapshotEnd);
+                        tail.flip();
+                        newEnd += writeFully(target, tail, newEnd);
+                    }
+                    target.force(true);
+                    target.close();
+
+                    long before = end;
+                    Files.deleteIfExists(indexFile); // its offsets are about to become invalid
+                    indexedEnd = -1;
+                    try {
+                        // The old channel stays open until the move succeeds, so a failed swap leaves the store usable
+                        Files.move(compactFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (IOException e) {
+                        try {
+                            checkpoint(); // put back the index deleted above
+                        } catch (IOException restore) {
+                            e.addSuppressed(restore);
+                        }
+                        throw e;
+                    }
+                    FileChannel swapped = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                    mapped = null;
+                    channel.close();
+                    channel = swapped;
+                    index = newIndex;
+                    end = newEnd;
+                    long liveBytes = 0;
+                    for (Entry entry : newIndex.values()) liveBytes += entry.length;
+                    garbageBytes = newEnd - liveBytes;
+                    dirty = false;
+                    writeIndex(index, end, garbageBytes);
+                    indexedEnd = end;
+                    LOGGER.info("Compacted %s: %d -> %d bytes".formatted(file.getFileName(), before, newEnd));
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warning("Compaction of %s failed: %s".formatted(file.getFileName(), e.getMessage()));
+            try {
+                Files.deleteIfExists(compactFile);
+            } catch (IOException ignored) {
+                // Removed on the next open
+            }
+        } finally {
+            synchronized (this) {
+                compacting = false;
+            }
+        }
+    }
+
+    /**
+     * Visit the valid records in [from, to)
+     * @return offset just past the last valid record
+     */
+    private static long scan(FileChannel source, long from, long to, RecordVisitor visitor) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(64 * 1024);
+        buf.limit(0);
+        long bufStart = from; // file offset of buf[0]
+        long position = from;
+        CRC32 crc = new CRC32();
+        while (position < to) {
+            int at = (int) (position - bufStart);
+            if (buf.limit() - at < HEADER_BYTES) {
+                if (!fill(source, buf, at, position, to, HEADER_BYTES)) break;
+                bufStart = position;
+                at = 0;
+            }
+            int bodyLength = buf.getInt(at);
+            int expectedCrc = buf.getInt(at + 4);
+            if (bodyLength < 3 || position + HEADER_BYTES + bodyLength > to) break;
+            int recordLength = HEADER_BYTES + bodyLength;
+            if (buf.limit() - at < recordLength) {
+                if (buf.capacity() < recordLength) {
+                    ByteBuffer bigger = ByteBuffer.allocate(recordLength);
+                    bigger.put(buf.array(), at, buf.limit() - at).flip();
+                    buf = bigger;
+                    at = 0;
+                }
+                if (!fill(source, buf, at, position, to, recordLength)) break;
+                bufStart = position;
+                at = 0;
+            }
+            crc.reset();
+            crc.update(buf.array(), at + HEADER_BYTES, bodyLength);
+            if ((int) crc.getValue() != expectedCrc) break;
+
+            byte type = buf.get(at + HEADER_BYTES);
+            int keyLength = buf.getShort(at + HEADER_BYTES + 1) & 0xFFFF;
+            if ((type != PUT && type != DELETE) || 3 + keyLength > bodyLength) break;
+            String key = new String(buf.array(), at + HEADER_BYTES + 3, keyLength, StandardCharsets.UTF_8);
+            byte[] body = new byte[bodyLength];
+            System.arraycopy(buf.array(), at + HEADER_BYTES, body, 0, bodyLength);
+            visitor.visit(type, key, body, position, recordLength);
+            position += recordLength;
+        }
+        return position;
+    }
+
+    /**
+     * Move the unread bytes from {@code at} to the front of the buffer (which
+     * then starts at file offset {@code start}) and read more after them
+     * @return false if fewer than {@code need} bytes are available before {@code to}
+     */
+    private static boolean fill(FileChannel source, ByteBuffer buf, int at, long start, long to, int need) throws IOException {
+        int remaining = buf.limit() - at;
+        System.arraycopy(buf.array(), at, buf.array(), 0, remaining);
+        buf.limit(buf.capacity());
+        buf.position(remaining);
+        long readFrom = start + remaining;
+        while (buf.position() < need && readFrom < to) {
+            if (buf.remaining() > to - readFrom) buf.limit(buf.position() + (int) (to - readFrom));
+            int n = source.read(buf, readFrom);
+            if (n < 0) break;
+            readFrom += n;
+        }
+        buf.flip();
+        return buf.limit() >= need;
+    }
+
+    private static String valueOf(byte[] body) {
+        int keyLength = ((body[1] & 0xFF) << 8) | (body[2] & 0xFF);
+        return new String(body, 3 + keyLength, body.length - 3 - keyLength, StandardCharsets.UTF_8);
+    }
+
+    private static void readFully(FileChannel source, ByteBuffer buf, long position) throws IOException {
+        while (buf.hasRemaining()) {
+            int n = source.read(buf, position);
+            if (n < 0) throw new IOException("Unexpected end of local store");
+            position += n;
+        }
+    }
+
+    private static int writeFully(FileChannel target, ByteBuffer buf, long position) throws IOException {
+        int written = 0;
+        while (buf.hasRemaining()) {
+            written += target.write(buf, position + written);
+        }
+        return written;
+    }
+}
@@ -29,7 +29,7 @@ public class MessagingService {
         try { WebSocketHub.getInstance().ensureServer(); WebSocketHub.getInstance().connectClient(); } catch (Exception ignored) {}
     }
 
-    public static MessagingService getInstance() {
+    public static synchronized MessagingService getInstance() {
         if (instance == null) instance = new MessagingService();
         return instance;
     }
@@ -0,0 +1,195 @@
+package com.coincraft.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Dependency-aware service initializer used during application startup.
+ * Each service declares the services it depends on; independent services
+ * are initialized in parallel on background threads so the UI can be shown
+ * immediately instead of waiting for Firebase, audio and networking.
+ */
+public class ServiceContainer {
+    private static final Logger LOGGER = Logger.getLogger(ServiceContainer.class.getName());
+    private static ServiceContainer instance;
+
+    private final Map<String, ServiceDefinition> definitions = new LinkedHashMap<>();
+    private final Map<String, CompletableFuture<Void>> futures = new HashMap<>();
+    private final StartupTimeline timeline = new StartupTimeline();
+    private ExecutorService executor;
+    private CompletableFuture<Void> allReady;
+
+    private ServiceContainer() {}
+
+    public static synchronized ServiceContainer getInstance() {
+        if (instance == null) {
+            instance = new ServiceContainer();
+        }
+        return instance;
+    }
+
+    /**
+     * Register a service initializer and the names of the services it depends on
+     */
+    public synchronized ServiceContainer register(String name, Runnable initializer, String... dependencies) {
+        if (allReady != null) {
+            throw new IllegalStateException("Cannot register '" + name + "' after startup has begun");
+        }
+        if (definitions.containsKey(name)) {
+            throw new IllegalArgumentException("Service already registered: " + name);
+        }
+        definitions.put(name, new ServiceDefinition(initializer, List.of(dependencies)));
+        return this;
+    }
+
+    /**
+     * Start initializing every registered service. Services whose dependencies
+     * are satisfied run concurrently; the returned future completes once all
+     * services have finished (successfully or not).
+     */
+    public synchronized CompletableFuture<Void> startAll() {
+        if (allReady != null) {
+            return allReady;
+        }
+        validate();
+
+        // Startup work is mostly I/O bound (network, media decoding), so size
+        // the pool by service count rather than by CPU count
+        executor = Executors.newFixedThreadPool(Math.max(1, definitions.size()), daemonThreadFactory());
+
+        for (String name : definitions.keySet()) {
+            schedule(name);
+        }
+
+        allReady = CompletableFuture
+            .allOf(futures.values().stream()
+                .map(f -> f.exceptionally(ex -> null))
+                .toArray(CompletableFuture[]::new))
+            .whenComplete((ignored, ex) -> {
+                timeline.markInteractive();
+                LOGGER.info(timeline::summary);
+                executor.shutdown();
+            });
+        return allReady;
+    }
+
+    /**
+     * Future that completes when the named service has been initialized
+     */
+    public synchronized CompletableFuture<Void> whenReady(String name) {
+        CompletableFuture<Void> future = futures.get(name);
+        if (future == null) {
+            throw new IllegalArgumentException("Unknown service: " + name);
+        }
+        return future;
+    }
+
+    /**
+     * Check whether the named service finished initializing successfully
+     */
+    public synchronized boolean isReady(String name) {
+        CompletableFuture<Void> future = futures.get(name);
+        return future != null && future.isDone() && !future.isCompletedExceptionally();
+    }
+
+    public StartupTimeline getTimeline() {
+        return timeline;
+    }
+
+    /**
+     * Stop any startup work that is still pending
+     */
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private CompletableFuture<Void> schedule(String name) {
+        CompletableFuture<Void> existing = futures.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        ServiceDefinition definition = definitions.get(name);
+        CompletableFuture<?>[] deps = definition.dependencies.stream()
+            .map(this::schedule)
+            .toArray(CompletableFuture[]::new);
+
+        CompletableFuture<Void> future = CompletableFuture.allOf(deps).thenRunAsync(() -> {
+            timeline.serviceStarted(name);
+            try {
+                definition.initializer.run();
+            } catch (RuntimeException e) {
+                LOGGER.severe(() -> "Service '" + name + "' failed to initialize: " + e.getMessage());
+                throw e;
+            }
+            timeline.serviceReady(name);
+        }, executor);
+        future.whenComplete((ignored, ex) -> {
+            if (ex != null && !timeline.hasStarted(name)) {
+                LOGGER.warning(() -> "Service '" + name + "' skipped because a dependency failed");
+            }
+        });
+        futures.put(name, future);
+        return future;
+    }
+
+    /**
+     * Reject unknown dependencies and dependency cycles before anything runs
+     */
+    private void validate() {
+        Map<String, Integer> state = new HashMap<>();
+        for (String name : definitions.keySet()) {
+            visit(name, state, new ArrayList<>());
+        }
+    }
+
+    private void visit(String name, Map<String, Integer> state, List<String> path) {
+        ServiceDefinition definition = definitions.get(name);
+        if (definition == null) {
+            throw new IllegalStateException("Unknown service dependency '" + name + "' required by " + path);
+        }
+        Integer current = state.get(name);
+        if (current != null && current == 2) {
+            return;
+        }
+        path.add(name);
+        if (current != null && current == 1) {
+            throw new IllegalStateException("Service dependency cycle: " + path);
+        }
+        state.put(name, 1);
+        for (String dependency : definition.dependencies) {
+            visit(dependency, state, path);
+        }
+        state.put(name, 2);
+        path.remove(path.size() - 1);
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "coincraft-startup-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class ServiceDefinition {
+        final Runnable initializer;
+        final List<String> dependencies;
+
+        ServiceDefinition(Runnable initializer, List<String> dependencies) {
+            this.initializer = initializer;
+            this.dependencies = dependencies;
+        }
+    }
+}
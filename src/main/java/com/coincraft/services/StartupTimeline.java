@@ -0,0 +1,106 @@
+package com.coincraft.services;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Records how long the application takes to become usable.
+ * All times are milliseconds since JVM start so they line up with
+ * what a user actually waits through on a cold launch.
+ */
+public class StartupTimeline {
+    private static final Logger LOGGER = Logger.getLogger(StartupTimeline.class.getName());
+
+    private final long originNanos;
+    private final long uptimeAtOriginMs;
+
+    private volatile long firstFrameMs = -1;
+    private volatile long interactiveMs = -1;
+    private final Map<String, long[]> serviceTimes = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    public StartupTimeline() {
+        this.originNanos = System.nanoTime();
+        this.uptimeAtOriginMs = jvmUptimeMs();
+    }
+
+    /**
+     * Milliseconds elapsed since the JVM started
+     */
+    public long now() {
+        return uptimeAtOriginMs + (System.nanoTime() - originNanos) / 1_000_000L;
+    }
+
+    /**
+     * Mark the first rendered frame of the primary stage
+     */
+    public void markFirstFrame() {
+        if (firstFrameMs < 0) {
+            firstFrameMs = now();
+            LOGGER.info(() -> "⏱️ Time to first frame: " + firstFrameMs + " ms");
+        }
+    }
+
+    /**
+     * Mark every registered service as ready
+     */
+    public void markInteractive() {
+        if (interactiveMs < 0) {
+            interactiveMs = now();
+            LOGGER.info(() -> "⏱️ Time to interactive: " + interactiveMs + " ms");
+        }
+    }
+
+    void serviceStarted(String name) {
+        serviceTimes.put(name, new long[] { now(), -1 });
+    }
+
+    void serviceReady(String name) {
+        long[] times = serviceTimes.get(name);
+        if (times != null) {
+            times[1] = now();
+            LOGGER.info(() -> "⏱️ Service '" + name + "' ready at " + times[1] + " ms (took " + (times[1] - times[0]) + " ms)");
+        }
+    }
+
+    boolean hasStarted(String name) {
+        return serviceTimes.containsKey(name);
+    }
+
+    public long getFirstFrameMs() { return firstFrameMs; }
+    public long getInteractiveMs() { return interactiveMs; }
+
+    /**
+     * Time at which a service finished initializing, or -1 if it has not
+     */
+    public long getServiceReadyMs(String name) {
+        long[] times = serviceTimes.get(name);
+        return times != null ? times[1] : -1;
+    }
+
+    /**
+     * Human readable summary of the startup sequence
+     */
+    public String summary() {
+        StringBuilder sb = new StringBuilder("Startup timeline: first frame=")
+            .append(firstFrameMs).append("ms, interactive=").append(interactiveMs).append("ms");
+        synchronized (serviceTimes) {
+            for (Map.Entry<String, long[]> entry : serviceTimes.entrySet()) {
+                long[] times = entry.getValue();
+                sb.append(", ").append(entry.getKey()).append('=')
+                  .append(times[0]).append("->").append(times[1]).append("ms");
+            }
+        }
+        return sb.toString();
+    }
+
+    private static long jvmUptimeMs() {
+        try {
+            return ManagementFactory.getRuntimeMXBean().getUptime();
+        } catch (Exception | LinkageError e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.coincraft.services;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import com.coincraft.models.Task;
+import com.coincraft.models.ValidationStatus;
+
+/**
+ * Local tasks with secondary indexes on assignee, creator, validation status
+ * and deadline.
+ *
+ * Tasks are decoded from the task log once; after that every save updates
+ * the log and the indexes together, so queries like "awaiting approval for
+ * parent X" or "due in the next 24h for child Y" touch only the matching
+ * tasks instead of re-reading and filtering the whole file. Results are
+ * copies: editing a returned task changes nothing until it is saved.
+ */
+public final class TaskRepository {
+    private static final Logger LOGGER = Logger.getLogger(TaskRepository.class.getName());
+
+    /** assignedTo value for tasks open to every adventurer */
+    public static final String ALL_ADVENTURERS = "ALL_ADVENTURERS";
+
+    private final LocalRecordStore store;
+    private final Function<Task, String> encoder;
+
+    private final Map<String, Task> byId = new LinkedHashMap<>();
+    private final Map<String, Set<String>> byAssignee = new HashMap<>();
+    private final Map<String, Set<String>> byCreator = new HashMap<>();
+    private final Map<ValidationStatus, Set<String>> byStatus = new EnumMap<>(ValidationStatus.class);
+    private final NavigableMap<LocalDateTime, Set<String>> byDeadline = new TreeMap<>();
+
+    /**
+     * Decode every task in the log and build the indexes
+     */
+    TaskRepository(LocalRecordStore store, Function<String, Task> decoder, Function<Task, String> encoder) throws IOException {
+        this.store = store;
+        this.encoder = encoder;
+        for (String line : store.values()) {
+            Task task = decoder.apply(line);
+            if (task != null && task.getTaskId() != null) {
+                Task previous = byId.put(task.getTaskId(), task);
+                if (previous != null) unindex(previous);
+                index(task);
+            }
+        }
+        LOGGER.info("Indexed %d local tasks".formatted(byId.size()));
+    }
+
+    /**
+     * Write a task to the log and re-index it
+     */
+    public synchronized void save(Task task) throws IOException {
+        Task stored = copy(task);
+        store.put(stored.getTaskId(), encoder.apply(stored));
+        Task previous = byId.put(stored.getTaskId(), stored);
+        if (previous != null) unindex(previous);
+        index(stored);
+    }
+
+    public synchronized boolean delete(String taskId) throws IOException {
+        Task previous = byId.remove(taskId);
+        if (previous == null) return false;
+        unindex(previous);
+        store.delete(taskId);
+        return true;
+    }
+
+    // Queries
+
+    public synchronized Task findById(String taskId) {
+        Task task = byId.get(taskId);
+        return task != null ? copy(task) : null;
+    }
+
+    public synchronized List<Task> findAll() {
+        return copies(byId.keySet());
+    }
+
+    public synchronized int count() {
+        return byId.size();
+    }
+
+    /**
+     * Tasks whose assignedTo is exactly this id ("" for unscoped tasks)
+     */
+    public synchronized List<Task> findByAssignee(String assignedTo) {
+        return copies(byAssignee.getOrDefault(normalize(assignedTo), Collections.emptySet()));
+    }
+
+    /**
+     * Tasks an adventurer can see: assigned to any of the ids, to all adventurers, or unscoped
+     */
+    public synchronized List<Task> findVisibleTo(Collection<String> adventurerIds) {
+        Set<String> ids = new LinkedHashSet<>();
+        for (String adventurerId : adventurerIds) {
+            ids.addAll(byAssignee.getOrDefault(normalize(adventurerId), Collections.emptySet()));
+        }
+        ids.addAll(byAssignee.getOrDefault(ALL_ADVENTURERS, Collections.emptySet()));
+        ids.addAll(byAssignee.getOrDefault("", Collections.emptySet()));
+        return copies(ids);
+    }
+
+    public synchronized List<Task> findByCreator(String assignedBy) {
+        return copies(byCreator.getOrDefault(normalize(assignedBy), Collections.emptySet()));
+    }
+
+    public synchronized List<Task> findByStatus(ValidationStatus status) {
+        return copies(byStatus.getOrDefault(status, Collections.emptySet()));
+    }
+
+    public synchronized int countByStatus(ValidationStatus status) {
+        return byStatus.getOrDefault(status, Collections.emptySet()).size();
+    }
+
+    /**
+     * Tasks created by a parent with the given status, e.g. awaiting their approval.
+     * Walks the smaller of the two index entries.
+     */
+    public synchronized List<Task> findByCreatorAndStatus(String assignedBy, ValidationStatus status) {
+        Set<String> created = byCreator.getOrDefault(normalize(assignedBy), Collections.emptySet());
+        Set<String> withStatus = byStatus.getOrDefault(status, Collections.emptySet());
+        return copies(intersect(created, withStatus));
+    }
+
+    /**
+     * Tasks with a deadline in [from, to), earliest first
+     * @param adventurerId only tasks this adventurer can see (the {@link #findVisibleTo} rule), or null for everyone
+     */
+    public synchronized List<Task> findDueBetween(LocalDateTime from, LocalDateTime to, String adventurerId) {
+        List<String> viewer = adventurerId != null ? List.of(adventurerId) : null;
+        List<Task> due = new ArrayList<>();
+        for (Set<String> ids : byDeadline.subMap(from, true, to, false).values()) {
+            for (String id : ids) {
+                Task task = byId.get(id);
+                if (viewer == null || isVisibleTo(task, viewer)) {
+                    due.add(copy(task));
+                }
+            }
+        }
+        return due;
+    }
+
+    /**
+     * The {@link #findVisibleTo} rule for a single task, for filtering tasks that did not come from the index
+     */
+    static boolean isVisibleTo(Task task, Collection<String> adventurerIds) {
+        String assignedTo = normalize(task.getAssignedTo());
+        if (assignedTo.isEmpty() || ALL_ADVENTURERS.equals(assignedTo)) return true;
+        for (String adventurerId : adventurerIds) {
+            if (assignedTo.equals(normalize(adventurerId))) return true;
+        }
+        return false;
+    }
+
+    // Index maintenance
+
+    private void index(Task task) {
+        String id = task.getTaskId();
+        byAssignee.computeIfAbsent(normalize(task.getAssignedTo()), k -> new LinkedHashSet<>()).add(id);
+        byCreator.computeIfAbsent(normalize(task.getAssignedBy()), k -> new LinkedHashSet<>()).add(id);
+        if (task.getValidationStatus() != null) {
+            byStatus.computeIfAbsent(task.getValidationStatus(), k -> new LinkedHashSet<>()).add(id);
+        }
+        if (task.getDeadline() != null) {
+            byDeadline.computeIfAbsent(task.getDeadline(), k -> new LinkedHashSet<>()).add(id);
+        }
+    }
+
+    private void unindex(Task task) {
+        String id = task.getTaskId();
+        removeFrom(byAssignee, normalize(task.getAssignedTo()), id);
+        removeFrom(byCreator, normalize(task.getAssignedBy()), id);
+        if (task.getValidationStatus() != null) removeFrom(byStatus, task.getValidationStatus(), id);
+        if (task.getDeadline() != null) removeFrom(byDeadline, task.getDeadline(), id);
+    }
+
+    private static <K> void removeFrom(Map<K, Set<String>> index, K key, String id) {
+        Set<String> ids = index.get(key);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static Set<String> intersect(Set<String> a, Set<String> b) {
+        Set<String> smaller = a.size() <= b.size() ? a : b;
+        Set<String> larger = smaller == a ? b : a;
+        Set<String> both = new LinkedHashSet<>();
+        for (String id : smaller) {
+            if (larger.contains(id)) both.add(id);
+        }
+        return both;
+    }
+
+    private static String normalize(String id) {
+        return id != null && !"null".equals(id) ? id : ""; // the text format stores a missing id as "null" or ""
+    }
+
+    private List<Task> copies(Collection<String> ids) {
+        List<Task> tasks = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            tasks.add(copy(byId.get(id)));
+        }
+        return tasks;
+    }
+
+    /**
+     * New task with the fields the local store keeps
+     */
+    private static Task copy(Task source) {
+        Task task = new Task();
+        task.setTaskId(source.getTaskId());
+        task.setTitle(source.getTitle());
+        task.setDescription(source.getDescription());
+        task.setType(source.getType());
+        task.setAssignedBy(source.getAssignedBy());
+        task.setAssignedTo(source.getAssignedTo());
+        task.setRewardCoins(source.getRewardCoins());
+        task.setDifficultyLevel(source.getDifficultyLevel());
+        task.setCompleted(source.isCompleted());
+        task.setValidationStatus(source.getValidationStatus());
+        task.setDeadline(source.getDeadline());
+        task.setCreatedAt(source.getCreatedAt());
+        task.setCompletedAt(source.getCompletedAt()); // after setCompleted, which stamps "now"
+        task.setCompletionNotes(source.getCompletionNotes());
+        task.setProgressPercentage(source.getProgressPercentage());
+        return task;
+    }
+}
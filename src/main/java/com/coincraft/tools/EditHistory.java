@@ -0,0 +1,105 @@
+package com.coincraft.tools;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Undo/redo for {@link TileGrid} edits, one entry per stroke.
+ *
+ * A stroke stores only the cells it changed: their index and previous id,
+ * plus the single id it wrote (a brush drag, rectangle or flood fill always
+ * writes one id). Memory is bounded by the total number of recorded cells;
+ * the oldest strokes are dropped first.
+ */
+public final class EditHistory {
+    private static final int MAX_STROKES = 500;
+    private static final long MAX_RECORDED_CELLS = 8_000_000L; // ~64 MB of deltas
+
+    /**
+     * Cells changed by one edit
+     */
+    public static final class Stroke {
+        private final int after;
+        private int[] indices = new int[16];
+        private int[] befores = new int[16];
+        private int size = 0;
+
+        public Stroke(int after) {
+            this.after = after;
+        }
+
+        void record(int index, int before) {
+            if (size == indices.length) {
+                indices = Arrays.copyOf(indices, size * 2);
+                befores = Arrays.copyOf(befores, size * 2);
+            }
+            indices[size] = index;
+            befores[size] = before;
+            size++;
+        }
+
+        void undo(TileGrid grid) {
+            // Reverse order, so a cell touched twice ends at its first "before"
+            for (int i = size - 1; i >= 0; i--) {
+                grid.restore(indices[i], befores[i]);
+            }
+        }
+
+        void redo(TileGrid grid) {
+            for (int i = 0; i < size; i++) {
+                grid.restore(indices[i], after);
+            }
+        }
+
+        /** The id this stroke writes */
+        public int getAfter() { return after; }
+        public int size() { return size; }
+        public boolean isEmpty() { return size == 0; }
+    }
+
+    private final Deque<Stroke> undo = new ArrayDeque<>();
+    private final Deque<Stroke> redo = new ArrayDeque<>();
+    private long recordedCells = 0;
+
+    /**
+     * Add a finished stroke; empty strokes are ignored. Clears the redo stack.
+     */
+    public void push(Stroke stroke) {
+        if (stroke == null || stroke.isEmpty()) return;
+        undo.push(stroke);
+        recordedCells += stroke.size();
+        for (Stroke s : redo) recordedCells -= s.size();
+        redo.clear();
+        while (undo.size() > 1 && (undo.size() > MAX_STROKES || recordedCells > MAX_RECORDED_CELLS)) {
+            recordedCells -= undo.removeLast().size();
+        }
+    }
+
+    public boolean undo(TileGrid grid) {
+        Stroke stroke = undo.poll();
+        if (stroke == null) return false;
+        stroke.undo(grid);
+        redo.push(stroke);
+        return true;
+    }
+
+    public boolean redo(TileGrid grid) {
+        Stroke stroke = redo.poll();
+        if (stroke == null) return false;
+        stroke.redo(grid);
+        undo.push(stroke);
+        return true;
+    }
+
+    public void clear() {
+        undo.clear();
+        redo.clear();
+        recordedCells = 0;
+    }
+
+    public boolean canUndo() { return !undo.isEmpty(); }
+    public boolean canRedo() { return !redo.isEmpty(); }
+    public int getUndoDepth() { return undo.size(); }
+    public long getRecordedCells() { return recordedCells; }
+}
@@ -1,48 +1,94 @@
 package com.coincraft.tools;
 
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
 import javafx.geometry.Insets;
+import javafx.geometry.Orientation;
 import javafx.geometry.Rectangle2D;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.*;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.*;
+import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Arrays;
+
+import com.coincraft.game.tile.TiledCsvMapLoader;
 
 /**
  * Simple standalone manual map editor.
  * - Palette from a tileset image (plains.png)
- * - Paint canvas grid
+ * - Brush, rectangle fill and flood fill, with undo/redo (Ctrl+Z / Ctrl+Y)
  * - Save/Load CSV compatible with the in-game CSV loader
+ *
+ * The map is drawn into a viewport-sized canvas: only visible cells are drawn,
+ * and edits redraw just the cells they touched on the next frame, so large
+ * maps (1000x1000 and up) stay responsive. Mouse wheel pans, Ctrl+wheel
+ * zooms, middle-drag pans.
  */
 public class MapEditorApp extends Application {
     private static final int SRC_TILE = 16;   // tileset cell size
-    private static final int DST_TILE = 48;   // canvas cell size
+    private static final int DST_TILE = 48;   // canvas cell size at zoom 1
     private static final int COLS = 26;       // default grid
     private static final int ROWS = 15;
+    private static final int MAX_SIZE = 4096;
+    private static final double MIN_ZOOM = 0.125;
+    private static final double MAX_ZOOM = 4.0;
+    private static final double MIN_GRID_LINE_TILE = 8; // no grid lines when cells are smaller
+    private static final Color MAP_BACKGROUND = Color.web("#a7f3d0");
+    private static final Color OUTSIDE_BACKGROUND = Color.web("#334155");
+    private static final Color GRID_LINE = Color.rgb(0, 0, 0, 0.1);
+
+    private enum Tool { BRUSH, RECT, FILL }
 
-    private int[][] gids = new int[ROWS][COLS];
+    private TileGrid grid = new TileGrid(COLS, ROWS);
+    private final EditHistory history = new EditHistory();
     private int selectedGid = 1;
+    private Tool tool = Tool.BRUSH;
+
+    private Image tileset;
+    private int tilesetCols;
+    private Canvas canvas;
+    private Canvas overlay;
+    private ScrollBar hbar;
+    private ScrollBar vbar;
+    private Label status;
+
+    // View: top-left corner in map pixels at the current zoom
+    private double zoom = 1.0;
+    private double viewX = 0;
+    private double viewY = 0;
+    private boolean fullRedraw = true;
+    private boolean syncingBars = false;
+
+    // Current gesture
+    private EditHistory.Stroke stroke;
+    private int lastCol;
+    private int lastRow;
+    private int anchorCol;
+    private int anchorRow;
+    private double panX;
+    private double panY;
 
     @Override
     public void start(Stage stage) {
-        Arrays.stream(gids).forEach(r -> Arrays.fill(r, 0));
-
         BorderPane root = new BorderPane();
         Scene scene = new Scene(root, 1200, 800);
 
         // Load tileset
-        Image tileset = new Image(getClass().getResourceAsStream("/Assets/Tilemap/plains.png"));
-        int tilesetCols = Math.max(1, (int)Math.floor(tileset.getWidth() / SRC_TILE));
+        tileset = new Image(getClass().getResourceAsStream("/Assets/Tilemap/plains.png"));
+        tilesetCols = Math.max(1, (int)Math.floor(tileset.getWidth() / SRC_TILE));
         int tilesetRows = Math.max(1, (int)Math.floor(tileset.getHeight() / SRC_TILE));
 
         // Palette grid
@@ -64,32 +110,79 @@ public class MapEditorApp extends Application {
         paletteScroll.setFitToWidth(true);
         paletteScroll.setPrefWidth(360);
 
-        // Canvas grid
-        Pane canvas = new Pane();
-        canvas.setPrefSize(COLS * DST_TILE, ROWS * DST_TILE);
-        canvas.setStyle("-fx-background-color: #a7f3d0; -fx-border-color: #0ea5e9;");
-        canvas.setOnMouseDragged(e -> paintAt(canvas, tileset, (int)e.getX(), (int)e.getY(), e.getButton() != MouseButton.SECONDARY));
-        canvas.setOnMousePressed(e -> paintAt(canvas, tileset, (int)e.getX(), (int)e.getY(), e.getButton() != MouseButton.SECONDARY));
+        // Viewport: canvases sized to the visible area, not to the map
+        Pane viewport = new Pane();
+        viewport.setMinSize(0, 0);
+        canvas = new Canvas();
+        overlay = new Canvas();
+        overlay.setMouseTransparent(true);
+        for (Canvas c : new Canvas[] { canvas, overlay }) {
+            c.widthProperty().bind(viewport.widthProperty());
+            c.heightProperty().bind(viewport.heightProperty());
+        }
+        viewport.getChildren().addAll(canvas, overlay);
+        viewport.widthProperty().addListener((obs, o, n) -> viewChanged());
+        viewport.heightProperty().addListener((obs, o, n) -> viewChanged());
+
+        hbar = new ScrollBar();
+        vbar = new ScrollBar();
+        vbar.setOrientation(Orientation.VERTICAL);
+        hbar.valueProperty().addListener((obs, o, n) -> { if (!syncingBars) { viewX = n.doubleValue(); fullRedraw = true; } });
+        vbar.valueProperty().addListener((obs, o, n) -> { if (!syncingBars) { viewY = n.doubleValue(); fullRedraw = true; } });
+        BorderPane viewportPane = new BorderPane(viewport);
+        viewportPane.setRight(vbar);
+        viewportPane.setBottom(hbar);
+
+        canvas.setOnMousePressed(this::onPressed);
+        canvas.setOnMouseDragged(this::onDragged);
+        canvas.setOnMouseReleased(this::onReleased);
+        canvas.setOnScroll(e -> {
+            if (e.isControlDown()) {
+                zoomAt(e.getDeltaY() > 0 ? 1.25 : 0.8, e.getX(), e.getY());
+            } else {
+                double dx = e.isShiftDown() ? e.getDeltaY() : e.getDeltaX();
+                double dy = e.isShiftDown() ? 0 : e.getDeltaY();
+                scrollTo(viewX - dx, viewY - dy);
+            }
+        });
 
         // Top bar
+        Spinner<Integer> colsSpinner = new Spinner<>(1, MAX_SIZE, COLS);
+        Spinner<Integer> rowsSpinner = new Spinner<>(1, MAX_SIZE, ROWS);
+        colsSpinner.setEditable(true); colsSpinner.setPrefWidth(90);
+        rowsSpinner.setEditable(true); rowsSpinner.setPrefWidth(90);
         Button btnNew = new Button("New");
         Button btnLoad = new Button("Load CSV");
         Button btnSave = new Button("Save CSV");
-        Label status = new Label();
-        HBox top = new HBox(10, btnNew, btnLoad, btnSave, status);
+        ToggleGroup tools = new ToggleGroup();
+        ToggleButton btnBrush = toolButton("Brush (B)", Tool.BRUSH, tools);
+        ToggleButton btnRect = toolButton("Rect (R)", Tool.RECT, tools);
+        ToggleButton btnFill = toolButton("Fill (F)", Tool.FILL, tools);
+        btnBrush.setSelected(true);
+        Button btnUndo = new Button("Undo");
+        Button btnRedo = new Button("Redo");
+        status = new Label();
+        HBox top = new HBox(10, btnNew, colsSpinner, new Label("x"), rowsSpinner, btnLoad, btnSave,
+            new Separator(Orientation.VERTICAL), btnBrush, btnRect, btnFill,
+            new Separator(Orientation.VERTICAL), btnUndo, btnRedo, status);
         top.setAlignment(Pos.CENTER_LEFT);
         top.setPadding(new Insets(8,12,8,12));
 
-        btnNew.setOnAction(e -> { Arrays.stream(gids).forEach(r -> Arrays.fill(r, 0)); redraw(canvas, tileset); });
+        btnNew.setOnAction(e -> {
+            setGrid(new TileGrid(colsSpinner.getValue(), rowsSpinner.getValue()));
+            status.setText("New " + grid.getCols() + "x" + grid.getRows() + " map");
+        });
+        btnUndo.setOnAction(e -> undo());
+        btnRedo.setOnAction(e -> redo());
         btnSave.setOnAction(e -> {
             try {
                 Path out = Path.of("edited/map.csv");
                 Files.createDirectories(out.getParent());
-                StringBuilder sb = new StringBuilder();
-                for (int r = 0; r < ROWS; r++) {
-                    for (int c = 0; c < COLS; c++) {
+                StringBuilder sb = new StringBuilder(grid.getCols() * grid.getRows() * 3);
+                for (int r = 0; r < grid.getRows(); r++) {
+                    for (int c = 0; c < grid.getCols(); c++) {
                         if (c > 0) sb.append(',');
-                        sb.append(gids[r][c]);
+                        sb.append(grid.get(c, r));
                     }
                     sb.append('\n');
                 }
@@ -103,77 +196,297 @@ public class MapEditorApp extends Application {
             try {
                 Path in = Path.of("edited/map.csv");
                 if (Files.exists(in)) {
-                    java.util.List<String> lines = Files.readAllLines(in, StandardCharsets.UTF_8);
-                    for (int r = 0; r < Math.min(ROWS, lines.size()); r++) {
-                        String[] parts = lines.get(r).split(",");
-                        for (int c = 0; c < Math.min(COLS, parts.length); c++) {
-                            String p = parts[c].trim();
-                            if (p.endsWith("\r")) p = p.substring(0, p.length()-1);
-                            gids[r][c] = p.isEmpty() ? 0 : Integer.parseInt(p);
+                    int[][] gids = TiledCsvMapLoader.loadCsv(in);
+                    int cols = 1;
+                    for (int[] row : gids) cols = Math.max(cols, row.length);
+                    TileGrid loaded = new TileGrid(Math.min(MAX_SIZE, cols), Math.min(MAX_SIZE, Math.max(1, gids.length)));
+                    for (int r = 0; r < loaded.getRows() && r < gids.length; r++) {
+                        for (int c = 0; c < loaded.getCols() && c < gids[r].length; c++) {
+                            loaded.set(c, r, gids[r][c], null);
                         }
                     }
-                    redraw(canvas, tileset);
-                    status.setText("Loaded edited/map.csv");
+                    setGrid(loaded);
+                    colsSpinner.getValueFactory().setValue(loaded.getCols());
+                    rowsSpinner.getValueFactory().setValue(loaded.getRows());
+                    status.setText("Loaded edited/map.csv (" + loaded.getCols() + "x" + loaded.getRows() + ")");
                 }
             } catch (Exception ex) {
                 status.setText("Load failed: " + ex.getMessage());
             }
         });
 
+        scene.setOnKeyPressed(e -> {
+            if (e.isShortcutDown() && e.getCode() == KeyCode.Z) {
+                if (e.isShiftDown()) redo(); else undo();
+            } else if (e.isShortcutDown() && e.getCode() == KeyCode.Y) {
+                redo();
+            } else if (e.getCode() == KeyCode.B) {
+                btnBrush.setSelected(true);
+            } else if (e.getCode() == KeyCode.R) {
+                btnRect.setSelected(true);
+            } else if (e.getCode() == KeyCode.F) {
+                btnFill.setSelected(true);
+            }
+        });
+
         root.setTop(top);
         root.setLeft(paletteScroll);
-        root.setCenter(new ScrollPane(canvas));
+        root.setCenter(viewportPane);
 
         stage.setTitle("CoinCraft Map Editor");
         stage.setScene(scene);
         stage.show();
 
-        redraw(canvas, tileset);
+        // Draw at most once per frame, and only what changed
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                redraw();
+            }
+        }.start();
+    }
+
+    private ToggleButton toolButton(String label, Tool value, ToggleGroup group) {
+        ToggleButton button = new ToggleButton(label);
+        button.setToggleGroup(group);
+        button.selectedProperty().addListener((obs, o, selected) -> { if (selected) tool = value; });
+        return button;
     }
 
-    private void paintAt(Pane canvas, Image tileset, int x, int y, boolean paint) {
-        int c = x / DST_TILE;
-        int r = y / DST_TILE;
-        if (r < 0 || c < 0 || r >= ROWS || c >= COLS) return;
-        gids[r][c] = paint ? selectedGid : 0;
-        redraw(canvas, tileset);
+    private void setGrid(TileGrid newGrid) {
+        grid = newGrid;
+        history.clear();
+        stroke = null;
+        viewX = 0;
+        viewY = 0;
+        viewChanged();
     }
 
-    private void redraw(Pane canvas, Image tileset) {
-        canvas.getChildren().clear();
-        int tilesetCols = Math.max(1, (int)Math.floor(tileset.getWidth() / SRC_TILE));
-        for (int r = 0; r < ROWS; r++) {
-            for (int c = 0; c < COLS; c++) {
-                int gid = gids[r][c];
+    // Input
+
+    private void onPressed(MouseEvent e) {
+        if (e.getButton() == MouseButton.MIDDLE) {
+            panX = e.getX();
+            panY = e.getY();
+            return;
+        }
+        int col = colAt(e.getX());
+        int row = rowAt(e.getY());
+        int gid = e.getButton() == MouseButton.SECONDARY ? 0 : selectedGid;
+        stroke = new EditHistory.Stroke(gid);
+        switch (tool) {
+            case BRUSH -> {
+                grid.set(col, row, gid, stroke);
+                lastCol = col;
+                lastRow = row;
+            }
+            case RECT -> {
+                anchorCol = col;
+                anchorRow = row;
+                drawRectPreview(col, row);
+            }
+            case FILL -> {
+                int changed = grid.floodFill(col, row, gid, stroke);
+                finishStroke();
+                status.setText("Filled " + changed + " cells");
+            }
+        }
+    }
+
+    private void onDragged(MouseEvent e) {
+        if (e.getButton() == MouseButton.MIDDLE) {
+            scrollTo(viewX - (e.getX() - panX), viewY - (e.getY() - panY));
+            panX = e.getX();
+            panY = e.getY();
+            return;
+        }
+        if (stroke == null) return;
+        int col = colAt(e.getX());
+        int row = rowAt(e.getY());
+        if (tool == Tool.BRUSH) {
+            paintLine(lastCol, lastRow, col, row);
+            lastCol = col;
+            lastRow = row;
+        } else if (tool == Tool.RECT) {
+            drawRectPreview(col, row);
+        }
+    }
+
+    private void onReleased(MouseEvent e) {
+        if (stroke == null) return;
+        if (tool == Tool.RECT) {
+            int changed = grid.fillRect(anchorCol, anchorRow, colAt(e.getX()), rowAt(e.getY()), stroke.getAfter(), stroke);
+            clearOverlay();
+            status.setText("Filled " + changed + " cells");
+        }
+        finishStroke();
+    }
+
+    private void finishStroke() {
+        history.push(stroke);
+        stroke = null;
+    }
+
+    /**
+     * Paint every cell on the line between two cells, so fast drags leave no gaps
+     */
+    private void paintLine(int c0, int r0, int c1, int r1) {
+        int dc = Math.abs(c1 - c0), sc = c0 < c1 ? 1 : -1;
+        int dr = -Math.abs(r1 - r0), sr = r0 < r1 ? 1 : -1;
+        int err = dc + dr;
+        while (true) {
+            grid.set(c0, r0, stroke.getAfter(), stroke);
+            if (c0 == c1 && r0 == r1) break;
+            int e2 = 2 * err;
+            if (e2 >= dr) { err += dr; c0 += sc; }
+            if (e2 <= dc) { err += dc; r0 += sr; }
+        }
+    }
+
+    private void undo() {
+        if (stroke != null) return; // not while a stroke is in progress
+        if (history.undo(grid)) status.setText("Undo (" + history.getUndoDepth() + " left)");
+    }
+
+    private void redo() {
+        if (stroke != null) return;
+        if (history.redo(grid)) status.setText("Redo");
+    }
+
+    // View
+
+    private double tileSize() {
+        return DST_TILE * zoom;
+    }
+
+    private int colAt(double x) {
+        return (int) Math.floor((viewX + x) / tileSize());
+    }
+
+    private int rowAt(double y) {
+        return (int) Math.floor((viewY + y) / tileSize());
+    }
+
+    private void zoomAt(double factor, double x, double y) {
+        double newZoom = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom * factor));
+        if (newZoom == zoom) return;
+        // Keep the map point under the cursor in place
+        double mapX = (viewX + x) / zoom;
+        double mapY = (viewY + y) / zoom;
+        zoom = newZoom;
+        viewX = mapX * zoom - x;
+        viewY = mapY * zoom - y;
+        viewChanged();
+        status.setText(String.format("Zoom %.0f%%", zoom * 100));
+    }
+
+    private void scrollTo(double x, double y) {
+        viewX = x;
+        viewY = y;
+        viewChanged();
+    }
+
+    /**
+     * Clamp the view to the map, update the scroll bars and redraw everything next frame
+     */
+    private void viewChanged() {
+        double mapW = grid.getCols() * tileSize();
+        double mapH = grid.getRows() * tileSize();
+        double maxX = Math.max(0, mapW - canvas.getWidth());
+        double maxY = Math.max(0, mapH - canvas.getHeight());
+        viewX = Math.max(0, Math.min(maxX, viewX));
+        viewY = Math.max(0, Math.min(maxY, viewY));
+        syncingBars = true;
+        hbar.setMax(maxX);
+        vbar.setMax(maxY);
+        hbar.setVisibleAmount(canvas.getWidth());
+        vbar.setVisibleAmount(canvas.getHeight());
+        hbar.setUnitIncrement(tileSize());
+        vbar.setUnitIncrement(tileSize());
+        hbar.setValue(viewX);
+        vbar.setValue(viewY);
+        syncingBars = false;
+        fullRedraw = true;
+    }
+
+    private void redraw() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        if (fullRedraw) {
+            fullRedraw = false;
+            grid.clearDirty();
+            gc.setFill(OUTSIDE_BACKGROUND);
+            gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            drawCells(gc, 0, 0, grid.getCols() - 1, grid.getRows() - 1);
+        } else if (grid.isDirty()) {
+            int minCol = grid.getDirtyMinCol(), minRow = grid.getDirtyMinRow();
+            int maxCol = grid.getDirtyMaxCol(), maxRow = grid.getDirtyMaxRow();
+            grid.clearDirty();
+            drawCells(gc, minCol, minRow, maxCol, maxRow);
+        }
+    }
+
+    /**
+     * Draw the cells of a rectangle that are on screen, with their grid lines
+     */
+    private void drawCells(GraphicsContext gc, int minCol, int minRow, int maxCol, int maxRow) {
+        double size = tileSize();
+        int c0 = Math.max(minCol, (int) Math.floor(viewX / size));
+        int r0 = Math.max(minRow, (int) Math.floor(viewY / size));
+        int c1 = Math.min(maxCol, Math.min(grid.getCols() - 1, (int) Math.floor((viewX + canvas.getWidth()) / size)));
+        int r1 = Math.min(maxRow, Math.min(grid.getRows() - 1, (int) Math.floor((viewY + canvas.getHeight()) / size)));
+        if (c0 > c1 || r0 > r1) return;
+
+        double x0 = c0 * size - viewX;
+        double y0 = r0 * size - viewY;
+        double w = (c1 - c0 + 1) * size;
+        double h = (r1 - r0 + 1) * size;
+        gc.setImageSmoothing(false);
+        gc.setFill(MAP_BACKGROUND);
+        gc.fillRect(x0, y0, w, h);
+
+        for (int r = r0; r <= r1; r++) {
+            double y = r * size - viewY;
+            for (int c = c0; c <= c1; c++) {
+                int gid = grid.get(c, r);
                 if (gid <= 0) continue;
                 int idx = gid - 1;
                 int sx = (idx % tilesetCols) * SRC_TILE;
                 int sy = (idx / tilesetCols) * SRC_TILE;
-                ImageView iv = new ImageView(tileset);
-                iv.setViewport(new Rectangle2D(sx, sy, SRC_TILE, SRC_TILE));
-                iv.setFitWidth(DST_TILE);
-                iv.setFitHeight(DST_TILE);
-                iv.setPreserveRatio(false);
-                iv.setSmooth(true);
-                iv.setLayoutX(c * DST_TILE);
-                iv.setLayoutY(r * DST_TILE);
-                canvas.getChildren().add(iv);
+                gc.drawImage(tileset, sx, sy, SRC_TILE, SRC_TILE, c * size - viewX, y, size, size);
             }
         }
+
         // grid lines
-        for (int r = 0; r <= ROWS; r++) {
-            javafx.scene.shape.Line h = new javafx.scene.shape.Line(0, r*DST_TILE, COLS*DST_TILE, r*DST_TILE);
-            h.setStroke(javafx.scene.paint.Color.rgb(0,0,0,0.1));
-            canvas.getChildren().add(h);
-        }
-        for (int c = 0; c <= COLS; c++) {
-            javafx.scene.shape.Line v = new javafx.scene.shape.Line(c*DST_TILE, 0, c*DST_TILE, ROWS*DST_TILE);
-            v.setStroke(javafx.scene.paint.Color.rgb(0,0,0,0.1));
-            canvas.getChildren().add(v);
+        if (size >= MIN_GRID_LINE_TILE) {
+            gc.setStroke(GRID_LINE);
+            gc.setLineWidth(1);
+            for (int r = r0; r <= r1 + 1; r++) {
+                double y = Math.floor(r * size - viewY) + 0.5;
+                gc.strokeLine(x0, y, x0 + w, y);
+            }
+            for (int c = c0; c <= c1 + 1; c++) {
+                double x = Math.floor(c * size - viewX) + 0.5;
+                gc.strokeLine(x, y0, x, y0 + h);
+            }
         }
     }
 
-    public static void main(String[] args) { launch(args); }
-}
+    private void drawRectPreview(int col, int row) {
+        clearOverlay();
+        double size = tileSize();
+        double x = Math.min(anchorCol, col) * size - viewX;
+        double y = Math.min(anchorRow, row) * size - viewY;
+        double w = (Math.abs(col - anchorCol) + 1) * size;
+        double h = (Math.abs(row - anchorRow) + 1) * size;
+        GraphicsContext gc = overlay.getGraphicsContext2D();
+        gc.setStroke(Color.web("#0ea5e9"));
+        gc.setLineWidth(2);
+        gc.strokeRect(x, y, w, h);
+    }
 
+    private void clearOverlay() {
+        overlay.getGraphicsContext2D().clearRect(0, 0, overlay.getWidth(), overlay.getHeight());
+    }
 
+    public static void main(String[] args) { launch(args); }
+}
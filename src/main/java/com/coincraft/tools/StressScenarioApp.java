@@ -0,0 +1,42 @@
+package com.coincraft.tools;
+
+import com.coincraft.game.stress.StressScenario;
+
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.stage.Stage;
+
+/**
+ * Standalone runner for the synthetic large-world stress scenario.
+ *
+ * Usage: {@code StressScenarioApp [key=value ...]}, for example
+ * {@code tiles=200 breakables=10000 npcs=500 sprites=2000 frames=3600 out=build/stress}.
+ * Writes stress-frames.csv and stress-summary.txt to the output directory and exits.
+ */
+public class StressScenarioApp {
+    
+    public static void main(String[] args) {
+        StressScenario.Config config = StressScenario.Config.fromArgs(args);
+        // Started directly (not via Application.launch) so it also runs from a plain classpath
+        Platform.startup(() -> {
+            StressScenario scenario = new StressScenario(config);
+            Pane viewport = scenario.build();
+            
+            Stage stage = new Stage();
+            stage.setTitle("CoinCraft Stress Scenario - " + config);
+            stage.setScene(new Scene(viewport, config.getViewportWidth(), config.getViewportHeight()));
+            stage.setResizable(false);
+            stage.setOnCloseRequest(e -> {
+                scenario.stop();
+                Platform.exit();
+            });
+            stage.show();
+            
+            scenario.start(() -> {
+                stage.close();
+                Platform.exit();
+            });
+        });
+    }
+}
@@ -0,0 +1,168 @@
+package com.coincraft.tools;
+
+import java.util.Arrays;
+
+/**
+ * Tile ids of an editable map in one row-major int array (0 = empty).
+ *
+ * Every change goes through {@link #set} so it can be recorded in an
+ * {@link EditHistory.Stroke} and grows a dirty rectangle that the editor
+ * redraws on the next frame instead of the whole view.
+ */
+public final class TileGrid {
+    private final int cols;
+    private final int rows;
+    private final int[] cells;
+
+    // Dirty rectangle in cells, inclusive; empty when dirtyMinCol > dirtyMaxCol
+    private int dirtyMinCol;
+    private int dirtyMinRow;
+    private int dirtyMaxCol;
+    private int dirtyMaxRow;
+
+    // Flood fill work stack, kept between fills
+    private int[] stack = new int[256];
+
+    public TileGrid(int cols, int rows) {
+        this.cols = Math.max(1, cols);
+        this.rows = Math.max(1, rows);
+        this.cells = new int[this.cols * this.rows];
+        clearDirty();
+    }
+
+    public int getCols() { return cols; }
+    public int getRows() { return rows; }
+
+    public boolean inBounds(int col, int row) {
+        return col >= 0 && row >= 0 && col < cols && row < rows;
+    }
+
+    public int get(int col, int row) {
+        return cells[row * cols + col];
+    }
+
+    /**
+     * Set a cell, recording the change in {@code stroke} (may be null)
+     * @return true if the cell changed
+     */
+    public boolean set(int col, int row, int gid, EditHistory.Stroke stroke) {
+        if (!inBounds(col, row)) return false;
+        int index = row * cols + col;
+        int before = cells[index];
+        if (before == gid) return false;
+        cells[index] = gid;
+        if (stroke != null) stroke.record(index, before);
+        markDirty(col, row, col, row);
+        return true;
+    }
+
+    /**
+     * Set every cell of the rectangle between two corners (any order, clipped to the grid)
+     * @return number of cells changed
+     */
+    public int fillRect(int col0, int row0, int col1, int row1, int gid, EditHistory.Stroke stroke) {
+        int minCol = Math.max(0, Math.min(col0, col1));
+        int maxCol = Math.min(cols - 1, Math.max(col0, col1));
+        int minRow = Math.max(0, Math.min(row0, row1));
+        int maxRow = Math.min(rows - 1, Math.max(row0, row1));
+        int changed = 0;
+        for (int r = minRow; r <= maxRow; r++) {
+            int base = r * cols;
+            for (int c = minCol; c <= maxCol; c++) {
+                int before = cells[base + c];
+                if (before == gid) continue;
+                cells[base + c] = gid;
+                if (stroke != null) stroke.record(base + c, before);
+                changed++;
+            }
+        }
+        if (changed > 0) markDirty(minCol, minRow, maxCol, maxRow);
+        return changed;
+    }
+
+    /**
+     * Replace the 4-connected region of equal tiles around a cell with {@code gid}.
+     * Scanline fill: whole row spans per step, one int per span on the stack.
+     * @return number of cells changed
+     */
+    public int floodFill(int col, int row, int gid, EditHistory.Stroke stroke) {
+        if (!inBounds(col, row)) return 0;
+        int target = cells[row * cols + col];
+        if (target == gid) return 0;
+
+        int minCol = col, maxCol = col, minRow = row, maxRow = row;
+        int changed = 0;
+        int top = 0;
+        stack[top++] = row * cols + col;
+        while (top > 0) {
+            int seed = stack[--top];
+            if (cells[seed] != target) continue;
+            int r = seed / cols;
+            int base = r * cols;
+            int left = seed - base;
+            int right = left;
+            while (left > 0 && cells[base + left - 1] == target) left--;
+            while (right < cols - 1 && cells[base + right + 1] == target) right++;
+
+            for (int c = left; c <= right; c++) {
+                if (stroke != null) stroke.record(base + c, target);
+                cells[base + c] = gid;
+            }
+            changed += right - left + 1;
+            if (left < minCol) minCol = left;
+            if (right > maxCol) maxCol = right;
+            if (r < minRow) minRow = r;
+            if (r > maxRow) maxRow = r;
+
+            // One seed per run of target cells in the rows above and below
+            for (int nr = r - 1; nr <= r + 1; nr += 2) {
+                if (nr < 0 || nr >= rows) continue;
+                int nbase = nr * cols;
+                boolean inRun = false;
+                for (int c = left; c <= right; c++) {
+                    boolean match = cells[nbase + c] == target;
+                    if (match && !inRun) {
+                        if (top == stack.length) stack = Arrays.copyOf(stack, top * 2);
+                        stack[top++] = nbase + c;
+                    }
+                    inRun = match;
+                }
+            }
+        }
+        markDirty(minCol, minRow, maxCol, maxRow);
+        return changed;
+    }
+
+    /**
+     * Write a cell by index without recording; used by undo/redo
+     */
+    void restore(int index, int gid) {
+        cells[index] = gid;
+        int col = index % cols;
+        int row = index / cols;
+        markDirty(col, row, col, row);
+    }
+
+    public void markDirty(int minCol, int minRow, int maxCol, int maxRow) {
+        if (minCol < dirtyMinCol) dirtyMinCol = minCol;
+        if (minRow < dirtyMinRow) dirtyMinRow = minRow;
+        if (maxCol > dirtyMaxCol) dirtyMaxCol = maxCol;
+        if (maxRow > dirtyMaxRow) dirtyMaxRow = maxRow;
+    }
+
+    public boolean isDirty() {
+        return dirtyMinCol <= dirtyMaxCol;
+    }
+
+    public void clearDirty() {
+        dirtyMinCol = Integer.MAX_VALUE;
+        dirtyMinRow = Integer.MAX_VALUE;
+        dirtyMaxCol = Integer.MIN_VALUE;
+        dirtyMaxRow = Integer.MIN_VALUE;
+    }
+
+    public int getDirtyMinCol() { return dirtyMinCol; }
+    public int getDirtyMinRow() { return dirtyMinRow; }
+    public int getDirtyMaxCol() { return dirtyMaxCol; }
+    public int getDirtyMaxRow() { return dirtyMaxRow; }
+}
@@ -1,7 +1,6 @@
 package com.coincraft.ui;
 
-import java.util.concurrent.CompletableFuture;
-
+import com.coincraft.engine.jobs.JobSystem;
 import com.coincraft.models.User;
 import com.coincraft.models.UserRole;
 import com.coincraft.services.FirebaseService;
@@ -283,7 +282,7 @@ public class ParentRegistrationScreen {
         showStatus("Creating your parent account...", false);
         
         // Perform registration asynchronously
-        CompletableFuture.supplyAsync(() -> {
+        JobSystem.getInstance().io(token -> {
             // Create parent user profile
             User parent = new User();
             parent.setName(name);
@@ -293,32 +292,28 @@ public class ParentRegistrationScreen {
             
             // Register with Firebase
             return firebaseService.registerMockUser(email, password, parent);
-        }).thenAccept(success -> {
-            Platform.runLater(() -> {
-                if (success) {
-                    // Registration successful
-                    User parent = new User();
-                    parent.setName(name);
-                    parent.setEmail(email);
-                    parent.setRole(UserRole.PARENT);
-                    parent.setAge(0);
-                    
-                    showStatus("Registration successful! Welcome to CoinCraft!", false);
-                    // Delay before transitioning to dashboard
-                    Platform.runLater(() -> {
-                        callback.onRegistrationSuccess(parent);
-                    });
-                } else {
-                    showStatus("Registration failed: Unable to create account", true);
-                    setFormEnabled(true);
-                }
-            });
-        }).exceptionally(throwable -> {
-            Platform.runLater(() -> {
-                showStatus("Registration failed: " + throwable.getMessage(), true);
+        }).onComplete(success -> {
+            // Delivered on the FX thread by the job system
+            if (success) {
+                // Registration successful
+                User parent = new User();
+                parent.setName(name);
+                parent.setEmail(email);
+                parent.setRole(UserRole.PARENT);
+                parent.setAge(0);
+                
+                showStatus("Registration successful! Welcome to CoinCraft!", false);
+                // Delay before transitioning to dashboard
+                Platform.runLater(() -> {
+                    callback.onRegistrationSuccess(parent);
+                });
+            } else {
+                showStatus("Registration failed: Unable to create account", true);
                 setFormEnabled(true);
-            });
-            return null;
+            }
+        }).onError(throwable -> {
+            showStatus("Registration failed: " + throwable.getMessage(), true);
+            setFormEnabled(true);
         });
     }
     
@@ -327,7 +322,7 @@ public class ParentRegistrationScreen {
         setFormEnabled(false);
         showStatus("Signing in with Google...", false);
         
-        CompletableFuture.supplyAsync(() -> {
+        JobSystem.getInstance().io(token -> {
             // In a real implementation, this would:
             // 1. Open Google OAuth flow
             // 2. Get the Google ID token
@@ -339,38 +334,33 @@ public class ParentRegistrationScreen {
             } catch (InterruptedException e) {
                 return false;
             }
-        }).thenAccept(success -> {
-            Platform.runLater(() -> {
-                if (success) {
-                    // Create parent user profile from Google data (mocked)
-                    User parent = new User();
-                    parent.setName("Google User");
-                    parent.setEmail("user@gmail.com");
-                    parent.setRole(UserRole.PARENT);
-                    parent.setAge(0);
-                    
-                    // Register with Firebase
-                    boolean registrationSuccess = firebaseService.registerMockUser("user@gmail.com", "google_auth", parent);
-                    if (registrationSuccess) {
-                        showStatus("Google sign-in successful! Welcome to CoinCraft!", false);
-                        Platform.runLater(() -> {
-                            callback.onRegistrationSuccess(parent);
-                        });
-                    } else {
-                        showStatus("Google sign-in failed: Could not create account", true);
-                        setFormEnabled(true);
-                    }
+        }).onComplete(success -> {
+            if (success) {
+                // Create parent user profile from Google data (mocked)
+                User parent = new User();
+                parent.setName("Google User");
+                parent.setEmail("user@gmail.com");
+                parent.setRole(UserRole.PARENT);
+                parent.setAge(0);
+                
+                // Register with Firebase
+                boolean registrationSuccess = firebaseService.registerMockUser("user@gmail.com", "google_auth", parent);
+                if (registrationSuccess) {
+                    showStatus("Google sign-in successful! Welcome to CoinCraft!", false);
+                    Platform.runLater(() -> {
+                        callback.onRegistrationSuccess(parent);
+                    });
                 } else {
-                    showStatus("Google sign-in failed: Authentication cancelled", true);
+                    showStatus("Google sign-in failed: Could not create account", true);
                     setFormEnabled(true);
                 }
-            });
-        }).exceptionally(throwable -> {
-            Platform.runLater(() -> {
-                showStatus("Google sign-in failed: " + throwable.getMessage(), true);
+            } else {
+                showStatus("Google sign-in failed: Authentication cancelled", true);
                 setFormEnabled(true);
-            });
-            return null;
+            }
+        }).onError(throwable -> {
+            showStatus("Google sign-in failed: " + throwable.getMessage(), true);
+            setFormEnabled(true);
         });
     }
     
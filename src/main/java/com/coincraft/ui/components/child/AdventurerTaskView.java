@@ -1,7 +1,7 @@
 package com.coincraft.ui.components.child;
 
+import java.time.Duration;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -421,29 +421,22 @@ public class AdventurerTaskView {
             .filter(t -> t.getValidationStatus() == ValidationStatus.REJECTED)
             .count();
         
+        // Open tasks this adventurer can see with a deadline in the next day, from the deadline index
+        int dueSoon = (int) FirebaseService.getInstance()
+            .loadTasksDueWithin(currentAdventurer.getUserId(), Duration.ofHours(24)).stream()
+            .filter(t -> !t.isCompleted())
+            .count();
+        
         statsLabel.setText(String.format(
-            "📊 Total: %d tasks | ⚔️ Active: %d | ⏳ Pending: %d | ✅ Completed: %d | ❌ Rejected: %d",
-            totalTasks, activeTasks, pendingReview, completedTasks, rejectedTasks
+            "📊 Total: %d tasks | ⚔️ Active: %d | ⏰ Due in 24h: %d | ⏳ Pending: %d | ✅ Completed: %d | ❌ Rejected: %d",
+            totalTasks, activeTasks, dueSoon, pendingReview, completedTasks, rejectedTasks
         ));
     }
     
     private List<Task> loadAssignedTasks() {
-        // Load tasks assigned to this adventurer
+        // Tasks assigned to this adventurer, to all adventurers, or unscoped
         FirebaseService firebaseService = FirebaseService.getInstance();
-        List<Task> allTasks = firebaseService.loadAllTasks();
-        
-        List<Task> myTasks = new ArrayList<>();
-        for (Task task : allTasks) {
-            String assignedTo = task.getAssignedTo();
-            boolean isUnscoped = (assignedTo == null || assignedTo.isEmpty());
-            boolean isForAll = "ALL_ADVENTURERS".equals(assignedTo);
-            boolean isForMe = currentAdventurer.getUserId().equals(assignedTo);
-            if (isForMe || isForAll || isUnscoped) {
-                myTasks.add(task);
-            }
-        }
-        
-        return myTasks;
+        return firebaseService.loadTasksForAdventurers(List.of(currentAdventurer.getUserId()));
     }
     
     // Utility methods for styling and colors
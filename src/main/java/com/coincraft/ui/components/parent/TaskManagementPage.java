@@ -1,6 +1,7 @@
 package com.coincraft.ui.components.parent;
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.coincraft.audio.CentralizedMusicManager;
@@ -402,7 +403,10 @@ public class TaskManagementPage {
     private void updateStats() {
         int totalTasks = allTasks.size();
         int activeTasks = (int) allTasks.stream().filter(t -> !t.isCompleted()).count();
-        int pendingReview = (int) allTasks.stream().filter(t -> t.getValidationStatus() == ValidationStatus.AWAITING_APPROVAL).count();
+        // Tasks waiting for this parent's approval, from the creator and status indexes
+        int pendingReview = currentParent != null && currentParent.getUserId() != null
+            ? FirebaseService.getInstance().loadTasksAwaitingApproval(currentParent.getUserId()).size()
+            : 0;
         int completedTasks = totalTasks - activeTasks;
         
         statsLabel.setText(String.format(
@@ -412,9 +416,16 @@ public class TaskManagementPage {
     }
     
     private List<Task> loadAllTasks() {
-        // Load all tasks from Firebase
+        // Load this family's tasks (all tasks when no adventurers are linked yet)
         FirebaseService firebaseService = FirebaseService.getInstance();
-        return firebaseService.loadAllTasks();
+        if (adventurers == null || adventurers.isEmpty()) {
+            return firebaseService.loadAllTasks();
+        }
+        List<String> adventurerIds = new ArrayList<>();
+        for (User adventurer : adventurers) {
+            if (adventurer != null && adventurer.getUserId() != null) adventurerIds.add(adventurer.getUserId());
+        }
+        return firebaseService.loadTasksForAdventurers(adventurerIds);
     }
     
     // Utility methods for styling and colors
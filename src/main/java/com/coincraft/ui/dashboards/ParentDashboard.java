@@ -57,7 +57,6 @@ public class ParentDashboard extends BaseDashboard {
     
     // Real adventurer data from Firebase
     private List<User> children;
-    private List<Task> allTasks;
     
     public ParentDashboard(User user) {
         super(user);
@@ -78,23 +77,14 @@ public class ParentDashboard extends BaseDashboard {
             topBar.updateActiveChildren(children != null ? children.size() : 0);
             // Update notification count based on pending tasks
             updateNotificationCount();
-            // Also refresh the displayed values immediately
-            int pendingCount = (int) (allTasks == null ? 0 : allTasks.stream()
-                .filter(task -> task.getValidationStatus() == com.coincraft.models.ValidationStatus.AWAITING_APPROVAL)
-                .count());
-            topBar.updatePendingTasks(pendingCount);
         }
     }
     
     private void loadRealData() {
         children = new ArrayList<>();
-        allTasks = new ArrayList<>();
         
         // Load real adventurer data from Firebase
         loadAdventurersFromFirebase();
-        
-        // Load tasks for notification calculation
-        loadTasksForNotifications();
     }
     
     private void loadAdventurersFromFirebase() {
@@ -711,48 +701,12 @@ public class ParentDashboard extends BaseDashboard {
                 .sum();
     }
     
-    /**
-     * Load tasks for notification calculation
-     */
-    private void loadTasksForNotifications() {
-        try {
-            FirebaseService firebaseService = FirebaseService.getInstance();
-            allTasks = firebaseService.loadAllTasks();
-            // Filter only tasks that belong to this parent's children or ALL_ADVENTURERS
-            if (children != null && !children.isEmpty()) {
-                java.util.Set<String> childIds = new java.util.HashSet<>();
-                for (User c : children) {
-                    if (c != null && c.getUserId() != null) childIds.add(c.getUserId());
-                }
-                java.util.List<Task> filtered = new java.util.ArrayList<>();
-                for (Task t : allTasks) {
-                    String assignedTo = t.getAssignedTo();
-                    if (assignedTo == null || assignedTo.isEmpty() || "ALL_ADVENTURERS".equals(assignedTo) || childIds.contains(assignedTo)) {
-                        filtered.add(t);
-                    }
-                }
-                allTasks = filtered;
-            }
-            System.out.println("📋 Loaded " + allTasks.size() + " tasks for notification calculation");
-        } catch (Exception e) {
-            System.out.println("⚠️ Could not load tasks for notifications: " + e.getMessage());
-            allTasks = new ArrayList<>();
-        }
-    }
-    
     /**
      * Update notification count based on pending tasks
      */
     private void updateNotificationCount() {
-        if (allTasks == null || allTasks.isEmpty()) {
-            topBar.updatePendingTasks(0);
-            return;
-        }
-        
-        // Count tasks that need parent review/approval
-        int pendingCount = (int) allTasks.stream()
-                .filter(task -> task.getValidationStatus() == com.coincraft.models.ValidationStatus.AWAITING_APPROVAL)
-                .count();
+        // Count tasks that need this parent's review/approval, straight from the creator and status indexes
+        int pendingCount = loadTasksAwaitingReview().size();
         
         // Also count any unread messages or other notifications
         // For now, we'll focus on task-related notifications
@@ -760,6 +714,16 @@ public class ParentDashboard extends BaseDashboard {
         topBar.updatePendingTasks(pendingCount);
         System.out.println("🔔 Updated notification count: " + pendingCount + " pending tasks");
     }
+    
+    /**
+     * Tasks this parent created that are waiting for their approval
+     */
+    private List<Task> loadTasksAwaitingReview() {
+        if (currentUser == null || currentUser.getUserId() == null) {
+            return new ArrayList<>();
+        }
+        return FirebaseService.getInstance().loadTasksAwaitingApproval(currentUser.getUserId());
+    }
 
     /**
      * Start periodic refresh of tasks/notifications so the header stays up to date
@@ -772,8 +736,7 @@ public class ParentDashboard extends BaseDashboard {
             autoRefreshTimeline = new javafx.animation.Timeline(
                 new javafx.animation.KeyFrame(javafx.util.Duration.seconds(5), e -> {
                     try {
-                        // Reload tasks and update counts
-                        loadTasksForNotifications();
+                        // Only the pending count is shown in the header; no need to reload every family task
                         updateNotificationCount();
                     } catch (Exception ex) {
                         System.out.println("⚠️ Auto refresh failed: " + ex.getMessage());
@@ -783,7 +746,6 @@ public class ParentDashboard extends BaseDashboard {
             autoRefreshTimeline.setCycleCount(javafx.animation.Animation.INDEFINITE);
             autoRefreshTimeline.play();
             // Trigger an immediate refresh so the header updates right away
-            loadTasksForNotifications();
             updateNotificationCount();
         } catch (Exception e) {
             System.out.println("⚠️ Could not start auto refresh: " + e.getMessage());
@@ -815,16 +777,12 @@ public class ParentDashboard extends BaseDashboard {
 
         VBox list = new VBox(8);
         int shown = 0;
-        if (allTasks != null) {
-            for (Task t : allTasks) {
-                if (t.getValidationStatus() == com.coincraft.models.ValidationStatus.AWAITING_APPROVAL) {
-                    Label item = new Label("⏳ " + t.getTitle());
-                    item.setStyle("-fx-font-size: 13px; -fx-text-fill: #374151;");
-                    list.getChildren().add(item);
-                    shown++;
-                    if (shown >= 5) break;
-                }
-            }
+        for (Task t : loadTasksAwaitingReview()) {
+            Label item = new Label("⏳ " + t.getTitle());
+            item.setStyle("-fx-font-size: 13px; -fx-text-fill: #374151;");
+            list.getChildren().add(item);
+            shown++;
+            if (shown >= 5) break;
         }
         if (shown == 0) {
             Label empty = new Label("No tasks pending review.");
@@ -0,0 +1,49 @@
+package com.coincraft.engine.ecs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class EntityWorldTest {
+    private static final ComponentType POSITION = ComponentType.doubles("Position", "x", "y");
+    
+    /**
+     * Ids from generation 512 on have bit 31 set; an entity with such an id
+     * moved by swap-removal must still find its own row
+     */
+    @Test
+    void recycledSlotsKeepRowsAfterGenerationPassesSignBit() {
+        EntityWorld world = new EntityWorld();
+        int x = POSITION.doubleField("x");
+        int first = world.create(POSITION);
+        int second = world.create(POSITION);
+        world.setDouble(first, POSITION, x, -1);
+        world.setDouble(second, POSITION, x, -2);
+        
+        boolean sawNegativeId = false;
+        for (int i = 0; i < 1100; i++) {
+            int victim = world.create(POSITION);
+            int mover = world.create(POSITION); // last row of the archetype
+            sawNegativeId |= mover < 0;
+            world.setDouble(victim, POSITION, x, 10_000 + i);
+            world.setDouble(mover, POSITION, x, i);
+            
+            // Removing the earlier row moves the last row, i.e. mover, into it
+            world.destroy(victim);
+            assertFalse(world.isAlive(victim));
+            assertEquals(i, world.getDouble(mover, POSITION, x), "moved entity lost its row at iteration " + i);
+            
+            world.setDouble(mover, POSITION, x, 20_000 + i);
+            assertEquals(-1, world.getDouble(first, POSITION, x));
+            assertEquals(-2, world.getDouble(second, POSITION, x));
+            world.destroy(mover);
+        }
+        
+        assertTrue(sawNegativeId, "generations should have wrapped past the sign bit");
+        assertEquals(2, world.getEntityCount());
+        assertEquals(-1, world.getDouble(first, POSITION, x));
+        assertEquals(-2, world.getDouble(second, POSITION, x));
+    }
+}
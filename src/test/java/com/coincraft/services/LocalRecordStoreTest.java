@@ -0,0 +1,66 @@
+package com.coincraft.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LocalRecordStoreTest {
+    private static final Logger STORE_LOGGER = Logger.getLogger(LocalRecordStore.class.getName());
+
+    /**
+     * A compaction whose final swap fails must leave the store on the old
+     * log, readable and writable, with its index checkpoint back in place
+     */
+    @Test
+    void failedSwapKeepsStoreUsable(@TempDir Path dir) throws Exception {
+        // The old log is unlinked while open, which Windows does not allow
+        assumeFalse(System.getProperty("os.name", "").toLowerCase().startsWith("windows"));
+        Path file = dir.resolve("tasks.log");
+        CountDownLatch compactionFailed = new CountDownLatch(1);
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                if (record.getMessage().startsWith("Compaction of")) compactionFailed.countDown();
+            }
+            @Override public void flush() { }
+            @Override public void close() { }
+        };
+        STORE_LOGGER.addHandler(handler);
+        try (LocalRecordStore store = LocalRecordStore.open(file)) {
+            store.put("kept", "kept|value");
+            // A non-empty directory where the log was makes the atomic replace fail
+            Files.delete(file);
+            Files.createDirectories(file.resolve("blocker"));
+
+            String value = "x".repeat(1024);
+            int writes = 0;
+            while (compactionFailed.getCount() > 0 && writes < 10_000) {
+                store.put("churn", "churn|" + writes + "|" + value);
+                writes++;
+                if (writes >= 200) compactionFailed.await(10, TimeUnit.MILLISECONDS);
+            }
+            assertTrue(compactionFailed.await(5, TimeUnit.SECONDS), "compaction should have run and failed");
+
+            assertEquals("kept|value", store.get("kept"));
+            assertEquals("churn|" + (writes - 1) + "|" + value, store.get("churn"));
+            store.put("after", "after|value");
+            assertEquals("after|value", store.get("after"));
+            assertEquals(3, store.values().size());
+            assertTrue(Files.exists(dir.resolve("tasks.log.idx")), "index checkpoint should be restored");
+            assertTrue(Files.isDirectory(file));
+        } finally {
+            STORE_LOGGER.removeHandler(handler);
+        }
+    }
+}